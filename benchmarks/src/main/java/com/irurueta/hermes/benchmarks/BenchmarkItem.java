@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes.benchmarks;
+
+import com.irurueta.hermes.ComparableItem;
+
+import java.util.Objects;
+
+/**
+ * Item used to benchmark change detectors.
+ * Items are identified by their id, and their content is compared to detect updates.
+ */
+public class BenchmarkItem implements ComparableItem<BenchmarkItem> {
+
+    /**
+     * Numerical identifier of the item.
+     */
+    private final long number;
+
+    /**
+     * Identifier of the item.
+     */
+    private final Object id;
+
+    /**
+     * Content of the item.
+     */
+    private final String content;
+
+    /**
+     * Fingerprint of the content of the item, which is computed once when the item is created.
+     */
+    private final long contentFingerprint;
+
+    /**
+     * Constructor.
+     *
+     * @param number numerical identifier of the item.
+     * @param id identifier of the item.
+     * @param content content of the item.
+     */
+    public BenchmarkItem(final long number, final Object id, final String content) {
+        this.number = number;
+        this.id = id;
+        this.content = content;
+        this.contentFingerprint = content.hashCode();
+    }
+
+    /**
+     * Gets the numerical identifier of the item.
+     *
+     * @return numerical identifier of the item.
+     */
+    public long getNumber() {
+        return number;
+    }
+
+    /**
+     * Gets the identifier of the item.
+     *
+     * @return identifier of the item.
+     */
+    public Object getId() {
+        return id;
+    }
+
+    /**
+     * Gets the content of the item.
+     *
+     * @return content of the item.
+     */
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * Gets the fingerprint of the content of the item.
+     *
+     * @return fingerprint of the content of the item.
+     */
+    public long getContentFingerprint() {
+        return contentFingerprint;
+    }
+
+    /**
+     * Determines whether this item has the same identifier as another item.
+     *
+     * @param other another item to be compared.
+     * @return true if both items have the same identifier, false otherwise.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof BenchmarkItem item)) {
+            return false;
+        }
+        return id.equals(item.id);
+    }
+
+    /**
+     * Computes the hash code of the identifier of this item.
+     *
+     * @return hash code.
+     */
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    /**
+     * Determines whether the content of this item is equal to the content of another item.
+     *
+     * @param other another item to be compared.
+     * @return true if the content of both items is equal, false otherwise.
+     */
+    @Override
+    public boolean equalContent(final BenchmarkItem other) {
+        return Objects.equals(content, other.content);
+    }
+}
@@ -0,0 +1,467 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes.benchmarks;
+
+import com.irurueta.hermes.CollectionItemChange;
+import com.irurueta.hermes.CollectionItemChangeDetector;
+import com.irurueta.hermes.ComparableCollectionItemChangeDetector;
+import com.irurueta.hermes.ComparableListItemChangeDetector;
+import com.irurueta.hermes.ComparableSequentialListItemChangeDetector;
+import com.irurueta.hermes.FingerprintItemContentComparator;
+import com.irurueta.hermes.ItemKeyExtractor;
+import com.irurueta.hermes.ListItemChange;
+import com.irurueta.hermes.ListItemChangeDetector;
+import com.irurueta.hermes.ListItemChangeSet;
+import com.irurueta.hermes.ListItemChangeAlgorithm;
+import com.irurueta.hermes.LongKeyCollectionItemChangeDetector;
+import com.irurueta.hermes.LongKeyListItemChangeDetector;
+import com.irurueta.hermes.SequentialListItemChangeAlgorithm;
+import com.irurueta.hermes.SequentialListItemChangeDetector;
+import com.irurueta.hermes.SortedCollectionItemChangeDetector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks every change detector on the same pair of lists.
+ * Lists are generated from a fixed seed, so that results are reproducible. The new list is obtained from the old one
+ * by removing, inserting and updating a ratio of its items (edit ratio), and by swapping a ratio of its items (shuffle
+ * ratio).
+ * Allocation rates can be obtained by running benchmarks with the GC profiler (i.e., {@code -prof gc}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChangeDetectorBenchmark {
+
+    /**
+     * Seed used to generate lists.
+     */
+    private static final long SEED = 0L;
+
+    /**
+     * Number of items in the old list.
+     */
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    /**
+     * Ratio of items that are removed, inserted or updated on the new list.
+     */
+    @Param({"0.01", "0.1"})
+    private double editRatio;
+
+    /**
+     * Ratio of items whose position is swapped on the new list.
+     */
+    @Param({"0.0", "0.01"})
+    private double shuffleRatio;
+
+    /**
+     * Type of item identifiers.
+     */
+    @Param({"INTEGER", "STRING"})
+    private ItemType itemType;
+
+    /**
+     * Old items.
+     */
+    private List<BenchmarkItem> oldItems;
+
+    /**
+     * New items.
+     */
+    private List<BenchmarkItem> newItems;
+
+    /**
+     * Old items contained in a hash set.
+     */
+    private Set<BenchmarkItem> oldItemSet;
+
+    /**
+     * New items contained in a hash set.
+     */
+    private Set<BenchmarkItem> newItemSet;
+
+    /**
+     * New items sorted by their numerical identifiers.
+     */
+    private List<BenchmarkItem> sortedNewItems;
+
+    /**
+     * Columnar change set reused by each invocation.
+     */
+    private final ListItemChangeSet<BenchmarkItem> changeSet = new ListItemChangeSet<>();
+
+    /**
+     * Detector finding items by linear search using a comparator.
+     */
+    private CollectionItemChangeDetector<BenchmarkItem> collectionDetector;
+
+    /**
+     * Detector finding items by their keys.
+     */
+    private CollectionItemChangeDetector<BenchmarkItem> keyedCollectionDetector;
+
+    /**
+     * Detector finding items by their numerical identifiers.
+     */
+    private LongKeyCollectionItemChangeDetector<BenchmarkItem> longKeyCollectionDetector;
+
+    /**
+     * Detector of comparable items.
+     */
+    private ComparableCollectionItemChangeDetector<BenchmarkItem> comparableCollectionDetector;
+
+    /**
+     * Detector walking collections sorted by the numerical identifiers of their items.
+     */
+    private SortedCollectionItemChangeDetector<BenchmarkItem> sortedCollectionDetector;
+
+    /**
+     * Detector finding items by linear search using a comparator.
+     */
+    private ListItemChangeDetector<BenchmarkItem> listDetector;
+
+    /**
+     * Detector finding items by their keys.
+     */
+    private ListItemChangeDetector<BenchmarkItem> keyedListDetector;
+
+    /**
+     * Detector finding items by their keys and pairing them using the Heckel algorithm.
+     */
+    private ListItemChangeDetector<BenchmarkItem> heckelKeyedListDetector;
+
+    /**
+     * Detector finding items by their keys and comparing the fingerprints of their content.
+     */
+    private ListItemChangeDetector<BenchmarkItem> fingerprintKeyedListDetector;
+
+    /**
+     * Detector finding items by their numerical identifiers.
+     */
+    private LongKeyListItemChangeDetector<BenchmarkItem> longKeyListDetector;
+
+    /**
+     * Detector of comparable items.
+     */
+    private ComparableListItemChangeDetector<BenchmarkItem> comparableListDetector;
+
+    /**
+     * Sequential detector using the default algorithm.
+     */
+    private SequentialListItemChangeDetector<BenchmarkItem> sequentialDetector;
+
+    /**
+     * Sequential detector moving the minimum number of items.
+     */
+    private SequentialListItemChangeDetector<BenchmarkItem> minimalMovesSequentialDetector;
+
+    /**
+     * Sequential detector using the Myers algorithm.
+     */
+    private SequentialListItemChangeDetector<BenchmarkItem> myersSequentialDetector;
+
+    /**
+     * Sequential detector of comparable items.
+     */
+    private ComparableSequentialListItemChangeDetector<BenchmarkItem> comparableSequentialDetector;
+
+    /**
+     * Generates lists to be compared and creates detectors.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new Random(SEED);
+
+        oldItems = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            oldItems.add(new BenchmarkItem(i, itemType.createId(i), "content" + i));
+        }
+
+        final var items = new ArrayList<>(oldItems);
+        final var edits = (int) (size * editRatio);
+        var nextId = size;
+        for (var i = 0; i < edits && !items.isEmpty(); i++) {
+            final var pos = random.nextInt(items.size());
+            switch (i % 3) {
+                case 0:
+                    items.remove(pos);
+                    break;
+                case 1:
+                    items.add(pos, new BenchmarkItem(nextId, itemType.createId(nextId), "content" + nextId));
+                    nextId++;
+                    break;
+                default:
+                    final var item = items.get(pos);
+                    items.set(pos, new BenchmarkItem(item.getNumber(), item.getId(), item.getContent() + "-updated"));
+                    break;
+            }
+        }
+
+        final var swaps = (int) (size * shuffleRatio);
+        for (var i = 0; i < swaps; i++) {
+            final var pos1 = random.nextInt(items.size());
+            final var pos2 = random.nextInt(items.size());
+            final var item = items.get(pos1);
+            items.set(pos1, items.get(pos2));
+            items.set(pos2, item);
+        }
+        newItems = items;
+        oldItemSet = new HashSet<>(oldItems);
+        newItemSet = new HashSet<>(newItems);
+        sortedNewItems = new ArrayList<>(items);
+        sortedNewItems.sort(Comparator.comparingLong(BenchmarkItem::getNumber));
+
+        final ItemKeyExtractor<BenchmarkItem, Object> keyExtractor = BenchmarkItem::getId;
+
+        collectionDetector = new CollectionItemChangeDetector<>(
+                (item1, item2) -> item1.getId().equals(item2.getId()),
+                (item1, item2) -> Objects.equals(item1.getContent(), item2.getContent()));
+        keyedCollectionDetector = new CollectionItemChangeDetector<>(keyExtractor,
+                (item1, item2) -> Objects.equals(item1.getContent(), item2.getContent()));
+        longKeyCollectionDetector = new LongKeyCollectionItemChangeDetector<>(BenchmarkItem::getNumber,
+                (item1, item2) -> Objects.equals(item1.getContent(), item2.getContent()));
+        comparableCollectionDetector = new ComparableCollectionItemChangeDetector<>();
+        sortedCollectionDetector = new SortedCollectionItemChangeDetector<>(
+                Comparator.comparingLong(BenchmarkItem::getNumber),
+                (item1, item2) -> Objects.equals(item1.getContent(), item2.getContent()));
+
+        listDetector = new ListItemChangeDetector<>(
+                (item1, item2) -> item1.getId().equals(item2.getId()),
+                (item1, item2) -> Objects.equals(item1.getContent(), item2.getContent()));
+        keyedListDetector = new ListItemChangeDetector<>(keyExtractor,
+                (item1, item2) -> Objects.equals(item1.getContent(), item2.getContent()));
+        heckelKeyedListDetector = new ListItemChangeDetector<>(keyExtractor,
+                (item1, item2) -> Objects.equals(item1.getContent(), item2.getContent()),
+                ListItemChangeAlgorithm.HECKEL);
+        fingerprintKeyedListDetector = new ListItemChangeDetector<>(keyExtractor,
+                new FingerprintItemContentComparator<>(BenchmarkItem::getContentFingerprint,
+                        (item1, item2) -> Objects.equals(item1.getContent(), item2.getContent())));
+        longKeyListDetector = new LongKeyListItemChangeDetector<>(BenchmarkItem::getNumber,
+                (item1, item2) -> Objects.equals(item1.getContent(), item2.getContent()));
+        comparableListDetector = new ComparableListItemChangeDetector<>();
+
+        sequentialDetector = new SequentialListItemChangeDetector<>(
+                (item1, item2) -> item1.getId().equals(item2.getId()),
+                (item1, item2) -> Objects.equals(item1.getContent(), item2.getContent()));
+        minimalMovesSequentialDetector = new SequentialListItemChangeDetector<>(keyExtractor,
+                (item1, item2) -> Objects.equals(item1.getContent(), item2.getContent()),
+                SequentialListItemChangeAlgorithm.MINIMAL_MOVES);
+        myersSequentialDetector = new SequentialListItemChangeDetector<>(keyExtractor,
+                (item1, item2) -> Objects.equals(item1.getContent(), item2.getContent()),
+                SequentialListItemChangeAlgorithm.MYERS);
+        comparableSequentialDetector = new ComparableSequentialListItemChangeDetector<>();
+    }
+
+    /**
+     * Benchmarks {@link CollectionItemChangeDetector} using a comparator.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public Collection<CollectionItemChange> collectionItemChangeDetector() {
+        return collectionDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link CollectionItemChangeDetector} using a key extractor.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public Collection<CollectionItemChange> keyedCollectionItemChangeDetector() {
+        return keyedCollectionDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link LongKeyCollectionItemChangeDetector}.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public Collection<CollectionItemChange> longKeyCollectionItemChangeDetector() {
+        return longKeyCollectionDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link ComparableCollectionItemChangeDetector}.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public Collection<CollectionItemChange> comparableCollectionItemChangeDetector() {
+        return comparableCollectionDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link ComparableCollectionItemChangeDetector} on hash sets, using their own membership checks.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public Collection<CollectionItemChange> comparableSetItemChangeDetector() {
+        return comparableCollectionDetector.detectSetChanges(newItemSet, oldItemSet);
+    }
+
+    /**
+     * Benchmarks {@link SortedCollectionItemChangeDetector} on collections sorted by the numerical identifiers of
+     * their items.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public Collection<CollectionItemChange> sortedCollectionItemChangeDetector() {
+        return sortedCollectionDetector.detectChanges(sortedNewItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link ListItemChangeDetector} using a comparator.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public List<ListItemChange> listItemChangeDetector() {
+        return listDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link ListItemChangeDetector} using a key extractor.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public List<ListItemChange> keyedListItemChangeDetector() {
+        return keyedListDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link ListItemChangeDetector} using a key extractor, storing changes in a reused columnar
+     * {@link ListItemChangeSet}.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public ListItemChangeSet<BenchmarkItem> keyedListItemChangeSetDetector() {
+        changeSet.clear();
+        keyedListDetector.detectChangeSet(newItems, oldItems, changeSet);
+        return changeSet;
+    }
+
+    /**
+     * Benchmarks {@link ListItemChangeDetector} using a key extractor and the Heckel algorithm.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public List<ListItemChange> heckelKeyedListItemChangeDetector() {
+        return heckelKeyedListDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link ListItemChangeDetector} using a key extractor and content fingerprints.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public List<ListItemChange> fingerprintKeyedListItemChangeDetector() {
+        return fingerprintKeyedListDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link LongKeyListItemChangeDetector}.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public List<ListItemChange> longKeyListItemChangeDetector() {
+        return longKeyListDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link ComparableListItemChangeDetector}.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public List<ListItemChange> comparableListItemChangeDetector() {
+        return comparableListDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link SequentialListItemChangeDetector} using the default algorithm.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public List<ListItemChange> sequentialListItemChangeDetector() {
+        return sequentialDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link SequentialListItemChangeDetector} moving the minimum number of items.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public List<ListItemChange> minimalMovesSequentialListItemChangeDetector() {
+        return minimalMovesSequentialDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link SequentialListItemChangeDetector} using the Myers algorithm.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public List<ListItemChange> myersSequentialListItemChangeDetector() {
+        return myersSequentialDetector.detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Benchmarks {@link ComparableSequentialListItemChangeDetector}.
+     *
+     * @return detected changes.
+     */
+    @Benchmark
+    public List<ListItemChange> comparableSequentialListItemChangeDetector() {
+        return comparableSequentialDetector.detectChanges(newItems, oldItems);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes.benchmarks;
+
+/**
+ * Type of the identifiers of benchmarked items, which determines the cost of comparing and hashing items.
+ */
+public enum ItemType {
+    /**
+     * Items are identified by integers.
+     */
+    INTEGER,
+
+    /**
+     * Items are identified by strings.
+     */
+    STRING;
+
+    /**
+     * Creates the identifier of an item.
+     *
+     * @param value numerical value of the identifier.
+     * @return identifier of the item.
+     */
+    public Object createId(final int value) {
+        return this == INTEGER ? Integer.valueOf(value) : "item-" + value;
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Package containing JMH benchmarks of change detectors.
+ * <p>
+ * Benchmarks must be packaged with {@code mvn package} and can be run with
+ * {@code java -jar target/benchmarks.jar -prof gc} to obtain both throughput and allocation rates.
+ */
+package com.irurueta.hermes.benchmarks;
@@ -19,6 +19,8 @@ package com.irurueta.hermes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
 
 /**
  * Abstract class to detect changes in two collections of items.
@@ -27,6 +29,38 @@ import java.util.List;
  */
 public abstract class AbstractCollectionItemChangeDetector<T> {
 
+    /**
+     * Default minimum total number of items of both collections to detect changes in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10000;
+
+    /**
+     * Indicates whether compared collections are immutable snapshots, which are not modified while changes are
+     * notified to a listener, so that they do not need to be copied.
+     */
+    private boolean immutableInputs;
+
+    /**
+     * Indicates whether compared collections are immutable snapshots, which are not modified while changes are
+     * notified to a listener (e.g., by the listener itself), so that they do not need to be copied.
+     * By default, collections are copied before notifying changes to a listener.
+     *
+     * @return true if compared collections are immutable snapshots, false otherwise.
+     */
+    public boolean isImmutableInputs() {
+        return immutableInputs;
+    }
+
+    /**
+     * Specifies whether compared collections are immutable snapshots, which are not modified while changes are
+     * notified to a listener (e.g., by the listener itself), so that they do not need to be copied.
+     *
+     * @param immutableInputs true if compared collections are immutable snapshots, false otherwise.
+     */
+    public void setImmutableInputs(final boolean immutableInputs) {
+        this.immutableInputs = immutableInputs;
+    }
+
     /**
      * Detects changes between two collections of items.
      *
@@ -39,21 +73,89 @@ public abstract class AbstractCollectionItemChangeDetector<T> {
             throw new IllegalArgumentException();
         }
 
+        // collections cannot be modified by a listener while changes are collected
         final var changes = new ArrayList<CollectionItemChange>();
+        detectChanges(newItems, oldItems, changes::add, true);
+        return changes;
+    }
 
-        final var newCopy = new ArrayList<>(newItems);
-        final var oldCopy = new ArrayList<>(oldItems);
+    /**
+     * Detects changes between two collections of items and notifies each change to provided listener as soon as it
+     * is found. Changes are not retained, and they are notified in the same order as they are returned by
+     * {@link #detectChanges(Collection, Collection)}.
+     * Collections are copied before notifying changes, unless they are declared as immutable snapshots using
+     * {@link #setImmutableInputs(boolean)}.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param listener listener notified of each found change.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public void detectChanges(final Collection<T> newItems, final Collection<T> oldItems,
+                              final CollectionItemChangeListener listener) {
+        if (oldItems == null || newItems == null || listener == null) {
+            throw new IllegalArgumentException();
+        }
 
-        // removes
-        changes.addAll(buildRemoves(newCopy, oldCopy));
+        detectChanges(newItems, oldItems, listener, immutableInputs);
+    }
 
-        // inserts
-        changes.addAll(buildInserts(newCopy, oldCopy));
+    /**
+     * Detects changes between two collections of items in parallel using provided pool when both collections
+     * contain at least {@link #DEFAULT_PARALLEL_THRESHOLD} items in total.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param pool pool where changes are detected.
+     * @return a list of found changes.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     * @see #detectChanges(Collection, Collection, ForkJoinPool, int)
+     */
+    public Collection<CollectionItemChange> detectChanges(
+            final Collection<T> newItems, final Collection<T> oldItems, final ForkJoinPool pool) {
+        return detectChanges(newItems, oldItems, pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Detects changes between two collections of items in parallel using provided pool.
+     * Removed, inserted and updated items are checked independently for each item, hence work is split in chunks
+     * processed by the threads of the pool, and changes found on each chunk are merged in order, so that the result is
+     * the same as the one obtained by {@link #detectChanges(Collection, Collection)}.
+     * Notice that comparisons of items are executed concurrently, hence they must be thread-safe.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param pool pool where changes are detected.
+     * @param threshold minimum total number of items of both collections to detect changes in parallel. Smaller
+     *                  collections are compared sequentially on the calling thread.
+     * @return a list of found changes.
+     * @throws IllegalArgumentException if any of the parameters is null or if threshold is negative.
+     */
+    public Collection<CollectionItemChange> detectChanges(
+            final Collection<T> newItems, final Collection<T> oldItems, final ForkJoinPool pool,
+            final int threshold) {
+        if (oldItems == null || newItems == null || pool == null || threshold < 0) {
+            throw new IllegalArgumentException();
+        }
 
-        // changed items
-        changes.addAll(buildChanges(newCopy, oldCopy));
+        if (newItems.size() + oldItems.size() < threshold) {
+            return detectChanges(newItems, oldItems);
+        }
 
-        return changes;
+        // collections are never modified when changes are detected in parallel
+        final var newList = ItemLists.randomAccess(newItems);
+        final var oldList = ItemLists.randomAccess(oldItems);
+
+        final IntFunction<CollectionItemChange> changeAt;
+        final var newIndex = createIndex(newList);
+        if (newIndex != null) {
+            final var oldIndex = createIndex(oldList);
+            changeAt = position -> indexedChangeAt(newList, newIndex, oldList, oldIndex, position);
+        } else {
+            changeAt = position -> scannedChangeAt(newList, oldList, position);
+        }
+
+        return ParallelChanges.collect(pool, oldList.size() + 2 * newList.size(), changeAt);
     }
 
     /**
@@ -84,17 +186,172 @@ public abstract class AbstractCollectionItemChangeDetector<T> {
     protected abstract int indexOf(final List<T> items, final T item);
 
     /**
-     * Finds removed items and build a list of detected remove changes.
+     * Creates an index of provided items, so that items can be found without scanning the whole list.
+     * By default, items are not indexed and are found by linear search using {@link #notContains(Collection, Object)}
+     * and {@link #indexOf(List, Object)}.
+     *
+     * @param items items to be indexed.
+     * @return index of provided items, or null if items cannot be indexed.
+     */
+    ItemIndex<T> createIndex(final List<T> items) {
+        return null;
+    }
+
+    /**
+     * Detects changes between two collections of items and notifies each change to provided listener.
+     * Linear search modifies a copy of old items, whereas collections are never modified when items are indexed,
+     * hence collections are only copied when they are modified, when they might be modified while changes are
+     * notified or when they are not lists with fast random access.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param listener listener notified of each found change.
+     * @param immutable true if collections are not modified while changes are notified, false otherwise.
+     */
+    void detectChanges(final Collection<T> newItems, final Collection<T> oldItems,
+                       final CollectionItemChangeListener listener, final boolean immutable) {
+        final var newList = ItemLists.snapshot(newItems, immutable);
+
+        final var newIndex = createIndex(newList);
+        if (newIndex != null) {
+            // items can be found by their keys, so there is no need to scan collections
+            final var oldList = ItemLists.snapshot(oldItems, immutable);
+            detectIndexedChanges(newList, newIndex, oldList, createIndex(oldList), listener);
+        } else {
+            // old items are modified to avoid checking removed and inserted items again
+            final var oldCopy = new ArrayList<>(oldItems);
+
+            // removes
+            buildRemoves(newList, oldCopy, listener);
+
+            // inserts
+            buildInserts(newList, oldCopy, listener);
+
+            // changed items
+            buildChanges(newList, oldCopy, listener);
+        }
+    }
+
+    /**
+     * Detects changes between two collections of items using the indexes of both collections.
+     * Each item is found in expected constant time, hence changes are detected in expected linear time.
+     *
+     * @param newItems new items.
+     * @param newIndex index of new items.
+     * @param oldItems old items.
+     * @param oldIndex index of old items.
+     * @param listener listener notified of each found change.
+     */
+    void detectIndexedChanges(
+            final List<T> newItems, final ItemIndex<T> newIndex, final List<T> oldItems, final ItemIndex<T> oldIndex,
+            final CollectionItemChangeListener listener) {
+
+        final var size = oldItems.size() + 2 * newItems.size();
+        for (var i = 0; i < size; i++) {
+            final var change = indexedChangeAt(newItems, newIndex, oldItems, oldIndex, i);
+            if (change != null) {
+                listener.onChange(change);
+            }
+        }
+    }
+
+    /**
+     * Finds the change at a given position using the indexes of both collections.
+     * Positions of old items are checked for removes first, then positions of new items are checked for inserts,
+     * and finally positions of new items are checked for updates, so that changes are found in the same order as
+     * sequential detection.
+     *
+     * @param newItems new items.
+     * @param newIndex index of new items.
+     * @param oldItems old items.
+     * @param oldIndex index of old items.
+     * @param position position to be checked, from 0 to the number of old items plus twice the number of new items.
+     * @return found change or null if there is no change at provided position.
+     */
+    private CollectionItemChange indexedChangeAt(
+            final List<T> newItems, final ItemIndex<T> newIndex, final List<T> oldItems, final ItemIndex<T> oldIndex,
+            final int position) {
+        final var oldSize = oldItems.size();
+        final var newSize = newItems.size();
+
+        if (position < oldSize) {
+            // removes
+            final var oldItem = oldItems.get(position);
+            return !newIndex.contains(oldItem) ? new RemovedCollectionItemChange<>(oldItem) : null;
+        } else if (position < oldSize + newSize) {
+            // inserts
+            final var newItem = newItems.get(position - oldSize);
+            return !oldIndex.contains(newItem) ? new InsertedCollectionItemChange<>(newItem) : null;
+        } else {
+            // changed items
+            final var newItem = newItems.get(position - oldSize - newSize);
+            final var oldPos = oldIndex.indexOf(newItem);
+            if (oldPos >= 0) {
+                final var oldItem = oldItems.get(oldPos);
+
+                // compare both items
+                if (hasContentChanged(newItem, oldItem)) {
+                    // item has changed
+                    return new UpdatedCollectionItemChange<>(oldItem, newItem);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Finds the change at a given position by linear search on both collections.
+     * Positions are checked in the same order as {@link #indexedChangeAt(List, ItemIndex, List, ItemIndex, int)}.
+     * Unlike sequential detection, collections are not modified, so that positions can be checked concurrently.
+     * Instead, new items that are repeated and not contained in old items are only reported as inserted once, and
+     * their repetitions are compared with their first occurrence, as if first occurrences had been inserted into old
+     * items.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param position position to be checked, from 0 to the number of old items plus twice the number of new items.
+     * @return found change or null if there is no change at provided position.
+     */
+    private CollectionItemChange scannedChangeAt(final List<T> newItems, final List<T> oldItems, final int position) {
+        final var oldSize = oldItems.size();
+        final var newSize = newItems.size();
+
+        if (position < oldSize) {
+            // removes
+            final var oldItem = oldItems.get(position);
+            return notContains(newItems, oldItem) ? new RemovedCollectionItemChange<>(oldItem) : null;
+        } else if (position < oldSize + newSize) {
+            // inserts
+            final var newPos = position - oldSize;
+            final var newItem = newItems.get(newPos);
+            return notContains(oldItems, newItem) && indexOf(newItems, newItem) == newPos
+                    ? new InsertedCollectionItemChange<>(newItem) : null;
+        } else {
+            // changed items
+            final var newItem = newItems.get(position - oldSize - newSize);
+            final var oldPos = indexOf(oldItems, newItem);
+            final var oldItem = oldPos >= 0 ? oldItems.get(oldPos) : newItems.get(indexOf(newItems, newItem));
+
+            // compare both items
+            if (hasContentChanged(newItem, oldItem)) {
+                // item has changed
+                return new UpdatedCollectionItemChange<>(oldItem, newItem);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Finds removed items and notifies detected remove changes.
      * Notice that this method modifies the old items copy to avoid checking removed items again.
      *
      * @param newItemsCopy new items copy.
      * @param oldItemsCopy old items copy.
-     * @return a list of detected remove changes.
+     * @param listener listener notified of each detected remove change.
      */
-    private Collection<RemovedCollectionItemChange<T>> buildRemoves(
-            final Collection<T> newItemsCopy, final Collection<T> oldItemsCopy) {
+    private void buildRemoves(final Collection<T> newItemsCopy, final Collection<T> oldItemsCopy,
+                              final CollectionItemChangeListener listener) {
 
-        final var removes = new ArrayList<RemovedCollectionItemChange<T>>();
         final var oldIterator = oldItemsCopy.iterator();
 
         while (oldIterator.hasNext()) {
@@ -102,24 +359,22 @@ public abstract class AbstractCollectionItemChangeDetector<T> {
             if (notContains(newItemsCopy, oldItem)) {
                 // item has been removed on the new list, we remove it to avoid checking it again
                 oldIterator.remove();
-                removes.add(new RemovedCollectionItemChange<>(oldItem));
+                listener.onChange(new RemovedCollectionItemChange<>(oldItem));
             }
         }
-        return removes;
     }
 
     /**
-     * Finds inserted items and build a list of detected insert changes.
+     * Finds inserted items and notifies detected insert changes.
      * Notice that this method modifies the old items copy to avoid checking inserted items again.
      *
      * @param newItemsCopy new items copy.
      * @param oldItemsCopy old items copy.
-     * @return a list of detected insert changes.
+     * @param listener listener notified of each detected insert change.
      */
-    private Collection<InsertedCollectionItemChange<T>> buildInserts(
-            final List<T> newItemsCopy, final List<T> oldItemsCopy) {
+    private void buildInserts(final List<T> newItemsCopy, final List<T> oldItemsCopy,
+                              final CollectionItemChangeListener listener) {
 
-        final var inserts = new ArrayList<InsertedCollectionItemChange<T>>();
         final var newIterator = newItemsCopy.iterator();
 
         var i = 0;
@@ -127,7 +382,7 @@ public abstract class AbstractCollectionItemChangeDetector<T> {
             final var newItem = newIterator.next();
             if (notContains(oldItemsCopy, newItem)) {
                 // this item has been added on the new list
-                inserts.add(new InsertedCollectionItemChange<>(newItem));
+                listener.onChange(new InsertedCollectionItemChange<>(newItem));
 
                 // make old items resemble new items so that changes and moves are later detected at proper positions
                 if (i >= oldItemsCopy.size()) {
@@ -138,21 +393,17 @@ public abstract class AbstractCollectionItemChangeDetector<T> {
             }
             i++;
         }
-
-        return inserts;
     }
 
     /**
-     * Finds changed items and build a list of detected update changes.
+     * Finds changed items and notifies detected update changes.
      *
      * @param newItemsCopy new items copy.
      * @param oldItemsCopy old items copy.
-     * @return a list of detected update changes.
+     * @param listener listener notified of each detected update change.
      */
-    private List<UpdatedCollectionItemChange<T>> buildChanges(
-            final List<T> newItemsCopy, final List<T> oldItemsCopy) {
-
-        final var changes = new ArrayList<UpdatedCollectionItemChange<T>>();
+    private void buildChanges(final List<T> newItemsCopy, final List<T> oldItemsCopy,
+                              final CollectionItemChangeListener listener) {
 
         for (final var newItem : newItemsCopy) {
             final var oldPos = indexOf(oldItemsCopy, newItem);
@@ -162,11 +413,9 @@ public abstract class AbstractCollectionItemChangeDetector<T> {
                 // compare both items
                 if (hasContentChanged(newItem, oldItem)) {
                     // item has changed
-                    changes.add(new UpdatedCollectionItemChange<>(oldItem, newItem));
+                    listener.onChange(new UpdatedCollectionItemChange<>(oldItem, newItem));
                 }
             }
         }
-
-        return changes;
     }
 }
@@ -0,0 +1,409 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Base class to iterate changes encoded by {@link ItemChangeCodec} directly from a buffer (e.g., a direct or
+ * memory-mapped buffer), without copying it.
+ * Items of each change are only deserialized when they are requested, and their encoded bytes can be accessed as
+ * read-only views of the buffer, so that changes can be inspected or forwarded without deserializing their items.
+ * Single changes have at most one old and one new item, whereas range changes have as many old or new items as the
+ * number of items in the range, which can be accessed by index.
+ *
+ * @param <T> type of items.
+ */
+public abstract class AbstractItemChangeReader<T> {
+
+    /**
+     * Buffer containing encoded changes, whose position is right after the last read change.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Input reading from the buffer.
+     */
+    final ByteBufferDataInput input;
+
+    /**
+     * Serializer used to read new items.
+     */
+    private final ItemSerializer<T> itemSerializer;
+
+    /**
+     * Serializer used to read old items.
+     */
+    private final ItemSerializer<T> keySerializer;
+
+    /**
+     * Number of encoded changes.
+     */
+    private final int size;
+
+    /**
+     * Number of changes that have been read.
+     */
+    private int count;
+
+    /**
+     * Indicates whether a change has been read and the end has not been reached yet.
+     */
+    private boolean current;
+
+    /**
+     * Positions of the encoded old items of the current change.
+     */
+    private int[] oldItemOffsets = new int[1];
+
+    /**
+     * Lengths of the encoded old items of the current change.
+     */
+    private int[] oldItemLengths = new int[1];
+
+    /**
+     * Number of old items of the current change.
+     */
+    private int oldItemCount;
+
+    /**
+     * Positions of the encoded new items of the current change.
+     */
+    private int[] newItemOffsets = new int[1];
+
+    /**
+     * Lengths of the encoded new items of the current change.
+     */
+    private int[] newItemLengths = new int[1];
+
+    /**
+     * Number of new items of the current change.
+     */
+    private int newItemCount;
+
+    /**
+     * Constructor.
+     *
+     * @param buffer buffer containing encoded changes, whose position is at the first change.
+     * @param size number of encoded changes.
+     * @param itemSerializer serializer used to read new items.
+     * @param keySerializer serializer used to read old items.
+     */
+    AbstractItemChangeReader(final ByteBuffer buffer, final int size, final ItemSerializer<T> itemSerializer,
+                             final ItemSerializer<T> keySerializer) {
+        this.buffer = buffer;
+        this.input = new ByteBufferDataInput(buffer);
+        this.size = size;
+        this.itemSerializer = itemSerializer;
+        this.keySerializer = keySerializer;
+    }
+
+    /**
+     * Gets the number of encoded changes.
+     *
+     * @return number of encoded changes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves to the next change.
+     *
+     * @return true if a change has been read, false if there are no more changes.
+     * @throws IOException if the buffer does not contain a valid change.
+     */
+    public boolean next() throws IOException {
+        current = false;
+        clearItems();
+        if (count == size) {
+            return false;
+        }
+
+        readChange();
+        count++;
+        current = true;
+        return true;
+    }
+
+    /**
+     * Gets the number of old items of the current change.
+     *
+     * @return number of old items of the current change.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public int getOldItemCount() {
+        checkCurrent();
+        return oldItemCount;
+    }
+
+    /**
+     * Gets the number of new items of the current change.
+     *
+     * @return number of new items of the current change.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public int getNewItemCount() {
+        checkCurrent();
+        return newItemCount;
+    }
+
+    /**
+     * Gets a read-only view of the encoded old item of the current change, which is not copied.
+     * For range changes, the first old item is returned.
+     *
+     * @return encoded old item, or null if the current change has no old item.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public ByteBuffer getOldItemBuffer() {
+        checkCurrent();
+        return oldItemCount > 0 ? getOldItemBuffer(0) : null;
+    }
+
+    /**
+     * Gets a read-only view of the encoded old item at provided index of the current change, which is not copied.
+     *
+     * @param index index of the old item within the current change.
+     * @return encoded old item.
+     * @throws NoSuchElementException if there is no current change.
+     * @throws IndexOutOfBoundsException if provided index is not valid.
+     */
+    public ByteBuffer getOldItemBuffer(final int index) {
+        checkCurrent();
+        Objects.checkIndex(index, oldItemCount);
+        return buffer.slice(oldItemOffsets[index], oldItemLengths[index]).asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets a read-only view of the encoded new item of the current change, which is not copied.
+     * For range changes, the first new item is returned.
+     *
+     * @return encoded new item, or null if the current change has no new item.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public ByteBuffer getNewItemBuffer() {
+        checkCurrent();
+        return newItemCount > 0 ? getNewItemBuffer(0) : null;
+    }
+
+    /**
+     * Gets a read-only view of the encoded new item at provided index of the current change, which is not copied.
+     *
+     * @param index index of the new item within the current change.
+     * @return encoded new item.
+     * @throws NoSuchElementException if there is no current change.
+     * @throws IndexOutOfBoundsException if provided index is not valid.
+     */
+    public ByteBuffer getNewItemBuffer(final int index) {
+        checkCurrent();
+        Objects.checkIndex(index, newItemCount);
+        return buffer.slice(newItemOffsets[index], newItemLengths[index]).asReadOnlyBuffer();
+    }
+
+    /**
+     * Deserializes the old item of the current change.
+     * For range changes, the first old item is returned.
+     *
+     * @return old item, or null if the current change has no old item.
+     * @throws IOException if the item cannot be deserialized.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public T getOldItem() throws IOException {
+        checkCurrent();
+        return oldItemCount > 0 ? getOldItem(0) : null;
+    }
+
+    /**
+     * Deserializes the old item at provided index of the current change.
+     *
+     * @param index index of the old item within the current change.
+     * @return old item.
+     * @throws IOException if the item cannot be deserialized.
+     * @throws NoSuchElementException if there is no current change.
+     * @throws IndexOutOfBoundsException if provided index is not valid.
+     */
+    public T getOldItem(final int index) throws IOException {
+        checkCurrent();
+        Objects.checkIndex(index, oldItemCount);
+        return keySerializer.read(itemInput(oldItemOffsets[index], oldItemLengths[index]));
+    }
+
+    /**
+     * Deserializes all old items of the current change.
+     *
+     * @return old items, which is empty if the current change has no old items.
+     * @throws IOException if any item cannot be deserialized.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public List<T> getOldItems() throws IOException {
+        checkCurrent();
+        final var result = new ArrayList<T>(oldItemCount);
+        for (var i = 0; i < oldItemCount; i++) {
+            result.add(getOldItem(i));
+        }
+        return result;
+    }
+
+    /**
+     * Deserializes the new item of the current change.
+     * For range changes, the first new item is returned.
+     *
+     * @return new item, or null if the current change has no new item.
+     * @throws IOException if the item cannot be deserialized.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public T getNewItem() throws IOException {
+        checkCurrent();
+        return newItemCount > 0 ? getNewItem(0) : null;
+    }
+
+    /**
+     * Deserializes the new item at provided index of the current change.
+     *
+     * @param index index of the new item within the current change.
+     * @return new item.
+     * @throws IOException if the item cannot be deserialized.
+     * @throws NoSuchElementException if there is no current change.
+     * @throws IndexOutOfBoundsException if provided index is not valid.
+     */
+    public T getNewItem(final int index) throws IOException {
+        checkCurrent();
+        Objects.checkIndex(index, newItemCount);
+        return itemSerializer.read(itemInput(newItemOffsets[index], newItemLengths[index]));
+    }
+
+    /**
+     * Deserializes all new items of the current change.
+     *
+     * @return new items, which is empty if the current change has no new items.
+     * @throws IOException if any item cannot be deserialized.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public List<T> getNewItems() throws IOException {
+        checkCurrent();
+        final var result = new ArrayList<T>(newItemCount);
+        for (var i = 0; i < newItemCount; i++) {
+            result.add(getNewItem(i));
+        }
+        return result;
+    }
+
+    /**
+     * Reads the current change, from the action up to its items.
+     *
+     * @throws IOException if the buffer does not contain a valid change.
+     */
+    abstract void readChange() throws IOException;
+
+    /**
+     * Checks that there is a current change.
+     *
+     * @throws NoSuchElementException if there is no current change.
+     */
+    void checkCurrent() {
+        if (!current) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Reads the frames of the items of the current change, skipping their bytes.
+     *
+     * @param hasOldItem true if the change has an old item.
+     * @param hasNewItem true if the change has a new item.
+     * @throws IOException if the buffer does not contain valid items.
+     */
+    void readItems(final boolean hasOldItem, final boolean hasNewItem) throws IOException {
+        readItems(hasOldItem ? 1 : 0, hasNewItem ? 1 : 0);
+    }
+
+    /**
+     * Reads the frames of the items of the current change, skipping their bytes.
+     * Old items are encoded before new items.
+     *
+     * @param oldCount number of old items of the change.
+     * @param newCount number of new items of the change.
+     * @throws IOException if the buffer does not contain valid items.
+     */
+    void readItems(final int oldCount, final int newCount) throws IOException {
+        // each item takes at least the bytes of its length
+        if ((long) oldCount + newCount > buffer.remaining() / Integer.BYTES) {
+            throw new IOException("Invalid number of items");
+        }
+
+        if (oldItemOffsets.length < oldCount) {
+            oldItemOffsets = Arrays.copyOf(oldItemOffsets, oldCount);
+            oldItemLengths = Arrays.copyOf(oldItemLengths, oldCount);
+        }
+        for (var i = 0; i < oldCount; i++) {
+            oldItemLengths[i] = input.readInt();
+            oldItemOffsets[i] = skip(oldItemLengths[i]);
+        }
+        oldItemCount = oldCount;
+
+        if (newItemOffsets.length < newCount) {
+            newItemOffsets = Arrays.copyOf(newItemOffsets, newCount);
+            newItemLengths = Arrays.copyOf(newItemLengths, newCount);
+        }
+        for (var i = 0; i < newCount; i++) {
+            newItemLengths[i] = input.readInt();
+            newItemOffsets[i] = skip(newItemLengths[i]);
+        }
+        newItemCount = newCount;
+    }
+
+    /**
+     * Forgets the items of the current change.
+     */
+    private void clearItems() {
+        oldItemCount = 0;
+        newItemCount = 0;
+    }
+
+    /**
+     * Skips the bytes of an encoded item.
+     *
+     * @param length length of the encoded item.
+     * @return position of the encoded item.
+     * @throws IOException if the length is not valid.
+     */
+    private int skip(final int length) throws IOException {
+        final var offset = buffer.position();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Invalid item length");
+        }
+        buffer.position(offset + length);
+        return offset;
+    }
+
+    /**
+     * Creates an input reading an encoded item of the buffer.
+     *
+     * @param offset position of the encoded item.
+     * @param length length of the encoded item.
+     * @return input reading the encoded item.
+     */
+    private ByteBufferDataInput itemInput(final int offset, final int length) {
+        return new ByteBufferDataInput(buffer.slice(offset, length));
+    }
+}
@@ -17,7 +17,9 @@
 package com.irurueta.hermes;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntPredicate;
 
 /**
  * Abstract class to detect changes between two lists of items.
@@ -28,6 +30,96 @@ import java.util.List;
  */
 public abstract class AbstractListItemChangeDetector<T> {
 
+    /**
+     * Algorithm used to detect changes.
+     */
+    private final ListItemChangeAlgorithm algorithm;
+
+    /**
+     * Indicates whether compared lists are immutable snapshots, which are not modified while changes are notified to
+     * a listener, so that they do not need to be copied.
+     */
+    private boolean immutableInputs;
+
+    /**
+     * Indicates whether consecutive changes affecting contiguous positions are coalesced into range changes.
+     */
+    private boolean rangeCoalescingEnabled;
+
+    /**
+     * Constructor.
+     * Changes are detected using the {@link ListItemChangeAlgorithm#DEFAULT} algorithm.
+     */
+    protected AbstractListItemChangeDetector() {
+        this(ListItemChangeAlgorithm.DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param algorithm algorithm used to detect changes.
+     * @throws IllegalArgumentException if provided algorithm is null.
+     */
+    protected AbstractListItemChangeDetector(final ListItemChangeAlgorithm algorithm) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Gets the algorithm used to detect changes.
+     *
+     * @return algorithm used to detect changes.
+     */
+    public ListItemChangeAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Indicates whether compared lists are immutable snapshots, which are not modified while changes are notified to
+     * a listener (e.g., by the listener itself), so that they do not need to be copied.
+     * By default, lists are copied before notifying changes to a listener.
+     *
+     * @return true if compared lists are immutable snapshots, false otherwise.
+     */
+    public boolean isImmutableInputs() {
+        return immutableInputs;
+    }
+
+    /**
+     * Specifies whether compared lists are immutable snapshots, which are not modified while changes are notified to
+     * a listener (e.g., by the listener itself), so that they do not need to be copied.
+     *
+     * @param immutableInputs true if compared lists are immutable snapshots, false otherwise.
+     */
+    public void setImmutableInputs(final boolean immutableInputs) {
+        this.immutableInputs = immutableInputs;
+    }
+
+    /**
+     * Indicates whether consecutive changes affecting contiguous positions are coalesced into range changes (e.g.,
+     * a block of inserted items is returned as a single {@link InsertedRangeListItemChange}), so that bulk edits
+     * produce fewer changes.
+     * By default, a change is returned for each item.
+     *
+     * @return true if changes are coalesced into range changes, false otherwise.
+     * @see ListItemChangeCoalescer
+     */
+    public boolean isRangeCoalescingEnabled() {
+        return rangeCoalescingEnabled;
+    }
+
+    /**
+     * Specifies whether consecutive changes affecting contiguous positions are coalesced into range changes.
+     *
+     * @param rangeCoalescingEnabled true if changes are coalesced into range changes, false otherwise.
+     */
+    public void setRangeCoalescingEnabled(final boolean rangeCoalescingEnabled) {
+        this.rangeCoalescingEnabled = rangeCoalescingEnabled;
+    }
+
     /**
      * Detects changes between two lists of items.
      *
@@ -40,24 +132,67 @@ public abstract class AbstractListItemChangeDetector<T> {
             throw new IllegalArgumentException();
         }
 
+        // lists cannot be modified by a listener while changes are collected
         final var changes = new ArrayList<ListItemChange>();
+        detectChanges(newItems, oldItems, changes::add, true);
+        return changes;
+    }
 
-        final var newCopy = new ArrayList<>(newItems);
-        final var oldCopy = new ArrayList<>(oldItems);
-
-        // removes
-        changes.addAll(buildRemoves(newCopy, oldCopy));
+    /**
+     * Detects changes between two lists of items and notifies each change to provided listener as soon as it is
+     * found. Changes are not retained, and they are notified in the same order as they are returned by
+     * {@link #detectChanges(List, List)}.
+     * Lists are copied before notifying changes, unless they are declared as immutable snapshots using
+     * {@link #setImmutableInputs(boolean)}.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param listener listener notified of each found change.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public void detectChanges(final List<T> newItems, final List<T> oldItems, final ListItemChangeListener listener) {
+        if (oldItems == null || newItems == null || listener == null) {
+            throw new IllegalArgumentException();
+        }
 
-        // inserts
-        changes.addAll(buildInserts(newCopy, oldCopy));
+        detectChanges(newItems, oldItems, listener, immutableInputs);
+    }
 
-        // moves
-        changes.addAll(buildMoves(newCopy, oldCopy));
+    /**
+     * Detects changes between two lists of items and stores them in a new columnar change set, so that no
+     * {@link ListItemChange} instance is created for each change.
+     * Changes are stored in the same order as they are returned by {@link #detectChanges(List, List)}, and they are
+     * never coalesced into range changes.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @return a change set containing found changes.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public ListItemChangeSet<T> detectChangeSet(final List<T> newItems, final List<T> oldItems) {
+        final var changeSet = new ListItemChangeSet<T>();
+        detectChangeSet(newItems, oldItems, changeSet);
+        return changeSet;
+    }
 
-        // changed items
-        changes.addAll(buildChanges(newCopy, oldCopy));
+    /**
+     * Detects changes between two lists of items and appends them to provided columnar change set, which can be
+     * cleared and reused to detect changes repeatedly without allocating memory.
+     * Changes are stored in the same order as they are returned by {@link #detectChanges(List, List)}, and they are
+     * never coalesced into range changes.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param changeSet change set where found changes are appended.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public void detectChangeSet(final List<T> newItems, final List<T> oldItems, final ListItemChangeSet<T> changeSet) {
+        if (oldItems == null || newItems == null || changeSet == null) {
+            throw new IllegalArgumentException();
+        }
 
-        return changes;
+        // lists cannot be modified while changes are stored
+        detectChanges(newItems, oldItems, changeSet, true);
     }
 
     /**
@@ -88,57 +223,420 @@ public abstract class AbstractListItemChangeDetector<T> {
     protected abstract int indexOf(final List<T> items, final T item);
 
     /**
-     * Finds removed items and build a list of detected remove changes.
+     * Creates an index of provided items, so that items can be found without scanning the whole list.
+     * By default, items are not indexed and are found by linear search using {@link #notContains(List, Object)}
+     * and {@link #indexOf(List, Object)}.
+     *
+     * @param items items to be indexed.
+     * @return index of provided items, or null if items cannot be indexed.
+     */
+    ItemIndex<T> createIndex(final List<T> items) {
+        return null;
+    }
+
+    /**
+     * Detects changes between two lists of items and notifies each change to provided listener, coalescing changes
+     * into range changes if enabled.
+     * Lists are never modified, hence they are only copied when they might be modified while changes are notified or
+     * when they lack fast random access.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param listener listener notified of each found change.
+     * @param immutable true if lists are not modified while changes are notified, false otherwise.
+     */
+    void detectChanges(final List<T> newItems, final List<T> oldItems, final ListItemChangeListener listener,
+                       final boolean immutable) {
+        final var coalescer = rangeCoalescingEnabled ? new ListItemChangeCoalescer(listener, false) : null;
+
+        detectChanges(newItems, oldItems, ListItemChangeSink.of(coalescer != null ? coalescer : listener), immutable);
+
+        if (coalescer != null) {
+            coalescer.flush();
+        }
+    }
+
+    /**
+     * Detects changes between two lists of items and adds each change to provided sink.
+     * Lists are never modified, hence they are only copied when they might be modified while changes are added or
+     * when they lack fast random access.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param sink sink receiving each found change.
+     * @param immutable true if lists are not modified while changes are added, false otherwise.
+     */
+    void detectChanges(final List<T> newItems, final List<T> oldItems, final ListItemChangeSink<T> sink,
+                       final boolean immutable) {
+        final var newList = ItemLists.snapshot(newItems, immutable);
+        final var oldList = ItemLists.snapshot(oldItems, immutable);
+
+        switch (algorithm) {
+            case HECKEL -> detectHeckelChanges(newList, oldList, index(oldList), sink);
+            case MULTISET -> detectMultisetChanges(newList, oldList, index(oldList), sink);
+            default -> detectDefaultChanges(newList, oldList, sink);
+        }
+    }
+
+    /**
+     * Detects changes between two lists of items that have already been indexed, and notifies each change to
+     * provided listener, coalescing changes into range changes if enabled.
+     * Lists are not copied, hence they must not be modified while changes are notified.
+     *
+     * @param newItems new items.
+     * @param newIndex index of new items.
+     * @param oldItems old items.
+     * @param oldIndex index of old items.
+     * @param listener listener notified of each found change.
+     */
+    void detectIndexedChanges(
+            final List<T> newItems, final ItemIndex<T> newIndex, final List<T> oldItems, final ItemIndex<T> oldIndex,
+            final ListItemChangeListener listener) {
+        final var coalescer = rangeCoalescingEnabled ? new ListItemChangeCoalescer(listener, false) : null;
+
+        detectIndexedChanges(newItems, newIndex, oldItems, oldIndex,
+                ListItemChangeSink.of(coalescer != null ? coalescer : listener));
+
+        if (coalescer != null) {
+            coalescer.flush();
+        }
+    }
+
+    /**
+     * Detects changes between two lists of items that have already been indexed, and adds each change to provided
+     * sink.
+     * Lists are not copied, hence they must not be modified while changes are added.
+     *
+     * @param newItems new items.
+     * @param newIndex index of new items.
+     * @param oldItems old items.
+     * @param oldIndex index of old items.
+     * @param sink sink receiving each found change.
+     */
+    void detectIndexedChanges(
+            final List<T> newItems, final ItemIndex<T> newIndex, final List<T> oldItems, final ItemIndex<T> oldIndex,
+            final ListItemChangeSink<T> sink) {
+        switch (algorithm) {
+            case HECKEL -> detectHeckelChanges(newItems, oldItems, oldIndex, sink);
+            case MULTISET -> detectMultisetChanges(newItems, oldItems, oldIndex, sink);
+            default -> detectDefaultIndexedChanges(newItems, newIndex, oldItems, oldIndex, sink);
+        }
+    }
+
+    /**
+     * Detects changes between two lists of items by pairing each item with the first equal item of the other list.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param sink sink receiving each found change.
+     */
+    private void detectDefaultChanges(final List<T> newItems, final List<T> oldItems,
+                                      final ListItemChangeSink<T> sink) {
+        final var newIndex = createIndex(newItems);
+        if (newIndex != null) {
+            // items can be found by their keys, so there is no need to scan lists
+            detectDefaultIndexedChanges(newItems, newIndex, oldItems, createIndex(oldItems), sink);
+        } else {
+            // removes
+            buildRemoves(newItems, oldItems, sink);
+
+            // inserts
+            buildInserts(newItems, oldItems, sink);
+
+            // moves
+            buildMoves(newItems, oldItems, sink);
+
+            // changed items
+            buildChanges(newItems, oldItems, sink);
+        }
+    }
+
+    /**
+     * Detects changes between two lists of items by pairing repeated occurrences of equal items in order of
+     * occurrence.
+     * When items can be indexed by their keys, changes are detected in expected linear time, otherwise repeated
+     * occurrences are found by linear search.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param oldIndex index of old items.
+     * @param sink sink receiving each found change.
+     */
+    private void detectMultisetChanges(final List<T> newItems, final List<T> oldItems, final ItemIndex<T> oldIndex,
+                                       final ListItemChangeSink<T> sink) {
+        // position of each new item on the old list
+        final var oldPositions = oldIndex.pair(newItems);
+
+        // position of each old item on the new list
+        final var newPositions = new int[oldItems.size()];
+        Arrays.fill(newPositions, -1);
+        for (var i = 0; i < oldPositions.length; i++) {
+            if (oldPositions[i] >= 0) {
+                newPositions[oldPositions[i]] = i;
+            }
+        }
+
+        notifyChanges(newItems, newPositions, oldItems, oldPositions, i -> newPositions[i] != i, sink);
+    }
+
+    /**
+     * Detects changes between two lists of items by pairing items using the algorithm by Paul Heckel.
+     * Paired items form runs of consecutive items on both lists (e.g., an anchor and the items it has been extended
+     * to), and only runs that do not keep their relative order are reported as moved, so that items that are only
+     * shifted by inserts, removes or other moves are not reported.
+     * When items can be indexed by their keys, both pairing items and finding moves take linear time.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param oldIndex index of old items.
+     * @param sink sink receiving each found change.
+     */
+    private void detectHeckelChanges(final List<T> newItems, final List<T> oldItems, final ItemIndex<T> oldIndex,
+                                     final ListItemChangeSink<T> sink) {
+        final var oldSize = oldItems.size();
+        final var newSize = newItems.size();
+
+        // items are identified by the position of their first occurrence on the old list, so that they are compared
+        // as integers
+        final var oldIds = new int[oldSize];
+        for (var i = 0; i < oldSize; i++) {
+            oldIds[i] = oldIndex.indexOf(oldItems.get(i));
+        }
+        final var newIds = new int[newSize];
+        for (var i = 0; i < newSize; i++) {
+            newIds[i] = oldIndex.indexOf(newItems.get(i));
+        }
+
+        // position of each old item on the new list
+        final var newPositions = HeckelDiff.match(oldIds, newIds);
+
+        // position of each new item on the old list
+        final var oldPositions = new int[newSize];
+        Arrays.fill(oldPositions, -1);
+        for (var i = 0; i < oldSize; i++) {
+            if (newPositions[i] >= 0) {
+                oldPositions[newPositions[i]] = i;
+            }
+        }
+
+        final var moved = findMovedRuns(newPositions, oldPositions);
+
+        notifyChanges(newItems, newPositions, oldItems, oldPositions, i -> moved[i], sink);
+    }
+
+    /**
+     * Finds the paired items to be reported as moved, in a single linear pass over runs of paired items.
+     * A run contains consecutive new items paired with consecutive old items. Runs are visited in new order, and kept
+     * runs are stacked in increasing old order. When a run precedes some stacked runs on the old list, those runs are
+     * replaced by it if they do not contain more items than it (so that an item moved towards the beginning of the
+     * list is reported as moved instead of the items it has been moved before), otherwise the run itself is moved.
+     * Stacked runs are checked only until they contain more items than the visited run, hence each item is checked a
+     * constant number of times on average.
+     * Unlike a longest increasing subsequence, the number of moved items might not be minimal, but moves of single
+     * items or blocks of items (the most common edits) are reported as such.
+     *
+     * @param newPositions position of the new item paired with each old item, or -1 if the old item has been removed.
+     * @param oldPositions position of the old item paired with each new item, or -1 if the new item has been inserted.
+     * @return array indicating, for each old item, whether it has been moved.
+     */
+    private static boolean[] findMovedRuns(final int[] newPositions, final int[] oldPositions) {
+        final var moved = new boolean[newPositions.length];
+        final var newSize = oldPositions.length;
+
+        // first old position and length of each stacked run
+        final var stackStarts = new int[newSize];
+        final var stackLengths = new int[newSize];
+        var stackSize = 0;
+
+        var j = 0;
+        while (j < newSize) {
+            final var start = oldPositions[j];
+            if (start < 0) {
+                j++;
+                continue;
+            }
+
+            // extend run while next new item is paired with next old item
+            var length = 1;
+            while (j + length < newSize && oldPositions[j + length] == start + length) {
+                length++;
+            }
+
+            // number of items of stacked runs located after current run on the old list
+            var conflicting = 0;
+            var conflicts = 0;
+            while (conflicts < stackSize && conflicting <= length
+                    && stackStarts[stackSize - 1 - conflicts] > start) {
+                conflicting += stackLengths[stackSize - 1 - conflicts];
+                conflicts++;
+            }
+
+            if (conflicting <= length) {
+                // conflicting runs are moved instead of current one
+                for (var c = 0; c < conflicts; c++) {
+                    stackSize--;
+                    final var runStart = stackStarts[stackSize];
+                    for (var i = runStart; i < runStart + stackLengths[stackSize]; i++) {
+                        moved[i] = true;
+                    }
+                }
+                stackStarts[stackSize] = start;
+                stackLengths[stackSize] = length;
+                stackSize++;
+            } else {
+                for (var i = start; i < start + length; i++) {
+                    moved[i] = true;
+                }
+            }
+            j += length;
+        }
+
+        return moved;
+    }
+
+    /**
+     * Detects changes between two lists of items using the indexes of both lists.
+     * The position of each item on the other list is found only once in expected constant time, and then changes are
+     * built from those positions, hence changes are detected in expected linear time.
+     *
+     * @param newItems new items.
+     * @param newIndex index of new items.
+     * @param oldItems old items.
+     * @param oldIndex index of old items.
+     * @param sink sink receiving each found change.
+     */
+    private void detectDefaultIndexedChanges(
+            final List<T> newItems, final ItemIndex<T> newIndex, final List<T> oldItems, final ItemIndex<T> oldIndex,
+            final ListItemChangeSink<T> sink) {
+
+        final var oldSize = oldItems.size();
+        final var newSize = newItems.size();
+
+        // position of each old item on the new list
+        final var newPositions = new int[oldSize];
+        for (var i = 0; i < oldSize; i++) {
+            newPositions[i] = newIndex.indexOf(oldItems.get(i));
+        }
+
+        // position of each new item on the old list
+        final var oldPositions = new int[newSize];
+        for (var i = 0; i < newSize; i++) {
+            oldPositions[i] = oldIndex.indexOf(newItems.get(i));
+        }
+
+        notifyChanges(newItems, newPositions, oldItems, oldPositions, i -> newPositions[i] != i, sink);
+    }
+
+    /**
+     * Gets an index of provided items, which finds items by linear search when items cannot be indexed by their keys.
+     *
+     * @param items items to be indexed.
+     * @return index of provided items.
+     */
+    private ItemIndex<T> index(final List<T> items) {
+        final var index = createIndex(items);
+        return index != null ? index : new ScanItemIndex<>(items, this::indexOf);
+    }
+
+    /**
+     * Notifies changes between two lists of items once old and new items have been paired.
+     * Removes are notified first, followed by inserts, moves and updates.
+     *
+     * @param newItems new items.
+     * @param newPositions position of each old item on the new list, or -1 if the old item has been removed.
+     * @param oldItems old items.
+     * @param oldPositions position of each new item on the old list, or -1 if the new item has been inserted.
+     * @param moved determines whether the paired item at an old position has been moved.
+     * @param sink sink receiving each found change.
+     */
+    private void notifyChanges(
+            final List<T> newItems, final int[] newPositions, final List<T> oldItems, final int[] oldPositions,
+            final IntPredicate moved, final ListItemChangeSink<T> sink) {
+
+        // removes
+        for (var i = 0; i < newPositions.length; i++) {
+            if (newPositions[i] < 0) {
+                sink.addRemoved(oldItems.get(i), i);
+            }
+        }
+
+        // inserts
+        for (var i = 0; i < oldPositions.length; i++) {
+            if (oldPositions[i] < 0) {
+                sink.addInserted(newItems.get(i), i);
+            }
+        }
+
+        // moves
+        for (var i = 0; i < newPositions.length; i++) {
+            final var pos2 = newPositions[i];
+            if (pos2 >= 0 && moved.test(i)) {
+                sink.addMoved(oldItems.get(i), newItems.get(pos2), i, pos2);
+            }
+        }
+
+        // changed items
+        for (var i = 0; i < oldPositions.length; i++) {
+            final var oldPos = oldPositions[i];
+            if (oldPos >= 0) {
+                final var newItem = newItems.get(i);
+                final var oldItem = oldItems.get(oldPos);
+
+                // compare both items
+                if (hasContentChanged(newItem, oldItem)) {
+                    // item has changed
+                    sink.addUpdated(oldItem, newItem, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds removed items and notifies detected remove changes.
      *
      * @param newItemsCopy new items copy.
      * @param oldItemsCopy old items copy.
-     * @return a list of detected remove changes.
+     * @param sink sink receiving each detected remove change.
      */
-    private List<RemovedListItemChange<T>> buildRemoves(final List<T> newItemsCopy, final List<T> oldItemsCopy) {
-        final var removes = new ArrayList<RemovedListItemChange<T>>();
-
+    private void buildRemoves(final List<T> newItemsCopy, final List<T> oldItemsCopy,
+                              final ListItemChangeSink<T> sink) {
         for (var i = 0; i < oldItemsCopy.size(); i++) {
             final var oldItem = oldItemsCopy.get(i);
             if (notContains(newItemsCopy, oldItem)) {
                 // this item has been removed from the new list
-                removes.add(new RemovedListItemChange<>(oldItem, i));
+                sink.addRemoved(oldItem, i);
             }
         }
-        return removes;
     }
 
     /**
-     * Finds inserted items and build a list of detected insert changes.
+     * Finds inserted items and notifies detected insert changes.
      *
      * @param newItemsCopy new items copy.
      * @param oldItemsCopy old items copy.
-     * @return a list of detected insert changes.
+     * @param sink sink receiving each detected insert change.
      */
-    private List<InsertedListItemChange<T>> buildInserts(final List<T> newItemsCopy, final List<T> oldItemsCopy) {
-        final var inserts = new ArrayList<InsertedListItemChange<T>>();
-
+    private void buildInserts(final List<T> newItemsCopy, final List<T> oldItemsCopy,
+                              final ListItemChangeSink<T> sink) {
         final var newSize = newItemsCopy.size();
         for (var i = 0; i < newSize; i++) {
             final var newItem = newItemsCopy.get(i);
             if (notContains(oldItemsCopy, newItem)) {
                 // this item has been added on the new list
-                inserts.add(new InsertedListItemChange<>(newItem, i));
+                sink.addInserted(newItem, i);
             }
         }
-
-        return inserts;
     }
 
     /**
-     * Finds moved items and build a list of detected move changes.
+     * Finds moved items and notifies detected move changes.
      *
      * @param newItemsCopy new items copy.
      * @param oldItemsCopy old items copy.
-     * @return a list of detected move changes.
+     * @param sink sink receiving each detected move change.
      */
-    private List<MovedListItemChange<T>> buildMoves(final List<T> newItemsCopy, final List<T> oldItemsCopy) {
-        final var moves = new ArrayList<MovedListItemChange<T>>();
-
+    private void buildMoves(final List<T> newItemsCopy, final List<T> oldItemsCopy,
+                            final ListItemChangeSink<T> sink) {
         for (var i = 0; i < oldItemsCopy.size(); i++) {
             final var item = oldItemsCopy.get(i);
 
@@ -148,23 +646,20 @@ public abstract class AbstractListItemChangeDetector<T> {
                 // item has been moved
                 final var oldItem = oldItemsCopy.get(i);
                 final var newItem = newItemsCopy.get(pos2);
-                moves.add(new MovedListItemChange<>(oldItem, newItem, i, pos2));
+                sink.addMoved(oldItem, newItem, i, pos2);
             }
         }
-
-        return moves;
     }
 
     /**
-     * Finds changed items and build a list of detected update changes.
+     * Finds changed items and notifies detected update changes.
      *
      * @param newItemsCopy new items copy.
      * @param oldItemsCopy old items copy.
-     * @return a list of detected update changes.
+     * @param sink sink receiving each detected update change.
      */
-    private List<UpdatedListItemChange<T>> buildChanges(final List<T> newItemsCopy, final List<T> oldItemsCopy) {
-        final var changes = new ArrayList<UpdatedListItemChange<T>>();
-
+    private void buildChanges(final List<T> newItemsCopy, final List<T> oldItemsCopy,
+                              final ListItemChangeSink<T> sink) {
         var pos = 0;
         for (final var newItem : newItemsCopy) {
             final var oldPos = indexOf(oldItemsCopy, newItem);
@@ -174,12 +669,10 @@ public abstract class AbstractListItemChangeDetector<T> {
                 // compare both items
                 if (hasContentChanged(newItem, oldItem)) {
                     // item has changed
-                    changes.add(new UpdatedListItemChange<>(oldItem, newItem, pos));
+                    sink.addUpdated(oldItem, newItem, pos);
                 }
             }
             pos++;
         }
-
-        return changes;
     }
 }
@@ -17,6 +17,8 @@
 package com.irurueta.hermes;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -28,6 +30,96 @@ import java.util.List;
  */
 public abstract class AbstractSequentialListItemChangeDetector<T> {
 
+    /**
+     * Algorithm used to detect changes.
+     */
+    private final SequentialListItemChangeAlgorithm algorithm;
+
+    /**
+     * Indicates whether compared lists are immutable snapshots, which are not modified while changes are notified to
+     * a listener, so that they do not need to be copied.
+     */
+    private boolean immutableInputs;
+
+    /**
+     * Indicates whether consecutive changes affecting contiguous positions are coalesced into range changes.
+     */
+    private boolean rangeCoalescingEnabled;
+
+    /**
+     * Constructor.
+     * Changes are detected using the {@link SequentialListItemChangeAlgorithm#DEFAULT} algorithm.
+     */
+    protected AbstractSequentialListItemChangeDetector() {
+        this(SequentialListItemChangeAlgorithm.DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param algorithm algorithm used to detect changes.
+     * @throws IllegalArgumentException if provided algorithm is null.
+     */
+    protected AbstractSequentialListItemChangeDetector(final SequentialListItemChangeAlgorithm algorithm) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Gets the algorithm used to detect changes.
+     *
+     * @return algorithm used to detect changes.
+     */
+    public SequentialListItemChangeAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Indicates whether compared lists are immutable snapshots, which are not modified while changes are notified to
+     * a listener (e.g., by the listener itself), so that they do not need to be copied.
+     * By default, lists are copied before notifying changes to a listener.
+     *
+     * @return true if compared lists are immutable snapshots, false otherwise.
+     */
+    public boolean isImmutableInputs() {
+        return immutableInputs;
+    }
+
+    /**
+     * Specifies whether compared lists are immutable snapshots, which are not modified while changes are notified to
+     * a listener (e.g., by the listener itself), so that they do not need to be copied.
+     *
+     * @param immutableInputs true if compared lists are immutable snapshots, false otherwise.
+     */
+    public void setImmutableInputs(final boolean immutableInputs) {
+        this.immutableInputs = immutableInputs;
+    }
+
+    /**
+     * Indicates whether consecutive changes affecting contiguous positions are coalesced into range changes (e.g.,
+     * a block of inserted items is returned as a single {@link InsertedRangeListItemChange}), so that bulk edits
+     * produce fewer changes.
+     * By default, a change is returned for each item.
+     *
+     * @return true if changes are coalesced into range changes, false otherwise.
+     * @see ListItemChangeCoalescer
+     */
+    public boolean isRangeCoalescingEnabled() {
+        return rangeCoalescingEnabled;
+    }
+
+    /**
+     * Specifies whether consecutive changes affecting contiguous positions are coalesced into range changes.
+     *
+     * @param rangeCoalescingEnabled true if changes are coalesced into range changes, false otherwise.
+     */
+    public void setRangeCoalescingEnabled(final boolean rangeCoalescingEnabled) {
+        this.rangeCoalescingEnabled = rangeCoalescingEnabled;
+    }
+
     /**
      * Detects changes between two lists of items.
      *
@@ -40,24 +132,67 @@ public abstract class AbstractSequentialListItemChangeDetector<T> {
             throw new IllegalArgumentException();
         }
 
+        // lists cannot be modified by a listener while changes are collected
         final var changes = new ArrayList<ListItemChange>();
+        detectChanges(newItems, oldItems, changes::add, true);
+        return changes;
+    }
 
-        final var newCopy = new ArrayList<>(newItems);
-        final var oldCopy = new ArrayList<>(oldItems);
-
-        // removes
-        changes.addAll(buildRemoves(newCopy, oldCopy));
+    /**
+     * Detects changes between two lists of items and notifies each change to provided listener as soon as it is
+     * found. Changes are not retained, and they are notified in the same order as they are returned by
+     * {@link #detectChanges(List, List)}.
+     * Lists are copied before notifying changes, unless they are declared as immutable snapshots using
+     * {@link #setImmutableInputs(boolean)}.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param listener listener notified of each found change.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public void detectChanges(final List<T> newItems, final List<T> oldItems, final ListItemChangeListener listener) {
+        if (oldItems == null || newItems == null || listener == null) {
+            throw new IllegalArgumentException();
+        }
 
-        // inserts
-        changes.addAll(buildInserts(newCopy, oldCopy));
+        detectChanges(newItems, oldItems, listener, immutableInputs);
+    }
 
-        // moves
-        changes.addAll(buildMoves(newCopy, oldCopy));
+    /**
+     * Detects changes between two lists of items and stores them in a new columnar change set, so that no
+     * {@link ListItemChange} instance is created for each change.
+     * Changes are stored in the same order as they are returned by {@link #detectChanges(List, List)}, and they are
+     * never coalesced into range changes.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @return a change set containing found changes.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public ListItemChangeSet<T> detectChangeSet(final List<T> newItems, final List<T> oldItems) {
+        final var changeSet = new ListItemChangeSet<T>();
+        detectChangeSet(newItems, oldItems, changeSet);
+        return changeSet;
+    }
 
-        // changed items
-        changes.addAll(buildChanges(newCopy, oldCopy));
+    /**
+     * Detects changes between two lists of items and appends them to provided columnar change set, which can be
+     * cleared and reused to detect changes repeatedly without allocating memory.
+     * Changes are stored in the same order as they are returned by {@link #detectChanges(List, List)}, and they are
+     * never coalesced into range changes.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param changeSet change set where found changes are appended.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public void detectChangeSet(final List<T> newItems, final List<T> oldItems, final ListItemChangeSet<T> changeSet) {
+        if (oldItems == null || newItems == null || changeSet == null) {
+            throw new IllegalArgumentException();
+        }
 
-        return changes;
+        // lists cannot be modified while changes are stored
+        detectChanges(newItems, oldItems, changeSet, true);
     }
 
     /**
@@ -88,47 +223,371 @@ public abstract class AbstractSequentialListItemChangeDetector<T> {
     protected abstract int indexOf(final List<T> items, final T item);
 
     /**
-     * Finds removed items and build a list of detected remove changes.
+     * Determines whether two items are equal (i.e., they represent the same item, regardless of their content).
+     * By default, this method relies on {@link #indexOf(List, Object)}, subclasses should override it to compare
+     * items directly.
+     *
+     * @param newItem new item.
+     * @param oldItem old item.
+     * @return true if both items are equal, false otherwise.
+     */
+    protected boolean isSameItem(final T newItem, final T oldItem) {
+        return indexOf(Collections.singletonList(oldItem), newItem) == 0;
+    }
+
+    /**
+     * Creates an index of provided items, so that items can be found without scanning the whole list.
+     * By default, items are not indexed and are found by linear search using {@link #indexOf(List, Object)}.
+     *
+     * @param items items to be indexed.
+     * @return index of provided items, or null if items cannot be indexed.
+     */
+    ItemIndex<T> createIndex(final List<T> items) {
+        return null;
+    }
+
+    /**
+     * Creates an index of provided items, falling back to linear search if items cannot be indexed.
+     *
+     * @param items items to be indexed.
+     * @return index of provided items.
+     */
+    private ItemIndex<T> index(final List<T> items) {
+        final var result = createIndex(items);
+        return result != null ? result : new ScanItemIndex<>(items, this::indexOf);
+    }
+
+    /**
+     * Detects changes between two lists of items and notifies each change to provided listener, coalescing changes
+     * into range changes if enabled.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param listener listener notified of each found change.
+     * @param immutable true if lists are not modified while changes are notified, false otherwise.
+     */
+    private void detectChanges(final List<T> newItems, final List<T> oldItems, final ListItemChangeListener listener,
+                               final boolean immutable) {
+        final var coalescer = rangeCoalescingEnabled ? new ListItemChangeCoalescer(listener, true) : null;
+
+        detectChanges(newItems, oldItems, ListItemChangeSink.of(coalescer != null ? coalescer : listener), immutable);
+
+        if (coalescer != null) {
+            coalescer.flush();
+        }
+    }
+
+    /**
+     * Detects changes between two lists of items and adds each change to provided sink.
+     * The default algorithm modifies a copy of the old list, whereas other algorithms never modify lists, hence lists
+     * are only copied when they are modified by the algorithm, when they might be modified while changes are added
+     * or when they lack fast random access.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param sink sink receiving each found change.
+     * @param immutable true if lists are not modified while changes are added, false otherwise.
+     */
+    private void detectChanges(final List<T> newItems, final List<T> oldItems, final ListItemChangeSink<T> sink,
+                               final boolean immutable) {
+        final var newList = ItemLists.snapshot(newItems, immutable);
+
+        if (algorithm == SequentialListItemChangeAlgorithm.MINIMAL_MOVES) {
+            detectMinimalMoveChanges(newList, ItemLists.snapshot(oldItems, immutable), sink);
+        } else if (algorithm == SequentialListItemChangeAlgorithm.MYERS) {
+            detectShortestEditScriptChanges(newList, ItemLists.snapshot(oldItems, immutable), sink);
+        } else {
+            // old items are modified so that they resemble new items
+            final var oldCopy = new ArrayList<>(oldItems);
+
+            // removes
+            buildRemoves(newList, oldCopy, sink);
+
+            // inserts
+            buildInserts(newList, oldCopy, sink);
+
+            // moves
+            buildMoves(newList, oldCopy, sink);
+
+            // changed items
+            buildChanges(newList, oldCopy, sink);
+        }
+    }
+
+    /**
+     * Detects changes between two lists of items, moving the minimum number of items.
+     * Items whose new positions form a longest increasing subsequence keep their relative order, and hence they are
+     * kept in place while the remaining items are moved next to their new predecessor.
+     * Removes are notified first, followed by moves, inserts and updates.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param sink sink receiving each found change.
+     */
+    private void detectMinimalMoveChanges(final List<T> newItems, final List<T> oldItems,
+                                          final ListItemChangeSink<T> sink) {
+        final var oldSize = oldItems.size();
+        final var newSize = newItems.size();
+
+        // position of each old item on the new list
+        final var newPositions = index(newItems).pair(oldItems);
+
+        // position of each new item on the old list
+        final var oldPositions = new int[newSize];
+        Arrays.fill(oldPositions, -1);
+        for (var i = 0; i < oldSize; i++) {
+            if (newPositions[i] >= 0) {
+                oldPositions[newPositions[i]] = i;
+            }
+        }
+
+        // removes
+        var removed = 0;
+        for (var i = 0; i < oldSize; i++) {
+            if (newPositions[i] < 0) {
+                // positions are shifted by previously removed items
+                sink.addRemoved(oldItems.get(i), i - removed);
+                removed++;
+            }
+        }
+
+        // moves
+        buildMinimalMoves(newItems, oldItems, newPositions, oldPositions, oldSize - removed, sink);
+
+        // inserts (after moves kept items are already in their new relative order)
+        for (var i = 0; i < newSize; i++) {
+            if (oldPositions[i] < 0) {
+                sink.addInserted(newItems.get(i), i);
+            }
+        }
+
+        // changed items
+        for (var i = 0; i < newSize; i++) {
+            final var oldPos = oldPositions[i];
+            if (oldPos >= 0) {
+                final var newItem = newItems.get(i);
+                final var oldItem = oldItems.get(oldPos);
+
+                // compare both items
+                if (hasContentChanged(newItem, oldItem)) {
+                    // item has changed
+                    sink.addUpdated(oldItem, newItem, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Detects changes between two lists of items using the shortest edit script containing only removes and inserts,
+     * which is found in O(ND) time, where N is the number of items and D is the number of removed and inserted items.
+     * Items that are not part of a longest common subsequence of both lists are removed and inserted, hence no moves
+     * are returned.
+     * Removes are notified first, followed by inserts and updates.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param sink sink receiving each found change.
+     */
+    private void detectShortestEditScriptChanges(final List<T> newItems, final List<T> oldItems,
+                                                 final ListItemChangeSink<T> sink) {
+        final var oldSize = oldItems.size();
+        final var newSize = newItems.size();
+
+        final MyersDiff.Equality equality;
+        final var oldIndex = createIndex(oldItems);
+        if (oldIndex != null) {
+            // items are identified by the position of their first occurrence on the old list, so that they are
+            // compared as integers
+            final var oldIds = new int[oldSize];
+            for (var i = 0; i < oldSize; i++) {
+                oldIds[i] = oldIndex.indexOf(oldItems.get(i));
+            }
+            final var newIds = new int[newSize];
+            for (var i = 0; i < newSize; i++) {
+                newIds[i] = oldIndex.indexOf(newItems.get(i));
+            }
+            equality = (oldPos, newPos) -> oldIds[oldPos] == newIds[newPos];
+        } else {
+            equality = (oldPos, newPos) -> isSameItem(newItems.get(newPos), oldItems.get(oldPos));
+        }
+
+        // position of each old item on the new list
+        final var newPositions = MyersDiff.match(oldSize, newSize, equality);
+
+        // position of each new item on the old list
+        final var oldPositions = new int[newSize];
+        Arrays.fill(oldPositions, -1);
+        for (var i = 0; i < oldSize; i++) {
+            if (newPositions[i] >= 0) {
+                oldPositions[newPositions[i]] = i;
+            }
+        }
+
+        // removes
+        var removed = 0;
+        for (var i = 0; i < oldSize; i++) {
+            if (newPositions[i] < 0) {
+                // positions are shifted by previously removed items
+                sink.addRemoved(oldItems.get(i), i - removed);
+                removed++;
+            }
+        }
+
+        // inserts (after removes, remaining items are already in their new relative order)
+        for (var i = 0; i < newSize; i++) {
+            if (oldPositions[i] < 0) {
+                sink.addInserted(newItems.get(i), i);
+            }
+        }
+
+        // changed items
+        for (var i = 0; i < newSize; i++) {
+            final var oldPos = oldPositions[i];
+            if (oldPos >= 0) {
+                final var newItem = newItems.get(i);
+                final var oldItem = oldItems.get(oldPos);
+
+                // compare both items
+                if (hasContentChanged(newItem, oldItem)) {
+                    // item has changed
+                    sink.addUpdated(oldItem, newItem, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the minimum number of moves to sort kept items (those not removed) in their new relative order.
+     * Each item that does not belong to a longest increasing subsequence of new positions is moved, in new order,
+     * right after its new predecessor. Every item is assigned a slot in the final arrangement, so that the position
+     * of each item before and after being moved is found in O(log n) time using a {@link PositionTree}.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param newPositions position of each old item on the new list, or -1 if removed.
+     * @param oldPositions position of each new item on the old list, or -1 if inserted.
+     * @param keptCount number of kept items.
+     * @param sink sink receiving each detected move change.
+     */
+    private void buildMinimalMoves(final List<T> newItems, final List<T> oldItems, final int[] newPositions,
+                                   final int[] oldPositions, final int keptCount,
+                                   final ListItemChangeSink<T> sink) {
+
+        // old position of each kept item, in old order
+        final var keptPositions = new int[keptCount];
+        var k = 0;
+        for (var i = 0; i < newPositions.length; i++) {
+            if (newPositions[i] >= 0) {
+                keptPositions[k++] = i;
+            }
+        }
+
+        // rank of each kept item in new order, and kept item at each rank
+        final var targets = new int[keptCount];
+        final var keptAtRank = new int[keptCount];
+        final var ranks = new int[oldPositions.length];
+        var rank = 0;
+        for (var i = 0; i < oldPositions.length; i++) {
+            if (oldPositions[i] >= 0) {
+                ranks[i] = rank++;
+            }
+        }
+        for (k = 0; k < keptCount; k++) {
+            targets[k] = ranks[newPositions[keptPositions[k]]];
+            keptAtRank[targets[k]] = k;
+        }
+
+        final var fixed = LongestIncreasingSubsequence.find(targets);
+
+        // each moved item is placed after the nearest fixed item preceding it in new order (its anchor), or at the
+        // beginning of the list. Anchor 0 is the beginning of the list and anchor k + 1 is the kept item k
+        final var anchors = new int[keptCount];
+        final var chainSizes = new int[keptCount + 1];
+        var anchor = 0;
+        for (rank = 0; rank < keptCount; rank++) {
+            k = keptAtRank[rank];
+            if (fixed[k]) {
+                anchor = k + 1;
+            } else {
+                anchors[k] = anchor;
+                chainSizes[anchor]++;
+            }
+        }
+
+        // slots: items moved to the beginning, then each kept item followed by the items moved after it
+        final var ownSlots = new int[keptCount];
+        final var chainSlots = new int[keptCount + 1];
+        var slot = chainSizes[0];
+        for (k = 0; k < keptCount; k++) {
+            ownSlots[k] = slot++;
+            chainSlots[k + 1] = slot;
+            slot += chainSizes[k + 1];
+        }
+
+        final var tree = new PositionTree(slot);
+        for (k = 0; k < keptCount; k++) {
+            tree.occupy(ownSlots[k]);
+        }
+
+        for (rank = 0; rank < keptCount; rank++) {
+            k = keptAtRank[rank];
+            if (!fixed[k]) {
+                final var target = chainSlots[anchors[k]]++;
+                final var pos1 = tree.positionOf(ownSlots[k]);
+                tree.release(ownSlots[k]);
+                tree.occupy(target);
+                final var pos2 = tree.positionOf(target);
+
+                if (pos1 != pos2) {
+                    // item has been moved
+                    final var oldPos = keptPositions[k];
+                    final var oldItem = oldItems.get(oldPos);
+                    final var newItem = newItems.get(newPositions[oldPos]);
+                    sink.addMoved(oldItem, newItem, pos1, pos2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds removed items and notifies detected remove changes.
      * Notice that this method modifies the old items copy to avoid checking removed items again.
      *
      * @param newItemsCopy new items copy.
      * @param oldItemsCopy old items copy.
-     * @return a list of detected remove changes.
+     * @param sink sink receiving each detected remove change.
      */
-    private List<RemovedListItemChange<T>> buildRemoves(final List<T> newItemsCopy, final List<T> oldItemsCopy) {
-        final var removes = new ArrayList<RemovedListItemChange<T>>();
-
+    private void buildRemoves(final List<T> newItemsCopy, final List<T> oldItemsCopy,
+                              final ListItemChangeSink<T> sink) {
         for (var i = 0; i < oldItemsCopy.size(); i++) {
             final var oldItem = oldItemsCopy.get(i);
             if (notContains(newItemsCopy, oldItem)) {
                 // item has been removed on the new list, we remove it to avoid checking it again
                 oldItemsCopy.remove(i);
-                removes.add(new RemovedListItemChange<>(oldItem, i));
+                sink.addRemoved(oldItem, i);
                 // decrease i so that next iteration checks the same position again
                 i--;
             }
         }
-        return removes;
     }
 
     /**
-     * Finds inserted items and build a list of detected insert changes.
+     * Finds inserted items and notifies detected insert changes.
      * Notice that this method modifies the old items copy to avoid checking inserted items again.
      *
      * @param newItemsCopy new items copy.
      * @param oldItemsCopy old items copy.
-     * @return a list of detected insert changes.
+     * @param sink sink receiving each detected insert change.
      */
-    private List<InsertedListItemChange<T>> buildInserts(final List<T> newItemsCopy, final List<T> oldItemsCopy) {
-        final var inserts = new ArrayList<InsertedListItemChange<T>>();
-
+    private void buildInserts(final List<T> newItemsCopy, final List<T> oldItemsCopy,
+                              final ListItemChangeSink<T> sink) {
         final var newSize = newItemsCopy.size();
         for (var i = 0; i < newSize; i++) {
             final var newItem = newItemsCopy.get(i);
             if (notContains(oldItemsCopy, newItem)) {
                 // this item has been added on the new list
                 final var pos = Math.min(i, oldItemsCopy.size());
-                inserts.add(new InsertedListItemChange<>(newItem, pos));
+                sink.addInserted(newItem, pos);
 
                 // make old items resemble new items so that changes and moves are later detected at proper positions
                 if (i >= oldItemsCopy.size()) {
@@ -138,21 +597,18 @@ public abstract class AbstractSequentialListItemChangeDetector<T> {
                 }
             }
         }
-
-        return inserts;
     }
 
     /**
-     * Finds moved items and build a list of detected move changes.
+     * Finds moved items and notifies detected move changes.
      * Notice that this method modifies the old items copy to avoid checking moved items again.
      *
      * @param newItemsCopy new items copy.
      * @param oldItemsCopy old items copy.
-     * @return a list of detected move changes.
+     * @param sink sink receiving each detected move change.
      */
-    private List<MovedListItemChange<T>> buildMoves(final List<T> newItemsCopy, final List<T> oldItemsCopy) {
-        final var moves = new ArrayList<MovedListItemChange<T>>();
-
+    private void buildMoves(final List<T> newItemsCopy, final List<T> oldItemsCopy,
+                            final ListItemChangeSink<T> sink) {
         final var itemsToMove = new ArrayList<>(oldItemsCopy);
         for (var i = 0; i < itemsToMove.size(); i++) {
             final var item = itemsToMove.get(i);
@@ -164,7 +620,7 @@ public abstract class AbstractSequentialListItemChangeDetector<T> {
                 // item has been moved
                 final var oldItem = oldItemsCopy.get(pos1);
                 final var newItem = newItemsCopy.get(pos2);
-                moves.add(new MovedListItemChange<>(oldItem, newItem, pos1, pos2));
+                sink.addMoved(oldItem, newItem, pos1, pos2);
                 // remove item from old items to avoid checking it again
                 final var removedItem = oldItemsCopy.remove(pos1);
                 if (pos2 >= oldItemsCopy.size()) {
@@ -174,20 +630,17 @@ public abstract class AbstractSequentialListItemChangeDetector<T> {
                 }
             }
         }
-
-        return moves;
     }
 
     /**
-     * Finds changed items and build a list of detected update changes.
+     * Finds changed items and notifies detected update changes.
      *
      * @param newItemsCopy new items copy.
      * @param oldItemsCopy old items copy.
-     * @return a list of detected update changes.
+     * @param sink sink receiving each detected update change.
      */
-    private List<UpdatedListItemChange<T>> buildChanges(final List<T> newItemsCopy, final List<T> oldItemsCopy) {
-        final var changes = new ArrayList<UpdatedListItemChange<T>>();
-
+    private void buildChanges(final List<T> newItemsCopy, final List<T> oldItemsCopy,
+                              final ListItemChangeSink<T> sink) {
         var pos = 0;
         for (final var newItem : newItemsCopy) {
             final var oldPos = indexOf(oldItemsCopy, newItem);
@@ -197,12 +650,10 @@ public abstract class AbstractSequentialListItemChangeDetector<T> {
                 // compare both items
                 if (hasContentChanged(newItem, oldItem)) {
                     // item has changed
-                    changes.add(new UpdatedListItemChange<>(oldItem, newItem, pos));
+                    sink.addUpdated(oldItem, newItem, pos);
                 }
             }
             pos++;
         }
-
-        return changes;
     }
 }
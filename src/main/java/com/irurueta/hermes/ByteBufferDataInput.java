@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads binary data written by {@link ByteBufferDataOutput} directly from a {@link ByteBuffer} (e.g., a direct or
+ * memory-mapped buffer) without copying it.
+ * An {@link EOFException} is thrown when data is read beyond the limit of the buffer.
+ */
+final class ByteBufferDataInput implements DataInput {
+
+    /**
+     * Buffer where data is read from.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructor.
+     *
+     * @param buffer buffer where data is read from, starting at its current position.
+     */
+    ByteBufferDataInput(final ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Reads an unsigned integer written by {@link ByteBufferDataOutput#writeVarInt(int)}.
+     *
+     * @return read value.
+     * @throws IOException if the end of the buffer is reached or the value is malformed.
+     */
+    int readVarInt() throws IOException {
+        var result = 0;
+        for (var shift = 0; shift < Integer.SIZE; shift += 7) {
+            final var b = readByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+
+    /**
+     * Reads a signed integer written by {@link ByteBufferDataOutput#writeSignedVarInt(int)}.
+     *
+     * @return read value.
+     * @throws IOException if the end of the buffer is reached or the value is malformed.
+     */
+    int readSignedVarInt() throws IOException {
+        final var value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads bytes to fill provided array.
+     *
+     * @param b array where read bytes are stored.
+     * @throws IOException if the end of the buffer is reached.
+     */
+    @Override
+    public void readFully(final byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    /**
+     * Reads a number of bytes into provided array.
+     *
+     * @param b array where read bytes are stored.
+     * @param off position of the array where the first read byte is stored.
+     * @param len number of bytes to be read.
+     * @throws IOException if the end of the buffer is reached.
+     */
+    @Override
+    public void readFully(final byte[] b, final int off, final int len) throws IOException {
+        require(len);
+        buffer.get(b, off, len);
+    }
+
+    /**
+     * Skips a number of bytes, or the remaining ones if there are fewer.
+     *
+     * @param n number of bytes to be skipped.
+     * @return number of skipped bytes.
+     */
+    @Override
+    public int skipBytes(final int n) {
+        final var skipped = Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + skipped);
+        return skipped;
+    }
+
+    /**
+     * Reads a boolean value.
+     *
+     * @return read value.
+     * @throws IOException if the end of the buffer is reached.
+     */
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    /**
+     * Reads a byte.
+     *
+     * @return read value.
+     * @throws IOException if the end of the buffer is reached.
+     */
+    @Override
+    public byte readByte() throws IOException {
+        require(1);
+        return buffer.get();
+    }
+
+    /**
+     * Reads an unsigned byte.
+     *
+     * @return read value.
+     * @throws IOException if the end of the buffer is reached.
+     */
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    /**
+     * Reads a 16-bit integer.
+     *
+     * @return read value.
+     * @throws IOException if the end of the buffer is reached.
+     */
+    @Override
+    public short readShort() throws IOException {
+        require(Short.BYTES);
+        return buffer.getShort();
+    }
+
+    /**
+     * Reads an unsigned 16-bit integer.
+     *
+     * @return read value.
+     * @throws IOException if the end of the buffer is reached.
+     */
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return readShort() & 0xFFFF;
+    }
+
+    /**
+     * Reads a character.
+     *
+     * @return read value.
+     * @throws IOException if the end of the buffer is reached.
+     */
+    @Override
+    public char readChar() throws IOException {
+        require(Character.BYTES);
+        return buffer.getChar();
+    }
+
+    /**
+     * Reads a 32-bit integer.
+     *
+     * @return read value.
+     * @throws IOException if the end of the buffer is reached.
+     */
+    @Override
+    public int readInt() throws IOException {
+        require(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    /**
+     * Reads a 64-bit integer.
+     *
+     * @return read value.
+     * @throws IOException if the end of the buffer is reached.
+     */
+    @Override
+    public long readLong() throws IOException {
+        require(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    /**
+     * Reads a float value.
+     *
+     * @return read value.
+     * @throws IOException if the end of the buffer is reached.
+     */
+    @Override
+    public float readFloat() throws IOException {
+        require(Float.BYTES);
+        return buffer.getFloat();
+    }
+
+    /**
+     * Reads a double value.
+     *
+     * @return read value.
+     * @throws IOException if the end of the buffer is reached.
+     */
+    @Override
+    public double readDouble() throws IOException {
+        require(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    /**
+     * Reads the next line of text, where each byte is converted into a character.
+     *
+     * @return read line, or null if the end of the buffer has been reached.
+     */
+    @Override
+    public String readLine() {
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+
+        final var result = new StringBuilder();
+        while (buffer.hasRemaining()) {
+            final var c = (char) (buffer.get() & 0xFF);
+            if (c == '\n') {
+                break;
+            }
+            if (c == '\r') {
+                if (buffer.hasRemaining() && buffer.get(buffer.position()) == '\n') {
+                    buffer.get();
+                }
+                break;
+            }
+            result.append(c);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Reads a string encoded using modified UTF-8.
+     *
+     * @return read string.
+     * @throws IOException if the end of the buffer is reached or the string is malformed.
+     */
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+
+    /**
+     * Checks that the buffer contains provided number of bytes.
+     *
+     * @param bytes number of bytes to be read.
+     * @throws EOFException if the buffer does not contain enough bytes.
+     */
+    private void require(final int bytes) throws EOFException {
+        if (buffer.remaining() < bytes) {
+            throw new EOFException();
+        }
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.io.DataOutput;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes binary data into a {@link ByteBuffer}, which is either provided, so that a
+ * {@link java.nio.BufferOverflowException} is thrown when its capacity is exceeded, or grown as needed.
+ * Multibyte values are written in big-endian order, as {@link java.io.DataOutputStream} does.
+ */
+final class ByteBufferDataOutput implements DataOutput {
+
+    /**
+     * Default capacity of buffers created by this class.
+     */
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Buffer where data is written.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Indicates whether the buffer is replaced by a larger one when its capacity is exceeded.
+     */
+    private final boolean growable;
+
+    /**
+     * Constructor for a growable heap buffer.
+     */
+    ByteBufferDataOutput() {
+        this.buffer = ByteBuffer.allocate(DEFAULT_CAPACITY);
+        this.growable = true;
+    }
+
+    /**
+     * Constructor for a provided buffer, which is written from its current position and is never grown.
+     *
+     * @param buffer buffer where data is written.
+     */
+    ByteBufferDataOutput(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.growable = false;
+    }
+
+    /**
+     * Gets the buffer where data is written, which might have been replaced if it has grown.
+     *
+     * @return buffer where data is written.
+     */
+    ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Gets the position where next data will be written.
+     *
+     * @return position where next data will be written.
+     */
+    int position() {
+        return buffer.position();
+    }
+
+    /**
+     * Writes a 32-bit integer at provided absolute position without moving the current position (e.g., to fill a
+     * length that is only known after writing the data it refers to).
+     *
+     * @param position absolute position where the value is written.
+     * @param value value to be written.
+     */
+    void writeInt(final int position, final int value) {
+        buffer.putInt(position, value);
+    }
+
+    /**
+     * Writes an unsigned integer using a variable number of bytes, where each byte contains 7 bits of the value,
+     * starting with the least significant ones, and its highest bit indicates whether more bytes follow.
+     * Small values take a single byte.
+     *
+     * @param value value to be written, which is treated as unsigned.
+     */
+    void writeVarInt(final int value) {
+        ensureCapacity(5);
+        var v = value;
+        while ((v & ~0x7F) != 0) {
+            buffer.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buffer.put((byte) v);
+    }
+
+    /**
+     * Writes a signed integer using a variable number of bytes, where values close to zero (either positive or
+     * negative) take a single byte.
+     *
+     * @param value value to be written.
+     */
+    void writeSignedVarInt(final int value) {
+        // zigzag encoding maps values of small magnitude to small unsigned values
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Writes the lowest 8 bits of provided value as a byte.
+     *
+     * @param b value to be written.
+     */
+    @Override
+    public void write(final int b) {
+        ensureCapacity(1);
+        buffer.put((byte) b);
+    }
+
+    /**
+     * Writes all the bytes of provided array.
+     *
+     * @param b bytes to be written.
+     */
+    @Override
+    public void write(final byte[] b) {
+        write(b, 0, b.length);
+    }
+
+    /**
+     * Writes a range of bytes of provided array.
+     *
+     * @param b bytes to be written.
+     * @param off position of the first byte to be written.
+     * @param len number of bytes to be written.
+     */
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+        ensureCapacity(len);
+        buffer.put(b, off, len);
+    }
+
+    /**
+     * Writes a boolean value as a single byte.
+     *
+     * @param v value to be written.
+     */
+    @Override
+    public void writeBoolean(final boolean v) {
+        write(v ? 1 : 0);
+    }
+
+    /**
+     * Writes the lowest 8 bits of provided value as a byte.
+     *
+     * @param v value to be written.
+     */
+    @Override
+    public void writeByte(final int v) {
+        write(v);
+    }
+
+    /**
+     * Writes the lowest 16 bits of provided value.
+     *
+     * @param v value to be written.
+     */
+    @Override
+    public void writeShort(final int v) {
+        ensureCapacity(Short.BYTES);
+        buffer.putShort((short) v);
+    }
+
+    /**
+     * Writes a character as two bytes.
+     *
+     * @param v value to be written.
+     */
+    @Override
+    public void writeChar(final int v) {
+        ensureCapacity(Character.BYTES);
+        buffer.putChar((char) v);
+    }
+
+    /**
+     * Writes a 32-bit integer.
+     *
+     * @param v value to be written.
+     */
+    @Override
+    public void writeInt(final int v) {
+        ensureCapacity(Integer.BYTES);
+        buffer.putInt(v);
+    }
+
+    /**
+     * Writes a 64-bit integer.
+     *
+     * @param v value to be written.
+     */
+    @Override
+    public void writeLong(final long v) {
+        ensureCapacity(Long.BYTES);
+        buffer.putLong(v);
+    }
+
+    /**
+     * Writes a float value.
+     *
+     * @param v value to be written.
+     */
+    @Override
+    public void writeFloat(final float v) {
+        ensureCapacity(Float.BYTES);
+        buffer.putFloat(v);
+    }
+
+    /**
+     * Writes a double value.
+     *
+     * @param v value to be written.
+     */
+    @Override
+    public void writeDouble(final double v) {
+        ensureCapacity(Double.BYTES);
+        buffer.putDouble(v);
+    }
+
+    /**
+     * Writes the lowest 8 bits of each character of provided string.
+     *
+     * @param s string to be written.
+     */
+    @Override
+    public void writeBytes(final String s) {
+        final var length = s.length();
+        ensureCapacity(length);
+        for (var i = 0; i < length; i++) {
+            buffer.put((byte) s.charAt(i));
+        }
+    }
+
+    /**
+     * Writes each character of provided string as two bytes.
+     *
+     * @param s string to be written.
+     */
+    @Override
+    public void writeChars(final String s) {
+        final var length = s.length();
+        ensureCapacity(length * Character.BYTES);
+        for (var i = 0; i < length; i++) {
+            buffer.putChar(s.charAt(i));
+        }
+    }
+
+    /**
+     * Writes a string using modified UTF-8 encoding, as {@link java.io.DataOutputStream#writeUTF(String)} does.
+     *
+     * @param s string to be written.
+     * @throws UTFDataFormatException if the encoded string is longer than 65535 bytes.
+     */
+    @Override
+    public void writeUTF(final String s) throws UTFDataFormatException {
+        final var length = s.length();
+        var encodedLength = 0;
+        for (var i = 0; i < length; i++) {
+            final var c = s.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                encodedLength++;
+            } else if (c <= 0x07FF) {
+                encodedLength += 2;
+            } else {
+                encodedLength += 3;
+            }
+        }
+        if (encodedLength > 0xFFFF) {
+            throw new UTFDataFormatException();
+        }
+
+        ensureCapacity(Short.BYTES + encodedLength);
+        buffer.putShort((short) encodedLength);
+        for (var i = 0; i < length; i++) {
+            final var c = s.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                buffer.put((byte) c);
+            } else if (c <= 0x07FF) {
+                buffer.put((byte) (0xC0 | ((c >> 6) & 0x1F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else {
+                buffer.put((byte) (0xE0 | ((c >> 12) & 0x0F)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Grows the buffer if it is growable and it cannot contain provided number of additional bytes.
+     * Otherwise, writing beyond the capacity of the buffer throws a {@link java.nio.BufferOverflowException}.
+     *
+     * @param bytes number of bytes to be written.
+     */
+    private void ensureCapacity(final int bytes) {
+        if (growable && buffer.remaining() < bytes) {
+            final var capacity = Math.max(2 * buffer.capacity(), buffer.position() + bytes);
+            final var grown = ByteBuffer.allocate(capacity);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+    }
+}
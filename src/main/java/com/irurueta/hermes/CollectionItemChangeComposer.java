@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Composes two consecutive collections of changes into a single collection of changes.
+ * Given the changes transforming a collection A into a collection B, and the changes transforming collection B into
+ * a collection C (as returned by {@link CollectionItemChangeDetector}), the composed changes transform collection A
+ * into collection C, without requiring any of the collections.
+ * Changes are matched by the keys of their items, hence composition takes time proportional to the number of changes:
+ * <ul>
+ *     <li>An insert followed by a remove cancel each other.</li>
+ *     <li>An insert followed by an update is an insert of the updated item.</li>
+ *     <li>A remove followed by an insert is an update, unless the content of both items is equal.</li>
+ *     <li>Two updates are a single update, unless the content of the first old item and the last new item is
+ *     equal.</li>
+ *     <li>An update followed by a remove is a remove of the old item.</li>
+ * </ul>
+ *
+ * @param <T> type of items.
+ * @param <K> type of keys identifying items.
+ */
+public class CollectionItemChangeComposer<T, K> {
+
+    /**
+     * Extracts the key identifying items.
+     */
+    private final ItemKeyExtractor<T, K> itemKeyExtractor;
+
+    /**
+     * Comparator to determine whether the content of two items is equal.
+     */
+    private final ItemContentComparator<T> itemContentComparator;
+
+    /**
+     * Constructor.
+     *
+     * @param itemKeyExtractor extracts the key identifying items.
+     * @param itemContentComparator comparator to determine whether the content of two items is equal.
+     * @throws IllegalArgumentException if any of provided parameters is null.
+     */
+    public CollectionItemChangeComposer(final ItemKeyExtractor<T, K> itemKeyExtractor,
+                                        final ItemContentComparator<T> itemContentComparator) {
+        if (itemKeyExtractor == null || itemContentComparator == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.itemKeyExtractor = itemKeyExtractor;
+        this.itemContentComparator = itemContentComparator;
+    }
+
+    /**
+     * Composes two consecutive collections of changes.
+     *
+     * @param first changes transforming collection A into collection B.
+     * @param second changes transforming collection B into collection C.
+     * @return changes transforming collection A into collection C.
+     * @throws IllegalArgumentException if any of provided collections of changes is null, contains unsupported
+     * changes, contains more than one change for the same item, or if changes of both collections are inconsistent
+     * (e.g., an item is inserted twice).
+     */
+    public List<CollectionItemChange> compose(final Collection<CollectionItemChange> first,
+                                              final Collection<CollectionItemChange> second) {
+        if (first == null || second == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var changes = new LinkedHashMap<K, CollectionItemChange>(HashItemIndex.capacityFor(first.size()));
+        for (final var change : first) {
+            if (changes.putIfAbsent(getKey(change), change) != null) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        final var seen = new HashSet<K>(HashItemIndex.capacityFor(second.size()));
+        for (final var change : second) {
+            final var key = getKey(change);
+            if (!seen.add(key)) {
+                throw new IllegalArgumentException();
+            }
+
+            final var previous = changes.get(key);
+            if (previous == null) {
+                changes.put(key, change);
+                continue;
+            }
+
+            final var composed = compose(previous, change);
+            if (composed != null) {
+                changes.put(key, composed);
+            } else {
+                changes.remove(key);
+            }
+        }
+
+        return new ArrayList<>(changes.values());
+    }
+
+    /**
+     * Composes two consecutive changes of the same item.
+     *
+     * @param first first change.
+     * @param second second change.
+     * @return composed change, or null if both changes cancel each other.
+     * @throws IllegalArgumentException if changes are inconsistent.
+     */
+    @SuppressWarnings("unchecked")
+    private CollectionItemChange compose(final CollectionItemChange first, final CollectionItemChange second) {
+        if (first instanceof InsertedCollectionItemChange<?>) {
+            if (second instanceof RemovedCollectionItemChange<?>) {
+                return null;
+            } else if (second instanceof UpdatedCollectionItemChange<?> updated) {
+                return new InsertedCollectionItemChange<>((T) updated.getNewItem());
+            }
+        } else if (first instanceof RemovedCollectionItemChange<?> removed) {
+            if (second instanceof InsertedCollectionItemChange<?> inserted) {
+                return createUpdate((T) removed.getOldItem(), (T) inserted.getNewItem());
+            }
+        } else if (first instanceof UpdatedCollectionItemChange<?> updated) {
+            if (second instanceof UpdatedCollectionItemChange<?> updatedAgain) {
+                return createUpdate((T) updated.getOldItem(), (T) updatedAgain.getNewItem());
+            } else if (second instanceof RemovedCollectionItemChange<?>) {
+                return new RemovedCollectionItemChange<>((T) updated.getOldItem());
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * Creates an update change, unless the content of both items is equal.
+     *
+     * @param oldItem old item.
+     * @param newItem new item.
+     * @return update change, or null if the content of both items is equal.
+     */
+    private CollectionItemChange createUpdate(final T oldItem, final T newItem) {
+        return itemContentComparator.equalContent(newItem, oldItem) ? null
+                : new UpdatedCollectionItemChange<>(oldItem, newItem);
+    }
+
+    /**
+     * Gets the key of the item a change refers to.
+     *
+     * @param change a change.
+     * @return key of the item.
+     * @throws IllegalArgumentException if change is not supported.
+     */
+    @SuppressWarnings("unchecked")
+    private K getKey(final CollectionItemChange change) {
+        if (change instanceof InsertedCollectionItemChange<?> inserted) {
+            return itemKeyExtractor.getKey((T) inserted.getNewItem());
+        } else if (change instanceof RemovedCollectionItemChange<?> removed) {
+            return itemKeyExtractor.getKey((T) removed.getOldItem());
+        } else if (change instanceof UpdatedCollectionItemChange<?> updated) {
+            return itemKeyExtractor.getKey((T) updated.getNewItem());
+        }
+        throw new IllegalArgumentException();
+    }
+}
@@ -37,6 +37,12 @@ public class CollectionItemChangeDetector<T> extends AbstractCollectionItemChang
      */
     private final ItemContentComparator<T> itemContentComparator;
 
+    /**
+     * Extracts the keys identifying items, so that items can be indexed by their keys.
+     * When null, items are found by linear search using the item comparator.
+     */
+    private final ItemKeyExtractor<T, ?> itemKeyExtractor;
+
     /**
      * Constructor.
      *
@@ -53,6 +59,28 @@ public class CollectionItemChangeDetector<T> extends AbstractCollectionItemChang
 
         this.itemComparator = itemComparator;
         this.itemContentComparator = itemContentComparator;
+        this.itemKeyExtractor = null;
+    }
+
+    /**
+     * Constructor.
+     * Items are identified by their keys, which are indexed in a hash table, so that changes are detected in expected
+     * linear time.
+     *
+     * @param itemKeyExtractor extracts the keys identifying items (e.g., their ids).
+     * @param itemContentComparator comparator to determine whether the content of two items is equal.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public CollectionItemChangeDetector(final ItemKeyExtractor<T, ?> itemKeyExtractor,
+                                        final ItemContentComparator<T> itemContentComparator) {
+
+        if (itemKeyExtractor == null || itemContentComparator == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.itemComparator = itemKeyExtractor;
+        this.itemContentComparator = itemContentComparator;
+        this.itemKeyExtractor = itemKeyExtractor;
     }
 
     /**
@@ -93,4 +121,15 @@ public class CollectionItemChangeDetector<T> extends AbstractCollectionItemChang
             return itemComparator.equals(item, otherItem);
         }).findFirst().orElse(-1);
     }
+
+    /**
+     * Creates an index of provided items by their keys, if a key extractor has been provided.
+     *
+     * @param items items to be indexed.
+     * @return index of provided items, or null if no key extractor has been provided.
+     */
+    @Override
+    ItemIndex<T> createIndex(final List<T> items) {
+        return itemKeyExtractor != null ? new HashItemIndex<>(items, itemKeyExtractor) : null;
+    }
 }
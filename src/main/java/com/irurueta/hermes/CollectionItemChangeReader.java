@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates collection changes encoded by {@link ItemChangeCodec} directly from a buffer, without copying it.
+ * Items are only deserialized when requested.
+ *
+ * @param <T> type of items.
+ */
+public class CollectionItemChangeReader<T> extends AbstractItemChangeReader<T> {
+
+    /**
+     * Available actions indexed by their ordinal.
+     */
+    private static final CollectionItemChangeAction[] ACTIONS = CollectionItemChangeAction.values();
+
+    /**
+     * Action of the current change.
+     */
+    private CollectionItemChangeAction action;
+
+    /**
+     * Constructor.
+     *
+     * @param buffer buffer containing encoded changes, whose position is at the first change.
+     * @param size number of encoded changes.
+     * @param itemSerializer serializer used to read new items.
+     * @param keySerializer serializer used to read old items.
+     */
+    CollectionItemChangeReader(final ByteBuffer buffer, final int size, final ItemSerializer<T> itemSerializer,
+                               final ItemSerializer<T> keySerializer) {
+        super(buffer, size, itemSerializer, keySerializer);
+    }
+
+    /**
+     * Gets the action of the current change.
+     *
+     * @return action of the current change.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public CollectionItemChangeAction getAction() {
+        checkCurrent();
+        return action;
+    }
+
+    /**
+     * Creates a {@link CollectionItemChange} instance for the current change, deserializing its items.
+     *
+     * @return current change.
+     * @throws IOException if items cannot be deserialized.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public CollectionItemChange getChange() throws IOException {
+        checkCurrent();
+        return switch (action) {
+            case REMOVED -> new RemovedCollectionItemChange<>(getOldItem());
+            case INSERTED -> new InsertedCollectionItemChange<>(getNewItem());
+            default -> new UpdatedCollectionItemChange<>(getOldItem(), getNewItem());
+        };
+    }
+
+    /**
+     * Reads the current change, from the action up to its items.
+     *
+     * @throws IOException if the buffer does not contain a valid change.
+     */
+    @Override
+    void readChange() throws IOException {
+        final var ordinal = input.readUnsignedByte();
+        if (ordinal >= ACTIONS.length) {
+            throw new IOException("Invalid action");
+        }
+        action = ACTIONS[ordinal];
+        readItems(action != CollectionItemChangeAction.INSERTED, action != CollectionItemChangeAction.REMOVED);
+    }
+}
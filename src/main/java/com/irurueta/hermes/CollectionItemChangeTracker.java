@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tracks changes between successive snapshots of a collection of items (e.g., a source polled periodically).
+ * The last snapshot is retained along with its index, so that each snapshot is copied and indexed only once, when
+ * it is provided, and then it is reused as the old snapshot of the next call.
+ * Items are indexed only when provided detector can index them (e.g., when it has been created with an
+ * {@link ItemKeyExtractor}), otherwise only copies of the last snapshot are avoided.
+ * Notice that this class is not thread-safe.
+ *
+ * @param <T> type of items.
+ */
+public class CollectionItemChangeTracker<T> {
+
+    /**
+     * Detector used to detect changes between snapshots.
+     */
+    private final AbstractCollectionItemChangeDetector<T> detector;
+
+    /**
+     * Last snapshot of items.
+     */
+    private List<T> snapshot = Collections.emptyList();
+
+    /**
+     * Index of the last snapshot, or null if items cannot be indexed.
+     */
+    private ItemIndex<T> snapshotIndex;
+
+    /**
+     * Constructor.
+     * The initial snapshot is empty, hence all items of the first tracked snapshot are reported as inserted.
+     *
+     * @param detector detector used to detect changes between snapshots.
+     * @throws IllegalArgumentException if provided detector is null.
+     */
+    public CollectionItemChangeTracker(final AbstractCollectionItemChangeDetector<T> detector) {
+        if (detector == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.detector = detector;
+        this.snapshotIndex = detector.createIndex(snapshot);
+    }
+
+    /**
+     * Gets the detector used to detect changes between snapshots.
+     *
+     * @return detector used to detect changes between snapshots.
+     */
+    public AbstractCollectionItemChangeDetector<T> getDetector() {
+        return detector;
+    }
+
+    /**
+     * Gets the last snapshot of items.
+     *
+     * @return unmodifiable view of the last snapshot of items.
+     */
+    public List<T> getSnapshot() {
+        return Collections.unmodifiableList(snapshot);
+    }
+
+    /**
+     * Replaces the last snapshot of items without detecting changes (e.g., to start tracking from a known state).
+     *
+     * @param items items of the new snapshot.
+     * @throws IllegalArgumentException if provided items are null.
+     */
+    public void reset(final Collection<T> items) {
+        if (items == null) {
+            throw new IllegalArgumentException();
+        }
+
+        snapshot = ItemLists.snapshot(items, detector.isImmutableInputs());
+        snapshotIndex = detector.createIndex(snapshot);
+    }
+
+    /**
+     * Detects changes between the last snapshot and provided items, which then become the last snapshot.
+     *
+     * @param items items of the new snapshot.
+     * @return a list of found changes.
+     * @throws IllegalArgumentException if provided items are null.
+     */
+    public Collection<CollectionItemChange> track(final Collection<T> items) {
+        final var changes = new ArrayList<CollectionItemChange>();
+        track(items, changes::add);
+        return changes;
+    }
+
+    /**
+     * Detects changes between the last snapshot and provided items, which then become the last snapshot, and notifies
+     * each change to provided listener as soon as it is found.
+     * Provided items are copied, unless the detector declares them as immutable snapshots using
+     * {@link AbstractCollectionItemChangeDetector#setImmutableInputs(boolean)}.
+     *
+     * @param items items of the new snapshot.
+     * @param listener listener notified of each found change.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public void track(final Collection<T> items, final CollectionItemChangeListener listener) {
+        if (items == null || listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var newList = ItemLists.snapshot(items, detector.isImmutableInputs());
+        final var newIndex = detector.createIndex(newList);
+        if (newIndex != null && snapshotIndex != null) {
+            // only the new snapshot is indexed
+            detector.detectIndexedChanges(newList, newIndex, snapshot, snapshotIndex, listener);
+        } else {
+            // snapshots are owned by this tracker, hence they are not modified while changes are notified
+            detector.detectChanges(newList, snapshot, listener, true);
+        }
+
+        snapshot = newList;
+        snapshotIndex = newIndex;
+    }
+}
@@ -16,17 +16,54 @@
 
 package com.irurueta.hermes;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Class to detect changes between two collections of comparable items.
+ * Sets of items implementing {@link Object#hashCode()} consistently with {@link Object#equals(Object)} can be compared
+ * using {@link #detectSetChanges(Set, Set)}, where removed items are found using the membership check of the new set,
+ * and each new item is paired with its old item by a single lookup on a hash table built from the old set, hence
+ * changes are detected in expected linear time and sets are not copied into lists.
  *
  * @param <T> type of items (which must extend from {@link ComparableItem}).
  */
 public class ComparableCollectionItemChangeDetector<T extends ComparableItem<T>>
         extends AbstractCollectionItemChangeDetector<T> {
 
+    /**
+     * Comparator to determine whether the content of two items is equal.
+     */
+    private final ItemContentComparator<T> itemContentComparator;
+
+    /**
+     * Constructor.
+     * The content of items is compared using {@link ComparableItem#equalContent(ComparableItem)}.
+     */
+    public ComparableCollectionItemChangeDetector() {
+        itemContentComparator = ComparableItem::equalContent;
+    }
+
+    /**
+     * Constructor.
+     * Items having equal content fingerprints are considered to have equal content without calling
+     * {@link ComparableItem#equalContent(ComparableItem)}, unless collision verification is enabled.
+     *
+     * @param itemContentFingerprint provides the fingerprint of the content of items.
+     * @param collisionVerificationEnabled true to also compare the whole content of items having equal fingerprints,
+     *                                     false otherwise.
+     * @throws IllegalArgumentException if provided fingerprint is null.
+     */
+    public ComparableCollectionItemChangeDetector(final ItemContentFingerprint<T> itemContentFingerprint,
+                                                  final boolean collisionVerificationEnabled) {
+        itemContentComparator = new FingerprintItemContentComparator<>(itemContentFingerprint,
+                ComparableItem::equalContent, collisionVerificationEnabled);
+    }
+
     /**
      * Determines whether the content of an item has changed.
      *
@@ -36,7 +73,7 @@ public class ComparableCollectionItemChangeDetector<T extends ComparableItem<T>>
      */
     @Override
     protected boolean hasContentChanged(final T newItem, final T oldItem) {
-        return !newItem.equalContent(oldItem);
+        return !itemContentComparator.equalContent(newItem, oldItem);
     }
 
     /**
@@ -51,6 +88,50 @@ public class ComparableCollectionItemChangeDetector<T extends ComparableItem<T>>
         return !items.contains(item);
     }
 
+    /**
+     * Detects changes between two sets of items, using their own membership checks instead of searching items in
+     * copies of the sets. Changes are returned in the same order as {@link #detectChanges(Collection, Collection)}.
+     * Notice that items must implement {@link Object#hashCode()} consistently with {@link Object#equals(Object)},
+     * otherwise {@link #detectChanges(Collection, Collection)} must be used instead.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @return a list of found changes.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public Collection<CollectionItemChange> detectSetChanges(final Set<T> newItems, final Set<T> oldItems) {
+        if (oldItems == null || newItems == null) {
+            throw new IllegalArgumentException();
+        }
+
+        // sets cannot be modified by a listener while changes are collected
+        final var changes = new ArrayList<CollectionItemChange>();
+        notifySetChanges(newItems, oldItems, changes::add);
+        return changes;
+    }
+
+    /**
+     * Detects changes between two sets of items, using their own membership checks, and notifies each change to
+     * provided listener as soon as it is found.
+     * The new set is copied before notifying changes, unless sets are declared as immutable snapshots using
+     * {@link #setImmutableInputs(boolean)}.
+     * Notice that items must implement {@link Object#hashCode()} consistently with {@link Object#equals(Object)},
+     * otherwise {@link #detectChanges(Collection, Collection, CollectionItemChangeListener)} must be used instead.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param listener listener notified of each found change.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public void detectSetChanges(final Set<T> newItems, final Set<T> oldItems,
+                                 final CollectionItemChangeListener listener) {
+        if (oldItems == null || newItems == null || listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        notifySetChanges(isImmutableInputs() ? newItems : new LinkedHashSet<>(newItems), oldItems, listener);
+    }
+
     /**
      * Determines the index of an item in a list.
      *
@@ -62,4 +143,51 @@ public class ComparableCollectionItemChangeDetector<T extends ComparableItem<T>>
     protected int indexOf(final List<T> items, final T item) {
         return items.indexOf(item);
     }
+
+    /**
+     * Notifies changes between two sets of items.
+     * Old items are indexed by themselves, which also keeps a snapshot of them, so that each new item is paired with
+     * its old item using a single lookup.
+     *
+     * @param newItems new items, which are not modified while changes are notified.
+     * @param oldItems old items.
+     * @param listener listener notified of each found change.
+     */
+    private void notifySetChanges(final Set<T> newItems, final Set<T> oldItems,
+                                  final CollectionItemChangeListener listener) {
+        final var oldByItem = new LinkedHashMap<T, T>(HashItemIndex.capacityFor(oldItems.size()));
+        for (final var oldItem : oldItems) {
+            oldByItem.put(oldItem, oldItem);
+        }
+
+        // removes
+        for (final var oldItem : oldByItem.values()) {
+            if (!newItems.contains(oldItem)) {
+                listener.onChange(new RemovedCollectionItemChange<>(oldItem));
+            }
+        }
+
+        // inserts, while pairing kept items
+        final var keptNewItems = new ArrayList<T>();
+        final var keptOldItems = new ArrayList<T>();
+        for (final var newItem : newItems) {
+            final var oldItem = oldByItem.get(newItem);
+            if (oldItem == null) {
+                listener.onChange(new InsertedCollectionItemChange<>(newItem));
+            } else {
+                keptNewItems.add(newItem);
+                keptOldItems.add(oldItem);
+            }
+        }
+
+        // changed items
+        for (var i = 0; i < keptNewItems.size(); i++) {
+            final var newItem = keptNewItems.get(i);
+            final var oldItem = keptOldItems.get(i);
+            if (hasContentChanged(newItem, oldItem)) {
+                // item has changed
+                listener.onChange(new UpdatedCollectionItemChange<>(oldItem, newItem));
+            }
+        }
+    }
 }
@@ -22,11 +22,75 @@ import java.util.List;
  * Class to detect changes between two lists of comparable items.
  * Notice that returned changes in this class indicate the positions of the items with respect to the old or the new
  * list (regardless of the order in which the change is applied).
+ * When the {@link ListItemChangeAlgorithm#MULTISET} or {@link ListItemChangeAlgorithm#HECKEL} algorithms are used,
+ * items are indexed by themselves in a hash table, hence they must implement {@link Object#hashCode()} consistently
+ * with {@link Object#equals(Object)}.
  *
  * @param <T> type of items (which must extend from {@link ComparableItem}).
  */
 public class ComparableListItemChangeDetector<T extends ComparableItem<T>> extends AbstractListItemChangeDetector<T> {
 
+    /**
+     * Comparator to determine whether the content of two items is equal.
+     */
+    private final ItemContentComparator<T> itemContentComparator;
+
+    /**
+     * Constructor.
+     * Changes are detected using the {@link ListItemChangeAlgorithm#DEFAULT} algorithm, and the content of items is
+     * compared using {@link ComparableItem#equalContent(ComparableItem)}.
+     */
+    public ComparableListItemChangeDetector() {
+        this(ListItemChangeAlgorithm.DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     * The content of items is compared using {@link ComparableItem#equalContent(ComparableItem)}.
+     *
+     * @param algorithm algorithm used to detect changes.
+     * @throws IllegalArgumentException if provided algorithm is null.
+     */
+    public ComparableListItemChangeDetector(final ListItemChangeAlgorithm algorithm) {
+        super(algorithm);
+        itemContentComparator = ComparableItem::equalContent;
+    }
+
+    /**
+     * Constructor.
+     * Changes are detected using the {@link ListItemChangeAlgorithm#DEFAULT} algorithm.
+     * Items having equal content fingerprints are considered to have equal content without calling
+     * {@link ComparableItem#equalContent(ComparableItem)}, unless collision verification is enabled.
+     *
+     * @param itemContentFingerprint provides the fingerprint of the content of items.
+     * @param collisionVerificationEnabled true to also compare the whole content of items having equal fingerprints,
+     *                                     false otherwise.
+     * @throws IllegalArgumentException if provided fingerprint is null.
+     */
+    public ComparableListItemChangeDetector(final ItemContentFingerprint<T> itemContentFingerprint,
+                                            final boolean collisionVerificationEnabled) {
+        this(ListItemChangeAlgorithm.DEFAULT, itemContentFingerprint, collisionVerificationEnabled);
+    }
+
+    /**
+     * Constructor.
+     * Items having equal content fingerprints are considered to have equal content without calling
+     * {@link ComparableItem#equalContent(ComparableItem)}, unless collision verification is enabled.
+     *
+     * @param algorithm algorithm used to detect changes.
+     * @param itemContentFingerprint provides the fingerprint of the content of items.
+     * @param collisionVerificationEnabled true to also compare the whole content of items having equal fingerprints,
+     *                                     false otherwise.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public ComparableListItemChangeDetector(final ListItemChangeAlgorithm algorithm,
+                                            final ItemContentFingerprint<T> itemContentFingerprint,
+                                            final boolean collisionVerificationEnabled) {
+        super(algorithm);
+        itemContentComparator = new FingerprintItemContentComparator<>(itemContentFingerprint,
+                ComparableItem::equalContent, collisionVerificationEnabled);
+    }
+
     /**
      * Determines whether the content of an item has changed.
      *
@@ -36,7 +100,7 @@ public class ComparableListItemChangeDetector<T extends ComparableItem<T>> exten
      */
     @Override
     protected boolean hasContentChanged(final T newItem, final T oldItem) {
-        return !newItem.equalContent(oldItem);
+        return !itemContentComparator.equalContent(newItem, oldItem);
     }
 
     /**
@@ -62,4 +126,20 @@ public class ComparableListItemChangeDetector<T extends ComparableItem<T>> exten
     protected int indexOf(final List<T> items, final T item) {
         return items.indexOf(item);
     }
+
+    /**
+     * Creates an index of provided items.
+     * When the {@link ListItemChangeAlgorithm#MULTISET} or {@link ListItemChangeAlgorithm#HECKEL} algorithms are used,
+     * items are indexed by themselves, so that items (including repeated occurrences of equal items) are paired in
+     * expected linear time. Otherwise, items are found by linear search.
+     *
+     * @param items items to be indexed.
+     * @return index of provided items, or null if items are found by linear search.
+     */
+    @Override
+    ItemIndex<T> createIndex(final List<T> items) {
+        final var algorithm = getAlgorithm();
+        return algorithm == ListItemChangeAlgorithm.MULTISET || algorithm == ListItemChangeAlgorithm.HECKEL
+                ? new HashItemIndex<>(items, (ItemKeyExtractor<T, T>) item -> item) : null;
+    }
 }
@@ -28,6 +28,65 @@ import java.util.List;
 public class ComparableSequentialListItemChangeDetector<T extends ComparableItem<T>>
         extends AbstractSequentialListItemChangeDetector<T> {
 
+    /**
+     * Comparator to determine whether the content of two items is equal.
+     */
+    private final ItemContentComparator<T> itemContentComparator;
+
+    /**
+     * Constructor.
+     * Changes are detected using the {@link SequentialListItemChangeAlgorithm#DEFAULT} algorithm.
+     */
+    public ComparableSequentialListItemChangeDetector() {
+        this(SequentialListItemChangeAlgorithm.DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param algorithm algorithm used to detect changes.
+     * @throws IllegalArgumentException if provided algorithm is null.
+     */
+    public ComparableSequentialListItemChangeDetector(final SequentialListItemChangeAlgorithm algorithm) {
+        super(algorithm);
+        itemContentComparator = ComparableItem::equalContent;
+    }
+
+    /**
+     * Constructor.
+     * Changes are detected using the {@link SequentialListItemChangeAlgorithm#DEFAULT} algorithm.
+     * Items having equal content fingerprints are considered to have equal content without calling
+     * {@link ComparableItem#equalContent(ComparableItem)}, unless collision verification is enabled.
+     *
+     * @param itemContentFingerprint provides the fingerprint of the content of items.
+     * @param collisionVerificationEnabled true to also compare the whole content of items having equal fingerprints,
+     *                                     false otherwise.
+     * @throws IllegalArgumentException if provided fingerprint is null.
+     */
+    public ComparableSequentialListItemChangeDetector(final ItemContentFingerprint<T> itemContentFingerprint,
+                                                      final boolean collisionVerificationEnabled) {
+        this(SequentialListItemChangeAlgorithm.DEFAULT, itemContentFingerprint, collisionVerificationEnabled);
+    }
+
+    /**
+     * Constructor.
+     * Items having equal content fingerprints are considered to have equal content without calling
+     * {@link ComparableItem#equalContent(ComparableItem)}, unless collision verification is enabled.
+     *
+     * @param algorithm algorithm used to detect changes.
+     * @param itemContentFingerprint provides the fingerprint of the content of items.
+     * @param collisionVerificationEnabled true to also compare the whole content of items having equal fingerprints,
+     *                                     false otherwise.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public ComparableSequentialListItemChangeDetector(final SequentialListItemChangeAlgorithm algorithm,
+                                                      final ItemContentFingerprint<T> itemContentFingerprint,
+                                                      final boolean collisionVerificationEnabled) {
+        super(algorithm);
+        itemContentComparator = new FingerprintItemContentComparator<>(itemContentFingerprint,
+                ComparableItem::equalContent, collisionVerificationEnabled);
+    }
+
     /**
      * Determines whether the content of an item has changed.
      *
@@ -37,7 +96,19 @@ public class ComparableSequentialListItemChangeDetector<T extends ComparableItem
      */
     @Override
     protected boolean hasContentChanged(final T newItem, final T oldItem) {
-        return !newItem.equalContent(oldItem);
+        return !itemContentComparator.equalContent(newItem, oldItem);
+    }
+
+    /**
+     * Determines whether two items are equal (i.e., they represent the same item, regardless of their content).
+     *
+     * @param newItem new item.
+     * @param oldItem old item.
+     * @return true if both items are equal, false otherwise.
+     */
+    @Override
+    protected boolean isSameItem(final T newItem, final T oldItem) {
+        return newItem.equals(oldItem);
     }
 
     /**
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+/**
+ * Class to detect changes between two collections of items that might not fit in memory (e.g., snapshots of hundreds
+ * of millions of records read from a database cursor).
+ * Items of each collection are sorted by their keys in chunks that fit in a memory budget, and each sorted chunk is
+ * spilled to a temporary run file using an {@link ItemSerializer}. Runs of both collections are then merged and
+ * walked at once, as in {@link SortedCollectionItemChangeDetector}, so that changes are streamed to a listener in key
+ * order while only one item of each run is kept in memory.
+ * The number of runs merged at once (fan-in) is bounded, hence when a collection spills more runs they are first merged
+ * into longer runs in intermediate passes, so that open files and read buffers stay within the configured bound.
+ * Items having the same key are paired in order of occurrence, and temporary files are always deleted once changes
+ * have been detected.
+ *
+ * @param <T> type of items.
+ */
+public class ExternalCollectionItemChangeDetector<T> {
+
+    /**
+     * Default maximum number of items sorted in memory at once.
+     */
+    public static final int DEFAULT_MAX_ITEMS_IN_MEMORY = 100000;
+
+    /**
+     * Default maximum number of runs of both collections merged at once.
+     */
+    public static final int DEFAULT_MAX_MERGE_FAN_IN = 64;
+
+    /**
+     * Minimum allowed number of runs of both collections merged at once, so that at least two runs of each collection
+     * can be merged.
+     */
+    public static final int MIN_MAX_MERGE_FAN_IN = 4;
+
+    /**
+     * Detector walking sorted runs of both collections.
+     */
+    private final SortedCollectionItemChangeDetector<T> sortedDetector;
+
+    /**
+     * Writes items to run files and reads them back.
+     */
+    private final ItemSerializer<T> itemSerializer;
+
+    /**
+     * Maximum number of items sorted in memory at once.
+     */
+    private int maxItemsInMemory = DEFAULT_MAX_ITEMS_IN_MEMORY;
+
+    /**
+     * Maximum number of runs of both collections merged at once.
+     */
+    private int maxMergeFanIn = DEFAULT_MAX_MERGE_FAN_IN;
+
+    /**
+     * Directory where run files are created, or null to use the default temporary directory.
+     */
+    private Path temporaryDirectory;
+
+    /**
+     * Constructor.
+     *
+     * @param itemKeyComparator comparator determining the order of items by their keys (e.g., their ids), where items
+     *                          having the same key are considered equal.
+     * @param itemContentComparator comparator to determine whether the content of two items is equal.
+     * @param itemSerializer writes items to run files and reads them back.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public ExternalCollectionItemChangeDetector(final Comparator<T> itemKeyComparator,
+                                                final ItemContentComparator<T> itemContentComparator,
+                                                final ItemSerializer<T> itemSerializer) {
+        if (itemSerializer == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.sortedDetector = new SortedCollectionItemChangeDetector<>(itemKeyComparator, itemContentComparator);
+        this.itemSerializer = itemSerializer;
+    }
+
+    /**
+     * Gets the maximum number of items sorted in memory at once, which bounds the memory used while spilling items to
+     * run files.
+     *
+     * @return maximum number of items sorted in memory at once.
+     */
+    public int getMaxItemsInMemory() {
+        return maxItemsInMemory;
+    }
+
+    /**
+     * Sets the maximum number of items sorted in memory at once, which bounds the memory used while spilling items to
+     * run files. Smaller values use less memory at the expense of creating more run files, which are merged while
+     * keeping one item and one read buffer of each run in memory.
+     *
+     * @param maxItemsInMemory maximum number of items sorted in memory at once.
+     * @throws IllegalArgumentException if provided value is less than 1.
+     */
+    public void setMaxItemsInMemory(final int maxItemsInMemory) {
+        if (maxItemsInMemory < 1) {
+            throw new IllegalArgumentException();
+        }
+
+        this.maxItemsInMemory = maxItemsInMemory;
+    }
+
+    /**
+     * Gets the maximum number of runs of both collections merged at once, which bounds the number of open run files and
+     * read buffers.
+     *
+     * @return maximum number of runs of both collections merged at once.
+     */
+    public int getMaxMergeFanIn() {
+        return maxMergeFanIn;
+    }
+
+    /**
+     * Sets the maximum number of runs of both collections merged at once, which bounds the number of open run files and
+     * read buffers. Each collection merges at most half of this number of runs at once (besides the run being written
+     * by an intermediate pass), hence smaller values use fewer files and less memory at the expense of more merge
+     * passes over spilled items.
+     *
+     * @param maxMergeFanIn maximum number of runs of both collections merged at once.
+     * @throws IllegalArgumentException if provided value is less than {@link #MIN_MAX_MERGE_FAN_IN}.
+     */
+    public void setMaxMergeFanIn(final int maxMergeFanIn) {
+        if (maxMergeFanIn < MIN_MAX_MERGE_FAN_IN) {
+            throw new IllegalArgumentException();
+        }
+
+        this.maxMergeFanIn = maxMergeFanIn;
+    }
+
+    /**
+     * Gets the directory where run files are created.
+     *
+     * @return directory where run files are created, or null if the default temporary directory is used.
+     */
+    public Path getTemporaryDirectory() {
+        return temporaryDirectory;
+    }
+
+    /**
+     * Sets the directory where run files are created (e.g., a local disk with enough free space).
+     *
+     * @param temporaryDirectory directory where run files are created, or null to use the default temporary
+     *                           directory.
+     */
+    public void setTemporaryDirectory(final Path temporaryDirectory) {
+        this.temporaryDirectory = temporaryDirectory;
+    }
+
+    /**
+     * Detects changes between two collections of items and notifies each change to provided listener in key order.
+     * Each collection is iterated only once, hence items can be lazily produced (e.g., read from a database cursor).
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param listener listener notified of each found change.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     * @throws IOException if run files cannot be written or read.
+     */
+    public void detectChanges(final Iterable<T> newItems, final Iterable<T> oldItems,
+                              final CollectionItemChangeListener listener) throws IOException {
+        if (oldItems == null || newItems == null || listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var itemKeyComparator = sortedDetector.getItemKeyComparator();
+        final var fanIn = maxMergeFanIn / 2;
+        try (final var oldRuns = new SortedRuns<>(itemKeyComparator, itemSerializer, temporaryDirectory,
+                maxItemsInMemory, fanIn);
+             final var newRuns = new SortedRuns<>(itemKeyComparator, itemSerializer, temporaryDirectory,
+                     maxItemsInMemory, fanIn)) {
+            oldRuns.spill(oldItems);
+            newRuns.spill(newItems);
+
+            sortedDetector.merge(newRuns.iterator(), oldRuns.iterator(), listener);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
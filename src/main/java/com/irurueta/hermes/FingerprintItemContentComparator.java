@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+/**
+ * Comparator that determines whether two items have equal content by comparing the fingerprints of their content
+ * before comparing their whole content.
+ * Items having equal fingerprints are considered to have equal content, so that the whole content of unchanged items
+ * is not compared unless collision verification is enabled. Items having different fingerprints are compared using
+ * the whole content comparator, so that fingerprints that do not fully match the compared content (e.g., stale cached
+ * fingerprints) never result in false changes.
+ *
+ * @param <T> type of items.
+ */
+public class FingerprintItemContentComparator<T> implements ItemContentComparator<T> {
+
+    /**
+     * Provides the fingerprint of the content of items.
+     */
+    private final ItemContentFingerprint<T> itemContentFingerprint;
+
+    /**
+     * Comparator to determine whether the whole content of two items is equal.
+     */
+    private final ItemContentComparator<T> itemContentComparator;
+
+    /**
+     * Indicates whether the whole content of items having equal fingerprints is also compared to detect fingerprint
+     * collisions.
+     */
+    private final boolean collisionVerificationEnabled;
+
+    /**
+     * Constructor.
+     * Collision verification is disabled.
+     *
+     * @param itemContentFingerprint provides the fingerprint of the content of items.
+     * @param itemContentComparator comparator to determine whether the whole content of two items is equal.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public FingerprintItemContentComparator(final ItemContentFingerprint<T> itemContentFingerprint,
+                                            final ItemContentComparator<T> itemContentComparator) {
+        this(itemContentFingerprint, itemContentComparator, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param itemContentFingerprint provides the fingerprint of the content of items.
+     * @param itemContentComparator comparator to determine whether the whole content of two items is equal.
+     * @param collisionVerificationEnabled true to also compare the whole content of items having equal fingerprints,
+     *                                     false otherwise.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public FingerprintItemContentComparator(final ItemContentFingerprint<T> itemContentFingerprint,
+                                            final ItemContentComparator<T> itemContentComparator,
+                                            final boolean collisionVerificationEnabled) {
+        if (itemContentFingerprint == null || itemContentComparator == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.itemContentFingerprint = itemContentFingerprint;
+        this.itemContentComparator = itemContentComparator;
+        this.collisionVerificationEnabled = collisionVerificationEnabled;
+    }
+
+    /**
+     * Indicates whether the whole content of items having equal fingerprints is also compared to detect fingerprint
+     * collisions.
+     *
+     * @return true if collision verification is enabled, false otherwise.
+     */
+    public boolean isCollisionVerificationEnabled() {
+        return collisionVerificationEnabled;
+    }
+
+    /**
+     * Determines whether the content of two items is equal.
+     *
+     * @param item1 first item.
+     * @param item2 second item.
+     * @return true if the content of the items is equal, false otherwise.
+     */
+    @Override
+    public boolean equalContent(final T item1, final T item2) {
+        if (itemContentFingerprint.getFingerprint(item1) == itemContentFingerprint.getFingerprint(item2)) {
+            return !collisionVerificationEnabled || itemContentComparator.equalContent(item1, item2);
+        } else {
+            return itemContentComparator.equalContent(item1, item2);
+        }
+    }
+}
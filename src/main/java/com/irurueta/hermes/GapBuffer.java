@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Sequence of items stored in an array containing a gap of free positions, which is moved to the position where items
+ * are inserted or removed.
+ * Moving the gap only shifts the items between its current and its new position, hence inserting or removing items
+ * at increasing (or nearby) positions takes constant amortized time, unlike an {@link ArrayList}, which shifts every
+ * item after the modified position.
+ *
+ * @param <T> type of items.
+ */
+final class GapBuffer<T> {
+
+    /**
+     * Items, where positions between the start (inclusive) and the end (exclusive) of the gap are free.
+     */
+    private Object[] elements;
+
+    /**
+     * Start of the gap.
+     */
+    private int gapStart;
+
+    /**
+     * End of the gap.
+     */
+    private int gapEnd;
+
+    /**
+     * Constructor.
+     *
+     * @param items initial items.
+     * @param capacity minimum number of items that can be contained without growing the buffer.
+     */
+    GapBuffer(final Collection<? extends T> items, final int capacity) {
+        final var initial = items.toArray();
+        elements = new Object[Math.max(initial.length, capacity)];
+        System.arraycopy(initial, 0, elements, 0, initial.length);
+        gapStart = initial.length;
+        gapEnd = elements.length;
+    }
+
+    /**
+     * Gets the number of items.
+     *
+     * @return number of items.
+     */
+    int size() {
+        return elements.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Gets the item at provided position.
+     *
+     * @param position position of the item.
+     * @return item at provided position.
+     */
+    @SuppressWarnings("unchecked")
+    T get(final int position) {
+        return (T) elements[index(position)];
+    }
+
+    /**
+     * Replaces the item at provided position without moving the gap.
+     *
+     * @param position position of the item.
+     * @param item new item.
+     * @return replaced item.
+     */
+    @SuppressWarnings("unchecked")
+    T set(final int position, final T item) {
+        final var index = index(position);
+        final var oldItem = (T) elements[index];
+        elements[index] = item;
+        return oldItem;
+    }
+
+    /**
+     * Inserts an item at provided position.
+     *
+     * @param position position where the item is inserted.
+     * @param item item to be inserted.
+     */
+    void insert(final int position, final T item) {
+        if (gapStart == gapEnd) {
+            grow();
+        }
+        moveGap(position);
+        elements[gapStart++] = item;
+    }
+
+    /**
+     * Removes the item at provided position.
+     *
+     * @param position position of the item.
+     * @return removed item.
+     */
+    @SuppressWarnings("unchecked")
+    T remove(final int position) {
+        moveGap(position);
+        final var item = (T) elements[gapEnd];
+        elements[gapEnd++] = null;
+        return item;
+    }
+
+    /**
+     * Copies items in order into a new list.
+     *
+     * @return list containing all items.
+     */
+    @SuppressWarnings("unchecked")
+    List<T> toList() {
+        final var result = new ArrayList<T>(size());
+        for (var i = 0; i < gapStart; i++) {
+            result.add((T) elements[i]);
+        }
+        for (var i = gapEnd; i < elements.length; i++) {
+            result.add((T) elements[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the index in the array of the item at provided position.
+     *
+     * @param position position of the item.
+     * @return index in the array.
+     */
+    private int index(final int position) {
+        return position < gapStart ? position : position + gapEnd - gapStart;
+    }
+
+    /**
+     * Moves the gap so that it starts at provided position, by shifting the items between the current and the new
+     * position of the gap.
+     *
+     * @param position new start of the gap.
+     */
+    private void moveGap(final int position) {
+        if (position < gapStart) {
+            final var count = gapStart - position;
+            System.arraycopy(elements, position, elements, gapEnd - count, count);
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (position > gapStart) {
+            final var count = position - gapStart;
+            System.arraycopy(elements, gapEnd, elements, gapStart, count);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Doubles the capacity of the buffer, keeping the gap at the same position.
+     */
+    private void grow() {
+        final var grown = new Object[Math.max(2 * elements.length, 1)];
+        final var tail = elements.length - gapEnd;
+        System.arraycopy(elements, 0, grown, 0, gapStart);
+        System.arraycopy(elements, gapEnd, grown, grown.length - tail, tail);
+        gapEnd = grown.length - tail;
+        elements = grown;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the items in a list by their keys, which are stored in a hash table, so that items are found in expected
+ * constant time.
+ *
+ * @param <T> type of items.
+ */
+class HashItemIndex<T> extends ItemIndex<T> {
+
+    /**
+     * Default load factor of hash maps.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * Extracts the keys identifying items.
+     */
+    private final ItemKeyExtractor<T, ?> keyExtractor;
+
+    /**
+     * Maps the keys of indexed items to the position of their first occurrence.
+     */
+    private final Map<Object, Integer> positions;
+
+    /**
+     * Position of the next occurrence of an item having the same key as the item at each position, or -1 if there is
+     * no next occurrence.
+     */
+    private final int[] nextOccurrences;
+
+    /**
+     * Constructor.
+     * Builds the index in a single pass over provided items.
+     *
+     * @param items items to be indexed.
+     * @param keyExtractor extracts the keys identifying items.
+     */
+    HashItemIndex(final List<T> items, final ItemKeyExtractor<T, ?> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+
+        final var size = items.size();
+        positions = new HashMap<>(capacityFor(size));
+        nextOccurrences = new int[size];
+
+        // position of the last occurrence of the key of each first occurrence
+        final var lastOccurrences = new int[size];
+
+        var i = 0;
+        for (final var item : items) {
+            final var first = positions.putIfAbsent(keyExtractor.getKey(item), i);
+            nextOccurrences[i] = -1;
+            if (first == null) {
+                lastOccurrences[i] = i;
+            } else {
+                // chain repeated occurrence
+                nextOccurrences[lastOccurrences[first]] = i;
+                lastOccurrences[first] = i;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Determines the position of the first indexed item that is equal to provided item.
+     *
+     * @param item item to be found.
+     * @return position of the item in the indexed list, or -1 if the item is not contained in the list.
+     */
+    @Override
+    int indexOf(final T item) {
+        final var position = positions.get(keyExtractor.getKey(item));
+        return position != null ? position : -1;
+    }
+
+    /**
+     * Pairs each provided item with an equal indexed item that has not been paired yet.
+     * Repeated occurrences of equal items are paired in order of occurrence, so that each indexed item is paired at
+     * most once.
+     *
+     * @param others items to be paired.
+     * @return position of the indexed item paired with each provided item, or -1 if an item cannot be paired.
+     */
+    @Override
+    int[] pair(final List<T> others) {
+        // next occurrence to be paired for each key, indexed by the position of its first occurrence
+        final var cursors = new int[nextOccurrences.length];
+        for (var i = 0; i < cursors.length; i++) {
+            cursors[i] = i;
+        }
+
+        final var result = new int[others.size()];
+        var i = 0;
+        for (final var item : others) {
+            final var first = positions.get(keyExtractor.getKey(item));
+            var pos = -1;
+            if (first != null) {
+                pos = cursors[first];
+                if (pos >= 0) {
+                    cursors[first] = nextOccurrences[pos];
+                }
+            }
+            result[i] = pos;
+            i++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the initial capacity of a hash map so that it can contain provided number of entries without being
+     * resized.
+     *
+     * @param size number of entries.
+     * @return initial capacity.
+     */
+    static int capacityFor(final int size) {
+        return (int) (size / LOAD_FACTOR) + 1;
+    }
+}
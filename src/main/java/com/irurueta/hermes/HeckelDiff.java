@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.Arrays;
+
+/**
+ * Pairs the items of two lists using the algorithm by Paul Heckel ("A technique for isolating differences between
+ * files", 1978).
+ * Items occurring exactly once in both lists are paired first and used as anchors. Then pairs are extended forward
+ * and backward to neighbouring items that are equal, which also pairs repeated items located next to anchors.
+ * Finally, repeated items that remain unpaired are paired in order of occurrence.
+ * Items are identified by integers, so that each pass takes linear time.
+ */
+final class HeckelDiff {
+
+    /**
+     * Constructor.
+     * Prevents instantiation of utility class.
+     */
+    private HeckelDiff() {
+    }
+
+    /**
+     * Pairs old and new items.
+     * Items are identified by the position of the first occurrence of an equal item on the old list, hence
+     * identifiers of old items are always between 0 and the number of old items, and new items that are not
+     * contained in the old list have a negative identifier.
+     *
+     * @param oldIds identifier of each old item.
+     * @param newIds identifier of each new item, or a negative value if it is not contained in the old list.
+     * @return position of the new item paired with each old item, or -1 if the old item has been removed.
+     */
+    static int[] match(final int[] oldIds, final int[] newIds) {
+        final var oldSize = oldIds.length;
+        final var newSize = newIds.length;
+
+        // number of occurrences of each identifier on both lists
+        final var oldCounts = new int[oldSize];
+        final var newCounts = new int[oldSize];
+        for (final var id : oldIds) {
+            oldCounts[id]++;
+        }
+        for (final var id : newIds) {
+            if (id >= 0) {
+                newCounts[id]++;
+            }
+        }
+
+        final var newPositions = new int[oldSize];
+        Arrays.fill(newPositions, -1);
+        final var oldPositions = new int[newSize];
+        Arrays.fill(oldPositions, -1);
+
+        // items occurring once in both lists are anchors (the only occurrence of an old item is its first one)
+        for (var j = 0; j < newSize; j++) {
+            final var id = newIds[j];
+            if (id >= 0 && oldCounts[id] == 1 && newCounts[id] == 1) {
+                newPositions[id] = j;
+                oldPositions[j] = id;
+            }
+        }
+
+        // the beginning of both lists is an anchor, and pairs are extended forward
+        if (oldSize > 0 && newSize > 0 && newPositions[0] < 0 && oldPositions[0] < 0 && oldIds[0] == newIds[0]) {
+            newPositions[0] = 0;
+            oldPositions[0] = 0;
+        }
+        for (var j = 0; j < newSize - 1; j++) {
+            final var i = oldPositions[j] + 1;
+            if (i > 0 && i < oldSize && newPositions[i] < 0 && oldPositions[j + 1] < 0
+                    && oldIds[i] == newIds[j + 1]) {
+                newPositions[i] = j + 1;
+                oldPositions[j + 1] = i;
+            }
+        }
+
+        // the end of both lists is an anchor, and pairs are extended backward
+        final var lastOld = oldSize - 1;
+        final var lastNew = newSize - 1;
+        if (oldSize > 0 && newSize > 0 && newPositions[lastOld] < 0 && oldPositions[lastNew] < 0
+                && oldIds[lastOld] == newIds[lastNew]) {
+            newPositions[lastOld] = lastNew;
+            oldPositions[lastNew] = lastOld;
+        }
+        for (var j = newSize - 1; j > 0; j--) {
+            final var i = oldPositions[j] - 1;
+            if (i >= 0 && newPositions[i] < 0 && oldPositions[j - 1] < 0 && oldIds[i] == newIds[j - 1]) {
+                newPositions[i] = j - 1;
+                oldPositions[j - 1] = i;
+            }
+        }
+
+        pairRemaining(oldIds, newIds, newPositions, oldPositions);
+
+        return newPositions;
+    }
+
+    /**
+     * Pairs repeated items that remain unpaired in order of occurrence.
+     *
+     * @param oldIds identifier of each old item.
+     * @param newIds identifier of each new item, or a negative value if it is not contained in the old list.
+     * @param newPositions position of the new item paired with each old item, or -1 if not paired.
+     * @param oldPositions position of the old item paired with each new item, or -1 if not paired.
+     */
+    private static void pairRemaining(final int[] oldIds, final int[] newIds, final int[] newPositions,
+                                      final int[] oldPositions) {
+        final var oldSize = oldIds.length;
+
+        // next occurrence of the identifier of each old item, or -1 if there is no next occurrence
+        final var nextOccurrences = new int[oldSize];
+        // last occurrence of each identifier found so far
+        final var lastOccurrences = new int[oldSize];
+        for (var i = 0; i < oldSize; i++) {
+            final var id = oldIds[i];
+            nextOccurrences[i] = -1;
+            if (id != i) {
+                nextOccurrences[lastOccurrences[id]] = i;
+            }
+            lastOccurrences[id] = i;
+        }
+
+        // next occurrence that might be unpaired for each identifier, starting at its first occurrence
+        final var cursors = new int[oldSize];
+        for (var i = 0; i < oldSize; i++) {
+            cursors[i] = i;
+        }
+
+        for (var j = 0; j < newIds.length; j++) {
+            final var id = newIds[j];
+            if (id >= 0 && oldPositions[j] < 0) {
+                var i = cursors[id];
+                while (i >= 0 && newPositions[i] >= 0) {
+                    i = nextOccurrences[i];
+                }
+                cursors[id] = i;
+
+                if (i >= 0) {
+                    newPositions[i] = j;
+                    oldPositions[j] = i;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class to represent a range of consecutive items that have been added to a list.
+ *
+ * @param <T> type of items in the list.
+ */
+public class InsertedRangeListItemChange<T> extends ListItemChange {
+
+    /**
+     * Items that have been added, in order.
+     */
+    private final List<T> newItems;
+
+    /**
+     * Indicates the position where the first item has been added on the new list.
+     */
+    private final int newPosition;
+
+    /**
+     * Constructor.
+     * Provided list is not copied, hence it must not be modified afterwards.
+     *
+     * @param newItems items that have been added, in order.
+     * @param newPosition position where the first item has been added.
+     * @throws IllegalArgumentException if provided list of items is null or empty.
+     */
+    public InsertedRangeListItemChange(final List<T> newItems, final int newPosition) {
+        super(ListItemChangeAction.INSERTED_RANGE);
+        if (newItems == null || newItems.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+
+        this.newItems = Collections.unmodifiableList(newItems);
+        this.newPosition = newPosition;
+    }
+
+    /**
+     * Returns the items that have been added, in order.
+     * @return the items that have been added.
+     */
+    public List<T> getNewItems() {
+        return newItems;
+    }
+
+    /**
+     * Returns the position where the first item has been added.
+     * @return the position where the first item has been added.
+     */
+    public int getNewPosition() {
+        return newPosition;
+    }
+
+    /**
+     * Returns the number of items that have been added.
+     * @return the number of items that have been added.
+     */
+    public int getCount() {
+        return newItems.size();
+    }
+}
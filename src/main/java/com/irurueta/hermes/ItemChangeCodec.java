@@ -0,0 +1,587 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Encodes list and collection changes into a compact binary format stored in a {@link ByteBuffer}, and decodes them
+ * back, so that changes can be sent between services without relying on generic serialization of change classes.
+ * Each change is encoded as a single action byte, followed by its positions (for list changes) and its items.
+ * Positions are encoded as variable length integers relative to the position of the previous change, since detectors
+ * return changes in increasing order of position, hence most positions take a single byte. Items are written by
+ * pluggable {@link ItemSerializer} instances and prefixed by their length, so that readers can skip items or access
+ * their encoded bytes without deserializing them.
+ * Old items (i.e., removed items and items before being moved or updated) can be written by a separate key serializer
+ * that only writes the data identifying them (e.g., their key), since receivers already contain those items.
+ * Range changes (e.g., returned when range coalescing is enabled on a detector) are encoded as a single action byte,
+ * followed by the positions of their first item, their number of items and then their items.
+ * Encoded changes can be iterated directly from a (possibly direct or memory-mapped) buffer using
+ * {@link #readListChanges(ByteBuffer)} or {@link #readCollectionChanges(ByteBuffer)}.
+ *
+ * @param <T> type of items.
+ */
+public class ItemChangeCodec<T> {
+
+    /**
+     * Version of the binary format written at the start of encoded changes.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * Identifies encoded list changes.
+     */
+    private static final int LIST_CHANGES = 0;
+
+    /**
+     * Identifies encoded collection changes.
+     */
+    private static final int COLLECTION_CHANGES = 1;
+
+    /**
+     * Serializer used to write and read new items.
+     */
+    private final ItemSerializer<T> itemSerializer;
+
+    /**
+     * Serializer used to write and read old items.
+     */
+    private final ItemSerializer<T> keySerializer;
+
+    /**
+     * Constructor.
+     * Both old and new items are written using provided serializer.
+     *
+     * @param itemSerializer serializer used to write and read items.
+     * @throws IllegalArgumentException if provided serializer is null.
+     */
+    public ItemChangeCodec(final ItemSerializer<T> itemSerializer) {
+        this(itemSerializer, itemSerializer);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param itemSerializer serializer used to write and read new items (i.e., inserted items and items after being
+     *                       moved or updated).
+     * @param keySerializer serializer used to write and read old items (i.e., removed items and items before being
+     *                      moved or updated), which might only write the data identifying each item.
+     * @throws IllegalArgumentException if any of the serializers is null.
+     */
+    public ItemChangeCodec(final ItemSerializer<T> itemSerializer, final ItemSerializer<T> keySerializer) {
+        if (itemSerializer == null || keySerializer == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.itemSerializer = itemSerializer;
+        this.keySerializer = keySerializer;
+    }
+
+    /**
+     * Gets the serializer used to write and read new items.
+     *
+     * @return serializer used to write and read new items.
+     */
+    public ItemSerializer<T> getItemSerializer() {
+        return itemSerializer;
+    }
+
+    /**
+     * Gets the serializer used to write and read old items.
+     *
+     * @return serializer used to write and read old items.
+     */
+    public ItemSerializer<T> getKeySerializer() {
+        return keySerializer;
+    }
+
+    /**
+     * Encodes a change set into a new heap buffer.
+     *
+     * @param changeSet change set to be encoded.
+     * @return buffer containing encoded changes, ready to be read.
+     * @throws IllegalArgumentException if provided change set is null.
+     * @throws IOException if an item cannot be serialized.
+     */
+    public ByteBuffer encode(final ListItemChangeSet<T> changeSet) throws IOException {
+        final var output = new ByteBufferDataOutput();
+        encode(changeSet, output);
+        return output.getBuffer().flip();
+    }
+
+    /**
+     * Encodes a change set into provided buffer, starting at its current position, which is moved after the encoded
+     * changes. The position of provided buffer is not modified if changes cannot be encoded.
+     *
+     * @param changeSet change set to be encoded.
+     * @param buffer buffer where changes are encoded.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough remaining space.
+     * @throws IOException if an item cannot be serialized.
+     */
+    public void encode(final ListItemChangeSet<T> changeSet, final ByteBuffer buffer) throws IOException {
+        if (buffer == null) {
+            throw new IllegalArgumentException();
+        }
+
+        // changes are written in big-endian order regardless of the order of provided buffer
+        final var output = new ByteBufferDataOutput(buffer.duplicate());
+        encode(changeSet, output);
+        buffer.position(output.position());
+    }
+
+    /**
+     * Encodes a list of list changes into a new heap buffer.
+     *
+     * @param changes changes to be encoded.
+     * @return buffer containing encoded changes, ready to be read.
+     * @throws IllegalArgumentException if provided list is null or contains unsupported changes.
+     * @throws IOException if an item cannot be serialized.
+     */
+    public ByteBuffer encodeListChanges(final List<ListItemChange> changes) throws IOException {
+        final var output = new ByteBufferDataOutput();
+        encodeListChanges(changes, output);
+        return output.getBuffer().flip();
+    }
+
+    /**
+     * Encodes a list of list changes into provided buffer, starting at its current position, which is moved after
+     * the encoded changes. The position of provided buffer is not modified if changes cannot be encoded.
+     *
+     * @param changes changes to be encoded.
+     * @param buffer buffer where changes are encoded.
+     * @throws IllegalArgumentException if any of the parameters is null or if provided list contains unsupported
+     *                                  changes.
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough remaining space.
+     * @throws IOException if an item cannot be serialized.
+     */
+    public void encodeListChanges(final List<ListItemChange> changes, final ByteBuffer buffer) throws IOException {
+        if (buffer == null) {
+            throw new IllegalArgumentException();
+        }
+
+        // changes are written in big-endian order regardless of the order of provided buffer
+        final var output = new ByteBufferDataOutput(buffer.duplicate());
+        encodeListChanges(changes, output);
+        buffer.position(output.position());
+    }
+
+    /**
+     * Encodes collection changes into a new heap buffer.
+     *
+     * @param changes changes to be encoded.
+     * @return buffer containing encoded changes, ready to be read.
+     * @throws IllegalArgumentException if provided collection is null or contains unsupported changes.
+     * @throws IOException if an item cannot be serialized.
+     */
+    public ByteBuffer encodeCollectionChanges(final Collection<CollectionItemChange> changes) throws IOException {
+        final var output = new ByteBufferDataOutput();
+        encodeCollectionChanges(changes, output);
+        return output.getBuffer().flip();
+    }
+
+    /**
+     * Encodes collection changes into provided buffer, starting at its current position, which is moved after the
+     * encoded changes. The position of provided buffer is not modified if changes cannot be encoded.
+     *
+     * @param changes changes to be encoded.
+     * @param buffer buffer where changes are encoded.
+     * @throws IllegalArgumentException if any of the parameters is null or if provided collection contains
+     *                                  unsupported changes.
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough remaining space.
+     * @throws IOException if an item cannot be serialized.
+     */
+    public void encodeCollectionChanges(final Collection<CollectionItemChange> changes, final ByteBuffer buffer)
+            throws IOException {
+        if (buffer == null) {
+            throw new IllegalArgumentException();
+        }
+
+        // changes are written in big-endian order regardless of the order of provided buffer
+        final var output = new ByteBufferDataOutput(buffer.duplicate());
+        encodeCollectionChanges(changes, output);
+        buffer.position(output.position());
+    }
+
+    /**
+     * Creates a reader iterating encoded list changes directly from provided buffer, starting at its current
+     * position. The position of provided buffer is not modified.
+     *
+     * @param buffer buffer containing encoded list changes.
+     * @return reader of encoded changes.
+     * @throws IllegalArgumentException if provided buffer is null.
+     * @throws IOException if the buffer does not contain encoded list changes.
+     */
+    public ListItemChangeReader<T> readListChanges(final ByteBuffer buffer) throws IOException {
+        final var duplicate = duplicate(buffer);
+        final var size = readHeader(duplicate, LIST_CHANGES);
+        return new ListItemChangeReader<>(duplicate, size, itemSerializer, keySerializer);
+    }
+
+    /**
+     * Creates a reader iterating encoded collection changes directly from provided buffer, starting at its current
+     * position. The position of provided buffer is not modified.
+     *
+     * @param buffer buffer containing encoded collection changes.
+     * @return reader of encoded changes.
+     * @throws IllegalArgumentException if provided buffer is null.
+     * @throws IOException if the buffer does not contain encoded collection changes.
+     */
+    public CollectionItemChangeReader<T> readCollectionChanges(final ByteBuffer buffer) throws IOException {
+        final var duplicate = duplicate(buffer);
+        final var size = readHeader(duplicate, COLLECTION_CHANGES);
+        return new CollectionItemChangeReader<>(duplicate, size, itemSerializer, keySerializer);
+    }
+
+    /**
+     * Decodes list changes into a new change set.
+     * The position of provided buffer is not modified.
+     * Since change sets only contain single changes, encoded range changes must be decoded using
+     * {@link #decodeListChangeList(ByteBuffer)} instead.
+     *
+     * @param buffer buffer containing encoded list changes.
+     * @return change set containing decoded changes.
+     * @throws IllegalArgumentException if provided buffer is null.
+     * @throws IOException if the buffer does not contain valid encoded list changes or contains range changes.
+     */
+    public ListItemChangeSet<T> decodeListChanges(final ByteBuffer buffer) throws IOException {
+        final var reader = readListChanges(buffer);
+        final var result = new ListItemChangeSet<T>(reader.size());
+        while (reader.next()) {
+            switch (reader.getAction()) {
+                case REMOVED -> result.addRemoved(reader.getOldItem(), reader.getOldPosition());
+                case INSERTED -> result.addInserted(reader.getNewItem(), reader.getNewPosition());
+                case MOVED -> result.addMoved(reader.getOldItem(), reader.getNewItem(), reader.getOldPosition(),
+                        reader.getNewPosition());
+                case UPDATED -> result.addUpdated(reader.getOldItem(), reader.getNewItem(),
+                        reader.getNewPosition());
+                default -> throw new IOException("Range changes cannot be decoded into a change set");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Decodes list changes, including range changes, into a new list of changes.
+     * The position of provided buffer is not modified.
+     *
+     * @param buffer buffer containing encoded list changes.
+     * @return decoded changes.
+     * @throws IllegalArgumentException if provided buffer is null.
+     * @throws IOException if the buffer does not contain valid encoded list changes.
+     */
+    public List<ListItemChange> decodeListChangeList(final ByteBuffer buffer) throws IOException {
+        final var reader = readListChanges(buffer);
+        final var result = new ArrayList<ListItemChange>(reader.size());
+        while (reader.next()) {
+            result.add(reader.getChange());
+        }
+        return result;
+    }
+
+    /**
+     * Decodes collection changes.
+     * The position of provided buffer is not modified.
+     *
+     * @param buffer buffer containing encoded collection changes.
+     * @return decoded changes.
+     * @throws IllegalArgumentException if provided buffer is null.
+     * @throws IOException if the buffer does not contain valid encoded collection changes.
+     */
+    public List<CollectionItemChange> decodeCollectionChanges(final ByteBuffer buffer) throws IOException {
+        final var reader = readCollectionChanges(buffer);
+        final var result = new ArrayList<CollectionItemChange>(reader.size());
+        while (reader.next()) {
+            result.add(reader.getChange());
+        }
+        return result;
+    }
+
+    /**
+     * Encodes a change set.
+     *
+     * @param changeSet change set to be encoded.
+     * @param output output where changes are written.
+     * @throws IllegalArgumentException if provided change set is null.
+     * @throws IOException if an item cannot be serialized.
+     */
+    private void encode(final ListItemChangeSet<T> changeSet, final ByteBufferDataOutput output) throws IOException {
+        if (changeSet == null) {
+            throw new IllegalArgumentException();
+        }
+
+        writeHeader(output, LIST_CHANGES, changeSet.size());
+        final var lastPositions = new int[2];
+        final var cursor = changeSet.cursor();
+        while (cursor.next()) {
+            writeListChange(output, cursor.getAction(), cursor.getOldItem(), cursor.getNewItem(),
+                    cursor.getOldPosition(), cursor.getNewPosition(), lastPositions);
+        }
+    }
+
+    /**
+     * Encodes a list of list changes.
+     *
+     * @param changes changes to be encoded.
+     * @param output output where changes are written.
+     * @throws IllegalArgumentException if provided list is null or contains unsupported changes.
+     * @throws IOException if an item cannot be serialized.
+     */
+    @SuppressWarnings("unchecked")
+    private void encodeListChanges(final List<ListItemChange> changes, final ByteBufferDataOutput output)
+            throws IOException {
+        if (changes == null) {
+            throw new IllegalArgumentException();
+        }
+
+        writeHeader(output, LIST_CHANGES, changes.size());
+        final var lastPositions = new int[2];
+        for (final var change : changes) {
+            if (change instanceof RemovedListItemChange<?> removed) {
+                writeListChange(output, ListItemChangeAction.REMOVED, (T) removed.getOldItem(), null,
+                        removed.getOldPosition(), ListItemChangeSet.NO_POSITION, lastPositions);
+            } else if (change instanceof InsertedListItemChange<?> inserted) {
+                writeListChange(output, ListItemChangeAction.INSERTED, null, (T) inserted.getNewItem(),
+                        ListItemChangeSet.NO_POSITION, inserted.getNewPosition(), lastPositions);
+            } else if (change instanceof MovedListItemChange<?> moved) {
+                writeListChange(output, ListItemChangeAction.MOVED, (T) moved.getOldItem(), (T) moved.getNewItem(),
+                        moved.getOldPosition(), moved.getNewPosition(), lastPositions);
+            } else if (change instanceof UpdatedListItemChange<?> updated) {
+                writeListChange(output, ListItemChangeAction.UPDATED, (T) updated.getOldItem(),
+                        (T) updated.getNewItem(), updated.getPosition(), updated.getPosition(), lastPositions);
+            } else if (change instanceof RemovedRangeListItemChange<?> removedRange) {
+                writeListRangeChange(output, ListItemChangeAction.REMOVED_RANGE, (List<T>) removedRange.getOldItems(),
+                        null, removedRange.getOldPosition(), ListItemChangeSet.NO_POSITION,
+                        removedRange.getCount(), lastPositions);
+            } else if (change instanceof InsertedRangeListItemChange<?> insertedRange) {
+                writeListRangeChange(output, ListItemChangeAction.INSERTED_RANGE, null,
+                        (List<T>) insertedRange.getNewItems(), ListItemChangeSet.NO_POSITION,
+                        insertedRange.getNewPosition(), insertedRange.getCount(), lastPositions);
+            } else if (change instanceof MovedRangeListItemChange<?> movedRange) {
+                writeListRangeChange(output, ListItemChangeAction.MOVED_RANGE, (List<T>) movedRange.getOldItems(),
+                        (List<T>) movedRange.getNewItems(), movedRange.getOldPosition(),
+                        movedRange.getNewPosition(), movedRange.getCount(), lastPositions);
+            } else if (change instanceof UpdatedRangeListItemChange<?> updatedRange) {
+                writeListRangeChange(output, ListItemChangeAction.UPDATED_RANGE,
+                        (List<T>) updatedRange.getOldItems(), (List<T>) updatedRange.getNewItems(),
+                        updatedRange.getPosition(), updatedRange.getPosition(), updatedRange.getCount(),
+                        lastPositions);
+            } else {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+
+    /**
+     * Encodes collection changes.
+     *
+     * @param changes changes to be encoded.
+     * @param output output where changes are written.
+     * @throws IllegalArgumentException if provided collection is null or contains unsupported changes.
+     * @throws IOException if an item cannot be serialized.
+     */
+    @SuppressWarnings("unchecked")
+    private void encodeCollectionChanges(final Collection<CollectionItemChange> changes,
+                                         final ByteBufferDataOutput output) throws IOException {
+        if (changes == null) {
+            throw new IllegalArgumentException();
+        }
+
+        writeHeader(output, COLLECTION_CHANGES, changes.size());
+        for (final var change : changes) {
+            if (change instanceof RemovedCollectionItemChange<?> removed) {
+                output.writeByte(CollectionItemChangeAction.REMOVED.ordinal());
+                writeItem(output, (T) removed.getOldItem(), keySerializer);
+            } else if (change instanceof InsertedCollectionItemChange<?> inserted) {
+                output.writeByte(CollectionItemChangeAction.INSERTED.ordinal());
+                writeItem(output, (T) inserted.getNewItem(), itemSerializer);
+            } else if (change instanceof UpdatedCollectionItemChange<?> updated) {
+                output.writeByte(CollectionItemChangeAction.UPDATED.ordinal());
+                writeItem(output, (T) updated.getOldItem(), keySerializer);
+                writeItem(output, (T) updated.getNewItem(), itemSerializer);
+            } else {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+
+    /**
+     * Writes a list change, whose positions are encoded relative to the last written positions.
+     *
+     * @param output output where the change is written.
+     * @param action action of the change.
+     * @param oldItem old item of the change, or null if the change has no old item.
+     * @param newItem new item of the change, or null if the change has no new item.
+     * @param oldPosition old position of the change.
+     * @param newPosition new position of the change.
+     * @param lastPositions last written old and new positions, which are updated.
+     * @throws IOException if an item cannot be serialized.
+     */
+    private void writeListChange(final ByteBufferDataOutput output, final ListItemChangeAction action,
+                                 final T oldItem, final T newItem, final int oldPosition, final int newPosition,
+                                 final int[] lastPositions) throws IOException {
+        output.writeByte(action.ordinal());
+        switch (action) {
+            case REMOVED -> {
+                writePosition(output, oldPosition, lastPositions, 0);
+                writeItem(output, oldItem, keySerializer);
+            }
+            case INSERTED -> {
+                writePosition(output, newPosition, lastPositions, 1);
+                writeItem(output, newItem, itemSerializer);
+            }
+            case MOVED -> {
+                writePosition(output, oldPosition, lastPositions, 0);
+                writePosition(output, newPosition, lastPositions, 1);
+                writeItem(output, oldItem, keySerializer);
+                writeItem(output, newItem, itemSerializer);
+            }
+            default -> {
+                writePosition(output, newPosition, lastPositions, 1);
+                writeItem(output, oldItem, keySerializer);
+                writeItem(output, newItem, itemSerializer);
+            }
+        }
+    }
+
+    /**
+     * Writes a range change, whose positions are encoded relative to the last written positions, followed by its
+     * number of items, its old items and its new items.
+     *
+     * @param output output where the change is written.
+     * @param action action of the change.
+     * @param oldItems old items of the change, or null if the change has no old items.
+     * @param newItems new items of the change, or null if the change has no new items.
+     * @param oldPosition old position of the first item of the change.
+     * @param newPosition new position of the first item of the change.
+     * @param count number of items of the change.
+     * @param lastPositions last written old and new positions, which are updated.
+     * @throws IOException if an item cannot be serialized.
+     */
+    private void writeListRangeChange(final ByteBufferDataOutput output, final ListItemChangeAction action,
+                                      final List<T> oldItems, final List<T> newItems, final int oldPosition,
+                                      final int newPosition, final int count, final int[] lastPositions)
+            throws IOException {
+        output.writeByte(action.ordinal());
+        switch (action) {
+            case REMOVED_RANGE -> writePosition(output, oldPosition, lastPositions, 0);
+            case INSERTED_RANGE -> writePosition(output, newPosition, lastPositions, 1);
+            case MOVED_RANGE -> {
+                writePosition(output, oldPosition, lastPositions, 0);
+                writePosition(output, newPosition, lastPositions, 1);
+            }
+            default -> writePosition(output, newPosition, lastPositions, 1);
+        }
+
+        output.writeVarInt(count);
+        if (oldItems != null) {
+            for (final var oldItem : oldItems) {
+                writeItem(output, oldItem, keySerializer);
+            }
+        }
+        if (newItems != null) {
+            for (final var newItem : newItems) {
+                writeItem(output, newItem, itemSerializer);
+            }
+        }
+    }
+
+    /**
+     * Writes a position relative to the last written position of the same kind.
+     *
+     * @param output output where the position is written.
+     * @param position position to be written.
+     * @param lastPositions last written old and new positions, which are updated.
+     * @param kind 0 for old positions, 1 for new positions.
+     */
+    private static void writePosition(final ByteBufferDataOutput output, final int position,
+                                      final int[] lastPositions, final int kind) {
+        output.writeSignedVarInt(position - lastPositions[kind]);
+        lastPositions[kind] = position;
+    }
+
+    /**
+     * Writes an item prefixed by its length.
+     *
+     * @param output output where the item is written.
+     * @param item item to be written.
+     * @param serializer serializer used to write the item.
+     * @throws IOException if the item cannot be serialized.
+     */
+    private static <T> void writeItem(final ByteBufferDataOutput output, final T item,
+                                      final ItemSerializer<T> serializer) throws IOException {
+        final var start = output.position();
+        output.writeInt(0);
+        serializer.write(item, output);
+        output.writeInt(start, output.position() - start - Integer.BYTES);
+    }
+
+    /**
+     * Writes the header of encoded changes.
+     *
+     * @param output output where the header is written.
+     * @param kind kind of encoded changes.
+     * @param size number of encoded changes.
+     */
+    private static void writeHeader(final ByteBufferDataOutput output, final int kind, final int size) {
+        output.writeByte(FORMAT_VERSION);
+        output.writeByte(kind);
+        output.writeVarInt(size);
+    }
+
+    /**
+     * Reads the header of encoded changes.
+     *
+     * @param buffer buffer containing encoded changes, whose position is moved after the header.
+     * @param kind expected kind of encoded changes.
+     * @return number of encoded changes.
+     * @throws IOException if the header is not valid.
+     */
+    private static int readHeader(final ByteBuffer buffer, final int kind) throws IOException {
+        final var input = new ByteBufferDataInput(buffer);
+        if (input.readUnsignedByte() != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version");
+        }
+        if (input.readUnsignedByte() != kind) {
+            throw new IOException("Unexpected kind of changes");
+        }
+        final var size = input.readVarInt();
+        if (size < 0) {
+            throw new IOException("Invalid number of changes");
+        }
+        return size;
+    }
+
+    /**
+     * Duplicates a buffer, so that it can be read without modifying the position of provided buffer.
+     *
+     * @param buffer buffer to be duplicated.
+     * @return duplicated buffer sharing the content of provided buffer.
+     * @throws IllegalArgumentException if provided buffer is null.
+     */
+    private static ByteBuffer duplicate(final ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException();
+        }
+
+        return buffer.duplicate();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.List;
+
+/**
+ * Provides the children of an item contained in a tree (e.g., the items of a section of a document).
+ *
+ * @param <T> type of items.
+ */
+public interface ItemChildrenAccessor<T> {
+
+    /**
+     * Gets the children of provided item, in order.
+     *
+     * @param item item to obtain the children for.
+     * @return children of the item, or either null or an empty list if the item has no children.
+     */
+    List<T> getChildren(T item);
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+/**
+ * Provides a fingerprint of the content of an item (e.g., a 64-bit hash of its content), so that the content of two
+ * items can be compared by comparing two long values.
+ * Items having equal content should have equal fingerprints. Because fingerprints are requested for every compared
+ * pair of items, they should be cheap to obtain (e.g., cached on the item when its content is set).
+ *
+ * @param <T> type of items.
+ */
+public interface ItemContentFingerprint<T> {
+
+    /**
+     * Gets the fingerprint of the content of provided item.
+     *
+     * @param item item to obtain the fingerprint for.
+     * @return fingerprint of the content of the item.
+     */
+    long getFingerprint(T item);
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.List;
+
+/**
+ * Index of the items in a list, so that items can be found without scanning the whole list.
+ *
+ * @param <T> type of items.
+ */
+abstract class ItemIndex<T> {
+
+    /**
+     * Determines the position of the first indexed item that is equal to provided item.
+     *
+     * @param item item to be found.
+     * @return position of the item in the indexed list, or -1 if the item is not contained in the list.
+     */
+    abstract int indexOf(final T item);
+
+    /**
+     * Determines whether provided item is contained in the indexed list.
+     *
+     * @param item item to be checked.
+     * @return true if the item is contained in the indexed list, false otherwise.
+     */
+    boolean contains(final T item) {
+        return indexOf(item) >= 0;
+    }
+
+    /**
+     * Pairs each provided item with an equal indexed item that has not been paired yet.
+     * Repeated occurrences of equal items are paired in order of occurrence, so that each indexed item is paired at
+     * most once.
+     *
+     * @param others items to be paired.
+     * @return position of the indexed item paired with each provided item, or -1 if an item cannot be paired.
+     */
+    abstract int[] pair(final List<T> others);
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.Objects;
+
+/**
+ * Extracts the key identifying an item (e.g., its id).
+ * Two items are considered equal when their keys are equal, hence returned keys must properly implement
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} so that items can be indexed by their keys.
+ *
+ * @param <T> type of items.
+ * @param <K> type of keys.
+ */
+public interface ItemKeyExtractor<T, K> extends ItemComparator<T> {
+
+    /**
+     * Gets the key identifying provided item.
+     *
+     * @param item item to obtain the key for.
+     * @return key identifying the item.
+     */
+    K getKey(T item);
+
+    /**
+     * Determines whether two items are equal by comparing their keys.
+     *
+     * @param item1 first item.
+     * @param item2 second item.
+     * @return true if the items are equal, false otherwise.
+     */
+    @Override
+    default boolean equals(final T item1, final T item2) {
+        return Objects.equals(getKey(item1), getKey(item2));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Utility methods to access the items being compared by change detectors.
+ */
+final class ItemLists {
+
+    /**
+     * Constructor.
+     * Prevents instantiation of utility class.
+     */
+    private ItemLists() {
+    }
+
+    /**
+     * Gets a list supporting fast random access containing provided items in the same order.
+     * Provided items are returned as they are when they are already contained in such a list, otherwise they are
+     * copied.
+     *
+     * @param items items to be accessed.
+     * @param <T> type of items.
+     * @return list containing provided items.
+     */
+    static <T> List<T> randomAccess(final Collection<T> items) {
+        if (items instanceof List<T> list && items instanceof RandomAccess) {
+            return list;
+        } else {
+            return new ArrayList<>(items);
+        }
+    }
+
+    /**
+     * Gets a list containing provided items that is safe to be read while changes are detected.
+     * When items are immutable, they are not copied unless they lack fast random access.
+     *
+     * @param items items to be accessed.
+     * @param immutable true if items are not modified while changes are detected, false otherwise.
+     * @param <T> type of items.
+     * @return list containing provided items.
+     */
+    static <T> List<T> snapshot(final Collection<T> items, final boolean immutable) {
+        return immutable ? randomAccess(items) : new ArrayList<>(items);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes items to a binary stream and reads them back, so that items can be stored outside the heap (e.g., on
+ * temporary files).
+ *
+ * @param <T> type of items.
+ */
+public interface ItemSerializer<T> {
+
+    /**
+     * Writes an item.
+     *
+     * @param item item to be written.
+     * @param output output where the item is written.
+     * @throws IOException if an I/O error occurs.
+     */
+    void write(T item, DataOutput output) throws IOException;
+
+    /**
+     * Reads an item previously written by {@link #write(Object, DataOutput)}.
+     *
+     * @param input input where the item is read from.
+     * @return read item.
+     * @throws IOException if an I/O error occurs.
+     */
+    T read(DataInput input) throws IOException;
+}
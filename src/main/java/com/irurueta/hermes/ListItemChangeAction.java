@@ -38,5 +38,25 @@ public enum ListItemChangeAction {
     /**
      * Indicates that an item position has changed within a collection.
      */
-    MOVED
+    MOVED,
+
+    /**
+     * Indicates that a range of consecutive items has been inserted into a collection.
+     */
+    INSERTED_RANGE,
+
+    /**
+     * Indicates that a range of consecutive items has been removed from a collection.
+     */
+    REMOVED_RANGE,
+
+    /**
+     * Indicates that the content of a range of consecutive items has been updated in a collection.
+     */
+    UPDATED_RANGE,
+
+    /**
+     * Indicates that a range of consecutive items has been moved together within a collection.
+     */
+    MOVED_RANGE
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+/**
+ * Algorithms that can be used to detect changes between two lists of items when returned changes indicate the
+ * positions of the items with respect to the old or the new list.
+ */
+public enum ListItemChangeAlgorithm {
+    /**
+     * Every item is paired with the first equal item of the other list.
+     * Removes are returned first, followed by inserts, moves and updates.
+     * Every item whose position differs between both lists is reported as moved (e.g., inserting an item at the
+     * beginning of the list results in every other item being moved).
+     */
+    DEFAULT,
+
+    /**
+     * Items are considered a multiset, where repeated occurrences of equal items (e.g., items sharing the same key)
+     * are paired in order of occurrence, so that the n-th occurrence on the old list is paired with the n-th
+     * occurrence on the new list, and surplus occurrences are reported as removed or inserted.
+     * Removes are returned first, followed by inserts, moves and updates.
+     * Every paired item whose position differs between both lists is reported as moved.
+     * When items can be indexed by their keys, each key is mapped to the chain of positions where it occurs, and
+     * changes are detected in expected linear time regardless of the number of repeated items.
+     */
+    MULTISET,
+
+    /**
+     * Items are paired using the algorithm by Paul Heckel, where items occurring once in both lists are used as
+     * anchors, and pairs are extended to their neighbours, so that items are paired in a few linear passes.
+     * Paired items form runs of consecutive items on both lists, and only runs that do not keep their relative order
+     * are reported as moved, hence shifted items are not reported. Moved runs are chosen greedily in a single linear
+     * pass, so the number of moved items might not be minimal for heavily shuffled lists.
+     * Removes are returned first, followed by inserts, moves and updates.
+     */
+    HECKEL
+}
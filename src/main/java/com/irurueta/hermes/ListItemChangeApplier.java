@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Applies changes returned by {@link SequentialListItemChangeDetector} (or recorded by {@link RecordingList}) to a
+ * list of items, where the position of each change refers to the list resulting from applying all previous changes
+ * in order.
+ * Items are copied once into a gap buffer, where each change is applied by moving the gap to the position of the
+ * change, so that only the items between consecutive changed positions are shifted. Since detectors return removes,
+ * inserts and updates in increasing order of position, a whole change list is applied in O(n + k) time, where n is
+ * the number of items and k the number of changes, instead of the O(n * k) time of inserting and removing items one by
+ * one on an {@link java.util.ArrayList}.
+ * Updates never shift items, and moves shift the items between their old and new positions.
+ * Range changes (e.g., returned when range coalescing is enabled on a detector) are applied at consecutive positions
+ * while the gap stays next to them, hence they are applied in time proportional to the number of items in the range.
+ */
+public class ListItemChangeApplier {
+
+    /**
+     * Indicates whether removed, moved and updated items are verified to be equal to the items found at their
+     * positions.
+     */
+    private final boolean verificationEnabled;
+
+    /**
+     * Constructor.
+     * Items found at the positions of changes are not verified.
+     */
+    public ListItemChangeApplier() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param verificationEnabled true to verify that removed, moved and updated items are equal to the items found at
+     *                            their positions (e.g., to detect replicas that have diverged), false otherwise.
+     */
+    public ListItemChangeApplier(final boolean verificationEnabled) {
+        this.verificationEnabled = verificationEnabled;
+    }
+
+    /**
+     * Indicates whether removed, moved and updated items are verified to be equal to the items found at their
+     * positions.
+     *
+     * @return true if items are verified, false otherwise.
+     */
+    public boolean isVerificationEnabled() {
+        return verificationEnabled;
+    }
+
+    /**
+     * Applies provided changes to a list of items, which is modified so that it contains the resulting items.
+     * The list is left unchanged if any change cannot be applied.
+     *
+     * @param items list of items to be modified.
+     * @param changes changes to be applied in order.
+     * @param <T> type of items.
+     * @throws IllegalArgumentException if any of the parameters is null, if the position of a change is out of bounds,
+     *                                  if a change is not supported, or if verification is enabled and an item does
+     *                                  not match the item found at its position.
+     */
+    public <T> void apply(final List<T> items, final List<ListItemChange> changes) {
+        final var result = applyToCopy(items, changes);
+        items.clear();
+        items.addAll(result);
+    }
+
+    /**
+     * Applies provided changes to a copy of a list of items.
+     *
+     * @param items list of items, which is not modified.
+     * @param changes changes to be applied in order.
+     * @param <T> type of items.
+     * @return a new list containing the resulting items.
+     * @throws IllegalArgumentException if any of the parameters is null, if the position of a change is out of bounds,
+     *                                  if a change is not supported, or if verification is enabled and an item does
+     *                                  not match the item found at its position.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> applyToCopy(final List<T> items, final List<ListItemChange> changes) {
+        if (items == null || changes == null) {
+            throw new IllegalArgumentException();
+        }
+
+        // reserve room for inserted items, so that the buffer does not grow
+        var inserts = 0;
+        for (final var change : changes) {
+            if (change instanceof InsertedListItemChange<?>) {
+                inserts++;
+            } else if (change instanceof InsertedRangeListItemChange<?> insertedRange) {
+                inserts += insertedRange.getCount();
+            }
+        }
+
+        final var buffer = new GapBuffer<T>(items, items.size() + inserts);
+        for (final var change : changes) {
+            if (change instanceof RemovedListItemChange<?> removedChange) {
+                final var position = removedChange.getOldPosition();
+                checkPosition(position, buffer.size());
+                verify(removedChange.getOldItem(), buffer.get(position));
+                buffer.remove(position);
+            } else if (change instanceof InsertedListItemChange<?> insertedChange) {
+                final var position = insertedChange.getNewPosition();
+                checkPosition(position, buffer.size() + 1);
+                buffer.insert(position, (T) insertedChange.getNewItem());
+            } else if (change instanceof MovedListItemChange<?> movedChange) {
+                final var oldPosition = movedChange.getOldPosition();
+                final var newPosition = movedChange.getNewPosition();
+                checkPosition(oldPosition, buffer.size());
+                checkPosition(newPosition, buffer.size());
+                // an updated item might have already been restored to its new value (e.g., when rolling back)
+                final var current = buffer.get(oldPosition);
+                if (!Objects.equals(movedChange.getNewItem(), current)) {
+                    verify(movedChange.getOldItem(), current);
+                }
+                buffer.remove(oldPosition);
+                buffer.insert(newPosition, (T) movedChange.getNewItem());
+            } else if (change instanceof UpdatedListItemChange<?> updatedChange) {
+                final var position = updatedChange.getPosition();
+                checkPosition(position, buffer.size());
+                // a moved item might have already been placed with its new value
+                final var current = buffer.get(position);
+                if (!Objects.equals(updatedChange.getNewItem(), current)) {
+                    verify(updatedChange.getOldItem(), current);
+                }
+                buffer.set(position, (T) updatedChange.getNewItem());
+            } else if (change instanceof RemovedRangeListItemChange<?> removedRange) {
+                final var position = removedRange.getOldPosition();
+                checkRange(position, removedRange.getCount(), buffer.size());
+                for (final var oldItem : removedRange.getOldItems()) {
+                    verify(oldItem, buffer.get(position));
+                    buffer.remove(position);
+                }
+            } else if (change instanceof InsertedRangeListItemChange<?> insertedRange) {
+                var position = insertedRange.getNewPosition();
+                checkPosition(position, buffer.size() + 1);
+                for (final var newItem : insertedRange.getNewItems()) {
+                    buffer.insert(position++, (T) newItem);
+                }
+            } else if (change instanceof MovedRangeListItemChange<?> movedRange) {
+                final var oldPosition = movedRange.getOldPosition();
+                final var count = movedRange.getCount();
+                checkRange(oldPosition, count, buffer.size());
+                checkRange(movedRange.getNewPosition(), count, buffer.size());
+                final var oldItems = movedRange.getOldItems();
+                final var newItems = movedRange.getNewItems();
+                for (var i = 0; i < count; i++) {
+                    final var current = buffer.remove(oldPosition);
+                    if (!Objects.equals(newItems.get(i), current)) {
+                        verify(oldItems.get(i), current);
+                    }
+                }
+                var newPosition = movedRange.getNewPosition();
+                for (final var newItem : newItems) {
+                    buffer.insert(newPosition++, (T) newItem);
+                }
+            } else if (change instanceof UpdatedRangeListItemChange<?> updatedRange) {
+                var position = updatedRange.getPosition();
+                checkRange(position, updatedRange.getCount(), buffer.size());
+                final var oldItems = updatedRange.getOldItems();
+                final var newItems = updatedRange.getNewItems();
+                for (var i = 0; i < oldItems.size(); i++, position++) {
+                    final var current = buffer.get(position);
+                    final var newItem = newItems.get(i);
+                    if (!Objects.equals(newItem, current)) {
+                        verify(oldItems.get(i), current);
+                    }
+                    buffer.set(position, (T) newItem);
+                }
+            } else {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        return buffer.toList();
+    }
+
+    /**
+     * Checks that a position is within bounds.
+     *
+     * @param position position to be checked.
+     * @param size number of valid positions.
+     * @throws IllegalArgumentException if position is out of bounds.
+     */
+    private static void checkPosition(final int position, final int size) {
+        if (position < 0 || position >= size) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Checks that a range of positions is within bounds.
+     *
+     * @param position first position of the range.
+     * @param count number of positions in the range.
+     * @param size number of valid positions.
+     * @throws IllegalArgumentException if any position of the range is out of bounds.
+     */
+    private static void checkRange(final int position, final int count, final int size) {
+        if (position < 0 || position > size - count) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Verifies that the item of a change matches the item found at its position, if verification is enabled.
+     *
+     * @param expected item of the change.
+     * @param actual item found at the position of the change.
+     * @throws IllegalArgumentException if verification is enabled and items are not equal.
+     */
+    private void verify(final Object expected, final Object actual) {
+        if (verificationEnabled && !Objects.equals(expected, actual)) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coalesces consecutive single item changes affecting contiguous positions into range changes, so that bulk edits
+ * (e.g., inserting a block of items) are notified as a single change instead of one change per item.
+ * Consecutive inserts, removes, updates and moves are coalesced into {@link InsertedRangeListItemChange},
+ * {@link RemovedRangeListItemChange}, {@link UpdatedRangeListItemChange} and {@link MovedRangeListItemChange}
+ * respectively, whereas changes that cannot be coalesced are forwarded unchanged.
+ * Changes are forwarded to the wrapped listener once their range is complete, hence {@link #flush()} must be called
+ * after the last change has been notified.
+ * Positions of changes can either refer to the old and new lists (as returned by {@link ListItemChangeDetector}) or
+ * be sequential (as returned by {@link SequentialListItemChangeDetector}), where each change is applied to the list
+ * resulting from previous changes. In both cases, range changes keep the position convention of coalesced changes,
+ * and applying a range change is equivalent to applying the changes it replaces.
+ */
+public class ListItemChangeCoalescer implements ListItemChangeListener {
+
+    /**
+     * Listener notified of coalesced changes.
+     */
+    private final ListItemChangeListener listener;
+
+    /**
+     * Indicates whether positions of changes are sequential, so that each change is applied to the list resulting
+     * from previous changes.
+     */
+    private final boolean sequential;
+
+    /**
+     * First change of the range being coalesced, or null if no range is being coalesced.
+     */
+    private ListItemChange first;
+
+    /**
+     * Number of changes in the range being coalesced.
+     */
+    private int count;
+
+    /**
+     * Old items of the range being coalesced, or null if the range only contains its first change.
+     */
+    private List<Object> oldItems;
+
+    /**
+     * New items of the range being coalesced, or null if the range only contains its first change.
+     */
+    private List<Object> newItems;
+
+    /**
+     * Old position of the last change in the range being coalesced.
+     */
+    private int lastOldPosition;
+
+    /**
+     * New position of the last change in the range being coalesced.
+     */
+    private int lastNewPosition;
+
+    /**
+     * Constructor.
+     *
+     * @param listener listener notified of coalesced changes.
+     * @param sequential true if positions of changes are sequential, false if they refer to the old and new lists.
+     * @throws IllegalArgumentException if provided listener is null.
+     */
+    public ListItemChangeCoalescer(final ListItemChangeListener listener, final boolean sequential) {
+        if (listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.listener = listener;
+        this.sequential = sequential;
+    }
+
+    /**
+     * Indicates whether positions of changes are sequential, so that each change is applied to the list resulting
+     * from previous changes.
+     *
+     * @return true if positions of changes are sequential, false if they refer to the old and new lists.
+     */
+    public boolean isSequential() {
+        return sequential;
+    }
+
+    /**
+     * Coalesces a list of changes.
+     *
+     * @param changes changes to be coalesced, in order.
+     * @param sequential true if positions of changes are sequential, false if they refer to the old and new lists.
+     * @return coalesced changes, in order.
+     * @throws IllegalArgumentException if provided list of changes is null or contains null changes.
+     */
+    public static List<ListItemChange> coalesce(final List<ListItemChange> changes, final boolean sequential) {
+        if (changes == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var result = new ArrayList<ListItemChange>();
+        final var coalescer = new ListItemChangeCoalescer(result::add, sequential);
+        for (final var change : changes) {
+            coalescer.onChange(change);
+        }
+        coalescer.flush();
+        return result;
+    }
+
+    /**
+     * Called when a change has been detected.
+     * The change is appended to the range being coalesced if possible, otherwise the range is forwarded and a new
+     * range is started.
+     *
+     * @param change detected change.
+     * @throws IllegalArgumentException if provided change is null.
+     */
+    @Override
+    public void onChange(final ListItemChange change) {
+        if (change == null) {
+            throw new IllegalArgumentException();
+        }
+
+        if (first != null && append(change)) {
+            return;
+        }
+
+        flush();
+        switch (change.getAction()) {
+            case INSERTED, REMOVED, UPDATED, MOVED -> start(change);
+            default -> listener.onChange(change);
+        }
+    }
+
+    /**
+     * Forwards the range being coalesced, if any.
+     * This method must be called once all changes have been notified.
+     */
+    public void flush() {
+        if (first == null) {
+            return;
+        }
+
+        if (count == 1) {
+            listener.onChange(first);
+        } else {
+            listener.onChange(buildRange());
+        }
+
+        first = null;
+        count = 0;
+        oldItems = null;
+        newItems = null;
+    }
+
+    /**
+     * Starts a new range with provided single item change.
+     *
+     * @param change first change of the range.
+     */
+    private void start(final ListItemChange change) {
+        first = change;
+        count = 1;
+        if (change instanceof InsertedListItemChange<?> inserted) {
+            lastNewPosition = inserted.getNewPosition();
+        } else if (change instanceof RemovedListItemChange<?> removed) {
+            lastOldPosition = removed.getOldPosition();
+        } else if (change instanceof UpdatedListItemChange<?> updated) {
+            lastNewPosition = updated.getPosition();
+        } else if (change instanceof MovedListItemChange<?> moved) {
+            lastOldPosition = moved.getOldPosition();
+            lastNewPosition = moved.getNewPosition();
+        }
+    }
+
+    /**
+     * Appends provided change to the range being coalesced, if it has the same action and it affects the position
+     * right after the range.
+     * When positions are sequential, consecutive removed items are found at the same position, since each remove
+     * shifts following items, and items moved forward are taken from the same position and placed at the same
+     * position, since each move shifts the previously moved items. Once previously moved items have been shifted
+     * back to the position items are taken from, following moves take items already moved by the range, hence they
+     * start a new range.
+     *
+     * @param change change to be appended.
+     * @return true if the change has been appended, false otherwise.
+     */
+    private boolean append(final ListItemChange change) {
+        if (change.getAction() != first.getAction()) {
+            return false;
+        }
+
+        if (change instanceof InsertedListItemChange<?> inserted) {
+            final var position = inserted.getNewPosition();
+            if (position != lastNewPosition + 1) {
+                return false;
+            }
+            appendItems(null, inserted.getNewItem());
+            lastNewPosition = position;
+        } else if (change instanceof RemovedListItemChange<?> removed) {
+            final var position = removed.getOldPosition();
+            if (position != (sequential ? lastOldPosition : lastOldPosition + 1)) {
+                return false;
+            }
+            appendItems(removed.getOldItem(), null);
+            lastOldPosition = position;
+        } else if (change instanceof UpdatedListItemChange<?> updated) {
+            final var position = updated.getPosition();
+            if (position != lastNewPosition + 1) {
+                return false;
+            }
+            appendItems(updated.getOldItem(), updated.getNewItem());
+            lastNewPosition = position;
+        } else if (change instanceof MovedListItemChange<?> moved) {
+            final var firstMoved = (MovedListItemChange<?>) first;
+            final var oldPosition = moved.getOldPosition();
+            final var newPosition = moved.getNewPosition();
+            final boolean contiguous;
+            if (sequential && firstMoved.getOldPosition() < firstMoved.getNewPosition()) {
+                // items moved forward are taken from and placed at the same positions, as long as the item found at
+                // the old position has not already been moved by the range
+                contiguous = oldPosition == lastOldPosition && newPosition == lastNewPosition
+                        && count < newPosition - firstMoved.getOldPosition() + 1;
+            } else {
+                contiguous = oldPosition == lastOldPosition + 1 && newPosition == lastNewPosition + 1
+                        && (!sequential || firstMoved.getOldPosition() > firstMoved.getNewPosition());
+            }
+            if (!contiguous) {
+                return false;
+            }
+            appendItems(moved.getOldItem(), moved.getNewItem());
+            lastOldPosition = oldPosition;
+            lastNewPosition = newPosition;
+        } else {
+            return false;
+        }
+
+        count++;
+        return true;
+    }
+
+    /**
+     * Appends the items of a change to the range being coalesced, copying the items of the first change of the range
+     * when the second change is appended.
+     *
+     * @param oldItem old item of the change, or null if the change has no old item.
+     * @param newItem new item of the change, or null if the change has no new item.
+     */
+    private void appendItems(final Object oldItem, final Object newItem) {
+        if (count == 1) {
+            oldItems = new ArrayList<>();
+            newItems = new ArrayList<>();
+            if (first instanceof InsertedListItemChange<?> inserted) {
+                newItems.add(inserted.getNewItem());
+            } else if (first instanceof RemovedListItemChange<?> removed) {
+                oldItems.add(removed.getOldItem());
+            } else if (first instanceof UpdatedListItemChange<?> updated) {
+                oldItems.add(updated.getOldItem());
+                newItems.add(updated.getNewItem());
+            } else if (first instanceof MovedListItemChange<?> moved) {
+                oldItems.add(moved.getOldItem());
+                newItems.add(moved.getNewItem());
+            }
+        }
+
+        if (oldItem != null) {
+            oldItems.add(oldItem);
+        }
+        if (newItem != null) {
+            newItems.add(newItem);
+        }
+    }
+
+    /**
+     * Builds a range change containing all the changes of the range being coalesced.
+     *
+     * @return range change.
+     */
+    private ListItemChange buildRange() {
+        if (first instanceof InsertedListItemChange<?> inserted) {
+            return new InsertedRangeListItemChange<>(newItems, inserted.getNewPosition());
+        } else if (first instanceof RemovedListItemChange<?> removed) {
+            return new RemovedRangeListItemChange<>(oldItems, removed.getOldPosition());
+        } else if (first instanceof UpdatedListItemChange<?> updated) {
+            return new UpdatedRangeListItemChange<>(oldItems, newItems, updated.getPosition());
+        } else {
+            final var moved = (MovedListItemChange<?>) first;
+            final var oldPosition = moved.getOldPosition();
+            // items moved forward are placed right before the last moved item, which ends at its new position
+            final var newPosition = sequential && oldPosition < moved.getNewPosition()
+                    ? lastNewPosition - count + 1 : moved.getNewPosition();
+            return new MovedRangeListItemChange<>(oldItems, newItems, oldPosition, newPosition);
+        }
+    }
+}
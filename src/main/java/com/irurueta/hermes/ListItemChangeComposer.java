@@ -0,0 +1,534 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Composes two consecutive lists of sequential changes into a single list of sequential changes.
+ * Given the changes transforming a list A into a list B, and the changes transforming list B into a list C (as
+ * returned by {@link SequentialListItemChangeDetector} or recorded by {@link RecordingList}), the composed changes
+ * transform list A into list C, without requiring any of the lists.
+ * Changes are replayed on a list of pieces, where each piece is either a run of untouched items of list A, an item of
+ * list A that has been modified, moved or removed, or an inserted item, hence composition takes time proportional to
+ * the number of changes instead of the number of items.
+ * Composed changes are returned in the same order as {@link SequentialListItemChangeAlgorithm#MINIMAL_MOVES}: first
+ * removes, then moves, inserts and finally updates, where the number of moved items is minimized.
+ * Items inserted by the first list of changes and removed by the second one are omitted, and items whose content
+ * becomes equal to their content on list A are not notified as updated.
+ * Lists must contain less than {@link #MAX_SIZE} items.
+ *
+ * @param <T> type of items.
+ */
+public class ListItemChangeComposer<T> {
+
+    /**
+     * Maximum number of items that lists can contain.
+     */
+    public static final int MAX_SIZE = Integer.MAX_VALUE / 2;
+
+    /**
+     * Weight of runs of untouched items when finding the items that are kept in place, so that they are never moved.
+     */
+    private static final long UNTOUCHED_WEIGHT = 1L << 32;
+
+    /**
+     * Comparator to determine whether the content of two items is equal.
+     */
+    private final ItemContentComparator<T> itemContentComparator;
+
+    /**
+     * Constructor.
+     *
+     * @param itemContentComparator comparator to determine whether the content of two items is equal.
+     * @throws IllegalArgumentException if provided comparator is null.
+     */
+    public ListItemChangeComposer(final ItemContentComparator<T> itemContentComparator) {
+        if (itemContentComparator == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.itemContentComparator = itemContentComparator;
+    }
+
+    /**
+     * Composes two consecutive lists of sequential changes.
+     * Single item changes and range changes are supported.
+     *
+     * @param first changes transforming list A into list B, in order.
+     * @param second changes transforming list B into list C, in order.
+     * @return changes transforming list A into list C, in order.
+     * @throws IllegalArgumentException if any of provided lists of changes is null, contains unsupported changes,
+     * or contains positions out of bounds.
+     */
+    public List<ListItemChange> compose(final List<ListItemChange> first, final List<ListItemChange> second) {
+        if (first == null || second == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var replay = new Replay();
+        replay.apply(first);
+        replay.apply(second);
+        return buildChanges(replay);
+    }
+
+    /**
+     * Builds the changes transforming list A into the list resulting from replayed changes.
+     *
+     * @param replay replayed changes.
+     * @return changes transforming list A into list C, in order.
+     */
+    @SuppressWarnings("unchecked")
+    private List<ListItemChange> buildChanges(final Replay replay) {
+        final var result = new ArrayList<ListItemChange>();
+        final var pieces = replay.pieces.toList();
+
+        // removes, in increasing order of their position on list A
+        final var removed = replay.removed;
+        removed.sort(Comparator.comparingInt(piece -> piece.oldPosition));
+        for (var i = 0; i < removed.size(); i++) {
+            final var piece = removed.get(i);
+            // positions are shifted by previously removed items
+            result.add(new RemovedListItemChange<>((T) piece.oldItem, piece.oldPosition - i));
+        }
+
+        // kept pieces of list A in new order, and their rank in old order
+        final var kept = new ArrayList<Piece>();
+        for (final var piece : pieces) {
+            if (piece.oldPosition >= 0) {
+                kept.add(piece);
+            }
+        }
+        final var keptCount = kept.size();
+        final var keptAtRank = new Piece[keptCount];
+        kept.toArray(keptAtRank);
+        final var keptInOldOrder = new ArrayList<>(kept);
+        keptInOldOrder.sort(Comparator.comparingInt(piece -> piece.oldPosition));
+        for (var k = 0; k < keptCount; k++) {
+            keptInOldOrder.get(k).index = k;
+        }
+        buildMoves(keptInOldOrder, keptAtRank, result);
+
+        // inserts (after moves kept pieces are already in their new relative order)
+        var position = 0;
+        for (final var piece : pieces) {
+            if (piece.oldPosition < 0) {
+                result.add(new InsertedListItemChange<>((T) piece.newItem, position));
+            }
+            position += piece.length;
+        }
+
+        // changed items
+        position = 0;
+        for (final var piece : pieces) {
+            if (piece.oldPosition >= 0 && piece.newItem != null
+                    && !itemContentComparator.equalContent((T) piece.newItem, (T) piece.oldItem)) {
+                result.add(new UpdatedListItemChange<>((T) piece.oldItem, (T) piece.newItem, position));
+            }
+            position += piece.length;
+        }
+
+        return result;
+    }
+
+    /**
+     * Builds moves of kept pieces, so that after applying them, kept pieces are in their new relative order.
+     * Pieces of a heaviest increasing subsequence are kept in place, where runs of untouched items always belong to
+     * it since their relative order never changes, and remaining pieces (which contain a single item) are moved after
+     * the nearest fixed piece preceding them in new order.
+     *
+     * @param keptInOldOrder kept pieces in old order.
+     * @param keptAtRank kept pieces in new order.
+     * @param result list where moves are added.
+     */
+    @SuppressWarnings("unchecked")
+    private void buildMoves(final List<Piece> keptInOldOrder, final Piece[] keptAtRank,
+                                   final List<ListItemChange> result) {
+        final var keptCount = keptAtRank.length;
+
+        // rank of each kept piece in new order
+        final var targets = new int[keptCount];
+        for (var rank = 0; rank < keptCount; rank++) {
+            targets[keptAtRank[rank].index] = rank;
+        }
+        final var weights = new long[keptCount];
+        for (var k = 0; k < keptCount; k++) {
+            final var piece = keptInOldOrder.get(k);
+            weights[k] = piece.newItem == null ? UNTOUCHED_WEIGHT : 1L;
+        }
+
+        final var fixed = findHeaviestIncreasingSubsequence(targets, weights);
+
+        // each moved piece is placed after the nearest fixed piece preceding it in new order (its anchor), or at the
+        // beginning of the list. Anchor 0 is the beginning of the list and anchor k + 1 is the kept piece k
+        final var anchors = new int[keptCount];
+        final var chainSizes = new int[keptCount + 1];
+        var anchor = 0;
+        for (var rank = 0; rank < keptCount; rank++) {
+            final var k = keptAtRank[rank].index;
+            if (fixed[k]) {
+                anchor = k + 1;
+            } else {
+                anchors[k] = anchor;
+                chainSizes[anchor]++;
+            }
+        }
+
+        // slots: pieces moved to the beginning, then each kept piece followed by the pieces moved after it
+        final var ownSlots = new int[keptCount];
+        final var chainSlots = new int[keptCount + 1];
+        var slot = chainSizes[0];
+        for (var k = 0; k < keptCount; k++) {
+            ownSlots[k] = slot++;
+            chainSlots[k + 1] = slot;
+            slot += chainSizes[k + 1];
+        }
+
+        // after removes, kept pieces are in old order
+        final var tree = new PositionTree(slot);
+        for (var k = 0; k < keptCount; k++) {
+            tree.occupy(ownSlots[k], keptInOldOrder.get(k).length);
+        }
+
+        for (var rank = 0; rank < keptCount; rank++) {
+            final var piece = keptAtRank[rank];
+            final var k = piece.index;
+            if (!fixed[k]) {
+                // moved pieces always contain a single item
+                final var target = chainSlots[anchors[k]]++;
+                final var pos1 = tree.positionOf(ownSlots[k]);
+                tree.release(ownSlots[k]);
+                tree.occupy(target);
+                final var pos2 = tree.positionOf(target);
+
+                if (pos1 != pos2) {
+                    // item has been moved
+                    result.add(new MovedListItemChange<>((T) piece.oldItem, (T) piece.newItem, pos1, pos2));
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds a strictly increasing subsequence of a permutation of values having the largest total weight, in
+     * O(n log n) time.
+     *
+     * @param values permutation of values between 0 and the number of values.
+     * @param weights weight of each value.
+     * @return array indicating, for each value, whether it belongs to the found subsequence.
+     */
+    private static boolean[] findHeaviestIncreasingSubsequence(final int[] values, final long[] weights) {
+        final var size = values.length;
+
+        // binary indexed tree containing, for each value, the heaviest subsequence ending at a value not greater
+        // than it
+        final var bestWeights = new long[size + 1];
+        final var bestEnds = new int[size + 1];
+        Arrays.fill(bestEnds, -1);
+
+        // position of the previous value in the subsequence ending at each value
+        final var predecessors = new int[size];
+        final var totals = new long[size];
+        var last = -1;
+        for (var i = 0; i < size; i++) {
+            var weight = 0L;
+            var end = -1;
+            for (var j = values[i]; j > 0; j -= j & -j) {
+                if (bestWeights[j] > weight) {
+                    weight = bestWeights[j];
+                    end = bestEnds[j];
+                }
+            }
+
+            predecessors[i] = end;
+            totals[i] = weight + weights[i];
+            for (var j = values[i] + 1; j <= size; j += j & -j) {
+                if (totals[i] > bestWeights[j]) {
+                    bestWeights[j] = totals[i];
+                    bestEnds[j] = i;
+                }
+            }
+            if (last < 0 || totals[i] > totals[last]) {
+                last = i;
+            }
+        }
+
+        final var result = new boolean[size];
+        for (var i = last; i >= 0; i = predecessors[i]) {
+            result[i] = true;
+        }
+        return result;
+    }
+
+    /**
+     * Piece of the list resulting from replayed changes.
+     */
+    private static final class Piece {
+
+        /**
+         * Position of the first item of the piece on list A, or -1 if the item has been inserted.
+         */
+        private final int oldPosition;
+
+        /**
+         * Number of items in the piece, which is larger than one only for runs of untouched items.
+         */
+        private int length;
+
+        /**
+         * Item on list A, or null if the piece is a run of untouched items or an inserted item.
+         */
+        private Object oldItem;
+
+        /**
+         * Current item, or null if the piece is a run of untouched items.
+         */
+        private Object newItem;
+
+        /**
+         * Rank of the piece in old order among kept pieces.
+         */
+        private int index;
+
+        /**
+         * Constructor.
+         *
+         * @param oldPosition position of the first item of the piece on list A, or -1 if the item has been inserted.
+         * @param length number of items in the piece.
+         * @param oldItem item on list A.
+         * @param newItem current item.
+         */
+        private Piece(final int oldPosition, final int length, final Object oldItem, final Object newItem) {
+            this.oldPosition = oldPosition;
+            this.length = length;
+            this.oldItem = oldItem;
+            this.newItem = newItem;
+        }
+    }
+
+    /**
+     * Replays changes on a list of pieces, which initially contains a single run of untouched items of list A.
+     * Since list A is unknown, it is assumed to contain {@link #MAX_SIZE} items.
+     * Pieces are stored in a gap buffer and the piece containing the last accessed position is remembered, hence
+     * changes at nearby positions (such as the ones returned by detectors) are replayed in constant amortized time.
+     */
+    private static final class Replay {
+
+        /**
+         * Pieces of the current list.
+         */
+        private final GapBuffer<Piece> pieces = new GapBuffer<>(List.of(new Piece(0, MAX_SIZE, null, null)), 16);
+
+        /**
+         * Removed items of list A.
+         */
+        private final List<Piece> removed = new ArrayList<>();
+
+        /**
+         * Index of the last accessed piece.
+         */
+        private int currentIndex;
+
+        /**
+         * Position of the first item of the last accessed piece.
+         */
+        private int currentStart;
+
+        /**
+         * Replays a list of sequential changes.
+         *
+         * @param changes changes to be replayed.
+         * @throws IllegalArgumentException if changes are not supported or contain positions out of bounds.
+         */
+        private void apply(final List<ListItemChange> changes) {
+            for (final var change : changes) {
+                if (change instanceof RemovedListItemChange<?> removedChange) {
+                    remove(removedChange.getOldPosition(), removedChange.getOldItem());
+                } else if (change instanceof InsertedListItemChange<?> insertedChange) {
+                    attach(insertedChange.getNewPosition(), new Piece(-1, 1, null,
+                            insertedChange.getNewItem()));
+                } else if (change instanceof MovedListItemChange<?> movedChange) {
+                    final var piece = detach(movedChange.getOldPosition(), movedChange.getOldItem());
+                    piece.newItem = movedChange.getNewItem();
+                    attach(movedChange.getNewPosition(), piece);
+                } else if (change instanceof UpdatedListItemChange<?> updatedChange) {
+                    update(updatedChange.getPosition(), updatedChange.getOldItem(), updatedChange.getNewItem());
+                } else if (change instanceof RemovedRangeListItemChange<?> removedRange) {
+                    for (final var oldItem : removedRange.getOldItems()) {
+                        remove(removedRange.getOldPosition(), oldItem);
+                    }
+                } else if (change instanceof InsertedRangeListItemChange<?> insertedRange) {
+                    var position = insertedRange.getNewPosition();
+                    for (final var newItem : insertedRange.getNewItems()) {
+                        attach(position++, new Piece(-1, 1, null, newItem));
+                    }
+                } else if (change instanceof MovedRangeListItemChange<?> movedRange) {
+                    final var oldItems = movedRange.getOldItems();
+                    final var newItems = movedRange.getNewItems();
+                    final var moved = new ArrayList<Piece>(oldItems.size());
+                    for (final var oldItem : oldItems) {
+                        moved.add(detach(movedRange.getOldPosition(), oldItem));
+                    }
+                    var position = movedRange.getNewPosition();
+                    for (var i = 0; i < moved.size(); i++) {
+                        final var piece = moved.get(i);
+                        piece.newItem = newItems.get(i);
+                        attach(position++, piece);
+                    }
+                } else if (change instanceof UpdatedRangeListItemChange<?> updatedRange) {
+                    var position = updatedRange.getPosition();
+                    final var oldItems = updatedRange.getOldItems();
+                    final var newItems = updatedRange.getNewItems();
+                    for (var i = 0; i < oldItems.size(); i++) {
+                        update(position++, oldItems.get(i), newItems.get(i));
+                    }
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            }
+        }
+
+        /**
+         * Removes the item at provided position.
+         *
+         * @param position position of the item.
+         * @param item current item at provided position.
+         */
+        private void remove(final int position, final Object item) {
+            final var piece = detach(position, item);
+            if (piece.oldPosition >= 0) {
+                removed.add(piece);
+            }
+        }
+
+        /**
+         * Updates the item at provided position.
+         *
+         * @param position position of the item.
+         * @param oldItem current item at provided position.
+         * @param newItem new item.
+         */
+        private void update(final int position, final Object oldItem, final Object newItem) {
+            final var piece = pieces.get(isolate(position));
+            if (piece.newItem == null) {
+                piece.oldItem = oldItem;
+            }
+            piece.newItem = newItem;
+        }
+
+        /**
+         * Removes the item at provided position from the list of pieces.
+         *
+         * @param position position of the item.
+         * @param item current item at provided position.
+         * @return piece containing the removed item.
+         */
+        private Piece detach(final int position, final Object item) {
+            final var index = isolate(position);
+            final var piece = pieces.remove(index);
+            if (piece.newItem == null) {
+                // untouched items are equal to the items on list A
+                piece.oldItem = item;
+                piece.newItem = item;
+            }
+
+            // the next piece starts at the position of the removed one
+            currentIndex = Math.min(index, pieces.size() - 1);
+            currentStart = index == currentIndex ? position : position - pieces.get(currentIndex).length;
+            return piece;
+        }
+
+        /**
+         * Inserts a piece containing a single item at provided position.
+         *
+         * @param position position where the item is inserted.
+         * @param piece piece to be inserted.
+         */
+        private void attach(final int position, final Piece piece) {
+            final var index = split(position);
+            pieces.insert(index, piece);
+            currentIndex = index;
+            currentStart = position;
+        }
+
+        /**
+         * Splits pieces so that the item at provided position is contained in a piece of its own.
+         *
+         * @param position position of the item.
+         * @return index of the piece containing the item.
+         */
+        private int isolate(final int position) {
+            final var index = split(position);
+            if (pieces.get(index).length > 1) {
+                split(position + 1);
+            }
+            return index;
+        }
+
+        /**
+         * Splits the piece containing provided position, so that a piece starts at provided position.
+         *
+         * @param position position where a piece must start.
+         * @return index of the piece starting at provided position.
+         */
+        private int split(final int position) {
+            final var index = locate(position);
+            final var offset = position - currentStart;
+            if (offset == 0) {
+                return index;
+            }
+
+            // only runs of untouched items contain more than one item
+            final var piece = pieces.get(index);
+            final var right = new Piece(piece.oldPosition + offset, piece.length - offset, null, null);
+            piece.length = offset;
+            pieces.insert(index + 1, right);
+            currentIndex = index + 1;
+            currentStart = position;
+            return currentIndex;
+        }
+
+        /**
+         * Finds the piece containing provided position, starting at the last accessed piece.
+         *
+         * @param position position to be found.
+         * @return index of the piece containing provided position.
+         * @throws IllegalArgumentException if position is out of bounds.
+         */
+        private int locate(final int position) {
+            if (position < 0) {
+                throw new IllegalArgumentException();
+            }
+
+            while (position < currentStart) {
+                currentIndex--;
+                currentStart -= pieces.get(currentIndex).length;
+            }
+            while (position >= currentStart + pieces.get(currentIndex).length) {
+                if (currentIndex == pieces.size() - 1) {
+                    throw new IllegalArgumentException();
+                }
+                currentStart += pieces.get(currentIndex).length;
+                currentIndex++;
+            }
+            return currentIndex;
+        }
+    }
+}
@@ -38,8 +38,15 @@ public class ListItemChangeDetector<T> extends AbstractListItemChangeDetector<T>
      */
     private final ItemContentComparator<T> itemContentComparator;
 
+    /**
+     * Extracts the keys identifying items, so that items can be indexed by their keys.
+     * When null, items are found by linear search using the item comparator.
+     */
+    private final ItemKeyExtractor<T, ?> itemKeyExtractor;
+
     /**
      * Constructor.
+     * Changes are detected using the {@link ListItemChangeAlgorithm#DEFAULT} algorithm.
      *
      * @param itemComparator comparator to determine whether two items are equal.
      * @param itemContentComparator comparator to determine whether the content of two items is equal.
@@ -47,6 +54,21 @@ public class ListItemChangeDetector<T> extends AbstractListItemChangeDetector<T>
      */
     public ListItemChangeDetector(final ItemComparator<T> itemComparator,
                                   final ItemContentComparator<T> itemContentComparator) {
+        this(itemComparator, itemContentComparator, ListItemChangeAlgorithm.DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param itemComparator comparator to determine whether two items are equal.
+     * @param itemContentComparator comparator to determine whether the content of two items is equal.
+     * @param algorithm algorithm used to detect changes.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public ListItemChangeDetector(final ItemComparator<T> itemComparator,
+                                  final ItemContentComparator<T> itemContentComparator,
+                                  final ListItemChangeAlgorithm algorithm) {
+        super(algorithm);
 
         if (itemComparator == null || itemContentComparator == null) {
             throw new IllegalArgumentException();
@@ -54,6 +76,46 @@ public class ListItemChangeDetector<T> extends AbstractListItemChangeDetector<T>
 
         this.itemComparator = itemComparator;
         this.itemContentComparator = itemContentComparator;
+        this.itemKeyExtractor = null;
+    }
+
+    /**
+     * Constructor.
+     * Items are identified by their keys, which are indexed in a hash table, so that the old and new position of each
+     * item is found only once and changes are detected in expected linear time.
+     * Changes are detected using the {@link ListItemChangeAlgorithm#DEFAULT} algorithm.
+     *
+     * @param itemKeyExtractor extracts the keys identifying items (e.g., their ids).
+     * @param itemContentComparator comparator to determine whether the content of two items is equal.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public ListItemChangeDetector(final ItemKeyExtractor<T, ?> itemKeyExtractor,
+                                  final ItemContentComparator<T> itemContentComparator) {
+        this(itemKeyExtractor, itemContentComparator, ListItemChangeAlgorithm.DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     * Items are identified by their keys, which are indexed in a hash table, so that items are paired in expected
+     * linear time.
+     *
+     * @param itemKeyExtractor extracts the keys identifying items (e.g., their ids).
+     * @param itemContentComparator comparator to determine whether the content of two items is equal.
+     * @param algorithm algorithm used to detect changes.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public ListItemChangeDetector(final ItemKeyExtractor<T, ?> itemKeyExtractor,
+                                  final ItemContentComparator<T> itemContentComparator,
+                                  final ListItemChangeAlgorithm algorithm) {
+        super(algorithm);
+
+        if (itemKeyExtractor == null || itemContentComparator == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.itemComparator = itemKeyExtractor;
+        this.itemContentComparator = itemContentComparator;
+        this.itemKeyExtractor = itemKeyExtractor;
     }
 
     /**
@@ -94,4 +156,15 @@ public class ListItemChangeDetector<T> extends AbstractListItemChangeDetector<T>
             return itemComparator.equals(item, otherItem);
         }).findFirst().orElse(-1);
     }
+
+    /**
+     * Creates an index of provided items by their keys, if a key extractor has been provided.
+     *
+     * @param items items to be indexed.
+     * @return index of provided items, or null if no key extractor has been provided.
+     */
+    @Override
+    ItemIndex<T> createIndex(final List<T> items) {
+        return itemKeyExtractor != null ? new HashItemIndex<>(items, itemKeyExtractor) : null;
+    }
 }
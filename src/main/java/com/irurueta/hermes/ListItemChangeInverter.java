@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inverts lists of sequential changes (as returned by {@link SequentialListItemChangeDetector} or recorded by
+ * {@link RecordingList}), so that changes transforming an old list into a new list can be rolled back without keeping
+ * the old list or detecting changes again.
+ * The inverse of a list of changes contains the inverse of each change in reverse order: removes become inserts of the
+ * removed item at the same position, inserts become removes, updates swap their old and new items, and moves swap both
+ * their items and their positions. Range changes are inverted the same way.
+ * Inverting a list of k changes takes O(k) time, hence rolling back costs the same as applying the original changes.
+ */
+public final class ListItemChangeInverter {
+
+    /**
+     * Constructor.
+     * Prevents instantiation of utility class.
+     */
+    private ListItemChangeInverter() {
+    }
+
+    /**
+     * Inverts a list of sequential changes.
+     *
+     * @param changes changes transforming an old list into a new list, in order.
+     * @return changes transforming the new list back into the old list, in order.
+     * @throws IllegalArgumentException if provided list of changes is null or contains unsupported changes.
+     */
+    public static List<ListItemChange> invert(final List<ListItemChange> changes) {
+        if (changes == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var result = new ArrayList<ListItemChange>(changes.size());
+        for (var i = changes.size() - 1; i >= 0; i--) {
+            result.add(invert(changes.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Inverts a single change.
+     *
+     * @param change change to be inverted.
+     * @return inverse change.
+     * @throws IllegalArgumentException if change is not supported.
+     */
+    public static ListItemChange invert(final ListItemChange change) {
+        if (change instanceof RemovedListItemChange<?> removed) {
+            return new InsertedListItemChange<>(removed.getOldItem(), removed.getOldPosition());
+        } else if (change instanceof InsertedListItemChange<?> inserted) {
+            return new RemovedListItemChange<>(inserted.getNewItem(), inserted.getNewPosition());
+        } else if (change instanceof MovedListItemChange<?> moved) {
+            return new MovedListItemChange<>(moved.getNewItem(), moved.getOldItem(), moved.getNewPosition(),
+                    moved.getOldPosition());
+        } else if (change instanceof UpdatedListItemChange<?> updated) {
+            return new UpdatedListItemChange<>(updated.getNewItem(), updated.getOldItem(), updated.getPosition());
+        } else if (change instanceof RemovedRangeListItemChange<?> removedRange) {
+            return new InsertedRangeListItemChange<>(removedRange.getOldItems(), removedRange.getOldPosition());
+        } else if (change instanceof InsertedRangeListItemChange<?> insertedRange) {
+            return new RemovedRangeListItemChange<>(insertedRange.getNewItems(), insertedRange.getNewPosition());
+        } else if (change instanceof MovedRangeListItemChange<?> movedRange) {
+            return invert(movedRange);
+        } else if (change instanceof UpdatedRangeListItemChange<?> updatedRange) {
+            return invert(updatedRange);
+        }
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * Inverts a moved range change.
+     *
+     * @param change change to be inverted.
+     * @param <T> type of items.
+     * @return inverse change.
+     */
+    private static <T> ListItemChange invert(final MovedRangeListItemChange<T> change) {
+        return new MovedRangeListItemChange<>(change.getNewItems(), change.getOldItems(), change.getNewPosition(),
+                change.getOldPosition());
+    }
+
+    /**
+     * Inverts an updated range change.
+     *
+     * @param change change to be inverted.
+     * @param <T> type of items.
+     * @return inverse change.
+     */
+    private static <T> ListItemChange invert(final UpdatedRangeListItemChange<T> change) {
+        return new UpdatedRangeListItemChange<>(change.getNewItems(), change.getOldItems(), change.getPosition());
+    }
+}
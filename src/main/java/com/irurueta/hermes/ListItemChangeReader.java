@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates list changes encoded by {@link ItemChangeCodec} directly from a buffer, without copying it.
+ * Positions are decoded while iterating, whereas items are only deserialized when requested.
+ * Range changes keep the positions of their first item, and their items can be accessed by index.
+ *
+ * @param <T> type of items.
+ */
+public class ListItemChangeReader<T> extends AbstractItemChangeReader<T> {
+
+    /**
+     * Available actions indexed by their ordinal.
+     */
+    private static final ListItemChangeAction[] ACTIONS = ListItemChangeAction.values();
+
+    /**
+     * Action of the current change.
+     */
+    private ListItemChangeAction action;
+
+    /**
+     * Old position of the current change, or {@link ListItemChangeSet#NO_POSITION} if it has no old position.
+     */
+    private int oldPosition;
+
+    /**
+     * New position of the current change, or {@link ListItemChangeSet#NO_POSITION} if it has no new position.
+     */
+    private int newPosition;
+
+    /**
+     * Number of items affected by the current change.
+     */
+    private int count;
+
+    /**
+     * Old position of the last change having an old position, which positions are encoded relative to.
+     */
+    private int lastOldPosition;
+
+    /**
+     * New position of the last change having a new position, which positions are encoded relative to.
+     */
+    private int lastNewPosition;
+
+    /**
+     * Constructor.
+     *
+     * @param buffer buffer containing encoded changes, whose position is at the first change.
+     * @param size number of encoded changes.
+     * @param itemSerializer serializer used to read new items.
+     * @param keySerializer serializer used to read old items.
+     */
+    ListItemChangeReader(final ByteBuffer buffer, final int size, final ItemSerializer<T> itemSerializer,
+                         final ItemSerializer<T> keySerializer) {
+        super(buffer, size, itemSerializer, keySerializer);
+    }
+
+    /**
+     * Gets the action of the current change.
+     *
+     * @return action of the current change.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public ListItemChangeAction getAction() {
+        checkCurrent();
+        return action;
+    }
+
+    /**
+     * Gets the old position of the current change.
+     *
+     * @return old position of the current change, or {@link ListItemChangeSet#NO_POSITION} if the item has been
+     * inserted.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public int getOldPosition() {
+        checkCurrent();
+        return oldPosition;
+    }
+
+    /**
+     * Gets the new position of the current change.
+     *
+     * @return new position of the current change, or {@link ListItemChangeSet#NO_POSITION} if the item has been
+     * removed.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public int getNewPosition() {
+        checkCurrent();
+        return newPosition;
+    }
+
+    /**
+     * Gets the number of items affected by the current change.
+     *
+     * @return number of items of the current change, which is 1 for single changes and the number of items in the
+     * range for range changes.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public int getCount() {
+        checkCurrent();
+        return count;
+    }
+
+    /**
+     * Creates a {@link ListItemChange} instance for the current change, deserializing its items.
+     *
+     * @return current change.
+     * @throws IOException if items cannot be deserialized.
+     * @throws NoSuchElementException if there is no current change.
+     */
+    public ListItemChange getChange() throws IOException {
+        checkCurrent();
+        return switch (action) {
+            case REMOVED -> new RemovedListItemChange<>(getOldItem(), oldPosition);
+            case INSERTED -> new InsertedListItemChange<>(getNewItem(), newPosition);
+            case MOVED -> new MovedListItemChange<>(getOldItem(), getNewItem(), oldPosition, newPosition);
+            case UPDATED -> new UpdatedListItemChange<>(getOldItem(), getNewItem(), newPosition);
+            case REMOVED_RANGE -> new RemovedRangeListItemChange<>(getOldItems(), oldPosition);
+            case INSERTED_RANGE -> new InsertedRangeListItemChange<>(getNewItems(), newPosition);
+            case MOVED_RANGE -> new MovedRangeListItemChange<>(getOldItems(), getNewItems(), oldPosition,
+                    newPosition);
+            default -> new UpdatedRangeListItemChange<>(getOldItems(), getNewItems(), newPosition);
+        };
+    }
+
+    /**
+     * Reads the current change, from the action up to its items.
+     *
+     * @throws IOException if the buffer does not contain a valid change.
+     */
+    @Override
+    void readChange() throws IOException {
+        final var ordinal = input.readUnsignedByte();
+        if (ordinal >= ACTIONS.length) {
+            throw new IOException("Invalid action");
+        }
+        action = ACTIONS[ordinal];
+        oldPosition = ListItemChangeSet.NO_POSITION;
+        newPosition = ListItemChangeSet.NO_POSITION;
+        count = 1;
+
+        switch (action) {
+            case REMOVED -> {
+                oldPosition = readOldPosition();
+                readItems(true, false);
+            }
+            case INSERTED -> {
+                newPosition = readNewPosition();
+                readItems(false, true);
+            }
+            case MOVED -> {
+                oldPosition = readOldPosition();
+                newPosition = readNewPosition();
+                readItems(true, true);
+            }
+            case UPDATED -> {
+                newPosition = readNewPosition();
+                oldPosition = newPosition;
+                readItems(true, true);
+            }
+            case REMOVED_RANGE -> {
+                oldPosition = readOldPosition();
+                count = readCount();
+                readItems(count, 0);
+            }
+            case INSERTED_RANGE -> {
+                newPosition = readNewPosition();
+                count = readCount();
+                readItems(0, count);
+            }
+            case MOVED_RANGE -> {
+                oldPosition = readOldPosition();
+                newPosition = readNewPosition();
+                count = readCount();
+                readItems(count, count);
+            }
+            default -> {
+                newPosition = readNewPosition();
+                oldPosition = newPosition;
+                count = readCount();
+                readItems(count, count);
+            }
+        }
+    }
+
+    /**
+     * Reads the number of items of a range change.
+     *
+     * @return read number of items.
+     * @throws IOException if the buffer does not contain a valid number of items.
+     */
+    private int readCount() throws IOException {
+        final var result = input.readVarInt();
+        if (result < 1) {
+            throw new IOException("Invalid number of items");
+        }
+        return result;
+    }
+
+    /**
+     * Reads an old position encoded relative to the last old position.
+     *
+     * @return read old position.
+     * @throws IOException if the buffer does not contain a valid position.
+     */
+    private int readOldPosition() throws IOException {
+        lastOldPosition += input.readSignedVarInt();
+        return lastOldPosition;
+    }
+
+    /**
+     * Reads a new position encoded relative to the last new position.
+     *
+     * @return read new position.
+     * @throws IOException if the buffer does not contain a valid position.
+     */
+    private int readNewPosition() throws IOException {
+        lastNewPosition += input.readSignedVarInt();
+        return lastNewPosition;
+    }
+}
@@ -0,0 +1,446 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar set of changes between two lists of items, where the action of each change is stored in a byte array,
+ * its positions in int arrays and its items in a single object array, so that no {@link ListItemChange} instance is
+ * created for each change.
+ * Storing a change takes about 17 bytes (when object references are compressed), instead of the 30 to 40 bytes of a
+ * {@link ListItemChange} instance plus its reference, and it does not create any object that must be garbage
+ * collected afterwards. Arrays are kept when the change set is cleared, hence a change set can be reused to detect
+ * changes repeatedly without allocating memory once it has grown.
+ * Changes are either accessed by their index or iterated using a {@link Cursor}, which is a flyweight exposing the
+ * values of the change it points to.
+ * Inserted changes have no old item nor old position, removed changes have no new item nor new position, and the old
+ * and new positions of updated changes are equal.
+ *
+ * @param <T> type of items.
+ */
+public class ListItemChangeSet<T> implements ListItemChangeSink<T> {
+
+    /**
+     * Default number of changes that can be stored without growing arrays.
+     */
+    public static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /**
+     * Value returned as a position that does not exist for the action of a change.
+     */
+    public static final int NO_POSITION = -1;
+
+    /**
+     * Available actions indexed by their ordinal.
+     */
+    private static final ListItemChangeAction[] ACTIONS = ListItemChangeAction.values();
+
+    /**
+     * Ordinal of the action of each change.
+     */
+    private byte[] actions;
+
+    /**
+     * Old position of each change, or {@link #NO_POSITION} if the change has no old position.
+     */
+    private int[] oldPositions;
+
+    /**
+     * New position of each change, or {@link #NO_POSITION} if the change has no new position.
+     */
+    private int[] newPositions;
+
+    /**
+     * Old and new items of each change, where the old item of the change at index i is stored at position 2 * i and
+     * its new item at position 2 * i + 1.
+     */
+    private Object[] items;
+
+    /**
+     * Number of stored changes.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     */
+    public ListItemChangeSet() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param initialCapacity number of changes that can be stored without growing arrays.
+     * @throws IllegalArgumentException if provided capacity is negative.
+     */
+    public ListItemChangeSet(final int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        actions = new byte[initialCapacity];
+        oldPositions = new int[initialCapacity];
+        newPositions = new int[initialCapacity];
+        items = new Object[2 * initialCapacity];
+    }
+
+    /**
+     * Gets the number of stored changes.
+     *
+     * @return number of stored changes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates whether no change is stored.
+     *
+     * @return true if no change is stored, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all stored changes, keeping arrays so that they can be reused.
+     */
+    public void clear() {
+        // release item references so that they can be garbage collected
+        Arrays.fill(items, 0, 2 * size, null);
+        size = 0;
+    }
+
+    /**
+     * Adds a change of an item that has been removed.
+     *
+     * @param oldItem item that has been removed.
+     * @param oldPosition position where the item has been removed.
+     * @throws IllegalArgumentException if provided item is null.
+     */
+    @Override
+    public void addRemoved(final T oldItem, final int oldPosition) {
+        add(ListItemChangeAction.REMOVED, oldItem, null, oldPosition, NO_POSITION);
+    }
+
+    /**
+     * Adds a change of an item that has been inserted.
+     *
+     * @param newItem item that has been inserted.
+     * @param newPosition position where the item has been inserted.
+     * @throws IllegalArgumentException if provided item is null.
+     */
+    @Override
+    public void addInserted(final T newItem, final int newPosition) {
+        add(ListItemChangeAction.INSERTED, null, newItem, NO_POSITION, newPosition);
+    }
+
+    /**
+     * Adds a change of an item that has been moved.
+     *
+     * @param oldItem item before being moved.
+     * @param newItem item after being moved.
+     * @param oldPosition position of the item before being moved.
+     * @param newPosition position of the item after being moved.
+     * @throws IllegalArgumentException if any of the items is null.
+     */
+    @Override
+    public void addMoved(final T oldItem, final T newItem, final int oldPosition, final int newPosition) {
+        add(ListItemChangeAction.MOVED, oldItem, newItem, oldPosition, newPosition);
+    }
+
+    /**
+     * Adds a change of an item whose content has been updated.
+     *
+     * @param oldItem item before being updated.
+     * @param newItem item after being updated.
+     * @param position position where the item has been updated.
+     * @throws IllegalArgumentException if any of the items is null.
+     */
+    @Override
+    public void addUpdated(final T oldItem, final T newItem, final int position) {
+        add(ListItemChangeAction.UPDATED, oldItem, newItem, position, position);
+    }
+
+    /**
+     * Gets the action of the change at provided index.
+     *
+     * @param index index of a change.
+     * @return action of the change.
+     * @throws IllegalArgumentException if provided index is out of bounds.
+     */
+    public ListItemChangeAction getAction(final int index) {
+        checkIndex(index);
+        return ACTIONS[actions[index]];
+    }
+
+    /**
+     * Gets the old position of the change at provided index.
+     *
+     * @param index index of a change.
+     * @return old position of the change, or {@link #NO_POSITION} if the item has been inserted.
+     * @throws IllegalArgumentException if provided index is out of bounds.
+     */
+    public int getOldPosition(final int index) {
+        checkIndex(index);
+        return oldPositions[index];
+    }
+
+    /**
+     * Gets the new position of the change at provided index.
+     *
+     * @param index index of a change.
+     * @return new position of the change, or {@link #NO_POSITION} if the item has been removed.
+     * @throws IllegalArgumentException if provided index is out of bounds.
+     */
+    public int getNewPosition(final int index) {
+        checkIndex(index);
+        return newPositions[index];
+    }
+
+    /**
+     * Gets the old item of the change at provided index.
+     *
+     * @param index index of a change.
+     * @return old item of the change, or null if the item has been inserted.
+     * @throws IllegalArgumentException if provided index is out of bounds.
+     */
+    @SuppressWarnings("unchecked")
+    public T getOldItem(final int index) {
+        checkIndex(index);
+        return (T) items[2 * index];
+    }
+
+    /**
+     * Gets the new item of the change at provided index.
+     *
+     * @param index index of a change.
+     * @return new item of the change, or null if the item has been removed.
+     * @throws IllegalArgumentException if provided index is out of bounds.
+     */
+    @SuppressWarnings("unchecked")
+    public T getNewItem(final int index) {
+        checkIndex(index);
+        return (T) items[2 * index + 1];
+    }
+
+    /**
+     * Creates a {@link ListItemChange} instance for the change at provided index.
+     *
+     * @param index index of a change.
+     * @return change at provided index.
+     * @throws IllegalArgumentException if provided index is out of bounds.
+     */
+    public ListItemChange getChange(final int index) {
+        checkIndex(index);
+        return toChange(index);
+    }
+
+    /**
+     * Creates a list containing a {@link ListItemChange} instance for each stored change, in order, as it would be
+     * returned by list detectors.
+     *
+     * @return list of changes.
+     */
+    public List<ListItemChange> toChanges() {
+        final var result = new ArrayList<ListItemChange>(size);
+        for (var i = 0; i < size; i++) {
+            result.add(toChange(i));
+        }
+        return result;
+    }
+
+    /**
+     * Creates a cursor to iterate stored changes in order, which is placed before the first change.
+     *
+     * @return a new cursor.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Adds a change.
+     *
+     * @param action action of the change.
+     * @param oldItem old item of the change, or null if the change has no old item.
+     * @param newItem new item of the change, or null if the change has no new item.
+     * @param oldPosition old position of the change.
+     * @param newPosition new position of the change.
+     * @throws IllegalArgumentException if a required item is null.
+     */
+    private void add(final ListItemChangeAction action, final T oldItem, final T newItem, final int oldPosition,
+                     final int newPosition) {
+        if ((oldItem == null && action != ListItemChangeAction.INSERTED)
+                || (newItem == null && action != ListItemChangeAction.REMOVED)) {
+            throw new IllegalArgumentException();
+        }
+
+        if (size == actions.length) {
+            grow();
+        }
+
+        actions[size] = (byte) action.ordinal();
+        oldPositions[size] = oldPosition;
+        newPositions[size] = newPosition;
+        items[2 * size] = oldItem;
+        items[2 * size + 1] = newItem;
+        size++;
+    }
+
+    /**
+     * Creates a {@link ListItemChange} instance for the change at provided index, which must be within bounds.
+     *
+     * @param index index of a change.
+     * @return change at provided index.
+     */
+    @SuppressWarnings("unchecked")
+    private ListItemChange toChange(final int index) {
+        final var oldItem = (T) items[2 * index];
+        final var newItem = (T) items[2 * index + 1];
+        return switch (ACTIONS[actions[index]]) {
+            case REMOVED -> new RemovedListItemChange<>(oldItem, oldPositions[index]);
+            case INSERTED -> new InsertedListItemChange<>(newItem, newPositions[index]);
+            case MOVED -> new MovedListItemChange<>(oldItem, newItem, oldPositions[index], newPositions[index]);
+            default -> new UpdatedListItemChange<>(oldItem, newItem, newPositions[index]);
+        };
+    }
+
+    /**
+     * Checks that provided index is within bounds.
+     *
+     * @param index index to be checked.
+     * @throws IllegalArgumentException if provided index is out of bounds.
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Doubles the capacity of arrays.
+     */
+    private void grow() {
+        final var capacity = Math.max(DEFAULT_INITIAL_CAPACITY, 2 * actions.length);
+        actions = Arrays.copyOf(actions, capacity);
+        oldPositions = Arrays.copyOf(oldPositions, capacity);
+        newPositions = Arrays.copyOf(newPositions, capacity);
+        items = Arrays.copyOf(items, 2 * capacity);
+    }
+
+    /**
+     * Flyweight iterating the changes of a change set in order, which exposes the values of the change it points to
+     * without creating any object for each change.
+     * Changes added while iterating are also iterated, whereas clearing the change set invalidates the cursor.
+     */
+    public class Cursor {
+
+        /**
+         * Index of the change the cursor points to.
+         */
+        private int index = -1;
+
+        /**
+         * Constructor.
+         */
+        private Cursor() {
+        }
+
+        /**
+         * Moves the cursor to the next change.
+         *
+         * @return true if the cursor points to a change, false if there are no more changes.
+         */
+        public boolean next() {
+            if (index < size) {
+                index++;
+            }
+            return index < size;
+        }
+
+        /**
+         * Moves the cursor back before the first change.
+         */
+        public void reset() {
+            index = -1;
+        }
+
+        /**
+         * Gets the index of the change the cursor points to.
+         *
+         * @return index of the current change.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Gets the action of the change the cursor points to.
+         *
+         * @return action of the current change.
+         * @throws IllegalArgumentException if the cursor does not point to a change.
+         */
+        public ListItemChangeAction getAction() {
+            return ListItemChangeSet.this.getAction(index);
+        }
+
+        /**
+         * Gets the old position of the change the cursor points to.
+         *
+         * @return old position of the current change, or {@link #NO_POSITION} if the item has been inserted.
+         * @throws IllegalArgumentException if the cursor does not point to a change.
+         */
+        public int getOldPosition() {
+            return ListItemChangeSet.this.getOldPosition(index);
+        }
+
+        /**
+         * Gets the new position of the change the cursor points to.
+         *
+         * @return new position of the current change, or {@link #NO_POSITION} if the item has been removed.
+         * @throws IllegalArgumentException if the cursor does not point to a change.
+         */
+        public int getNewPosition() {
+            return ListItemChangeSet.this.getNewPosition(index);
+        }
+
+        /**
+         * Gets the old item of the change the cursor points to.
+         *
+         * @return old item of the current change, or null if the item has been inserted.
+         * @throws IllegalArgumentException if the cursor does not point to a change.
+         */
+        public T getOldItem() {
+            return ListItemChangeSet.this.getOldItem(index);
+        }
+
+        /**
+         * Gets the new item of the change the cursor points to.
+         *
+         * @return new item of the current change, or null if the item has been removed.
+         * @throws IllegalArgumentException if the cursor does not point to a change.
+         */
+        public T getNewItem() {
+            return ListItemChangeSet.this.getNewItem(index);
+        }
+    }
+}
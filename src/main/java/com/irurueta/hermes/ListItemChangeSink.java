@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+/**
+ * Receives changes found between two lists of items as plain values, so that changes can be stored without
+ * creating a {@link ListItemChange} instance for each of them (e.g., by a {@link ListItemChangeSet}).
+ *
+ * @param <T> type of items.
+ */
+interface ListItemChangeSink<T> {
+
+    /**
+     * Adds a change of an item that has been removed.
+     *
+     * @param oldItem item that has been removed.
+     * @param oldPosition position where the item has been removed.
+     */
+    void addRemoved(final T oldItem, final int oldPosition);
+
+    /**
+     * Adds a change of an item that has been inserted.
+     *
+     * @param newItem item that has been inserted.
+     * @param newPosition position where the item has been inserted.
+     */
+    void addInserted(final T newItem, final int newPosition);
+
+    /**
+     * Adds a change of an item that has been moved.
+     *
+     * @param oldItem item before being moved.
+     * @param newItem item after being moved.
+     * @param oldPosition position of the item before being moved.
+     * @param newPosition position of the item after being moved.
+     */
+    void addMoved(final T oldItem, final T newItem, final int oldPosition, final int newPosition);
+
+    /**
+     * Adds a change of an item whose content has been updated.
+     *
+     * @param oldItem item before being updated.
+     * @param newItem item after being updated.
+     * @param position position where the item has been updated.
+     */
+    void addUpdated(final T oldItem, final T newItem, final int position);
+
+    /**
+     * Creates a sink notifying each change to provided listener as a {@link ListItemChange} instance.
+     *
+     * @param listener listener notified of each change.
+     * @param <T> type of items.
+     * @return a sink notifying provided listener.
+     */
+    static <T> ListItemChangeSink<T> of(final ListItemChangeListener listener) {
+        return new ListItemChangeSink<>() {
+            @Override
+            public void addRemoved(final T oldItem, final int oldPosition) {
+                listener.onChange(new RemovedListItemChange<>(oldItem, oldPosition));
+            }
+
+            @Override
+            public void addInserted(final T newItem, final int newPosition) {
+                listener.onChange(new InsertedListItemChange<>(newItem, newPosition));
+            }
+
+            @Override
+            public void addMoved(final T oldItem, final T newItem, final int oldPosition, final int newPosition) {
+                listener.onChange(new MovedListItemChange<>(oldItem, newItem, oldPosition, newPosition));
+            }
+
+            @Override
+            public void addUpdated(final T oldItem, final T newItem, final int position) {
+                listener.onChange(new UpdatedListItemChange<>(oldItem, newItem, position));
+            }
+        };
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.Arrays;
+
+/**
+ * Hash map from long keys to non-negative int values using open addressing with linear probing, so that neither keys
+ * nor values are boxed.
+ */
+class LongIntHashMap {
+
+    /**
+     * Value indicating that a slot is empty or that a key is not contained in the map.
+     */
+    static final int NO_VALUE = -1;
+
+    /**
+     * Maximum ratio of occupied slots before the table is resized.
+     */
+    private static final float LOAD_FACTOR = 0.5f;
+
+    /**
+     * Multiplier used to spread the bits of keys (the golden ratio as a 64-bit fraction).
+     */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Keys stored at each slot.
+     */
+    private long[] keys;
+
+    /**
+     * Values stored at each slot, or {@link #NO_VALUE} if the slot is empty.
+     */
+    private int[] values;
+
+    /**
+     * Number of entries contained in the map.
+     */
+    private int size;
+
+    /**
+     * Number of entries above which the table is resized.
+     */
+    private int threshold;
+
+    /**
+     * Constructor.
+     *
+     * @param expectedSize expected number of entries, so that the table does not need to be resized.
+     */
+    LongIntHashMap(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Gets the number of entries contained in the map.
+     *
+     * @return number of entries.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the value associated to provided key.
+     *
+     * @param key key to be found.
+     * @return value associated to the key, or {@link #NO_VALUE} if the key is not contained in the map.
+     */
+    int get(final long key) {
+        final var mask = keys.length - 1;
+        var slot = slotOf(key, mask);
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Associates provided value to provided key, unless the key is already contained in the map.
+     *
+     * @param key key to be added.
+     * @param value non-negative value to be associated to the key.
+     * @return value already associated to the key, or {@link #NO_VALUE} if the key was not contained in the map and
+     * provided value has been added.
+     * @throws IllegalArgumentException if value is negative.
+     */
+    int putIfAbsent(final long key, final int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        final var mask = keys.length - 1;
+        var slot = slotOf(key, mask);
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size > threshold) {
+            resize();
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Doubles the capacity of the table and re-inserts all entries.
+     */
+    private void resize() {
+        final var oldKeys = keys;
+        final var oldValues = values;
+        allocate(oldKeys.length * 2);
+
+        final var mask = keys.length - 1;
+        for (var i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != NO_VALUE) {
+                var slot = slotOf(oldKeys[i], mask);
+                while (values[slot] != NO_VALUE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Allocates an empty table.
+     *
+     * @param capacity number of slots, which must be a power of two.
+     */
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NO_VALUE);
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Gets the slot where the search of provided key starts.
+     *
+     * @param key key to be found.
+     * @param mask number of slots minus one.
+     * @return initial slot.
+     */
+    private static int slotOf(final long key, final int mask) {
+        return (int) ((key * HASH_MULTIPLIER) >>> 32) & mask;
+    }
+
+    /**
+     * Computes the smallest power of two number of slots that can contain provided number of entries without being
+     * resized.
+     *
+     * @param size number of entries.
+     * @return number of slots.
+     */
+    private static int capacityFor(final int size) {
+        var capacity = 2;
+        while (capacity * LOAD_FACTOR < size + 1) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Class to detect changes between two collections of items identified by a long identifier.
+ * Identifiers are indexed in a hash table without boxing, so that changes are detected in expected linear time with
+ * less memory than detectors using an {@link ItemKeyExtractor}.
+ *
+ * @param <T> type of items.
+ */
+public class LongKeyCollectionItemChangeDetector<T> extends AbstractCollectionItemChangeDetector<T> {
+
+    /**
+     * Extracts the long identifier of each item (e.g., its id).
+     */
+    private final ToLongFunction<T> itemIdExtractor;
+
+    /**
+     * Comparator to determine whether the content of two items is equal.
+     */
+    private final ItemContentComparator<T> itemContentComparator;
+
+    /**
+     * Constructor.
+     * Items are identified by their long identifiers, which are indexed in a hash table without boxing, so that
+     * changes are detected in expected linear time.
+     *
+     * @param itemIdExtractor extracts the long identifier of each item (e.g., its id).
+     * @param itemContentComparator comparator to determine whether the content of two items is equal.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public LongKeyCollectionItemChangeDetector(final ToLongFunction<T> itemIdExtractor,
+                                               final ItemContentComparator<T> itemContentComparator) {
+
+        if (itemIdExtractor == null || itemContentComparator == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.itemIdExtractor = itemIdExtractor;
+        this.itemContentComparator = itemContentComparator;
+    }
+
+    /**
+     * Determines whether the content of an item has changed.
+     *
+     * @param newItem new item.
+     * @param oldItem old item.
+     * @return true if the content of the item has changed, false otherwise.
+     */
+    @Override
+    protected boolean hasContentChanged(final T newItem, final T oldItem) {
+        return !itemContentComparator.equalContent(newItem, oldItem);
+    }
+
+    /**
+     * Determines whether an item is not contained in a collection.
+     *
+     * @param items list of items.
+     * @param item item to be checked.
+     * @return true if the item is not contained in the list, false otherwise.
+     */
+    @Override
+    protected boolean notContains(final Collection<T> items, final T item) {
+        final var id = itemIdExtractor.applyAsLong(item);
+        for (final var otherItem : items) {
+            if (itemIdExtractor.applyAsLong(otherItem) == id) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines the index of an item in a list.
+     *
+     * @param items list of items.
+     * @param item item to be checked.
+     * @return index of the item in the list, or -1 if the item is not contained in the list.
+     */
+    @Override
+    protected int indexOf(final List<T> items, final T item) {
+        final var id = itemIdExtractor.applyAsLong(item);
+        var i = 0;
+        for (final var otherItem : items) {
+            if (itemIdExtractor.applyAsLong(otherItem) == id) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Creates an index of provided items by their long identifiers.
+     *
+     * @param items items to be indexed.
+     * @return index of provided items.
+     */
+    @Override
+    ItemIndex<T> createIndex(final List<T> items) {
+        return new LongKeyItemIndex<>(items, itemIdExtractor);
+    }
+}
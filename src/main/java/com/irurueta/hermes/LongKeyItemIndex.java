@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Index of the items in a list by their long identifiers, which are stored in an open addressing hash table without
+ * boxing, so that items are found in expected constant time.
+ *
+ * @param <T> type of items.
+ */
+class LongKeyItemIndex<T> extends ItemIndex<T> {
+
+    /**
+     * Extracts the identifiers of items.
+     */
+    private final ToLongFunction<T> idExtractor;
+
+    /**
+     * Maps the identifiers of indexed items to the position of their first occurrence.
+     */
+    private final LongIntHashMap positions;
+
+    /**
+     * Position of the next occurrence of an item having the same identifier as the item at each position, or -1 if
+     * there is no next occurrence.
+     */
+    private final int[] nextOccurrences;
+
+    /**
+     * Constructor.
+     * Builds the index in a single pass over provided items.
+     *
+     * @param items items to be indexed.
+     * @param idExtractor extracts the identifiers of items.
+     */
+    LongKeyItemIndex(final List<T> items, final ToLongFunction<T> idExtractor) {
+        this.idExtractor = idExtractor;
+
+        final var size = items.size();
+        positions = new LongIntHashMap(size);
+        nextOccurrences = new int[size];
+
+        // position of the last occurrence of the identifier of each first occurrence
+        final var lastOccurrences = new int[size];
+
+        var i = 0;
+        for (final var item : items) {
+            final var first = positions.putIfAbsent(idExtractor.applyAsLong(item), i);
+            nextOccurrences[i] = -1;
+            if (first == LongIntHashMap.NO_VALUE) {
+                lastOccurrences[i] = i;
+            } else {
+                // chain repeated occurrence
+                nextOccurrences[lastOccurrences[first]] = i;
+                lastOccurrences[first] = i;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Determines the position of the first indexed item that is equal to provided item.
+     *
+     * @param item item to be found.
+     * @return position of the item in the indexed list, or -1 if the item is not contained in the list.
+     */
+    @Override
+    int indexOf(final T item) {
+        return positions.get(idExtractor.applyAsLong(item));
+    }
+
+    /**
+     * Pairs each provided item with an equal indexed item that has not been paired yet.
+     * Repeated occurrences of equal items are paired in order of occurrence, so that each indexed item is paired at
+     * most once.
+     *
+     * @param others items to be paired.
+     * @return position of the indexed item paired with each provided item, or -1 if an item cannot be paired.
+     */
+    @Override
+    int[] pair(final List<T> others) {
+        // next occurrence to be paired for each identifier, indexed by the position of its first occurrence
+        final var cursors = new int[nextOccurrences.length];
+        for (var i = 0; i < cursors.length; i++) {
+            cursors[i] = i;
+        }
+
+        final var result = new int[others.size()];
+        var i = 0;
+        for (final var item : others) {
+            final var first = positions.get(idExtractor.applyAsLong(item));
+            var pos = -1;
+            if (first != LongIntHashMap.NO_VALUE) {
+                pos = cursors[first];
+                if (pos >= 0) {
+                    cursors[first] = nextOccurrences[pos];
+                }
+            }
+            result[i] = pos;
+            i++;
+        }
+
+        return result;
+    }
+}
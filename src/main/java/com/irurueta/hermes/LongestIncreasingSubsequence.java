@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+/**
+ * Finds a longest strictly increasing subsequence of a sequence of values in O(n log n) time.
+ */
+final class LongestIncreasingSubsequence {
+
+    /**
+     * Constructor.
+     * Prevents instantiation of utility class.
+     */
+    private LongestIncreasingSubsequence() {
+    }
+
+    /**
+     * Finds a longest strictly increasing subsequence of provided values.
+     *
+     * @param values values to be checked.
+     * @return array indicating, for each value, whether it belongs to the found subsequence.
+     */
+    static boolean[] find(final int[] values) {
+        final var size = values.length;
+
+        // position of the smallest last value of increasing subsequences of each length
+        final var tails = new int[size];
+        // position of the previous value in the subsequence ending at each value
+        final var predecessors = new int[size];
+        var length = 0;
+
+        for (var i = 0; i < size; i++) {
+            final var value = values[i];
+
+            // find the shortest subsequence whose last value is not smaller than current value
+            var low = 0;
+            var high = length;
+            while (low < high) {
+                final var middle = (low + high) >>> 1;
+                if (values[tails[middle]] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            predecessors[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        final var result = new boolean[size];
+        for (var i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+            result[i] = true;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Class to detect changes between two maps, where entries are identified by their keys.
+ * Entries are found using the lookup of the maps themselves, hence maps do not need to be converted into collections
+ * and indexed, and changes are detected in expected linear time when maps have constant time lookup (e.g.,
+ * {@link java.util.HashMap}).
+ * Changes are notified as {@link RemovedCollectionItemChange}, {@link InsertedCollectionItemChange} and
+ * {@link UpdatedCollectionItemChange} instances whose items are immutable {@link Map.Entry} instances, so that they
+ * can be handled like changes between collections of items identified by the keys of the entries.
+ * Removes are notified first, followed by inserts and updates.
+ * Shared keys are counted by iterating the smaller map, so that iterating the old map to find removes (or the new map
+ * to find inserts) is skipped when there are no removed (or inserted) keys, and updates are found by iterating the
+ * smaller map again.
+ *
+ * @param <K> type of keys.
+ * @param <V> type of values.
+ */
+public class MapItemChangeDetector<K, V> {
+
+    /**
+     * Comparator to determine whether the content of two values is equal.
+     */
+    private final ItemContentComparator<V> valueContentComparator;
+
+    /**
+     * Indicates whether compared maps are immutable snapshots, which are not modified while changes are notified to a
+     * listener, so that they do not need to be copied.
+     */
+    private boolean immutableInputs;
+
+    /**
+     * Constructor.
+     * Values are compared using {@link Objects#equals(Object, Object)}.
+     */
+    public MapItemChangeDetector() {
+        valueContentComparator = Objects::equals;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param valueContentComparator comparator to determine whether the content of two values is equal. If maps
+     *                               contain null values, the comparator must support them.
+     * @throws IllegalArgumentException if provided comparator is null.
+     */
+    public MapItemChangeDetector(final ItemContentComparator<V> valueContentComparator) {
+        if (valueContentComparator == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.valueContentComparator = valueContentComparator;
+    }
+
+    /**
+     * Indicates whether compared maps are immutable snapshots, which are not modified while changes are notified to a
+     * listener (e.g., by the listener itself), so that they do not need to be copied.
+     * By default, maps are copied before notifying changes to a listener.
+     *
+     * @return true if compared maps are immutable snapshots, false otherwise.
+     */
+    public boolean isImmutableInputs() {
+        return immutableInputs;
+    }
+
+    /**
+     * Specifies whether compared maps are immutable snapshots, which are not modified while changes are notified to a
+     * listener (e.g., by the listener itself), so that they do not need to be copied.
+     *
+     * @param immutableInputs true if compared maps are immutable snapshots, false otherwise.
+     */
+    public void setImmutableInputs(final boolean immutableInputs) {
+        this.immutableInputs = immutableInputs;
+    }
+
+    /**
+     * Detects changes between two maps.
+     *
+     * @param newMap new map.
+     * @param oldMap old map.
+     * @return a list of found changes, whose items are entries of the maps.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public Collection<CollectionItemChange> detectChanges(final Map<K, V> newMap, final Map<K, V> oldMap) {
+        if (newMap == null || oldMap == null) {
+            throw new IllegalArgumentException();
+        }
+
+        // maps cannot be modified by a listener while changes are collected
+        final var changes = new ArrayList<CollectionItemChange>();
+        detectChanges(newMap, oldMap, changes::add, true);
+        return changes;
+    }
+
+    /**
+     * Detects changes between two maps and notifies each change to provided listener as soon as it is found.
+     * Changes are not retained, and they are notified in the same order as they are returned by
+     * {@link #detectChanges(Map, Map)}.
+     * Maps are copied into {@link LinkedHashMap} instances before notifying changes, unless they are declared as
+     * immutable snapshots using {@link #setImmutableInputs(boolean)}.
+     *
+     * @param newMap new map.
+     * @param oldMap old map.
+     * @param listener listener notified of each found change.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public void detectChanges(final Map<K, V> newMap, final Map<K, V> oldMap,
+                              final CollectionItemChangeListener listener) {
+        if (newMap == null || oldMap == null || listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        detectChanges(newMap, oldMap, listener, immutableInputs);
+    }
+
+    /**
+     * Detects changes between two maps and notifies each change to provided listener.
+     *
+     * @param newMap new map.
+     * @param oldMap old map.
+     * @param listener listener notified of each found change.
+     * @param immutable true if maps are not modified while changes are notified, false otherwise.
+     */
+    private void detectChanges(final Map<K, V> newMap, final Map<K, V> oldMap,
+                               final CollectionItemChangeListener listener, final boolean immutable) {
+        final var newEntries = immutable ? newMap : new LinkedHashMap<>(newMap);
+        final var oldEntries = immutable ? oldMap : new LinkedHashMap<>(oldMap);
+
+        final var newIsSmaller = newEntries.size() <= oldEntries.size();
+        final var smaller = newIsSmaller ? newEntries : oldEntries;
+        final var larger = newIsSmaller ? oldEntries : newEntries;
+
+        // number of keys contained in both maps
+        var shared = 0;
+        for (final var key : smaller.keySet()) {
+            if (larger.containsKey(key)) {
+                shared++;
+            }
+        }
+
+        // removes
+        if (shared < oldEntries.size()) {
+            for (final var entry : oldEntries.entrySet()) {
+                if (!newEntries.containsKey(entry.getKey())) {
+                    listener.onChange(new RemovedCollectionItemChange<>(copyOf(entry)));
+                }
+            }
+        }
+
+        // inserts
+        if (shared < newEntries.size()) {
+            for (final var entry : newEntries.entrySet()) {
+                if (!oldEntries.containsKey(entry.getKey())) {
+                    listener.onChange(new InsertedCollectionItemChange<>(copyOf(entry)));
+                }
+            }
+        }
+
+        // changed values
+        if (shared > 0) {
+            for (final var entry : smaller.entrySet()) {
+                final var key = entry.getKey();
+                final var otherValue = larger.get(key);
+                if (otherValue == null && !larger.containsKey(key)) {
+                    continue;
+                }
+
+                final var newValue = newIsSmaller ? entry.getValue() : otherValue;
+                final var oldValue = newIsSmaller ? otherValue : entry.getValue();
+                if (!valueContentComparator.equalContent(newValue, oldValue)) {
+                    // value has changed
+                    listener.onChange(new UpdatedCollectionItemChange<>(
+                            new AbstractMap.SimpleImmutableEntry<>(key, oldValue),
+                            new AbstractMap.SimpleImmutableEntry<>(key, newValue)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates an immutable copy of a map entry, which remains valid if the map is later modified.
+     *
+     * @param entry entry to be copied.
+     * @param <K> type of keys.
+     * @param <V> type of values.
+     * @return copied entry.
+     */
+    private static <K, V> Map.Entry<K, V> copyOf(final Map.Entry<K, V> entry) {
+        return new AbstractMap.SimpleImmutableEntry<>(entry);
+    }
+}
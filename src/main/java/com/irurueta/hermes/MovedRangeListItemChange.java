@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class to represent a range of consecutive list items that have been moved together to a different position,
+ * keeping their relative order.
+ * When changes are applied sequentially, the whole range is removed at its old position and then inserted so that
+ * its first item is placed at its new position.
+ *
+ * @param <T> type of items in the list.
+ */
+public class MovedRangeListItemChange<T> extends ListItemChange {
+
+    /**
+     * Items before being moved, in order.
+     */
+    private final List<T> oldItems;
+
+    /**
+     * Items after being moved, in order.
+     */
+    private final List<T> newItems;
+
+    /**
+     * Position of the first item before the range was moved.
+     */
+    private final int oldPosition;
+
+    /**
+     * Position of the first item after the range was moved.
+     */
+    private final int newPosition;
+
+    /**
+     * Constructor.
+     * Provided lists are not copied, hence they must not be modified afterwards.
+     *
+     * @param oldItems items before being moved, in order.
+     * @param newItems items after being moved, in order.
+     * @param oldPosition position of the first item before the range was moved.
+     * @param newPosition position of the first item after the range was moved.
+     * @throws IllegalArgumentException if any of the lists of items is null or empty, or if both lists have different
+     *                                  sizes.
+     */
+    public MovedRangeListItemChange(final List<T> oldItems, final List<T> newItems, final int oldPosition,
+                                    final int newPosition) {
+        super(ListItemChangeAction.MOVED_RANGE);
+        if (oldItems == null || newItems == null || oldItems.isEmpty() || oldItems.size() != newItems.size()) {
+            throw new IllegalArgumentException();
+        }
+
+        this.oldItems = Collections.unmodifiableList(oldItems);
+        this.newItems = Collections.unmodifiableList(newItems);
+        this.oldPosition = oldPosition;
+        this.newPosition = newPosition;
+    }
+
+    /**
+     * Returns the items before being moved, in order.
+     * @return the items before being moved.
+     */
+    public List<T> getOldItems() {
+        return oldItems;
+    }
+
+    /**
+     * Returns the items after being moved, in order.
+     * @return the items after being moved.
+     */
+    public List<T> getNewItems() {
+        return newItems;
+    }
+
+    /**
+     * Returns the position of the first item before the range was moved.
+     * @return the position of the first item before the range was moved.
+     */
+    public int getOldPosition() {
+        return oldPosition;
+    }
+
+    /**
+     * Returns the position of the first item after the range was moved.
+     * @return the position of the first item after the range was moved.
+     */
+    public int getNewPosition() {
+        return newPosition;
+    }
+
+    /**
+     * Returns the number of items that have been moved.
+     * @return the number of items that have been moved.
+     */
+    public int getCount() {
+        return oldItems.size();
+    }
+}
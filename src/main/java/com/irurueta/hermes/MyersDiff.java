@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.Arrays;
+
+/**
+ * Finds a longest common subsequence of two lists using the O(ND) difference algorithm by Eugene W. Myers, where N is
+ * the total number of items and D is the number of inserted and removed items.
+ * The linear space refinement of the algorithm is used, where the middle snake of the shortest edit script is found
+ * and then both halves are solved recursively.
+ */
+final class MyersDiff {
+
+    /**
+     * Determines whether old and new items at provided positions are equal.
+     */
+    private final Equality equality;
+
+    /**
+     * Position of the new item matched with each old item, or -1 if the old item is not matched.
+     */
+    private final int[] newPositions;
+
+    /**
+     * Constructor.
+     *
+     * @param oldSize number of old items.
+     * @param equality determines whether old and new items at provided positions are equal.
+     */
+    private MyersDiff(final int oldSize, final Equality equality) {
+        this.equality = equality;
+        newPositions = new int[oldSize];
+        Arrays.fill(newPositions, -1);
+    }
+
+    /**
+     * Matches old and new items belonging to a longest common subsequence of both lists.
+     *
+     * @param oldSize number of old items.
+     * @param newSize number of new items.
+     * @param equality determines whether old and new items at provided positions are equal.
+     * @return position of the new item matched with each old item, or -1 if the old item has been removed.
+     */
+    static int[] match(final int oldSize, final int newSize, final Equality equality) {
+        final var diff = new MyersDiff(oldSize, equality);
+        diff.match(0, oldSize, 0, newSize);
+        return diff.newPositions;
+    }
+
+    /**
+     * Matches old and new items within provided ranges.
+     *
+     * @param oldStart start position of old items (inclusive).
+     * @param oldEnd end position of old items (exclusive).
+     * @param newStart start position of new items (inclusive).
+     * @param newEnd end position of new items (exclusive).
+     */
+    private void match(final int oldStart, final int oldEnd, final int newStart, final int newEnd) {
+        var oldFrom = oldStart;
+        var oldTo = oldEnd;
+        var newFrom = newStart;
+        var newTo = newEnd;
+
+        // common prefix
+        while (oldFrom < oldTo && newFrom < newTo && equality.equal(oldFrom, newFrom)) {
+            newPositions[oldFrom++] = newFrom++;
+        }
+
+        // common suffix
+        while (oldFrom < oldTo && newFrom < newTo && equality.equal(oldTo - 1, newTo - 1)) {
+            newPositions[--oldTo] = --newTo;
+        }
+
+        if (oldFrom == oldTo || newFrom == newTo) {
+            // only removes or inserts remain
+            return;
+        }
+
+        final var split = findSplit(oldFrom, oldTo, newFrom, newTo);
+        if (split != null) {
+            match(oldFrom, split[0], newFrom, split[1]);
+            match(split[0], oldTo, split[1], newTo);
+        }
+    }
+
+    /**
+     * Finds the point where the forward and reverse paths of the shortest edit script meet within provided ranges.
+     *
+     * @param oldFrom start position of old items (inclusive).
+     * @param oldTo end position of old items (exclusive).
+     * @param newFrom start position of new items (inclusive).
+     * @param newTo end position of new items (exclusive).
+     * @return old and new positions of the point splitting both ranges, or null if both ranges have nothing in
+     * common.
+     */
+    private int[] findSplit(final int oldFrom, final int oldTo, final int newFrom, final int newTo) {
+        final var n = oldTo - oldFrom;
+        final var m = newTo - newFrom;
+        final var maxD = (n + m + 1) / 2;
+        final var offset = maxD;
+        final var length = 2 * maxD + 2;
+
+        // furthest reaching x position on each diagonal for forward and reverse paths
+        final var forward = new int[length];
+        final var reverse = new int[length];
+        Arrays.fill(forward, -1);
+        Arrays.fill(reverse, -1);
+        forward[offset + 1] = 0;
+        reverse[offset + 1] = 0;
+
+        final var delta = n - m;
+        // when delta is odd, paths overlap while extending forward paths, otherwise while extending reverse paths
+        final var front = delta % 2 != 0;
+
+        // diagonals that went out of bounds are not checked again
+        var forwardStart = 0;
+        var forwardEnd = 0;
+        var reverseStart = 0;
+        var reverseEnd = 0;
+
+        for (var d = 0; d < maxD; d++) {
+            for (var k = -d + forwardStart; k <= d - forwardEnd; k += 2) {
+                final var kOffset = offset + k;
+                var x = k == -d || (k != d && forward[kOffset - 1] < forward[kOffset + 1])
+                        ? forward[kOffset + 1] : forward[kOffset - 1] + 1;
+                var y = x - k;
+                while (x < n && y < m && equality.equal(oldFrom + x, newFrom + y)) {
+                    x++;
+                    y++;
+                }
+                forward[kOffset] = x;
+
+                if (x > n) {
+                    forwardEnd += 2;
+                } else if (y > m) {
+                    forwardStart += 2;
+                } else if (front) {
+                    final var reverseOffset = offset + delta - k;
+                    if (reverseOffset >= 0 && reverseOffset < length && reverse[reverseOffset] != -1
+                            && x >= n - reverse[reverseOffset]) {
+                        return new int[]{oldFrom + x, newFrom + y};
+                    }
+                }
+            }
+
+            for (var k = -d + reverseStart; k <= d - reverseEnd; k += 2) {
+                final var kOffset = offset + k;
+                var x = k == -d || (k != d && reverse[kOffset - 1] < reverse[kOffset + 1])
+                        ? reverse[kOffset + 1] : reverse[kOffset - 1] + 1;
+                var y = x - k;
+                while (x < n && y < m && equality.equal(oldTo - x - 1, newTo - y - 1)) {
+                    x++;
+                    y++;
+                }
+                reverse[kOffset] = x;
+
+                if (x > n) {
+                    reverseEnd += 2;
+                } else if (y > m) {
+                    reverseStart += 2;
+                } else if (!front) {
+                    final var forwardOffset = offset + delta - k;
+                    if (forwardOffset >= 0 && forwardOffset < length && forward[forwardOffset] != -1) {
+                        final var forwardX = forward[forwardOffset];
+                        final var forwardY = offset + forwardX - forwardOffset;
+                        if (forwardX >= n - x) {
+                            return new int[]{oldFrom + forwardX, newFrom + forwardY};
+                        }
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Determines whether old and new items at provided positions are equal.
+     */
+    interface Equality {
+
+        /**
+         * Determines whether old and new items at provided positions are equal.
+         *
+         * @param oldPosition position of old item.
+         * @param newPosition position of new item.
+         * @return true if both items are equal, false otherwise.
+         */
+        boolean equal(final int oldPosition, final int newPosition);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+
+/**
+ * Detects changes at a range of positions in parallel using a fork/join pool.
+ * Positions are split into chunks that are processed independently, and changes found on each chunk are merged in
+ * order of position, so that results are the same regardless of the number of threads.
+ */
+final class ParallelChanges {
+
+    /**
+     * Number of chunks per thread of the pool, so that work is balanced even if some chunks take longer than others.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Constructor.
+     * Prevents instantiation of utility class.
+     */
+    private ParallelChanges() {
+    }
+
+    /**
+     * Finds the changes at positions from 0 (inclusive) to provided size (exclusive).
+     *
+     * @param pool pool where changes are found.
+     * @param size number of positions to be checked.
+     * @param changeAt finds the change at a given position, or returns null if there is no change. Must be safe to
+     *                 be called concurrently.
+     * @param <C> type of changes.
+     * @return found changes in order of position.
+     */
+    static <C> List<C> collect(final ForkJoinPool pool, final int size, final IntFunction<C> changeAt) {
+        if (size == 0) {
+            return new ArrayList<>();
+        }
+
+        final var chunkSize = Math.max(1, size / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        final var chunkCount = (size + chunkSize - 1) / chunkSize;
+
+        final var chunks = new ArrayList<List<C>>(chunkCount);
+        for (var i = 0; i < chunkCount; i++) {
+            chunks.add(null);
+        }
+        pool.invoke(new ChunkAction<>(chunks, chunkSize, size, 0, chunkCount, changeAt));
+
+        // merge chunks in order
+        var count = 0;
+        for (final var chunk : chunks) {
+            count += chunk.size();
+        }
+        final var result = new ArrayList<C>(count);
+        for (final var chunk : chunks) {
+            result.addAll(chunk);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the changes of a range of chunks, splitting the range in halves until a single chunk remains.
+     *
+     * @param <C> type of changes.
+     */
+    private static class ChunkAction<C> extends RecursiveAction {
+
+        /**
+         * Serialization version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Changes found on each chunk.
+         */
+        private final transient List<List<C>> chunks;
+
+        /**
+         * Number of positions of each chunk.
+         */
+        private final int chunkSize;
+
+        /**
+         * Total number of positions.
+         */
+        private final int size;
+
+        /**
+         * First chunk to be processed (inclusive).
+         */
+        private final int fromChunk;
+
+        /**
+         * Last chunk to be processed (exclusive).
+         */
+        private final int toChunk;
+
+        /**
+         * Finds the change at a given position.
+         */
+        private final transient IntFunction<C> changeAt;
+
+        /**
+         * Constructor.
+         *
+         * @param chunks changes found on each chunk.
+         * @param chunkSize number of positions of each chunk.
+         * @param size total number of positions.
+         * @param fromChunk first chunk to be processed (inclusive).
+         * @param toChunk last chunk to be processed (exclusive).
+         * @param changeAt finds the change at a given position.
+         */
+        ChunkAction(final List<List<C>> chunks, final int chunkSize, final int size, final int fromChunk,
+                    final int toChunk, final IntFunction<C> changeAt) {
+            this.chunks = chunks;
+            this.chunkSize = chunkSize;
+            this.size = size;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.changeAt = changeAt;
+        }
+
+        /**
+         * Processes the range of chunks.
+         */
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                final var middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new ChunkAction<>(chunks, chunkSize, size, fromChunk, middle, changeAt),
+                        new ChunkAction<>(chunks, chunkSize, size, middle, toChunk, changeAt));
+            } else {
+                final var from = fromChunk * chunkSize;
+                final var to = Math.min(from + chunkSize, size);
+                final var changes = new ArrayList<C>();
+                for (var i = from; i < to; i++) {
+                    final var change = changeAt.apply(i);
+                    if (change != null) {
+                        changes.add(change);
+                    }
+                }
+
+                // each chunk is written by a single task, and join guarantees visibility to the caller
+                chunks.set(fromChunk, changes);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+/**
+ * Binary indexed tree (a.k.a. Fenwick tree) counting occupied slots, so that the position of an item within a list
+ * whose items are moved between slots can be found in O(log n) time.
+ */
+final class PositionTree {
+
+    /**
+     * Partial counts of occupied slots.
+     */
+    private final int[] tree;
+
+    /**
+     * Constructor.
+     * Initially all slots are empty.
+     *
+     * @param size number of slots.
+     */
+    PositionTree(final int size) {
+        tree = new int[size + 1];
+    }
+
+    /**
+     * Marks a slot as occupied.
+     *
+     * @param slot slot to be occupied.
+     */
+    void occupy(final int slot) {
+        add(slot, 1);
+    }
+
+    /**
+     * Marks a slot as empty.
+     *
+     * @param slot slot to be emptied.
+     */
+    void release(final int slot) {
+        add(slot, -1);
+    }
+
+    /**
+     * Marks a slot as occupied by a run of consecutive items.
+     * {@link #positionOf(int)} then returns the position of the last item of the run.
+     *
+     * @param slot  slot to be occupied.
+     * @param count number of items within the slot.
+     */
+    void occupy(final int slot, final int count) {
+        add(slot, count);
+    }
+
+    /**
+     * Marks a slot occupied by a run of consecutive items as empty.
+     *
+     * @param slot  slot to be emptied.
+     * @param count number of items that were within the slot.
+     */
+    void release(final int slot, final int count) {
+        add(slot, -count);
+    }
+
+    /**
+     * Gets the position of the item at provided occupied slot (i.e., the number of occupied slots before it).
+     *
+     * @param slot an occupied slot.
+     * @return position of the item within the list.
+     */
+    int positionOf(final int slot) {
+        var count = 0;
+        for (var i = slot + 1; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count - 1;
+    }
+
+    /**
+     * Adds a value to the count of a slot.
+     *
+     * @param slot slot to be modified.
+     * @param value value to be added.
+     */
+    private void add(final int slot, final int value) {
+        for (var i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += value;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List that records the changes made through it, so that changes are known without comparing the list to a previous
+ * copy.
+ * Each mutation is recorded as a change having the same semantics as changes returned by
+ * {@link SequentialListItemChangeDetector}, where the position of each change refers to the list resulting from
+ * applying all previous changes in order.
+ * Redundant mutations are coalesced with the last recorded change as they are made (e.g., an item that is inserted and
+ * then removed is not recorded at all, and an item that is updated twice results in a single update), hence recording
+ * takes constant amortized time per mutation and the number of changes never exceeds the number of mutations.
+ * Items are stored in a wrapped list, and modifications made directly to the wrapped list are not recorded.
+ * Notice that null items are not allowed, and that this class is not thread-safe.
+ *
+ * @param <T> type of items.
+ */
+public class RecordingList<T> extends AbstractList<T> implements RandomAccess {
+
+    /**
+     * Wrapped list containing items.
+     */
+    private final List<T> items;
+
+    /**
+     * Changes recorded since the last time they were taken.
+     */
+    private List<ListItemChange> changes = new ArrayList<>();
+
+    /**
+     * Constructor.
+     * Items are stored in a new empty list.
+     */
+    public RecordingList() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Constructor.
+     * Provided list is wrapped, so that its current items are the initial state from which changes are recorded.
+     * Provided list should have fast random access (e.g., {@link ArrayList}).
+     *
+     * @param items list to be wrapped.
+     * @throws IllegalArgumentException if provided list is null.
+     */
+    public RecordingList(final List<T> items) {
+        if (items == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.items = items;
+    }
+
+    /**
+     * Gets the item at provided position.
+     *
+     * @param index position of the item.
+     * @return item at provided position.
+     * @throws IndexOutOfBoundsException if position is out of bounds.
+     */
+    @Override
+    public T get(final int index) {
+        return items.get(index);
+    }
+
+    /**
+     * Gets the number of items.
+     *
+     * @return number of items.
+     */
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Replaces the item at provided position and records an update.
+     *
+     * @param index position of the item.
+     * @param item new item.
+     * @return replaced item.
+     * @throws IllegalArgumentException if provided item is null.
+     * @throws IndexOutOfBoundsException if position is out of bounds.
+     */
+    @Override
+    public T set(final int index, final T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var oldItem = items.set(index, item);
+        recordUpdate(oldItem, item, index);
+        return oldItem;
+    }
+
+    /**
+     * Inserts an item at provided position and records an insert.
+     *
+     * @param index position where the item is inserted.
+     * @param item item to be inserted.
+     * @throws IllegalArgumentException if provided item is null.
+     * @throws IndexOutOfBoundsException if position is out of bounds.
+     */
+    @Override
+    public void add(final int index, final T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+
+        items.add(index, item);
+        modCount++;
+        changes.add(new InsertedListItemChange<>(item, index));
+    }
+
+    /**
+     * Removes the item at provided position and records a remove.
+     *
+     * @param index position of the item.
+     * @return removed item.
+     * @throws IndexOutOfBoundsException if position is out of bounds.
+     */
+    @Override
+    public T remove(final int index) {
+        final var item = items.remove(index);
+        modCount++;
+        recordRemove(item, index);
+        return item;
+    }
+
+    /**
+     * Moves the item at a position to another position and records a move.
+     * The item is removed from its current position and then inserted at the new position, hence the new position
+     * refers to the list once the item has been removed.
+     *
+     * @param fromIndex current position of the item.
+     * @param toIndex position of the item after being moved.
+     * @throws IndexOutOfBoundsException if any position is out of bounds.
+     */
+    public void move(final int fromIndex, final int toIndex) {
+        final var size = items.size();
+        if (fromIndex < 0 || fromIndex >= size || toIndex < 0 || toIndex >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (fromIndex != toIndex) {
+            final var item = items.remove(fromIndex);
+            items.add(toIndex, item);
+            modCount++;
+            recordMove(item, fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Gets the changes recorded since the last time they were taken or cleared.
+     *
+     * @return unmodifiable view of recorded changes.
+     */
+    public List<ListItemChange> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Gets the changes recorded since the last time they were taken or cleared, and starts recording changes from
+     * the current state of the list.
+     *
+     * @return recorded changes.
+     */
+    public List<ListItemChange> takeChanges() {
+        final var result = changes;
+        changes = new ArrayList<>();
+        return result;
+    }
+
+    /**
+     * Discards recorded changes, so that changes are recorded from the current state of the list.
+     */
+    public void clearChanges() {
+        changes.clear();
+    }
+
+    /**
+     * Records an update, which is coalesced with a previous insert or update at the same position.
+     *
+     * @param oldItem replaced item.
+     * @param newItem new item.
+     * @param index position of the item.
+     */
+    private void recordUpdate(final T oldItem, final T newItem, final int index) {
+        final var last = lastChange();
+        if (last instanceof InsertedListItemChange<?> inserted && inserted.getNewPosition() == index) {
+            // an inserted item that is then replaced is inserted with its new value
+            replaceLastChange(new InsertedListItemChange<>(newItem, index));
+        } else if (last instanceof UpdatedListItemChange<?> updated && updated.getPosition() == index) {
+            // successive updates of the same item are merged
+            replaceLastChange(new UpdatedListItemChange<>(oldItem(updated), newItem, index));
+        } else {
+            changes.add(new UpdatedListItemChange<>(oldItem, newItem, index));
+        }
+    }
+
+    /**
+     * Records a remove, which cancels a previous insert at the same position, or which replaces a previous update or
+     * move of the same item.
+     *
+     * @param item removed item.
+     * @param index position of the item.
+     */
+    private void recordRemove(final T item, final int index) {
+        final var last = lastChange();
+        if (last instanceof InsertedListItemChange<?> inserted && inserted.getNewPosition() == index) {
+            // an item that is inserted and then removed is not recorded
+            removeLastChange();
+        } else if (last instanceof UpdatedListItemChange<?> updated && updated.getPosition() == index) {
+            // an updated item that is then removed is removed with its old value
+            removeLastChange();
+            recordRemove(oldItem(updated), index);
+        } else if (last instanceof MovedListItemChange<?> moved && moved.getNewPosition() == index) {
+            // a moved item that is then removed is removed from its original position
+            removeLastChange();
+            recordRemove(item, moved.getOldPosition());
+        } else {
+            changes.add(new RemovedListItemChange<>(item, index));
+        }
+    }
+
+    /**
+     * Records a move, which is merged with a previous insert or move of the same item.
+     *
+     * @param item moved item.
+     * @param fromIndex current position of the item.
+     * @param toIndex position of the item after being moved.
+     */
+    private void recordMove(final T item, final int fromIndex, final int toIndex) {
+        final var last = lastChange();
+        if (last instanceof InsertedListItemChange<?> inserted && inserted.getNewPosition() == fromIndex) {
+            // an item that is inserted and then moved is inserted at its final position
+            replaceLastChange(new InsertedListItemChange<>(item, toIndex));
+        } else if (last instanceof MovedListItemChange<?> moved && moved.getNewPosition() == fromIndex) {
+            // successive moves of the same item are merged, and moves back to the original position are not recorded
+            removeLastChange();
+            if (moved.getOldPosition() != toIndex) {
+                recordMove(item, moved.getOldPosition(), toIndex);
+            }
+        } else {
+            changes.add(new MovedListItemChange<>(item, item, fromIndex, toIndex));
+        }
+    }
+
+    /**
+     * Gets the last recorded change.
+     *
+     * @return last recorded change, or null if no change has been recorded.
+     */
+    private ListItemChange lastChange() {
+        return changes.isEmpty() ? null : changes.get(changes.size() - 1);
+    }
+
+    /**
+     * Replaces the last recorded change.
+     *
+     * @param change change replacing the last recorded change.
+     */
+    private void replaceLastChange(final ListItemChange change) {
+        changes.set(changes.size() - 1, change);
+    }
+
+    /**
+     * Removes the last recorded change.
+     */
+    private void removeLastChange() {
+        changes.remove(changes.size() - 1);
+    }
+
+    /**
+     * Gets the old item of a recorded update, which was made through this list.
+     *
+     * @param change recorded update.
+     * @return old item of the update.
+     */
+    @SuppressWarnings("unchecked")
+    private T oldItem(final UpdatedListItemChange<?> change) {
+        return (T) change.getOldItem();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class to represent a range of consecutive items that have been removed from a list.
+ *
+ * @param <T> type of items in the list.
+ */
+public class RemovedRangeListItemChange<T> extends ListItemChange {
+
+    /**
+     * Items that have been removed, in order.
+     */
+    private final List<T> oldItems;
+
+    /**
+     * Indicates the position of the first removed item on the old list.
+     */
+    private final int oldPosition;
+
+    /**
+     * Constructor.
+     * Provided list is not copied, hence it must not be modified afterwards.
+     *
+     * @param oldItems items that have been removed, in order.
+     * @param oldPosition position of the first removed item on the old list.
+     * @throws IllegalArgumentException if provided list of items is null or empty.
+     */
+    public RemovedRangeListItemChange(final List<T> oldItems, final int oldPosition) {
+        super(ListItemChangeAction.REMOVED_RANGE);
+        if (oldItems == null || oldItems.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+
+        this.oldItems = Collections.unmodifiableList(oldItems);
+        this.oldPosition = oldPosition;
+    }
+
+    /**
+     * Returns the items that have been removed, in order.
+     * @return the items that have been removed.
+     */
+    public List<T> getOldItems() {
+        return oldItems;
+    }
+
+    /**
+     * Returns the position of the first removed item on the old list.
+     * @return the position of the first removed item on the old list.
+     */
+    public int getOldPosition() {
+        return oldPosition;
+    }
+
+    /**
+     * Returns the number of items that have been removed.
+     * @return the number of items that have been removed.
+     */
+    public int getCount() {
+        return oldItems.size();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.List;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Index of the items in a list that finds items by linear search.
+ * This index is used when items cannot be indexed by their keys.
+ *
+ * @param <T> type of items.
+ */
+class ScanItemIndex<T> extends ItemIndex<T> {
+
+    /**
+     * Indexed items.
+     */
+    private final List<T> items;
+
+    /**
+     * Finds the position of the first item in a list that is equal to another item, or -1 if not found.
+     */
+    private final ToIntBiFunction<List<T>, T> locator;
+
+    /**
+     * Constructor.
+     *
+     * @param items indexed items.
+     * @param locator finds the position of the first item in a list that is equal to another item, or -1 if not
+     *                found.
+     */
+    ScanItemIndex(final List<T> items, final ToIntBiFunction<List<T>, T> locator) {
+        this.items = items;
+        this.locator = locator;
+    }
+
+    /**
+     * Determines the position of the first indexed item that is equal to provided item.
+     *
+     * @param item item to be found.
+     * @return position of the item in the indexed list, or -1 if the item is not contained in the list.
+     */
+    @Override
+    int indexOf(final T item) {
+        return locator.applyAsInt(items, item);
+    }
+
+    /**
+     * Pairs each provided item with an equal indexed item that has not been paired yet.
+     * Repeated occurrences of equal items are paired in order of occurrence.
+     *
+     * @param others items to be paired.
+     * @return position of the indexed item paired with each provided item, or -1 if an item cannot be paired.
+     */
+    @Override
+    int[] pair(final List<T> others) {
+        final var size = items.size();
+        final var paired = new boolean[size];
+        final var result = new int[others.size()];
+
+        var i = 0;
+        for (final var item : others) {
+            var pos = indexOf(item);
+            while (pos >= 0 && paired[pos]) {
+                // search next occurrence after an already paired one
+                final var next = locator.applyAsInt(items.subList(pos + 1, size), item);
+                pos = next >= 0 ? pos + 1 + next : -1;
+            }
+
+            if (pos >= 0) {
+                paired[pos] = true;
+            }
+            result[i] = pos;
+            i++;
+        }
+
+        return result;
+    }
+}
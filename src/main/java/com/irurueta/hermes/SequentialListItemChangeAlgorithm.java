@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+/**
+ * Algorithms that can be used to detect changes between two lists of items when returned changes are applied
+ * sequentially.
+ */
+public enum SequentialListItemChangeAlgorithm {
+    /**
+     * Changes are detected by modifying a copy of the old list until it resembles the new list.
+     * Removes are returned first, followed by inserts, moves and updates.
+     * Every item whose position changes after inserts and removes are applied is reported as moved.
+     */
+    DEFAULT,
+
+    /**
+     * Items that keep their relative order (i.e., those belonging to a longest increasing subsequence of their new
+     * positions) are kept in place, and only the remaining items are moved, so that the minimum number of moves is
+     * returned (e.g., a rotated list results in a single move).
+     * Removes are returned first, followed by moves, inserts and updates.
+     * When items can be indexed by their keys, changes are detected in O(n log n) time.
+     */
+    MINIMAL_MOVES,
+
+    /**
+     * Changes are detected using the O(ND) shortest edit script algorithm by Eugene W. Myers, where N is the number of
+     * items and D is the number of removed and inserted items, so that cost grows with the number of differences
+     * rather than with the size of the lists.
+     * Only items belonging to a longest common subsequence of both lists are kept, while the remaining ones are removed
+     * and inserted, hence no moves are returned.
+     * Removes are returned first, followed by inserts and updates.
+     */
+    MYERS
+}
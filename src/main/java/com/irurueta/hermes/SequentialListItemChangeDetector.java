@@ -38,6 +38,12 @@ public class SequentialListItemChangeDetector<T> extends AbstractSequentialListI
      */
     private final ItemContentComparator<T> itemContentComparator;
 
+    /**
+     * Extracts the keys identifying items, so that items can be indexed by their keys.
+     * When null, items are found by linear search using the item comparator.
+     */
+    private final ItemKeyExtractor<T, ?> itemKeyExtractor;
+
     /**
      * Constructor.
      *
@@ -47,13 +53,63 @@ public class SequentialListItemChangeDetector<T> extends AbstractSequentialListI
      */
     public SequentialListItemChangeDetector(final ItemComparator<T> itemComparator,
                                             final ItemContentComparator<T> itemContentComparator) {
+        this(itemComparator, itemContentComparator, SequentialListItemChangeAlgorithm.DEFAULT);
+    }
 
+    /**
+     * Constructor.
+     *
+     * @param itemComparator comparator to determine whether two items are equal.
+     * @param itemContentComparator comparator to determine whether the content of two items is equal.
+     * @param algorithm algorithm used to detect changes.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public SequentialListItemChangeDetector(final ItemComparator<T> itemComparator,
+                                            final ItemContentComparator<T> itemContentComparator,
+                                            final SequentialListItemChangeAlgorithm algorithm) {
+        super(algorithm);
         if (itemComparator == null || itemContentComparator == null) {
             throw new IllegalArgumentException();
         }
 
         this.itemComparator = itemComparator;
         this.itemContentComparator = itemContentComparator;
+        this.itemKeyExtractor = null;
+    }
+
+    /**
+     * Constructor.
+     * Items are identified by their keys, which are indexed in a hash table when the algorithm being used allows it.
+     *
+     * @param itemKeyExtractor extracts the keys identifying items (e.g., their ids).
+     * @param itemContentComparator comparator to determine whether the content of two items is equal.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public SequentialListItemChangeDetector(final ItemKeyExtractor<T, ?> itemKeyExtractor,
+                                            final ItemContentComparator<T> itemContentComparator) {
+        this(itemKeyExtractor, itemContentComparator, SequentialListItemChangeAlgorithm.DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     * Items are identified by their keys, which are indexed in a hash table when the algorithm being used allows it.
+     *
+     * @param itemKeyExtractor extracts the keys identifying items (e.g., their ids).
+     * @param itemContentComparator comparator to determine whether the content of two items is equal.
+     * @param algorithm algorithm used to detect changes.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public SequentialListItemChangeDetector(final ItemKeyExtractor<T, ?> itemKeyExtractor,
+                                            final ItemContentComparator<T> itemContentComparator,
+                                            final SequentialListItemChangeAlgorithm algorithm) {
+        super(algorithm);
+        if (itemKeyExtractor == null || itemContentComparator == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.itemComparator = itemKeyExtractor;
+        this.itemContentComparator = itemContentComparator;
+        this.itemKeyExtractor = itemKeyExtractor;
     }
 
     /**
@@ -68,6 +124,18 @@ public class SequentialListItemChangeDetector<T> extends AbstractSequentialListI
         return !itemContentComparator.equalContent(newItem, oldItem);
     }
 
+    /**
+     * Determines whether two items are equal (i.e., they represent the same item, regardless of their content).
+     *
+     * @param newItem new item.
+     * @param oldItem old item.
+     * @return true if both items are equal, false otherwise.
+     */
+    @Override
+    protected boolean isSameItem(final T newItem, final T oldItem) {
+        return itemComparator.equals(newItem, oldItem);
+    }
+
     /**
      * Determines whether an item is not contained in a list.
      *
@@ -94,4 +162,15 @@ public class SequentialListItemChangeDetector<T> extends AbstractSequentialListI
             return itemComparator.equals(item, otherItem);
         }).findFirst().orElse(-1);
     }
+
+    /**
+     * Creates an index of provided items by their keys, if a key extractor has been provided.
+     *
+     * @param items items to be indexed.
+     * @return index of provided items, or null if no key extractor has been provided.
+     */
+    @Override
+    ItemIndex<T> createIndex(final List<T> items) {
+        return itemKeyExtractor != null ? new HashItemIndex<>(items, itemKeyExtractor) : null;
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class to detect changes between two collections of items sorted by their keys (e.g., snapshots sorted by their
+ * primary key).
+ * Both collections are walked at once with two cursors, as in a merge join, so that removed, inserted and updated
+ * items are found in a single linear pass without indexing or copying items.
+ * Changes are returned in key order, and items having the same key are paired in order of occurrence.
+ * Collections are checked to be sorted before being compared, and collections that are not sorted are sorted on a
+ * copy instead, which takes O(n log n) time.
+ *
+ * @param <T> type of items.
+ */
+public class SortedCollectionItemChangeDetector<T> extends AbstractCollectionItemChangeDetector<T> {
+
+    /**
+     * Comparator determining the order of items by their keys, where items having the same key are equal.
+     */
+    private final Comparator<T> itemKeyComparator;
+
+    /**
+     * Comparator to determine whether the content of two items is equal.
+     */
+    private final ItemContentComparator<T> itemContentComparator;
+
+    /**
+     * Constructor.
+     *
+     * @param itemKeyComparator comparator determining the order of items by their keys (e.g., their ids), where items
+     *                          having the same key are considered equal.
+     * @param itemContentComparator comparator to determine whether the content of two items is equal.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public SortedCollectionItemChangeDetector(final Comparator<T> itemKeyComparator,
+                                              final ItemContentComparator<T> itemContentComparator) {
+
+        if (itemKeyComparator == null || itemContentComparator == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.itemKeyComparator = itemKeyComparator;
+        this.itemContentComparator = itemContentComparator;
+    }
+
+    /**
+     * Gets the comparator determining the order of items by their keys.
+     *
+     * @return comparator determining the order of items by their keys.
+     */
+    public Comparator<T> getItemKeyComparator() {
+        return itemKeyComparator;
+    }
+
+    /**
+     * Detects changes between two collections of items.
+     * Since sorted collections are compared in a single linear pass, changes are always detected sequentially on the
+     * calling thread, and provided pool is not used.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param pool pool where changes would be detected.
+     * @param threshold minimum total number of items of both collections to detect changes in parallel.
+     * @return a list of found changes.
+     * @throws IllegalArgumentException if any of the parameters is null or if threshold is negative.
+     */
+    @Override
+    public Collection<CollectionItemChange> detectChanges(
+            final Collection<T> newItems, final Collection<T> oldItems, final ForkJoinPool pool,
+            final int threshold) {
+        if (pool == null || threshold < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        return detectChanges(newItems, oldItems);
+    }
+
+    /**
+     * Determines whether the content of an item has changed.
+     *
+     * @param newItem new item.
+     * @param oldItem old item.
+     * @return true if the content of the item has changed, false otherwise.
+     */
+    @Override
+    protected boolean hasContentChanged(final T newItem, final T oldItem) {
+        return !itemContentComparator.equalContent(newItem, oldItem);
+    }
+
+    /**
+     * Determines whether an item is not contained in a collection.
+     *
+     * @param items list of items.
+     * @param item item to be checked.
+     * @return true if the item is not contained in the list, false otherwise.
+     */
+    @Override
+    protected boolean notContains(final Collection<T> items, final T item) {
+        return items.stream().noneMatch(otherItem -> itemKeyComparator.compare(item, otherItem) == 0);
+    }
+
+    /**
+     * Determines the index of an item in a list.
+     *
+     * @param items list of items.
+     * @param item item to be checked.
+     * @return index of the item in the list, or -1 if the item is not contained in the list.
+     */
+    @Override
+    protected int indexOf(final List<T> items, final T item) {
+        var i = 0;
+        for (final var otherItem : items) {
+            if (itemKeyComparator.compare(item, otherItem) == 0) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Detects changes between two collections of items sorted by their keys and notifies each change to provided
+     * listener.
+     * Collections are only copied when they might be modified while changes are notified, or when they are not sorted.
+     *
+     * @param newItems new items.
+     * @param oldItems old items.
+     * @param listener listener notified of each found change.
+     * @param immutable true if collections are not modified while changes are notified, false otherwise.
+     */
+    @Override
+    void detectChanges(final Collection<T> newItems, final Collection<T> oldItems,
+                       final CollectionItemChangeListener listener, final boolean immutable) {
+        merge(sorted(newItems, immutable).iterator(), sorted(oldItems, immutable).iterator(), listener);
+    }
+
+    /**
+     * Gets provided items sorted by their keys.
+     *
+     * @param items items to be sorted.
+     * @param immutable true if items are not modified while changes are notified, false otherwise.
+     * @return provided items if they are already sorted and not modified while changes are notified, otherwise a
+     * sorted copy.
+     */
+    private Collection<T> sorted(final Collection<T> items, final boolean immutable) {
+        if (isSorted(items)) {
+            return immutable ? items : new ArrayList<>(items);
+        } else {
+            final var copy = new ArrayList<>(items);
+            copy.sort(itemKeyComparator);
+            return copy;
+        }
+    }
+
+    /**
+     * Determines whether provided items are sorted by their keys.
+     *
+     * @param items items to be checked.
+     * @return true if items are sorted, false otherwise.
+     */
+    private boolean isSorted(final Collection<T> items) {
+        final var iterator = items.iterator();
+        if (iterator.hasNext()) {
+            var previous = iterator.next();
+            while (iterator.hasNext()) {
+                final var item = iterator.next();
+                if (itemKeyComparator.compare(previous, item) > 0) {
+                    return false;
+                }
+                previous = item;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Walks both sorted sequences of items at once and notifies changes in key order.
+     * Items only found on the old sequence are removed, items only found on the new sequence are inserted, and
+     * items found on both sequences are compared to find updates.
+     *
+     * @param newIterator iterator over new items sorted by their keys.
+     * @param oldIterator iterator over old items sorted by their keys.
+     * @param listener listener notified of each found change.
+     */
+    void merge(final Iterator<T> newIterator, final Iterator<T> oldIterator,
+               final CollectionItemChangeListener listener) {
+        var hasNew = newIterator.hasNext();
+        var hasOld = oldIterator.hasNext();
+        var newItem = hasNew ? newIterator.next() : null;
+        var oldItem = hasOld ? oldIterator.next() : null;
+
+        while (hasNew || hasOld) {
+            final var comparison = !hasOld ? -1 : !hasNew ? 1 : itemKeyComparator.compare(newItem, oldItem);
+            if (comparison > 0) {
+                // old item has no new item with the same key
+                listener.onChange(new RemovedCollectionItemChange<>(oldItem));
+            } else if (comparison < 0) {
+                // new item has no old item with the same key
+                listener.onChange(new InsertedCollectionItemChange<>(newItem));
+            } else if (hasContentChanged(newItem, oldItem)) {
+                // item has changed
+                listener.onChange(new UpdatedCollectionItemChange<>(oldItem, newItem));
+            }
+
+            if (comparison >= 0) {
+                hasOld = oldIterator.hasNext();
+                oldItem = hasOld ? oldIterator.next() : null;
+            }
+            if (comparison <= 0) {
+                hasNew = newIterator.hasNext();
+                newItem = hasNew ? newIterator.next() : null;
+            }
+        }
+    }
+}
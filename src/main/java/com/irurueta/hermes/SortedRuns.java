@@ -0,0 +1,389 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts a sequence of items that might not fit in memory, by sorting chunks of items in memory and spilling each
+ * sorted chunk (run) to a temporary file. Runs are then merged while items are read back one by one.
+ * At most a maximum number of runs (fan-in) are merged at once, each one having its own read buffer, so that the number
+ * of open files and the memory used by buffers are bounded regardless of the number of items. When there are more
+ * runs, groups of consecutive runs are first merged into longer runs in intermediate passes.
+ * Sorting is stable, hence items having the same key are returned in order of occurrence.
+ * Temporary files are deleted when runs are closed.
+ *
+ * @param <T> type of items.
+ */
+class SortedRuns<T> implements Closeable {
+
+    /**
+     * Size of the buffer of each run file, expressed in bytes.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Comparator determining the order of items by their keys.
+     */
+    private final Comparator<T> itemKeyComparator;
+
+    /**
+     * Writes items to run files and reads them back.
+     */
+    private final ItemSerializer<T> itemSerializer;
+
+    /**
+     * Directory where run files are created, or null to use the default temporary directory.
+     */
+    private final Path directory;
+
+    /**
+     * Maximum number of items sorted in memory at once.
+     */
+    private final int maxItemsInMemory;
+
+    /**
+     * Maximum number of runs merged at once.
+     */
+    private final int maxMergeFanIn;
+
+    /**
+     * Run files.
+     */
+    private final List<Path> files = new ArrayList<>();
+
+    /**
+     * Number of items contained in each run file.
+     */
+    private final List<Long> counts = new ArrayList<>();
+
+    /**
+     * Readers of run files being merged.
+     */
+    private final List<DataInputStream> inputs = new ArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param itemKeyComparator comparator determining the order of items by their keys.
+     * @param itemSerializer writes items to run files and reads them back.
+     * @param directory directory where run files are created, or null to use the default temporary directory.
+     * @param maxItemsInMemory maximum number of items sorted in memory at once.
+     * @param maxMergeFanIn maximum number of runs merged at once, which must be at least 2.
+     */
+    SortedRuns(final Comparator<T> itemKeyComparator, final ItemSerializer<T> itemSerializer, final Path directory,
+               final int maxItemsInMemory, final int maxMergeFanIn) {
+        this.itemKeyComparator = itemKeyComparator;
+        this.itemSerializer = itemSerializer;
+        this.directory = directory;
+        this.maxItemsInMemory = maxItemsInMemory;
+        this.maxMergeFanIn = maxMergeFanIn;
+    }
+
+    /**
+     * Sorts provided items in chunks of at most the maximum number of items in memory, and writes each sorted chunk
+     * to a run file.
+     *
+     * @param items items to be sorted.
+     * @throws IOException if an I/O error occurs.
+     */
+    void spill(final Iterable<T> items) throws IOException {
+        final var chunk = new ArrayList<T>();
+        for (final var item : items) {
+            chunk.add(item);
+            if (chunk.size() == maxItemsInMemory) {
+                write(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            write(chunk);
+        }
+    }
+
+    /**
+     * Gets the number of run files.
+     *
+     * @return number of run files.
+     */
+    int getRunCount() {
+        return files.size();
+    }
+
+    /**
+     * Gets an iterator merging all runs, which returns every spilled item sorted by key.
+     * When there are more runs than the maximum fan-in, runs are first merged in intermediate passes until at most
+     * the maximum fan-in remain. Items are read from run files one by one, hence only one item of each merged run is
+     * kept in memory.
+     * Notice that I/O errors found while iterating are thrown as {@link UncheckedIOException}.
+     *
+     * @return iterator over sorted items.
+     * @throws IOException if an I/O error occurs.
+     */
+    Iterator<T> iterator() throws IOException {
+        try {
+            while (files.size() > maxMergeFanIn) {
+                mergePass();
+            }
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return merge(files, counts, 0, files.size());
+    }
+
+    /**
+     * Closes run files being read and deletes all run files.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        closeInputs();
+
+        for (final var file : files) {
+            Files.deleteIfExists(file);
+        }
+        files.clear();
+        counts.clear();
+    }
+
+    /**
+     * Merges groups of at most the maximum fan-in consecutive runs into single runs, so that the order of occurrence
+     * of items having the same key is preserved.
+     * Merged run files are deleted as soon as they have been merged.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void mergePass() throws IOException {
+        final var passFiles = new ArrayList<>(files);
+        final var passCounts = new ArrayList<>(counts);
+        final var mergedFiles = new ArrayList<Path>();
+        final var mergedCounts = new ArrayList<Long>();
+
+        for (var from = 0; from < passFiles.size(); from += maxMergeFanIn) {
+            final var to = Math.min(from + maxMergeFanIn, passFiles.size());
+            if (to - from == 1) {
+                mergedFiles.add(passFiles.get(from));
+                mergedCounts.add(passCounts.get(from));
+                continue;
+            }
+
+            // new run is tracked at once, so that it is deleted on close if merging fails
+            final var file = createRunFile();
+            files.add(file);
+            var count = 0L;
+            try (final var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file),
+                    BUFFER_SIZE))) {
+                final var iterator = merge(passFiles, passCounts, from, to);
+                while (iterator.hasNext()) {
+                    itemSerializer.write(iterator.next(), output);
+                    count++;
+                }
+            } finally {
+                closeInputs();
+            }
+
+            for (var i = from; i < to; i++) {
+                Files.deleteIfExists(passFiles.get(i));
+            }
+            mergedFiles.add(file);
+            mergedCounts.add(count);
+        }
+
+        files.clear();
+        files.addAll(mergedFiles);
+        counts.clear();
+        counts.addAll(mergedCounts);
+    }
+
+    /**
+     * Gets an iterator merging a range of runs.
+     *
+     * @param runFiles run files.
+     * @param runCounts number of items contained in each run file.
+     * @param from first run to be merged (inclusive).
+     * @param to last run to be merged (exclusive).
+     * @return iterator over sorted items of merged runs.
+     * @throws IOException if an I/O error occurs.
+     */
+    private Iterator<T> merge(final List<Path> runFiles, final List<Long> runCounts, final int from, final int to)
+            throws IOException {
+        final var cursors = new PriorityQueue<RunCursor>();
+        for (var i = from; i < to; i++) {
+            final var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(runFiles.get(i)),
+                    BUFFER_SIZE));
+            inputs.add(input);
+
+            final var cursor = new RunCursor(i, input, runCounts.get(i));
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !cursors.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                final var cursor = cursors.poll();
+                if (cursor == null) {
+                    throw new NoSuchElementException();
+                }
+
+                final var item = cursor.item;
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+                return item;
+            }
+        };
+    }
+
+    /**
+     * Closes run files being read.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void closeInputs() throws IOException {
+        for (final var input : inputs) {
+            input.close();
+        }
+        inputs.clear();
+    }
+
+    /**
+     * Creates a new empty run file.
+     *
+     * @return created file.
+     * @throws IOException if an I/O error occurs.
+     */
+    private Path createRunFile() throws IOException {
+        return directory != null ? Files.createTempFile(directory, "hermes-run-", ".tmp")
+                : Files.createTempFile("hermes-run-", ".tmp");
+    }
+
+    /**
+     * Sorts provided chunk of items and writes it to a new run file.
+     *
+     * @param chunk chunk of items to be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void write(final List<T> chunk) throws IOException {
+        chunk.sort(itemKeyComparator);
+
+        final var file = createRunFile();
+        files.add(file);
+        counts.add((long) chunk.size());
+
+        try (final var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file),
+                BUFFER_SIZE))) {
+            for (final var item : chunk) {
+                itemSerializer.write(item, output);
+            }
+        }
+    }
+
+    /**
+     * Position on a run file being merged.
+     */
+    private class RunCursor implements Comparable<RunCursor> {
+
+        /**
+         * Position of the run, used to keep the order of occurrence of items having the same key.
+         */
+        private final int run;
+
+        /**
+         * Reader of the run file.
+         */
+        private final DataInputStream input;
+
+        /**
+         * Number of items that remain to be read.
+         */
+        private long remaining;
+
+        /**
+         * Current item.
+         */
+        private T item;
+
+        /**
+         * Constructor.
+         *
+         * @param run position of the run.
+         * @param input reader of the run file.
+         * @param count number of items contained in the run file.
+         */
+        private RunCursor(final int run, final DataInputStream input, final long count) {
+            this.run = run;
+            this.input = input;
+            this.remaining = count;
+        }
+
+        /**
+         * Reads the next item of the run.
+         *
+         * @return true if an item has been read, false if the run is exhausted.
+         */
+        private boolean advance() {
+            if (remaining == 0) {
+                item = null;
+                return false;
+            }
+
+            try {
+                item = itemSerializer.read(input);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            remaining--;
+            return true;
+        }
+
+        /**
+         * Compares the current items of two runs by their keys, and by the position of their runs for equal keys.
+         *
+         * @param other other cursor.
+         * @return a negative value, zero or a positive value if the current item of this run is sorted before, at the
+         * same position or after the current item of the other run.
+         */
+        @Override
+        public int compareTo(final RunCursor other) {
+            final var comparison = itemKeyComparator.compare(item, other.item);
+            return comparison != 0 ? comparison : Integer.compare(run, other.run);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+/**
+ * Contains information about a change found between the children of an item of a tree, or between the roots of the
+ * tree.
+ * The path of the change contains the position of each ancestor of the changed list of items on the new tree, from the
+ * roots down to the parent of the changed list, hence the path of changes between the roots is empty.
+ */
+public class TreeItemChange {
+
+    /**
+     * Position of each ancestor of the changed list of items on the new tree.
+     */
+    private final int[] path;
+
+    /**
+     * Change found on the list of items.
+     */
+    private final ListItemChange change;
+
+    /**
+     * Constructor.
+     *
+     * @param path position of each ancestor of the changed list of items on the new tree. Provided array is copied.
+     * @param change change found on the list of items.
+     * @throws IllegalArgumentException if any of provided parameters is null or if path contains negative positions.
+     */
+    public TreeItemChange(final int[] path, final ListItemChange change) {
+        if (path == null || change == null) {
+            throw new IllegalArgumentException();
+        }
+        for (final var position : path) {
+            if (position < 0) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        this.path = path.clone();
+        this.change = change;
+    }
+
+    /**
+     * Gets the position of each ancestor of the changed list of items on the new tree, from the roots down to the
+     * parent of the changed list.
+     *
+     * @return a copy of the path of the change.
+     */
+    public int[] getPath() {
+        return path.clone();
+    }
+
+    /**
+     * Gets the depth of the changed list of items, which is 0 for changes between the roots of the tree.
+     *
+     * @return depth of the changed list of items.
+     */
+    public int getDepth() {
+        return path.length;
+    }
+
+    /**
+     * Gets the change found on the list of items.
+     *
+     * @return change found on the list of items.
+     */
+    public ListItemChange getChange() {
+        return change;
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Class to detect changes between two trees of items (e.g., documents containing sections, which contain items, which
+ * contain sub-items).
+ * Changes between the roots of both trees are detected using a list detector, and then, for each item kept on both
+ * trees (i.e., not removed by the list detector), changes between its old and new children are detected recursively
+ * using the same list detector.
+ * Each change is notified as a {@link TreeItemChange} containing the path of positions on the new tree of the
+ * ancestors of the changed list of items.
+ * Changes of a list of items are notified before changes of the children of its items, and children of items are
+ * visited in new order, hence when a sequential list detector is used, changes can be applied in order to a copy of
+ * the old tree, by resolving the path of each change on the tree resulting from previous changes.
+ * The list detector should only compare the own content of items (excluding their children), so that updated items
+ * are not notified when only their children have changed. Inserted and removed items are notified with their whole
+ * subtree, hence their children are not visited.
+ * When a subtree fingerprint is provided (e.g., a hash of the content of an item and of its children, which is cached
+ * on the item when the tree is built), items having equal fingerprints on both trees are assumed to have equal
+ * subtrees, and their children are neither accessed nor compared.
+ *
+ * @param <T> type of items.
+ */
+public class TreeItemChangeDetector<T> {
+
+    /**
+     * Detects changes between two lists of items.
+     */
+    private final LevelDetector<T> levelDetector;
+
+    /**
+     * Extracts the key identifying items, so that the children of items contained in both trees can be compared.
+     */
+    private final ItemKeyExtractor<T, ?> itemKeyExtractor;
+
+    /**
+     * Provides the children of items.
+     */
+    private final ItemChildrenAccessor<T> itemChildrenAccessor;
+
+    /**
+     * Provides the fingerprint of the subtree of items, or null if subtrees are always compared.
+     */
+    private final ItemContentFingerprint<T> subtreeFingerprint;
+
+    /**
+     * Constructor.
+     * Subtrees of items contained in both trees are always compared.
+     *
+     * @param listDetector detector of changes between lists of items, whose changes have sequential positions.
+     * @param itemKeyExtractor extracts the key identifying items.
+     * @param itemChildrenAccessor provides the children of items.
+     * @throws IllegalArgumentException if any of provided parameters is null.
+     */
+    public TreeItemChangeDetector(final AbstractSequentialListItemChangeDetector<T> listDetector,
+                                  final ItemKeyExtractor<T, ?> itemKeyExtractor,
+                                  final ItemChildrenAccessor<T> itemChildrenAccessor) {
+        this(listDetector, itemKeyExtractor, itemChildrenAccessor, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param listDetector detector of changes between lists of items, whose changes have sequential positions.
+     * @param itemKeyExtractor extracts the key identifying items.
+     * @param itemChildrenAccessor provides the children of items.
+     * @param subtreeFingerprint provides the fingerprint of the subtree of items, or null if subtrees of items
+     *                           contained in both trees are always compared.
+     * @throws IllegalArgumentException if list detector, key extractor or children accessor is null.
+     */
+    public TreeItemChangeDetector(final AbstractSequentialListItemChangeDetector<T> listDetector,
+                                  final ItemKeyExtractor<T, ?> itemKeyExtractor,
+                                  final ItemChildrenAccessor<T> itemChildrenAccessor,
+                                  final ItemContentFingerprint<T> subtreeFingerprint) {
+        this(listDetector != null ? listDetector::detectChanges : null, itemKeyExtractor, itemChildrenAccessor,
+                subtreeFingerprint);
+    }
+
+    /**
+     * Constructor.
+     * Subtrees of items contained in both trees are always compared.
+     *
+     * @param listDetector detector of changes between lists of items, whose changes refer to positions on the old
+     *                     and new lists.
+     * @param itemKeyExtractor extracts the key identifying items.
+     * @param itemChildrenAccessor provides the children of items.
+     * @throws IllegalArgumentException if any of provided parameters is null.
+     */
+    public TreeItemChangeDetector(final AbstractListItemChangeDetector<T> listDetector,
+                                  final ItemKeyExtractor<T, ?> itemKeyExtractor,
+                                  final ItemChildrenAccessor<T> itemChildrenAccessor) {
+        this(listDetector, itemKeyExtractor, itemChildrenAccessor, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param listDetector detector of changes between lists of items, whose changes refer to positions on the old
+     *                     and new lists.
+     * @param itemKeyExtractor extracts the key identifying items.
+     * @param itemChildrenAccessor provides the children of items.
+     * @param subtreeFingerprint provides the fingerprint of the subtree of items, or null if subtrees of items
+     *                           contained in both trees are always compared.
+     * @throws IllegalArgumentException if list detector, key extractor or children accessor is null.
+     */
+    public TreeItemChangeDetector(final AbstractListItemChangeDetector<T> listDetector,
+                                  final ItemKeyExtractor<T, ?> itemKeyExtractor,
+                                  final ItemChildrenAccessor<T> itemChildrenAccessor,
+                                  final ItemContentFingerprint<T> subtreeFingerprint) {
+        this(listDetector != null ? listDetector::detectChanges : null, itemKeyExtractor, itemChildrenAccessor,
+                subtreeFingerprint);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param levelDetector detects changes between two lists of items.
+     * @param itemKeyExtractor extracts the key identifying items.
+     * @param itemChildrenAccessor provides the children of items.
+     * @param subtreeFingerprint provides the fingerprint of the subtree of items, or null.
+     * @throws IllegalArgumentException if level detector, key extractor or children accessor is null.
+     */
+    private TreeItemChangeDetector(final LevelDetector<T> levelDetector,
+                                   final ItemKeyExtractor<T, ?> itemKeyExtractor,
+                                   final ItemChildrenAccessor<T> itemChildrenAccessor,
+                                   final ItemContentFingerprint<T> subtreeFingerprint) {
+        if (levelDetector == null || itemKeyExtractor == null || itemChildrenAccessor == null) {
+            throw new IllegalArgumentException();
+        }
+
+        this.levelDetector = levelDetector;
+        this.itemKeyExtractor = itemKeyExtractor;
+        this.itemChildrenAccessor = itemChildrenAccessor;
+        this.subtreeFingerprint = subtreeFingerprint;
+    }
+
+    /**
+     * Detects changes between two trees of items.
+     *
+     * @param newRoots roots of the new tree.
+     * @param oldRoots roots of the old tree.
+     * @return a list of found changes, in order.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public List<TreeItemChange> detectChanges(final List<T> newRoots, final List<T> oldRoots) {
+        if (newRoots == null || oldRoots == null) {
+            throw new IllegalArgumentException();
+        }
+
+        final var changes = new ArrayList<TreeItemChange>();
+        detectChanges(newRoots, oldRoots, changes::add);
+        return changes;
+    }
+
+    /**
+     * Detects changes between two trees of items and notifies each change to provided listener as soon as it is
+     * found. Changes are not retained, and they are notified in the same order as they are returned by
+     * {@link #detectChanges(List, List)}.
+     * Children of items are accessed after changes between their parents have been notified, hence trees must not be
+     * modified by the listener.
+     *
+     * @param newRoots roots of the new tree.
+     * @param oldRoots roots of the old tree.
+     * @param listener listener notified of each found change.
+     * @throws IllegalArgumentException if any of the parameters is null.
+     */
+    public void detectChanges(final List<T> newRoots, final List<T> oldRoots, final TreeItemChangeListener listener) {
+        if (newRoots == null || oldRoots == null || listener == null) {
+            throw new IllegalArgumentException();
+        }
+
+        new Visitor(listener).visit(newRoots, oldRoots);
+    }
+
+    /**
+     * Gets the children of an item.
+     *
+     * @param item an item.
+     * @return children of the item, or an empty list if the item has no children.
+     */
+    private List<T> childrenOf(final T item) {
+        final var children = itemChildrenAccessor.getChildren(item);
+        return children != null ? children : Collections.emptyList();
+    }
+
+    /**
+     * Determines whether the subtrees of two items might be different.
+     *
+     * @param newItem new item.
+     * @param oldItem old item.
+     * @return true if subtrees must be compared, false if their fingerprints are equal.
+     */
+    private boolean mightDiffer(final T newItem, final T oldItem) {
+        return subtreeFingerprint == null
+                || subtreeFingerprint.getFingerprint(newItem) != subtreeFingerprint.getFingerprint(oldItem);
+    }
+
+    /**
+     * Detects changes between two lists of items and notifies each change to provided listener.
+     *
+     * @param <T> type of items.
+     */
+    private interface LevelDetector<T> {
+
+        /**
+         * Detects changes between two lists of items.
+         *
+         * @param newItems new items.
+         * @param oldItems old items.
+         * @param listener listener notified of each found change.
+         */
+        void detectChanges(List<T> newItems, List<T> oldItems, ListItemChangeListener listener);
+    }
+
+    /**
+     * Visits both trees depth first, keeping the path of the visited list of items.
+     */
+    private final class Visitor {
+
+        /**
+         * Listener notified of each found change.
+         */
+        private final TreeItemChangeListener listener;
+
+        /**
+         * Positions of the ancestors of the visited list of items on the new tree.
+         */
+        private int[] path = new int[8];
+
+        /**
+         * Depth of the visited list of items.
+         */
+        private int depth;
+
+        /**
+         * Constructor.
+         *
+         * @param listener listener notified of each found change.
+         */
+        private Visitor(final TreeItemChangeListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * Detects changes between two lists of items and between the children of items contained in both lists.
+         *
+         * @param newItems new items.
+         * @param oldItems old items.
+         */
+        @SuppressWarnings("unchecked")
+        private void visit(final List<T> newItems, final List<T> oldItems) {
+            final var currentPath = Arrays.copyOf(path, depth);
+
+            // removed items might be inserted again with their whole subtree (e.g., instead of being moved)
+            final var removedKeys = new HashSet<>();
+            levelDetector.detectChanges(newItems, oldItems, change -> {
+                if (change instanceof RemovedListItemChange<?> removed) {
+                    removedKeys.add(itemKeyExtractor.getKey((T) removed.getOldItem()));
+                } else if (change instanceof RemovedRangeListItemChange<?> removedRange) {
+                    for (final var oldItem : removedRange.getOldItems()) {
+                        removedKeys.add(itemKeyExtractor.getKey((T) oldItem));
+                    }
+                }
+                listener.onChange(new TreeItemChange(currentPath, change));
+            });
+
+            if (newItems.isEmpty() || oldItems.isEmpty()) {
+                return;
+            }
+
+            final var oldByKey = new HashMap<Object, T>(HashItemIndex.capacityFor(oldItems.size()));
+            for (final var oldItem : oldItems) {
+                final var key = itemKeyExtractor.getKey(oldItem);
+                if (!removedKeys.contains(key)) {
+                    oldByKey.putIfAbsent(key, oldItem);
+                }
+            }
+
+            var position = 0;
+            for (final var newItem : newItems) {
+                final var oldItem = oldByKey.get(itemKeyExtractor.getKey(newItem));
+                if (oldItem != null && mightDiffer(newItem, oldItem)) {
+                    push(position);
+                    visit(childrenOf(newItem), childrenOf(oldItem));
+                    depth--;
+                }
+                position++;
+            }
+        }
+
+        /**
+         * Adds a position to the path of the visited list of items.
+         *
+         * @param position position of the item whose children are visited.
+         */
+        private void push(final int position) {
+            if (depth == path.length) {
+                path = Arrays.copyOf(path, 2 * depth);
+            }
+            path[depth++] = position;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+/**
+ * Listener notified of each change between two trees of items as soon as it is detected, so that changes do not need
+ * to be retained (e.g., to forward them to a socket or a queue).
+ */
+public interface TreeItemChangeListener {
+
+    /**
+     * Called when a change has been detected.
+     * Changes are notified in the same order as they are returned when detected changes are collected in a list.
+     *
+     * @param change detected change.
+     */
+    void onChange(TreeItemChange change);
+}
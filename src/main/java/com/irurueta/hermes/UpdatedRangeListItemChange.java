@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class to represent a range of consecutive list items whose content has been updated.
+ *
+ * @param <T> type of items in the list.
+ */
+public class UpdatedRangeListItemChange<T> extends ListItemChange {
+
+    /**
+     * Items before being updated, in order.
+     */
+    private final List<T> oldItems;
+
+    /**
+     * Items after being updated, in order.
+     */
+    private final List<T> newItems;
+
+    /**
+     * Indicates the position of the first updated item.
+     */
+    private final int position;
+
+    /**
+     * Constructor.
+     * Provided lists are not copied, hence they must not be modified afterwards.
+     *
+     * @param oldItems items before being updated, in order.
+     * @param newItems items after being updated, in order.
+     * @param position position of the first updated item.
+     * @throws IllegalArgumentException if any of the lists of items is null or empty, or if both lists have different
+     *                                  sizes.
+     */
+    public UpdatedRangeListItemChange(final List<T> oldItems, final List<T> newItems, final int position) {
+        super(ListItemChangeAction.UPDATED_RANGE);
+        if (oldItems == null || newItems == null || oldItems.isEmpty() || oldItems.size() != newItems.size()) {
+            throw new IllegalArgumentException();
+        }
+
+        this.oldItems = Collections.unmodifiableList(oldItems);
+        this.newItems = Collections.unmodifiableList(newItems);
+        this.position = position;
+    }
+
+    /**
+     * Returns the items before being updated, in order.
+     * @return the items before being updated.
+     */
+    public List<T> getOldItems() {
+        return oldItems;
+    }
+
+    /**
+     * Returns the items after being updated, in order.
+     * @return the items after being updated.
+     */
+    public List<T> getNewItems() {
+        return newItems;
+    }
+
+    /**
+     * Returns the position of the first updated item.
+     * @return the position of the first updated item.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the number of items that have been updated.
+     * @return the number of items that have been updated.
+     */
+    public int getCount() {
+        return oldItems.size();
+    }
+}
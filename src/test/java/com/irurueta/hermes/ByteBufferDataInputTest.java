@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteBufferDataInputTest {
+
+    @Test
+    void read_returnsValuesWrittenByDataOutputStream() throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        final var output = new DataOutputStream(bytes);
+        output.write(new byte[]{1, 2, 3});
+        output.writeBoolean(true);
+        output.writeByte(-2);
+        output.writeByte(200);
+        output.writeShort(-3);
+        output.writeShort(60000);
+        output.writeChar('x');
+        output.writeInt(-4);
+        output.writeLong(-5L);
+        output.writeFloat(6.5f);
+        output.writeDouble(-7.25);
+        output.writeUTF("utf \u0000 \u00e9 \u20ac");
+        output.writeInt(8);
+
+        final var buffer = ByteBuffer.allocateDirect(bytes.size());
+        buffer.put(bytes.toByteArray()).flip();
+        final var input = new ByteBufferDataInput(buffer);
+
+        final var read = new byte[3];
+        input.readFully(read);
+        assertArrayEquals(new byte[]{1, 2, 3}, read);
+        assertTrue(input.readBoolean());
+        assertEquals(-2, input.readByte());
+        assertEquals(200, input.readUnsignedByte());
+        assertEquals(-3, input.readShort());
+        assertEquals(60000, input.readUnsignedShort());
+        assertEquals('x', input.readChar());
+        assertEquals(-4, input.readInt());
+        assertEquals(-5L, input.readLong());
+        assertEquals(6.5f, input.readFloat());
+        assertEquals(-7.25, input.readDouble());
+        assertEquals("utf \u0000 \u00e9 \u20ac", input.readUTF());
+        assertEquals(2, input.skipBytes(2));
+        assertEquals(2, input.skipBytes(10));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void read_whenEndOfBuffer_throwsEOFException() {
+        final var input = new ByteBufferDataInput(ByteBuffer.allocate(3));
+
+        assertThrows(EOFException.class, input::readInt);
+        assertThrows(EOFException.class, () -> input.readFully(new byte[4]));
+    }
+
+    @Test
+    void readLine_returnsLines() {
+        final var input = new ByteBufferDataInput(
+                ByteBuffer.wrap("first\r\nsecond\nthird".getBytes(StandardCharsets.ISO_8859_1)));
+
+        assertEquals("first", input.readLine());
+        assertEquals("second", input.readLine());
+        assertEquals("third", input.readLine());
+        assertNull(input.readLine());
+    }
+
+    @Test
+    void readVarInt_whenMalformed_throwsIOException() {
+        final var input = new ByteBufferDataInput(ByteBuffer.wrap(new byte[]{-1, -1, -1, -1, -1, -1}));
+
+        assertThrows(IOException.class, input::readVarInt);
+    }
+}
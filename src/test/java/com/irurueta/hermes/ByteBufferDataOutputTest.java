@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteBufferDataOutputTest {
+
+    @Test
+    void write_returnsSameBytesAsDataOutputStream() throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        writeAll(new DataOutputStream(bytes));
+
+        final var output = new ByteBufferDataOutput();
+        writeAll(output);
+        final var buffer = output.getBuffer().flip();
+        final var written = new byte[buffer.remaining()];
+        buffer.get(written);
+
+        assertArrayEquals(bytes.toByteArray(), written);
+    }
+
+    @Test
+    void write_whenProvidedBufferIsFull_throwsBufferOverflowException() {
+        final var output = new ByteBufferDataOutput(ByteBuffer.allocate(3));
+
+        output.writeShort(1);
+        assertThrows(BufferOverflowException.class, () -> output.writeInt(1));
+    }
+
+    @Test
+    void writeVarInt_whenSmallValues_writesSingleByte() throws IOException {
+        final var output = new ByteBufferDataOutput();
+        output.writeVarInt(127);
+        assertEquals(1, output.position());
+        output.writeSignedVarInt(-64);
+        assertEquals(2, output.position());
+        output.writeVarInt(128);
+        assertEquals(4, output.position());
+
+        final var values = new int[]{0, 1, -1, 300, -300, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (final var value : values) {
+            output.writeVarInt(value);
+            output.writeSignedVarInt(value);
+        }
+
+        final var input = new ByteBufferDataInput(output.getBuffer().flip());
+        assertEquals(127, input.readVarInt());
+        assertEquals(-64, input.readSignedVarInt());
+        assertEquals(128, input.readVarInt());
+        for (final var value : values) {
+            assertEquals(value, input.readVarInt());
+            assertEquals(value, input.readSignedVarInt());
+        }
+    }
+
+    @Test
+    void writeInt_atPosition_doesNotMovePosition() {
+        final var output = new ByteBufferDataOutput();
+        output.writeInt(0);
+        output.writeInt(0, 42);
+
+        assertEquals(Integer.BYTES, output.position());
+        assertEquals(42, output.getBuffer().getInt(0));
+    }
+
+    private static void writeAll(final DataOutput output) throws IOException {
+        final var large = new byte[1000];
+        Arrays.fill(large, (byte) 7);
+
+        output.write(1);
+        output.write(large);
+        output.write(large, 10, 20);
+        output.writeBoolean(true);
+        output.writeByte(-2);
+        output.writeShort(-3);
+        output.writeChar('x');
+        output.writeInt(-4);
+        output.writeLong(-5L);
+        output.writeFloat(6.5f);
+        output.writeDouble(-7.25);
+        output.writeBytes("bytes");
+        output.writeChars("chars");
+        output.writeUTF("utf \u0000 \u00e9 \u20ac");
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Assertions shared by change detector tests.
+ */
+final class ChangeAssertions {
+
+    private ChangeAssertions() {
+    }
+
+    /**
+     * Asserts that two lists contain equivalent list changes in the same order.
+     */
+    static void assertSameListChanges(final List<ListItemChange> expected, final List<ListItemChange> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (var i = 0; i < expected.size(); i++) {
+            final var expectedChange = expected.get(i);
+            final var change = actual.get(i);
+            assertEquals(expectedChange.getAction(), change.getAction());
+            if (expectedChange instanceof RemovedListItemChange<?> removedChange) {
+                final var other = (RemovedListItemChange<?>) change;
+                assertSame(removedChange.getOldItem(), other.getOldItem());
+                assertEquals(removedChange.getOldPosition(), other.getOldPosition());
+            } else if (expectedChange instanceof InsertedListItemChange<?> insertedChange) {
+                final var other = (InsertedListItemChange<?>) change;
+                assertSame(insertedChange.getNewItem(), other.getNewItem());
+                assertEquals(insertedChange.getNewPosition(), other.getNewPosition());
+            } else if (expectedChange instanceof MovedListItemChange<?> movedChange) {
+                final var other = (MovedListItemChange<?>) change;
+                assertSame(movedChange.getOldItem(), other.getOldItem());
+                assertSame(movedChange.getNewItem(), other.getNewItem());
+                assertEquals(movedChange.getOldPosition(), other.getOldPosition());
+                assertEquals(movedChange.getNewPosition(), other.getNewPosition());
+            } else {
+                final var updatedChange = (UpdatedListItemChange<?>) expectedChange;
+                final var other = (UpdatedListItemChange<?>) change;
+                assertSame(updatedChange.getOldItem(), other.getOldItem());
+                assertSame(updatedChange.getNewItem(), other.getNewItem());
+                assertEquals(updatedChange.getPosition(), other.getPosition());
+            }
+        }
+    }
+
+    /**
+     * Asserts that two collections contain equivalent collection changes in the same order.
+     */
+    static void assertSameCollectionChanges(final Collection<CollectionItemChange> expected,
+                                            final Collection<CollectionItemChange> actual) {
+        assertEquals(expected.size(), actual.size());
+        final var expectedIterator = expected.iterator();
+        final var iterator = actual.iterator();
+        while (expectedIterator.hasNext()) {
+            final var expectedChange = expectedIterator.next();
+            final var change = iterator.next();
+            assertEquals(expectedChange.getAction(), change.getAction());
+            if (expectedChange instanceof RemovedCollectionItemChange<?> removedChange) {
+                assertSame(removedChange.getOldItem(), ((RemovedCollectionItemChange<?>) change).getOldItem());
+            } else if (expectedChange instanceof InsertedCollectionItemChange<?> insertedChange) {
+                assertSame(insertedChange.getNewItem(), ((InsertedCollectionItemChange<?>) change).getNewItem());
+            } else {
+                final var updatedChange = (UpdatedCollectionItemChange<?>) expectedChange;
+                final var other = (UpdatedCollectionItemChange<?>) change;
+                assertSame(updatedChange.getOldItem(), other.getOldItem());
+                assertSame(updatedChange.getNewItem(), other.getNewItem());
+            }
+        }
+    }
+
+    /**
+     * Applies provided changes sequentially to a copy of the old list, and returns the resulting list.
+     * Each change is checked to refer to the item currently found at its position.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> applySequentially(final List<T> oldItems, final List<ListItemChange> changes) {
+        final var result = new ArrayList<>(oldItems);
+        for (final var change : changes) {
+            if (change instanceof RemovedListItemChange<?> removedChange) {
+                assertSame(removedChange.getOldItem(), result.remove(removedChange.getOldPosition()));
+            } else if (change instanceof InsertedListItemChange<?> insertedChange) {
+                result.add(insertedChange.getNewPosition(), (T) insertedChange.getNewItem());
+            } else if (change instanceof MovedListItemChange<?> movedChange) {
+                final var item = result.remove(movedChange.getOldPosition());
+                assertSame(movedChange.getOldItem(), item);
+                result.add(movedChange.getNewPosition(), (T) movedChange.getNewItem());
+            } else {
+                final var updatedChange = (UpdatedListItemChange<?>) change;
+                result.set(updatedChange.getPosition(), (T) updatedChange.getNewItem());
+            }
+        }
+        return result;
+    }
+}
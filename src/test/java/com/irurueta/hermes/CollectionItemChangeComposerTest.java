@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionItemChangeComposerTest {
+
+    private final ItemKeyExtractor<Item, Integer> keyExtractor = Item::id;
+
+    private final ItemContentComparator<Item> contentComparator =
+            (item1, item2) -> Objects.equals(item1.content(), item2.content());
+
+    private final CollectionItemChangeComposer<Item, Integer> composer =
+            new CollectionItemChangeComposer<>(keyExtractor, contentComparator);
+
+    @Test
+    void constructor_whenNullParameters_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CollectionItemChangeComposer<Item, Integer>(null, contentComparator));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CollectionItemChangeComposer<>(keyExtractor, null));
+    }
+
+    @Test
+    void compose_whenNullParameters_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(null, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(List.of(), null));
+    }
+
+    @Test
+    void compose_whenInsertedAndRemoved_returnsEmptyList() {
+        final var item = new Item(1, "item1");
+
+        assertTrue(composer.compose(List.of(new InsertedCollectionItemChange<>(item)),
+                List.of(new RemovedCollectionItemChange<>(item))).isEmpty());
+    }
+
+    @Test
+    void compose_whenInsertedAndUpdated_returnsInsertOfUpdatedItem() {
+        final var item = new Item(1, "item1");
+        final var changed = new Item(1, "changed1");
+
+        final var changes = composer.compose(List.of(new InsertedCollectionItemChange<>(item)),
+                List.of(new UpdatedCollectionItemChange<>(item, changed)));
+
+        assertEquals(1, changes.size());
+        assertSame(changed, assertInstanceOf(InsertedCollectionItemChange.class, changes.get(0)).getNewItem());
+    }
+
+    @Test
+    void compose_whenRemovedAndInserted_returnsUpdateUnlessContentIsEqual() {
+        final var item = new Item(1, "item1");
+        final var changed = new Item(1, "changed1");
+
+        final var changes = composer.compose(List.of(new RemovedCollectionItemChange<>(item)),
+                List.of(new InsertedCollectionItemChange<>(changed)));
+        assertEquals(1, changes.size());
+        final var updated = assertInstanceOf(UpdatedCollectionItemChange.class, changes.get(0));
+        assertSame(item, updated.getOldItem());
+        assertSame(changed, updated.getNewItem());
+
+        assertTrue(composer.compose(List.of(new RemovedCollectionItemChange<>(item)),
+                List.of(new InsertedCollectionItemChange<>(new Item(1, "item1")))).isEmpty());
+    }
+
+    @Test
+    void compose_whenUpdatedTwice_returnsSingleUpdateUnlessContentIsEqual() {
+        final var item = new Item(1, "item1");
+        final var changed = new Item(1, "changed1");
+        final var changedAgain = new Item(1, "changed2");
+
+        final var changes = composer.compose(List.of(new UpdatedCollectionItemChange<>(item, changed)),
+                List.of(new UpdatedCollectionItemChange<>(changed, changedAgain)));
+        assertEquals(1, changes.size());
+        final var updated = assertInstanceOf(UpdatedCollectionItemChange.class, changes.get(0));
+        assertSame(item, updated.getOldItem());
+        assertSame(changedAgain, updated.getNewItem());
+
+        assertTrue(composer.compose(List.of(new UpdatedCollectionItemChange<>(item, changed)),
+                List.of(new UpdatedCollectionItemChange<>(changed, new Item(1, "item1")))).isEmpty());
+    }
+
+    @Test
+    void compose_whenUpdatedAndRemoved_returnsRemoveOfOldItem() {
+        final var item = new Item(1, "item1");
+        final var changed = new Item(1, "changed1");
+
+        final var changes = composer.compose(List.of(new UpdatedCollectionItemChange<>(item, changed)),
+                List.of(new RemovedCollectionItemChange<>(changed)));
+
+        assertEquals(1, changes.size());
+        assertSame(item, assertInstanceOf(RemovedCollectionItemChange.class, changes.get(0)).getOldItem());
+    }
+
+    @Test
+    void compose_whenInconsistentChanges_throwsIllegalArgumentException() {
+        final var item = new Item(1, "item1");
+        final var inserted = List.<CollectionItemChange>of(new InsertedCollectionItemChange<>(item));
+        final var removed = List.<CollectionItemChange>of(new RemovedCollectionItemChange<>(item));
+        final var updated = List.<CollectionItemChange>of(new UpdatedCollectionItemChange<>(item, item));
+
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(inserted, inserted));
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(removed, removed));
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(removed, updated));
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(updated, inserted));
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(List.of(), List.of(
+                new InsertedCollectionItemChange<>(item), new RemovedCollectionItemChange<>(item))));
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(List.of(
+                new CollectionItemChange(CollectionItemChangeAction.INSERTED)), List.of()));
+    }
+
+    @Test
+    void compose_whenDetectedChanges_returnsChangesTransformingFirstIntoLastCollection() {
+        final var detector = new CollectionItemChangeDetector<>(keyExtractor, contentComparator);
+        final var random = new Random(0L);
+        for (var t = 0; t < 20; t++) {
+            final var items1 = randomItems(random);
+            final var items2 = randomItems(random);
+            final var items3 = randomItems(random);
+
+            final var changes = composer.compose(detector.detectChanges(items2, items1),
+                    detector.detectChanges(items3, items2));
+
+            assertEquals(asMap(items3), apply(asMap(items1), changes));
+        }
+    }
+
+    private static HashMap<Integer, Item> apply(final HashMap<Integer, Item> items,
+                                                final Collection<CollectionItemChange> changes) {
+        for (final var change : changes) {
+            if (change instanceof InsertedCollectionItemChange<?> inserted) {
+                final var item = (Item) inserted.getNewItem();
+                assertNull(items.put(item.id(), item));
+            } else if (change instanceof RemovedCollectionItemChange<?> removed) {
+                final var item = (Item) removed.getOldItem();
+                assertEquals(item, items.remove(item.id()));
+            } else {
+                final var updated = (UpdatedCollectionItemChange<?>) change;
+                final var item = (Item) updated.getNewItem();
+                assertEquals(updated.getOldItem(), items.put(item.id(), item));
+            }
+        }
+        return items;
+    }
+
+    private static HashMap<Integer, Item> asMap(final Collection<Item> items) {
+        final var result = new HashMap<Integer, Item>();
+        for (final var item : items) {
+            result.put(item.id(), item);
+        }
+        return result;
+    }
+
+    private static List<Item> randomItems(final Random random) {
+        final var ids = new HashSet<Integer>();
+        final var result = new ArrayList<Item>();
+        for (var i = 0; i < 200; i++) {
+            if (random.nextInt(3) != 0 && ids.add(i)) {
+                result.add(new Item(i, random.nextInt(5) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        return result;
+    }
+
+    private record Item(int id, String content) {
+    }
+}
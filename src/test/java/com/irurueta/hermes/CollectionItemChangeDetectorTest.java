@@ -20,8 +20,11 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -31,6 +34,10 @@ class CollectionItemChangeDetectorTest {
             (item1, item2) -> item1.id() == item2.id(),
             (item1, item2) -> Objects.equals(item1.content(), item2.content()));
 
+    private final CollectionItemChangeDetector<Item> keyedDetector = new CollectionItemChangeDetector<>(
+            (ItemKeyExtractor<Item, Integer>) Item::id,
+            (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
     @Test
     void constructor_whenNullComparator_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> new CollectionItemChangeDetector<Item>(null,
@@ -43,6 +50,19 @@ class CollectionItemChangeDetectorTest {
                 (item1, item2) -> item1.id() == item2.id(), null));
     }
 
+    @Test
+    void constructor_whenNullKeyExtractor_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CollectionItemChangeDetector<Item>(
+                (ItemKeyExtractor<Item, Integer>) null,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content())));
+    }
+
+    @Test
+    void constructor_whenKeyExtractorAndNullContentComparator_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CollectionItemChangeDetector<Item>(
+                (ItemKeyExtractor<Item, Integer>) Item::id, null));
+    }
+
     @Test
     void detectChange_whenNullNewItems_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(null,
@@ -293,6 +313,245 @@ class CollectionItemChangeDetectorTest {
         assertSame(item2b, updatedChange.getNewItem());
     }
 
+    @Test
+    void detectChanges_whenKeyedAndEmpty_returnsEmpty() {
+        final var changes = keyedDetector.detectChanges(Collections.emptyList(), Collections.emptyList());
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void detectChanges_whenKeyedAndReversed_returnsEmpty() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item3 = new Item(3, "item3");
+        final var oldList = List.of(item1, item2, item3);
+        final var newList = List.of(item3, item2, item1);
+
+        final var changes = keyedDetector.detectChanges(newList, oldList);
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void detectChanges_whenKeyedAndMultipleActions_returnsExpectedResult() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var item4 = new Item(4, "item4");
+        final var item5 = new Item(5, "item5");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item3, item2b, item1, item5);
+
+        final var changes = new ArrayList<>(keyedDetector.detectChanges(newList, oldList));
+
+        assertEquals(3, changes.size());
+
+        final var change1 = changes.get(0);
+        assertEquals(CollectionItemChangeAction.REMOVED, change1.getAction());
+        final var removedChange = assertInstanceOf(RemovedCollectionItemChange.class, change1);
+        assertSame(item4, removedChange.getOldItem());
+
+        final var change2 = changes.get(1);
+        assertEquals(CollectionItemChangeAction.INSERTED, change2.getAction());
+        final var insertedChange = assertInstanceOf(InsertedCollectionItemChange.class, change2);
+        assertSame(item5, insertedChange.getNewItem());
+
+        final var change3 = changes.get(2);
+        assertEquals(CollectionItemChangeAction.UPDATED, change3.getAction());
+        final var updatedChange = assertInstanceOf(UpdatedCollectionItemChange.class, change3);
+        assertSame(item2, updatedChange.getOldItem());
+        assertSame(item2b, updatedChange.getNewItem());
+    }
+
+    @Test
+    void detectChanges_whenKeyedAndRandomLists_returnsSameResultAsLinearSearch() {
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            if (random.nextInt(10) != 0) {
+                oldList.add(new Item(i, "item" + i));
+            }
+            if (random.nextInt(10) != 0) {
+                newList.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        Collections.shuffle(newList, random);
+
+        ChangeAssertions.assertSameCollectionChanges(detector.detectChanges(newList, oldList),
+                keyedDetector.detectChanges(newList, oldList));
+    }
+
+    @Test
+    void detectChanges_whenParallelAndNullPool_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(Collections.emptyList(),
+                Collections.emptyList(), (ForkJoinPool) null));
+    }
+
+    @Test
+    void detectChanges_whenParallelAndNegativeThreshold_throwsIllegalArgumentException() {
+        final var pool = ForkJoinPool.commonPool();
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(Collections.emptyList(),
+                Collections.emptyList(), pool, -1));
+    }
+
+    @Test
+    void detectChanges_whenParallelAndNullItems_throwsIllegalArgumentException() {
+        final var pool = ForkJoinPool.commonPool();
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(null,
+                Collections.emptyList(), pool, 0));
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(Collections.emptyList(),
+                null, pool, 0));
+    }
+
+    @Test
+    void detectChanges_whenParallelAndEmpty_returnsEmpty() {
+        final var changes = detector.detectChanges(Collections.emptyList(), Collections.emptyList(),
+                ForkJoinPool.commonPool(), 0);
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void detectChanges_whenParallelAndBelowThreshold_returnsSameResultAsSequential() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var oldList = List.of(item1, item2);
+        final var newList = List.of(item2b, item3);
+
+        ChangeAssertions.assertSameCollectionChanges(detector.detectChanges(newList, oldList),
+                detector.detectChanges(newList, oldList, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void detectChanges_whenParallelAndRandomLists_returnsSameResultAsSequential() {
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            if (random.nextInt(10) != 0) {
+                oldList.add(new Item(i, "item" + i));
+            }
+            if (random.nextInt(10) != 0) {
+                newList.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        // repeated items not contained in old items
+        newList.add(new Item(1000, "item1000"));
+        newList.add(new Item(1000, "changed1000"));
+        Collections.shuffle(newList, random);
+
+        final var pool = new ForkJoinPool(4);
+        try {
+            ChangeAssertions.assertSameCollectionChanges(detector.detectChanges(newList, oldList),
+                    detector.detectChanges(newList, oldList, pool, 0));
+            ChangeAssertions.assertSameCollectionChanges(keyedDetector.detectChanges(newList, oldList),
+                    keyedDetector.detectChanges(newList, oldList, pool, 0));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void detectChanges_whenNullListener_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(Collections.emptyList(),
+                Collections.emptyList(), (CollectionItemChangeListener) null));
+    }
+
+    @Test
+    void detectChanges_whenListener_notifiesChangesInOrder() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var item4 = new Item(4, "item4");
+        final var oldList = List.of(item1, item2, item3);
+        final var newList = List.of(item3, item2b, item4);
+
+        final var changes = new ArrayList<CollectionItemChange>();
+        detector.detectChanges(newList, oldList, changes::add);
+        final var keyedChanges = new ArrayList<CollectionItemChange>();
+        keyedDetector.detectChanges(newList, oldList, keyedChanges::add);
+
+        assertEquals(3, changes.size());
+        assertEquals(CollectionItemChangeAction.REMOVED, changes.get(0).getAction());
+        assertEquals(CollectionItemChangeAction.INSERTED, changes.get(1).getAction());
+        assertEquals(CollectionItemChangeAction.UPDATED, changes.get(2).getAction());
+        ChangeAssertions.assertSameCollectionChanges(detector.detectChanges(newList, oldList), changes);
+        ChangeAssertions.assertSameCollectionChanges(changes, keyedChanges);
+    }
+
+    @Test
+    void isImmutableInputs_whenSet_returnsExpectedValue() {
+        assertFalse(detector.isImmutableInputs());
+
+        detector.setImmutableInputs(true);
+
+        assertTrue(detector.isImmutableInputs());
+    }
+
+    @Test
+    void detectChanges_whenListenerModifiesOldItems_notifiesSameChangesAsReturned() {
+        final var oldList = new ArrayList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        final var expected = detector.detectChanges(newList, oldList);
+
+        final var changes = new ArrayList<CollectionItemChange>();
+        detector.detectChanges(newList, oldList, change -> {
+            oldList.clear();
+            changes.add(change);
+        });
+
+        ChangeAssertions.assertSameCollectionChanges(expected, changes);
+    }
+
+    @Test
+    void detectChanges_whenImmutableInputs_notifiesSameChangesAsReturned() {
+        final var oldList = new LinkedList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        detector.setImmutableInputs(true);
+
+        final var changes = new ArrayList<CollectionItemChange>();
+        detector.detectChanges(newList, oldList, changes::add);
+
+        ChangeAssertions.assertSameCollectionChanges(detector.detectChanges(newList, oldList), changes);
+    }
+
+    @Test
+    void detectChanges_whenKeyedAndListenerModifiesOldItems_notifiesSameChangesAsReturned() {
+        final var oldList = new ArrayList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        final var expected = keyedDetector.detectChanges(newList, oldList);
+
+        final var changes = new ArrayList<CollectionItemChange>();
+        keyedDetector.detectChanges(newList, oldList, change -> {
+            oldList.clear();
+            changes.add(change);
+        });
+
+        ChangeAssertions.assertSameCollectionChanges(expected, changes);
+    }
+
+    @Test
+    void detectChanges_whenKeyedAndImmutableInputs_notifiesSameChangesAsReturned() {
+        final var oldList = new LinkedList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        keyedDetector.setImmutableInputs(true);
+
+        final var changes = new ArrayList<CollectionItemChange>();
+        keyedDetector.detectChanges(newList, oldList, changes::add);
+
+        ChangeAssertions.assertSameCollectionChanges(keyedDetector.detectChanges(newList, oldList), changes);
+    }
+
     private record Item(int id, String content) {
     }
 }
\ No newline at end of file
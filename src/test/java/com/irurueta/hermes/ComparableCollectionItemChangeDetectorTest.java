@@ -20,8 +20,13 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -280,6 +285,144 @@ class ComparableCollectionItemChangeDetectorTest {
         assertSame(item2b, updatedChange.getNewItem());
     }
 
+    @Test
+    void detectChanges_whenParallelAndRandomLists_returnsSameResultAsSequential() {
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 500; i++) {
+            if (random.nextInt(10) != 0) {
+                oldList.add(new Item(i, "item" + i));
+            }
+            if (random.nextInt(10) != 0) {
+                newList.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        Collections.shuffle(newList, random);
+
+        final var pool = new ForkJoinPool(4);
+        try {
+            ChangeAssertions.assertSameCollectionChanges(detector.detectChanges(newList, oldList),
+                    detector.detectChanges(newList, oldList, pool, 0));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void constructor_whenNullFingerprint_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ComparableCollectionItemChangeDetector<Item>(null, false));
+    }
+
+    @Test
+    void detectChanges_whenFingerprint_returnsExpectedUpdates() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var oldList = List.of(item1, item2);
+        final var newList = List.of(item1, item2b);
+
+        final var fingerprintDetector = new ComparableCollectionItemChangeDetector<Item>(item -> item.content().hashCode(), false);
+        // every item has the same fingerprint
+        final var collidingDetector = new ComparableCollectionItemChangeDetector<Item>(item -> 0L, false);
+        final var verifyingDetector = new ComparableCollectionItemChangeDetector<Item>(item -> 0L, true);
+
+        final var changes = new ArrayList<>(fingerprintDetector.detectChanges(newList, oldList));
+        assertEquals(1, changes.size());
+        assertEquals(CollectionItemChangeAction.UPDATED, changes.get(0).getAction());
+        assertTrue(collidingDetector.detectChanges(newList, oldList).isEmpty());
+        assertEquals(1, verifyingDetector.detectChanges(newList, oldList).size());
+    }
+
+    @Test
+    void detectChanges_whenSetsOfItemsWithoutConsistentHashCode_pairsItemsByEquals() {
+        // record hash codes include content, whereas items are equal when their ids are equal
+        final var oldSet = new LinkedHashSet<>(List.of(new Item(1, "item1"), new Item(2, "item2")));
+        final var newSet = new LinkedHashSet<>(List.of(new Item(2, "item2b"), new Item(3, "item3")));
+
+        final var changes = new ArrayList<>(detector.detectChanges(newSet, oldSet));
+
+        assertEquals(3, changes.size());
+        assertEquals(CollectionItemChangeAction.REMOVED, changes.get(0).getAction());
+        assertEquals(CollectionItemChangeAction.INSERTED, changes.get(1).getAction());
+        assertEquals(CollectionItemChangeAction.UPDATED, changes.get(2).getAction());
+    }
+
+    @Test
+    void detectSetChanges_whenNullParameters_throwsIllegalArgumentException() {
+        final var setDetector = new ComparableCollectionItemChangeDetector<HashedItem>();
+        final var set = Set.<HashedItem>of();
+
+        assertThrows(IllegalArgumentException.class, () -> setDetector.detectSetChanges(null, set));
+        assertThrows(IllegalArgumentException.class, () -> setDetector.detectSetChanges(set, null));
+        assertThrows(IllegalArgumentException.class, () -> setDetector.detectSetChanges(null, set, change -> {
+        }));
+        assertThrows(IllegalArgumentException.class, () -> setDetector.detectSetChanges(set, null, change -> {
+        }));
+        assertThrows(IllegalArgumentException.class, () -> setDetector.detectSetChanges(set, set, null));
+    }
+
+    @Test
+    void detectSetChanges_returnsRemovesInsertsAndUpdates() {
+        final var setDetector = new ComparableCollectionItemChangeDetector<HashedItem>();
+        final var item1 = new HashedItem(1, "item1");
+        final var item2 = new HashedItem(2, "item2");
+        final var item2b = new HashedItem(2, "item2b");
+        final var item3 = new HashedItem(3, "item3");
+        final var oldSet = new LinkedHashSet<>(List.of(item1, item2));
+        final var newSet = new LinkedHashSet<>(List.of(item2b, item3));
+
+        final var changes = new ArrayList<>(setDetector.detectSetChanges(newSet, oldSet));
+
+        assertEquals(3, changes.size());
+        assertSame(item1, assertInstanceOf(RemovedCollectionItemChange.class, changes.get(0)).getOldItem());
+        assertSame(item3, assertInstanceOf(InsertedCollectionItemChange.class, changes.get(1)).getNewItem());
+        final var updated = assertInstanceOf(UpdatedCollectionItemChange.class, changes.get(2));
+        assertSame(item2, updated.getOldItem());
+        assertSame(item2b, updated.getNewItem());
+    }
+
+    @Test
+    void detectSetChanges_whenRandomSets_returnsSameResultAsLists() {
+        final var setDetector = new ComparableCollectionItemChangeDetector<HashedItem>();
+        final var random = new Random(0L);
+        for (var t = 0; t < 20; t++) {
+            final var oldSet = new LinkedHashSet<HashedItem>();
+            final var newSet = new LinkedHashSet<HashedItem>();
+            for (var i = 0; i < 300; i++) {
+                if (random.nextInt(5) != 0) {
+                    oldSet.add(new HashedItem(i, "item" + i));
+                }
+                if (random.nextInt(5) != 0) {
+                    newSet.add(new HashedItem(i, random.nextInt(5) != 0 ? "item" + i : "changed" + i));
+                }
+            }
+
+            final var expected = setDetector.detectChanges(new ArrayList<>(newSet), new ArrayList<>(oldSet));
+
+            ChangeAssertions.assertSameCollectionChanges(expected, setDetector.detectSetChanges(newSet, oldSet));
+        }
+    }
+
+    @Test
+    void detectSetChanges_whenListenerModifiesSets_notifiesChangesOfOriginalSets() {
+        final var setDetector = new ComparableCollectionItemChangeDetector<HashedItem>();
+        final var oldSet = new HashSet<>(List.of(new HashedItem(1, "item1"), new HashedItem(2, "item2")));
+        final var newSet = new HashSet<>(List.of(new HashedItem(2, "item2b"), new HashedItem(3, "item3")));
+        final var changes = new ArrayList<CollectionItemChange>();
+
+        setDetector.detectSetChanges(newSet, oldSet, change -> {
+            changes.add(change);
+            oldSet.clear();
+            newSet.clear();
+        });
+
+        assertEquals(3, changes.size());
+        assertEquals(CollectionItemChangeAction.REMOVED, changes.get(0).getAction());
+        assertEquals(CollectionItemChangeAction.INSERTED, changes.get(1).getAction());
+        assertEquals(CollectionItemChangeAction.UPDATED, changes.get(2).getAction());
+    }
+
     private record Item(int id, String content) implements ComparableItem<Item> {
 
         @Override
@@ -297,4 +440,27 @@ class ComparableCollectionItemChangeDetectorTest {
             return Objects.equals(content, item.content);
         }
     }
+
+    private record HashedItem(int id, String content) implements ComparableItem<HashedItem> {
+
+        @Override
+        public boolean equals(final Object other) {
+            if (other == null || getClass() != other.getClass()) {
+                return false;
+            }
+
+            final var item = (HashedItem) other;
+            return id == item.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(id);
+        }
+
+        @Override
+        public boolean equalContent(final HashedItem item) {
+            return Objects.equals(content, item.content);
+        }
+    }
 }
\ No newline at end of file
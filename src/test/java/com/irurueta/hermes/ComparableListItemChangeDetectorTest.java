@@ -374,6 +374,109 @@ class ComparableListItemChangeDetectorTest {
         assertEquals(1, updatedChange.getPosition());
     }
 
+    @Test
+    void constructor_whenNullFingerprint_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ComparableListItemChangeDetector<Item>(null, false));
+    }
+
+    @Test
+    void detectChanges_whenFingerprint_returnsExpectedUpdates() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var oldList = List.of(item1, item2);
+        final var newList = List.of(item1, item2b);
+
+        final var fingerprintDetector = new ComparableListItemChangeDetector<Item>(item -> item.content().hashCode(), false);
+        // every item has the same fingerprint
+        final var collidingDetector = new ComparableListItemChangeDetector<Item>(item -> 0L, false);
+        final var verifyingDetector = new ComparableListItemChangeDetector<Item>(item -> 0L, true);
+
+        final var changes = fingerprintDetector.detectChanges(newList, oldList);
+        assertEquals(1, changes.size());
+        assertEquals(ListItemChangeAction.UPDATED, changes.get(0).getAction());
+        assertTrue(collidingDetector.detectChanges(newList, oldList).isEmpty());
+        assertEquals(1, verifyingDetector.detectChanges(newList, oldList).size());
+    }
+
+    @Test
+    void constructor_whenNullAlgorithm_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ComparableListItemChangeDetector<Item>(
+                (ListItemChangeAlgorithm) null));
+        assertThrows(IllegalArgumentException.class, () -> new ComparableListItemChangeDetector<Item>(null,
+                item -> 0L, false));
+    }
+
+    @Test
+    void createIndex_whenHeckelOrMultiset_indexesItemsByThemselves() {
+        final var items = List.of(new Item(1, "item1"), new Item(2, "item2"));
+
+        assertNull(detector.createIndex(items));
+        assertInstanceOf(HashItemIndex.class, new ComparableListItemChangeDetector<Item>(
+                ListItemChangeAlgorithm.HECKEL).createIndex(items));
+        assertInstanceOf(HashItemIndex.class, new ComparableListItemChangeDetector<Item>(
+                ListItemChangeAlgorithm.MULTISET).createIndex(items));
+    }
+
+    @Test
+    void detectChanges_whenHeckel_returnsExpectedResult() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var oldList = List.of(item1, item2);
+        final var newList = List.of(item3, item1, item2b);
+
+        final var heckelDetector = new ComparableListItemChangeDetector<Item>(ListItemChangeAlgorithm.HECKEL);
+        final var fingerprintDetector = new ComparableListItemChangeDetector<Item>(ListItemChangeAlgorithm.HECKEL,
+                item -> item.content().hashCode(), false);
+
+        assertEquals(ListItemChangeAlgorithm.DEFAULT, detector.getAlgorithm());
+        assertEquals(ListItemChangeAlgorithm.HECKEL, heckelDetector.getAlgorithm());
+        assertEquals(ListItemChangeAlgorithm.HECKEL, fingerprintDetector.getAlgorithm());
+
+        final var changes = heckelDetector.detectChanges(newList, oldList);
+
+        assertEquals(2, changes.size());
+
+        final var insertedChange = assertInstanceOf(InsertedListItemChange.class, changes.get(0));
+        assertSame(item3, insertedChange.getNewItem());
+        assertEquals(0, insertedChange.getNewPosition());
+
+        final var updatedChange = assertInstanceOf(UpdatedListItemChange.class, changes.get(1));
+        assertSame(item2, updatedChange.getOldItem());
+        assertSame(item2b, updatedChange.getNewItem());
+        assertEquals(2, updatedChange.getPosition());
+
+        ChangeAssertions.assertSameListChanges(changes, fingerprintDetector.detectChanges(newList, oldList));
+    }
+
+    @Test
+    void detectChanges_whenMultisetAndDuplicates_pairsOccurrencesInOrder() {
+        final var item1a = new Item(1, "item1a");
+        final var item1b = new Item(1, "item1b");
+        final var item2 = new Item(2, "item2");
+        final var oldList = List.of(item1a, item2, item1b);
+        final var newList = List.of(item1a, item2);
+
+        final var multisetDetector = new ComparableListItemChangeDetector<Item>(ListItemChangeAlgorithm.MULTISET);
+
+        final var changes = multisetDetector.detectChanges(newList, oldList);
+
+        assertEquals(1, changes.size());
+
+        final var removedChange = assertInstanceOf(RemovedListItemChange.class, changes.get(0));
+        assertSame(item1b, removedChange.getOldItem());
+        assertEquals(2, removedChange.getOldPosition());
+
+        final var scanDetector = new ListItemChangeDetector<Item>((item1, item2b) -> item1.id() == item2b.id(),
+                (item1, item2b) -> Objects.equals(item1.content(), item2b.content()),
+                ListItemChangeAlgorithm.MULTISET);
+        final var reversed = List.of(item1b, item2, item1a, item1a);
+        ChangeAssertions.assertSameListChanges(scanDetector.detectChanges(reversed, oldList),
+                multisetDetector.detectChanges(reversed, oldList));
+    }
+
     private record Item(int id, String content) implements ComparableItem<Item> {
 
         @Override
@@ -386,6 +489,11 @@ class ComparableListItemChangeDetectorTest {
             return id == item.id;
         }
 
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(id);
+        }
+
         @Override
         public boolean equalContent(final Item item) {
             return Objects.equals(content, item.content);
@@ -29,6 +29,21 @@ class ComparableSequentialListItemChangeDetectorTest {
     private final ComparableSequentialListItemChangeDetector<Item> detector =
             new ComparableSequentialListItemChangeDetector<>();
 
+    private final ComparableSequentialListItemChangeDetector<Item> minimalMovesDetector =
+            new ComparableSequentialListItemChangeDetector<>(SequentialListItemChangeAlgorithm.MINIMAL_MOVES);
+
+    @Test
+    void constructor_whenNullAlgorithm_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ComparableSequentialListItemChangeDetector<Item>(
+                null));
+    }
+
+    @Test
+    void getAlgorithm_returnsExpectedValue() {
+        assertEquals(SequentialListItemChangeAlgorithm.DEFAULT, detector.getAlgorithm());
+        assertEquals(SequentialListItemChangeAlgorithm.MINIMAL_MOVES, minimalMovesDetector.getAlgorithm());
+    }
+
     @Test
     void detectChange_whenNullNewItems_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(null,
@@ -333,6 +348,111 @@ class ComparableSequentialListItemChangeDetectorTest {
         assertEquals(1, updatedChange.getPosition());
     }
 
+    @Test
+    void detectChanges_whenMinimalMovesAndRotated_returnsSingleMove() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item3 = new Item(3, "item3");
+        final var item4 = new Item(4, "item4");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item4, item1, item2, item3);
+
+        final var changes = minimalMovesDetector.detectChanges(newList, oldList);
+
+        assertEquals(1, changes.size());
+        final var change = changes.get(0);
+        assertEquals(ListItemChangeAction.MOVED, change.getAction());
+        final var movedChange = assertInstanceOf(MovedListItemChange.class, change);
+        assertSame(item4, movedChange.getOldItem());
+        assertSame(item4, movedChange.getNewItem());
+        assertEquals(3, movedChange.getOldPosition());
+        assertEquals(0, movedChange.getNewPosition());
+    }
+
+    @Test
+    void detectChanges_whenMinimalMovesAndMultipleActions_returnsChangesResultingInNewList() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var item4 = new Item(4, "item4");
+        final var item5 = new Item(5, "item5");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item3, item2b, item1, item5);
+
+        final var changes = minimalMovesDetector.detectChanges(newList, oldList);
+
+        assertEquals(5, changes.size());
+        final var result = ChangeAssertions.applySequentially(oldList, changes);
+        assertEquals(newList.size(), result.size());
+        for (var i = 0; i < newList.size(); i++) {
+            assertSame(newList.get(i), result.get(i));
+        }
+    }
+
+    @Test
+    void detectChanges_whenMyersAndMultipleActions_returnsChangesResultingInNewList() {
+        final var myersDetector = new ComparableSequentialListItemChangeDetector<Item>(
+                SequentialListItemChangeAlgorithm.MYERS);
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var item4 = new Item(4, "item4");
+        final var item5 = new Item(5, "item5");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item3, item2b, item1, item5);
+
+        final var changes = myersDetector.detectChanges(newList, oldList);
+
+        assertTrue(changes.stream().noneMatch(change -> change.getAction() == ListItemChangeAction.MOVED));
+        final var result = ChangeAssertions.applySequentially(oldList, changes);
+        assertEquals(newList.size(), result.size());
+        for (var i = 0; i < newList.size(); i++) {
+            assertSame(newList.get(i), result.get(i));
+        }
+    }
+
+    @Test
+    void constructor_whenNullFingerprint_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ComparableSequentialListItemChangeDetector<Item>(null, false));
+    }
+
+    @Test
+    void detectChanges_whenFingerprint_returnsExpectedUpdates() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var oldList = List.of(item1, item2);
+        final var newList = List.of(item1, item2b);
+
+        final var fingerprintDetector = new ComparableSequentialListItemChangeDetector<Item>(item -> item.content().hashCode(), false);
+        // every item has the same fingerprint
+        final var collidingDetector = new ComparableSequentialListItemChangeDetector<Item>(item -> 0L, false);
+        final var verifyingDetector = new ComparableSequentialListItemChangeDetector<Item>(item -> 0L, true);
+
+        final var changes = fingerprintDetector.detectChanges(newList, oldList);
+        assertEquals(1, changes.size());
+        assertEquals(ListItemChangeAction.UPDATED, changes.get(0).getAction());
+        assertTrue(collidingDetector.detectChanges(newList, oldList).isEmpty());
+        assertEquals(1, verifyingDetector.detectChanges(newList, oldList).size());
+    }
+
+    @Test
+    void constructor_whenFingerprintAndNullAlgorithm_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ComparableSequentialListItemChangeDetector<Item>(
+                null, item -> 0L, false));
+    }
+
+    @Test
+    void getAlgorithm_whenFingerprint_returnsExpectedValue() {
+        assertEquals(SequentialListItemChangeAlgorithm.DEFAULT,
+                new ComparableSequentialListItemChangeDetector<Item>(item -> 0L, false).getAlgorithm());
+        assertEquals(SequentialListItemChangeAlgorithm.MYERS,
+                new ComparableSequentialListItemChangeDetector<Item>(SequentialListItemChangeAlgorithm.MYERS,
+                        item -> 0L, false).getAlgorithm());
+    }
+
     private record Item(int id, String content) implements ComparableItem<Item> {
 
         @Override
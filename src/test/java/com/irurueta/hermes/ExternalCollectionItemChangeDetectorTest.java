@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExternalCollectionItemChangeDetectorTest {
+
+    private static final ItemSerializer<Item> SERIALIZER = new ItemSerializer<>() {
+        @Override
+        public void write(final Item item, final DataOutput output) throws IOException {
+            output.writeInt(item.id());
+            output.writeUTF(item.content());
+        }
+
+        @Override
+        public Item read(final DataInput input) throws IOException {
+            return new Item(input.readInt(), input.readUTF());
+        }
+    };
+
+    private final ExternalCollectionItemChangeDetector<Item> detector = new ExternalCollectionItemChangeDetector<>(
+            Comparator.comparingInt(Item::id), (item1, item2) -> Objects.equals(item1.content(), item2.content()),
+            SERIALIZER);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void constructor_whenNullParameters_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalCollectionItemChangeDetector<Item>(null,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()), SERIALIZER));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalCollectionItemChangeDetector<Item>(
+                Comparator.comparingInt(Item::id), null, SERIALIZER));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalCollectionItemChangeDetector<Item>(
+                Comparator.comparingInt(Item::id), (item1, item2) -> Objects.equals(item1.content(), item2.content()),
+                null));
+    }
+
+    @Test
+    void setMaxItemsInMemory_whenValid_setsExpectedValue() {
+        assertEquals(ExternalCollectionItemChangeDetector.DEFAULT_MAX_ITEMS_IN_MEMORY, detector.getMaxItemsInMemory());
+
+        detector.setMaxItemsInMemory(1);
+
+        assertEquals(1, detector.getMaxItemsInMemory());
+        assertThrows(IllegalArgumentException.class, () -> detector.setMaxItemsInMemory(0));
+    }
+
+    @Test
+    void setMaxMergeFanIn_whenValid_setsExpectedValue() {
+        assertEquals(ExternalCollectionItemChangeDetector.DEFAULT_MAX_MERGE_FAN_IN, detector.getMaxMergeFanIn());
+
+        detector.setMaxMergeFanIn(ExternalCollectionItemChangeDetector.MIN_MAX_MERGE_FAN_IN);
+
+        assertEquals(ExternalCollectionItemChangeDetector.MIN_MAX_MERGE_FAN_IN, detector.getMaxMergeFanIn());
+        assertThrows(IllegalArgumentException.class, () -> detector.setMaxMergeFanIn(
+                ExternalCollectionItemChangeDetector.MIN_MAX_MERGE_FAN_IN - 1));
+    }
+
+    @Test
+    void setTemporaryDirectory_setsExpectedValue() {
+        assertNull(detector.getTemporaryDirectory());
+
+        detector.setTemporaryDirectory(directory);
+
+        assertEquals(directory, detector.getTemporaryDirectory());
+    }
+
+    @Test
+    void detectChanges_whenNullParameters_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(null, List.of(), change -> {
+        }));
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(List.of(), null, change -> {
+        }));
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(List.of(), List.of(), null));
+    }
+
+    @Test
+    void detectChanges_whenEmpty_notifiesNoChanges() throws IOException {
+        final var changes = new ArrayList<CollectionItemChange>();
+        detector.detectChanges(List.of(), List.of(), changes::add);
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void detectChanges_whenMultipleRuns_notifiesSameChangesAsSortedDetector() throws IOException {
+        final var sortedDetector = new SortedCollectionItemChangeDetector<>(Comparator.comparingInt(Item::id),
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            if (random.nextInt(10) != 0) {
+                oldList.add(new Item(i, "item" + i));
+            }
+            if (random.nextInt(10) != 0) {
+                newList.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        final var expected = sortedDetector.detectChanges(newList, oldList);
+        Collections.shuffle(oldList, random);
+        Collections.shuffle(newList, random);
+
+        detector.setMaxItemsInMemory(50);
+        detector.setTemporaryDirectory(directory);
+        final var changes = new ArrayList<CollectionItemChange>();
+        detector.detectChanges(newList, oldList, changes::add);
+
+        assertChanges(expected, changes);
+
+        // runs are merged in several passes when fan-in is smaller than the number of runs
+        detector.setMaxMergeFanIn(ExternalCollectionItemChangeDetector.MIN_MAX_MERGE_FAN_IN);
+        final var passChanges = new ArrayList<CollectionItemChange>();
+        detector.detectChanges(newList, oldList, passChanges::add);
+
+        assertChanges(expected, passChanges);
+
+        // run files are deleted
+        try (final var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private static void assertChanges(final Collection<CollectionItemChange> expected,
+                                      final List<CollectionItemChange> changes) {
+        // items are read back from run files, hence they are equal but not the same instances
+        assertEquals(expected.size(), changes.size());
+        final var expectedIterator = expected.iterator();
+        for (final var change : changes) {
+            final var expectedChange = expectedIterator.next();
+            assertEquals(expectedChange.getAction(), change.getAction());
+            if (change instanceof RemovedCollectionItemChange<?> removedChange) {
+                assertEquals(((RemovedCollectionItemChange<?>) expectedChange).getOldItem(),
+                        removedChange.getOldItem());
+            } else if (change instanceof InsertedCollectionItemChange<?> insertedChange) {
+                assertEquals(((InsertedCollectionItemChange<?>) expectedChange).getNewItem(),
+                        insertedChange.getNewItem());
+            } else {
+                final var updatedChange = (UpdatedCollectionItemChange<?>) change;
+                assertEquals(((UpdatedCollectionItemChange<?>) expectedChange).getOldItem(),
+                        updatedChange.getOldItem());
+                assertEquals(((UpdatedCollectionItemChange<?>) expectedChange).getNewItem(),
+                        updatedChange.getNewItem());
+            }
+        }
+    }
+
+    @Test
+    void detectChanges_whenSerializerFails_throwsIOExceptionAndDeletesRunFiles() throws IOException {
+        final var failingDetector = new ExternalCollectionItemChangeDetector<Item>(Comparator.comparingInt(Item::id),
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()), new ItemSerializer<>() {
+            @Override
+            public void write(final Item item, final DataOutput output) throws IOException {
+                SERIALIZER.write(item, output);
+            }
+
+            @Override
+            public Item read(final DataInput input) throws IOException {
+                throw new IOException();
+            }
+        });
+        failingDetector.setTemporaryDirectory(directory);
+
+        assertThrows(IOException.class, () -> failingDetector.detectChanges(List.of(new Item(1, "item1")),
+                List.of(new Item(2, "item2")), change -> {
+                }));
+
+        try (final var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private record Item(int id, String content) {
+    }
+}
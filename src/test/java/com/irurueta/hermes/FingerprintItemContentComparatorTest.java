@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FingerprintItemContentComparatorTest {
+
+    private int comparisons;
+
+    private final ItemContentComparator<Item> contentComparator = (item1, item2) -> {
+        comparisons++;
+        return Objects.equals(item1.content(), item2.content());
+    };
+
+    @Test
+    void constructor_whenNullFingerprint_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FingerprintItemContentComparator<>(null,
+                contentComparator));
+    }
+
+    @Test
+    void constructor_whenNullContentComparator_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FingerprintItemContentComparator<Item>(
+                Item::fingerprint, null));
+    }
+
+    @Test
+    void isCollisionVerificationEnabled_returnsExpectedValue() {
+        assertFalse(new FingerprintItemContentComparator<>(Item::fingerprint, contentComparator)
+                .isCollisionVerificationEnabled());
+        assertTrue(new FingerprintItemContentComparator<>(Item::fingerprint, contentComparator, true)
+                .isCollisionVerificationEnabled());
+    }
+
+    @Test
+    void equalContent_whenEqualFingerprints_skipsContentComparison() {
+        final var comparator = new FingerprintItemContentComparator<>(Item::fingerprint, contentComparator);
+
+        assertTrue(comparator.equalContent(new Item("content", 1L), new Item("content", 1L)));
+        assertEquals(0, comparisons);
+    }
+
+    @Test
+    void equalContent_whenCollision_returnsTrueUnlessVerified() {
+        final var comparator = new FingerprintItemContentComparator<>(Item::fingerprint, contentComparator);
+        final var verifyingComparator = new FingerprintItemContentComparator<>(Item::fingerprint, contentComparator,
+                true);
+
+        assertTrue(comparator.equalContent(new Item("content1", 1L), new Item("content2", 1L)));
+        assertEquals(0, comparisons);
+        assertFalse(verifyingComparator.equalContent(new Item("content1", 1L), new Item("content2", 1L)));
+        assertEquals(1, comparisons);
+    }
+
+    @Test
+    void equalContent_whenDifferentFingerprints_comparesContent() {
+        final var comparator = new FingerprintItemContentComparator<>(Item::fingerprint, contentComparator);
+
+        assertFalse(comparator.equalContent(new Item("content1", 1L), new Item("content2", 2L)));
+        assertEquals(1, comparisons);
+        // stale fingerprint does not result in a false change
+        assertTrue(comparator.equalContent(new Item("content", 1L), new Item("content", 2L)));
+        assertEquals(2, comparisons);
+    }
+
+    private record Item(String content, long fingerprint) {
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GapBufferTest {
+
+    @Test
+    void constructor_whenEmpty_containsNoItems() {
+        final var buffer = new GapBuffer<Integer>(List.of(), 0);
+
+        assertEquals(0, buffer.size());
+        assertTrue(buffer.toList().isEmpty());
+    }
+
+    @Test
+    void operations_whenRandom_behaveAsArrayList() {
+        final var random = new Random(0L);
+        final var expected = new ArrayList<>(List.of(1, 2, 3));
+        final var buffer = new GapBuffer<>(expected, 0);
+
+        for (var i = 0; i < 5000; i++) {
+            final var size = expected.size();
+            switch (size == 0 ? 0 : random.nextInt(4)) {
+                case 0 -> {
+                    final var pos = random.nextInt(size + 1);
+                    expected.add(pos, i);
+                    buffer.insert(pos, i);
+                }
+                case 1 -> {
+                    final var pos = random.nextInt(size);
+                    assertEquals(expected.remove(pos), buffer.remove(pos));
+                }
+                case 2 -> {
+                    final var pos = random.nextInt(size);
+                    assertEquals(expected.set(pos, -i), buffer.set(pos, -i));
+                }
+                default -> {
+                    final var pos = random.nextInt(size);
+                    assertEquals(expected.get(pos), buffer.get(pos));
+                }
+            }
+            assertEquals(expected.size(), buffer.size());
+        }
+
+        assertEquals(expected, buffer.toList());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashItemIndexTest {
+
+    private static final ItemKeyExtractor<Item, Integer> KEY_EXTRACTOR = Item::id;
+
+    @Test
+    void indexOf_whenEmpty_returnsMinusOne() {
+        final var index = new HashItemIndex<>(Collections.emptyList(), KEY_EXTRACTOR);
+
+        assertEquals(-1, index.indexOf(new Item(1, "item1")));
+        assertFalse(index.contains(new Item(1, "item1")));
+    }
+
+    @Test
+    void indexOf_whenContained_returnsPosition() {
+        final var index = new HashItemIndex<>(List.of(new Item(1, "item1"), new Item(2, "item2")), KEY_EXTRACTOR);
+
+        assertEquals(0, index.indexOf(new Item(1, "other")));
+        assertEquals(1, index.indexOf(new Item(2, "other")));
+        assertTrue(index.contains(new Item(2, "other")));
+    }
+
+    @Test
+    void indexOf_whenNotContained_returnsMinusOne() {
+        final var index = new HashItemIndex<>(List.of(new Item(1, "item1"), new Item(2, "item2")), KEY_EXTRACTOR);
+
+        assertEquals(-1, index.indexOf(new Item(3, "item3")));
+        assertFalse(index.contains(new Item(3, "item3")));
+    }
+
+    @Test
+    void indexOf_whenDuplicated_returnsFirstPosition() {
+        final var index = new HashItemIndex<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(1, "item1b")), KEY_EXTRACTOR);
+
+        assertEquals(0, index.indexOf(new Item(1, "item1b")));
+    }
+
+    @Test
+    void pair_whenDuplicates_pairsOccurrencesInOrder() {
+        final var index = new HashItemIndex<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(1, "item1b"), new Item(3, "item3")), KEY_EXTRACTOR);
+
+        final var result = index.pair(List.of(new Item(2, ""), new Item(1, ""), new Item(1, ""),
+                new Item(1, ""), new Item(3, ""), new Item(4, "")));
+
+        assertArrayEquals(new int[]{1, 0, 2, -1, 3, -1}, result);
+    }
+
+    @Test
+    void capacityFor_returnsCapacityAboveLoadFactor() {
+        assertEquals(1, HashItemIndex.capacityFor(0));
+        assertEquals(134, HashItemIndex.capacityFor(100));
+    }
+
+    private record Item(int id, String content) {
+    }
+}
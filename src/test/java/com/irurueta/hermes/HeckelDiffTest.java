@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeckelDiffTest {
+
+    @Test
+    void match_whenEmpty_returnsEmpty() {
+        assertEquals(0, HeckelDiff.match(new int[0], new int[0]).length);
+        assertEquals(0, HeckelDiff.match(new int[0], new int[]{-1, -1}).length);
+        assertArrayEquals(new int[]{-1, -1}, HeckelDiff.match(new int[]{0, 1}, new int[0]));
+    }
+
+    @Test
+    void match_whenEqual_matchesAllItems() {
+        final var ids = new int[]{0, 1, 2};
+
+        assertArrayEquals(new int[]{0, 1, 2}, HeckelDiff.match(ids, ids));
+    }
+
+    @Test
+    void match_whenUniqueItemsMoved_matchesAnchors() {
+        final var oldIds = new int[]{0, 1, 2, 3};
+        final var newIds = new int[]{-1, 3, 0, 2};
+
+        assertArrayEquals(new int[]{2, -1, 3, 1}, HeckelDiff.match(oldIds, newIds));
+    }
+
+    @Test
+    void match_whenRepeatedItemsNextToAnchors_extendsPairs() {
+        // old: a x x b x, new: x a x x b
+        final var oldIds = new int[]{0, 1, 1, 3, 1};
+        final var newIds = new int[]{1, 0, 1, 1, 3};
+
+        assertArrayEquals(new int[]{1, 2, 3, 4, 0}, HeckelDiff.match(oldIds, newIds));
+    }
+
+    @Test
+    void match_whenRepeatedItemsAtEdges_extendsPairsFromEdges() {
+        // old: x y x y, new: x y y x y
+        final var oldIds = new int[]{0, 1, 0, 1};
+        final var newIds = new int[]{0, 1, 1, 0, 1};
+
+        assertArrayEquals(new int[]{0, 1, 3, 4}, HeckelDiff.match(oldIds, newIds));
+    }
+
+    @Test
+    void match_whenRepeatedItemsWithoutAnchors_pairsInOrder() {
+        // old: x y x, new: y y x x
+        final var oldIds = new int[]{0, 1, 0};
+        final var newIds = new int[]{1, 1, 0, 0};
+
+        assertArrayEquals(new int[]{2, 0, 3}, HeckelDiff.match(oldIds, newIds));
+    }
+
+    @Test
+    void match_whenRandom_pairsEqualItemsOnce() {
+        final var random = new Random(0L);
+        for (var t = 0; t < 500; t++) {
+            final var oldValues = randomValues(random);
+            final var newValues = randomValues(random);
+
+            final var oldIds = ids(oldValues, oldValues);
+            final var newIds = ids(oldValues, newValues);
+
+            final var result = HeckelDiff.match(oldIds, newIds);
+
+            // paired items must be equal, each new item must be paired at most once, and as many items as possible
+            // must be paired
+            final var paired = new boolean[newValues.length];
+            final var oldCounts = new int[5];
+            final var newCounts = new int[5];
+            var count = 0;
+            for (var i = 0; i < oldValues.length; i++) {
+                oldCounts[oldValues[i]]++;
+                if (result[i] >= 0) {
+                    assertEquals(oldValues[i], newValues[result[i]]);
+                    assertFalse(paired[result[i]]);
+                    paired[result[i]] = true;
+                    count++;
+                }
+            }
+            var expectedCount = 0;
+            for (final var value : newValues) {
+                newCounts[value]++;
+            }
+            for (var v = 0; v < 5; v++) {
+                expectedCount += Math.min(oldCounts[v], newCounts[v]);
+            }
+            assertEquals(expectedCount, count);
+        }
+    }
+
+    private static int[] randomValues(final Random random) {
+        final var values = new int[random.nextInt(15)];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(5);
+        }
+        return values;
+    }
+
+    private static int[] ids(final int[] oldValues, final int[] values) {
+        final var result = new int[values.length];
+        for (var j = 0; j < values.length; j++) {
+            result[j] = -1;
+            for (var i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] == values[j]) {
+                    result[j] = i;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+}
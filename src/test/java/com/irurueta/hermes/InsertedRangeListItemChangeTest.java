@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InsertedRangeListItemChangeTest {
+
+    @Test
+    void constructor_whenNullOrEmptyItems_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new InsertedRangeListItemChange<>(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> new InsertedRangeListItemChange<>(List.of(), 0));
+    }
+
+    @Test
+    void getNewItems_returnsUnmodifiableItems() {
+        final var items = new ArrayList<>(List.of("a", "b"));
+        final var change = new InsertedRangeListItemChange<>(items, 0);
+
+        assertEquals(items, change.getNewItems());
+        assertThrows(UnsupportedOperationException.class, () -> change.getNewItems().add("c"));
+    }
+
+    @Test
+    void getNewPositionAndCount_returnExpectedValues() {
+        final var change = new InsertedRangeListItemChange<>(List.of("a", "b"), 3);
+
+        assertEquals(3, change.getNewPosition());
+        assertEquals(2, change.getCount());
+    }
+
+    @Test
+    void getAction_returnsExpectedValue() {
+        final var change = new InsertedRangeListItemChange<>(List.of("a"), 1);
+        assertEquals(ListItemChangeAction.INSERTED_RANGE, change.getAction());
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemChangeCodecTest {
+
+    private static final ItemSerializer<Item> ITEM_SERIALIZER = new ItemSerializer<>() {
+        @Override
+        public void write(final Item item, final DataOutput output) throws IOException {
+            output.writeInt(item.id());
+            output.writeUTF(item.content());
+        }
+
+        @Override
+        public Item read(final DataInput input) throws IOException {
+            return new Item(input.readInt(), input.readUTF());
+        }
+    };
+
+    private static final ItemSerializer<Item> KEY_SERIALIZER = new ItemSerializer<>() {
+        @Override
+        public void write(final Item item, final DataOutput output) throws IOException {
+            output.writeInt(item.id());
+        }
+
+        @Override
+        public Item read(final DataInput input) throws IOException {
+            return new Item(input.readInt(), null);
+        }
+    };
+
+    private final ItemChangeCodec<Item> codec = new ItemChangeCodec<>(ITEM_SERIALIZER);
+
+    @Test
+    void constructor_whenNullSerializers_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ItemChangeCodec<Item>(null));
+        assertThrows(IllegalArgumentException.class, () -> new ItemChangeCodec<>(ITEM_SERIALIZER, null));
+        assertThrows(IllegalArgumentException.class, () -> new ItemChangeCodec<>(null, KEY_SERIALIZER));
+    }
+
+    @Test
+    void constructor_setsExpectedValues() {
+        assertSame(ITEM_SERIALIZER, codec.getItemSerializer());
+        assertSame(ITEM_SERIALIZER, codec.getKeySerializer());
+
+        final var keyCodec = new ItemChangeCodec<>(ITEM_SERIALIZER, KEY_SERIALIZER);
+        assertSame(ITEM_SERIALIZER, keyCodec.getItemSerializer());
+        assertSame(KEY_SERIALIZER, keyCodec.getKeySerializer());
+    }
+
+    @Test
+    void encode_whenNullParameters_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(null));
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(new ListItemChangeSet<>(), null));
+        assertThrows(IllegalArgumentException.class, () -> codec.encodeListChanges(null));
+        assertThrows(IllegalArgumentException.class, () -> codec.encodeListChanges(List.of(), null));
+        assertThrows(IllegalArgumentException.class, () -> codec.encodeCollectionChanges(null));
+        assertThrows(IllegalArgumentException.class, () -> codec.encodeCollectionChanges(List.of(), null));
+        assertThrows(IllegalArgumentException.class, () -> codec.readListChanges(null));
+        assertThrows(IllegalArgumentException.class, () -> codec.readCollectionChanges(null));
+    }
+
+    @Test
+    void encodeListChanges_whenUnsupportedChange_throwsIllegalArgumentException() {
+        final var changes = List.<ListItemChange>of(new ListItemChange(ListItemChangeAction.INSERTED) {
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> codec.encodeListChanges(changes));
+    }
+
+    @Test
+    void readListChanges_whenRangeChanges_iteratesItemsOfEachRange() throws IOException {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var item3b = new Item(3, "item3b");
+        final var changes = List.<ListItemChange>of(
+                new RemovedRangeListItemChange<>(List.of(item1, item2), 5),
+                new InsertedRangeListItemChange<>(List.of(item3, item1, item2), 1000),
+                new MovedRangeListItemChange<>(List.of(item2, item3), List.of(item2, item3), 7, 3),
+                new UpdatedRangeListItemChange<>(List.of(item2, item3), List.of(item2b, item3b), 3));
+        final var keyCodec = new ItemChangeCodec<>(ITEM_SERIALIZER, KEY_SERIALIZER);
+
+        final var buffer = keyCodec.encodeListChanges(changes);
+
+        final var reader = keyCodec.readListChanges(buffer);
+        assertEquals(4, reader.size());
+        assertThrows(NoSuchElementException.class, reader::getCount);
+
+        assertTrue(reader.next());
+        assertEquals(ListItemChangeAction.REMOVED_RANGE, reader.getAction());
+        assertEquals(5, reader.getOldPosition());
+        assertEquals(ListItemChangeSet.NO_POSITION, reader.getNewPosition());
+        assertEquals(2, reader.getCount());
+        assertEquals(2, reader.getOldItemCount());
+        assertEquals(0, reader.getNewItemCount());
+        assertEquals(new Item(1, null), reader.getOldItem());
+        assertEquals(new Item(2, null), reader.getOldItem(1));
+        assertEquals(Integer.BYTES, reader.getOldItemBuffer(1).remaining());
+        assertNull(reader.getNewItem());
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.getOldItem(2));
+
+        assertTrue(reader.next());
+        assertEquals(ListItemChangeAction.INSERTED_RANGE, reader.getAction());
+        assertEquals(1000, reader.getNewPosition());
+        assertEquals(3, reader.getCount());
+        assertEquals(List.of(item3, item1, item2), reader.getNewItems());
+        assertTrue(reader.getOldItems().isEmpty());
+
+        assertTrue(reader.next());
+        assertEquals(ListItemChangeAction.MOVED_RANGE, reader.getAction());
+        assertEquals(7, reader.getOldPosition());
+        assertEquals(3, reader.getNewPosition());
+        assertEquals(2, reader.getCount());
+        final var moved = (MovedRangeListItemChange<?>) reader.getChange();
+        assertEquals(List.of(new Item(2, null), new Item(3, null)), moved.getOldItems());
+        assertEquals(List.of(item2, item3), moved.getNewItems());
+        assertEquals(7, moved.getOldPosition());
+        assertEquals(3, moved.getNewPosition());
+
+        assertTrue(reader.next());
+        assertEquals(ListItemChangeAction.UPDATED_RANGE, reader.getAction());
+        assertEquals(3, reader.getOldPosition());
+        assertEquals(3, reader.getNewPosition());
+        assertEquals(2, reader.getCount());
+        assertEquals(List.of(item2b, item3b), reader.getNewItems());
+
+        assertFalse(reader.next());
+        assertThrows(IOException.class, () -> keyCodec.decodeListChanges(buffer));
+    }
+
+    @Test
+    void decodeListChangeList_whenDetectedRangeChanges_returnsSameChanges() throws IOException {
+        final var detector = new SequentialListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()),
+                SequentialListItemChangeAlgorithm.MINIMAL_MOVES);
+        detector.setRangeCoalescingEnabled(true);
+
+        final var random = new Random(0L);
+        var ranges = 0;
+        for (var t = 0; t < 10; t++) {
+            // blocks of consecutive items are removed, inserted or updated together
+            final var oldList = new ArrayList<Item>();
+            final var newList = new ArrayList<Item>();
+            for (var i = 0; i < 500; i += 10) {
+                final var block = random.nextInt(4);
+                for (var j = i; j < i + 10; j++) {
+                    if (block != 0) {
+                        oldList.add(new Item(j, "item" + j));
+                    }
+                    if (block != 1) {
+                        newList.add(new Item(j, block != 2 ? "item" + j : "changed" + j));
+                    }
+                }
+            }
+            final var block = newList.subList(0, 10);
+            final var moved = new ArrayList<>(block);
+            block.clear();
+            newList.addAll(newList.size() / 2, moved);
+
+            final var changes = detector.detectChanges(newList, oldList);
+
+            final var buffer = codec.encodeListChanges(changes);
+            final var decoded = codec.decodeListChangeList(buffer);
+
+            assertEquals(0, buffer.position());
+            assertEquals(newList, new ListItemChangeApplier(true).applyToCopy(oldList, decoded));
+            assertEquals(changes.size(), decoded.size());
+            for (var i = 0; i < changes.size(); i++) {
+                assertEquals(changes.get(i).getAction(), decoded.get(i).getAction());
+                if (changes.get(i).getAction().ordinal() >= ListItemChangeAction.INSERTED_RANGE.ordinal()) {
+                    ranges++;
+                }
+            }
+        }
+        assertTrue(ranges > 0);
+    }
+
+    @Test
+    void decodeListChanges_whenDetectedChanges_returnsSameChanges() throws IOException {
+        final var detector = new SequentialListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()),
+                SequentialListItemChangeAlgorithm.MINIMAL_MOVES);
+
+        final var random = new Random(0L);
+        for (var t = 0; t < 10; t++) {
+            final var oldList = new ArrayList<Item>();
+            final var newList = new ArrayList<Item>();
+            for (var i = 0; i < 500; i++) {
+                if (random.nextInt(10) != 0) {
+                    oldList.add(new Item(i, "item" + i));
+                }
+                if (random.nextInt(10) != 0) {
+                    newList.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+                }
+            }
+            for (var i = 0; i < 10; i++) {
+                Collections.swap(newList, random.nextInt(newList.size()), random.nextInt(newList.size()));
+            }
+
+            final var changes = detector.detectChanges(newList, oldList);
+            final var changeSet = detector.detectChangeSet(newList, oldList);
+
+            final var buffer = codec.encode(changeSet);
+            assertEquals(buffer, codec.encodeListChanges(changes));
+
+            final var decoded = codec.decodeListChanges(buffer).toChanges();
+            assertEquals(0, buffer.position());
+            assertEquals(newList, new ListItemChangeApplier(true).applyToCopy(oldList, decoded));
+            assertEquals(changes.size(), decoded.size());
+            for (var i = 0; i < changes.size(); i++) {
+                assertEquals(changes.get(i).getAction(), decoded.get(i).getAction());
+            }
+        }
+    }
+
+    @Test
+    void readListChanges_iteratesChangesWithoutDecodingItems() throws IOException {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var changeSet = new ListItemChangeSet<Item>();
+        changeSet.addRemoved(item1, 5);
+        changeSet.addInserted(item3, 1000);
+        changeSet.addMoved(item2, item2, 7, 3);
+        changeSet.addUpdated(item2, item2b, 3);
+
+        // encode into a direct buffer at an arbitrary position and little-endian order
+        final var buffer = ByteBuffer.allocateDirect(1024).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(10);
+        codec.encode(changeSet, buffer);
+        buffer.flip().position(10);
+
+        final var reader = codec.readListChanges(buffer);
+        assertEquals(4, reader.size());
+        assertThrows(NoSuchElementException.class, reader::getAction);
+
+        assertTrue(reader.next());
+        assertEquals(ListItemChangeAction.REMOVED, reader.getAction());
+        assertEquals(5, reader.getOldPosition());
+        assertEquals(ListItemChangeSet.NO_POSITION, reader.getNewPosition());
+        assertEquals(item1, reader.getOldItem());
+        assertNull(reader.getNewItem());
+        assertNull(reader.getNewItemBuffer());
+        assertTrue(reader.getOldItemBuffer().isDirect());
+
+        assertTrue(reader.next());
+        assertEquals(ListItemChangeAction.INSERTED, reader.getAction());
+        assertEquals(1000, reader.getNewPosition());
+        assertEquals(item3, reader.getNewItem());
+        assertEquals(item3, ((InsertedListItemChange<?>) reader.getChange()).getNewItem());
+
+        assertTrue(reader.next());
+        assertEquals(ListItemChangeAction.MOVED, reader.getAction());
+        assertEquals(7, reader.getOldPosition());
+        assertEquals(3, reader.getNewPosition());
+
+        assertTrue(reader.next());
+        assertEquals(ListItemChangeAction.UPDATED, reader.getAction());
+        assertEquals(3, reader.getOldPosition());
+        assertEquals(3, reader.getNewPosition());
+        assertEquals(item2, reader.getOldItem());
+        assertEquals(item2b, reader.getNewItem());
+
+        assertFalse(reader.next());
+        assertFalse(reader.next());
+        assertThrows(NoSuchElementException.class, reader::getNewItem);
+        assertEquals(10, buffer.position());
+    }
+
+    @Test
+    void encode_whenKeySerializer_writesKeysOfOldItems() throws IOException {
+        final var keyCodec = new ItemChangeCodec<>(ITEM_SERIALIZER, KEY_SERIALIZER);
+        final var changeSet = new ListItemChangeSet<Item>();
+        changeSet.addRemoved(new Item(1, "a long content that is not needed to remove the item"), 0);
+
+        final var buffer = keyCodec.encode(changeSet);
+
+        assertTrue(buffer.remaining() < codec.encode(changeSet).remaining());
+        final var decoded = keyCodec.decodeListChanges(buffer);
+        assertEquals(new Item(1, null), decoded.getOldItem(0));
+    }
+
+    @Test
+    void encode_whenBufferTooSmall_throwsBufferOverflowException() {
+        final var changeSet = new ListItemChangeSet<Item>();
+        changeSet.addInserted(new Item(1, "item1"), 0);
+        final var buffer = ByteBuffer.allocate(8);
+
+        assertThrows(BufferOverflowException.class, () -> codec.encode(changeSet, buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void decodeCollectionChanges_returnsSameChanges() throws IOException {
+        final var detector = new CollectionItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+        final var oldItems = List.of(new Item(1, "item1"), new Item(2, "item2"), new Item(3, "item3"));
+        final var newItems = List.of(new Item(2, "item2b"), new Item(3, "item3"), new Item(4, "item4"));
+        final var changes = detector.detectChanges(newItems, oldItems);
+
+        final var buffer = codec.encodeCollectionChanges(changes);
+        final var decoded = codec.decodeCollectionChanges(buffer);
+
+        assertEquals(changes.size(), decoded.size());
+        final var reader = codec.readCollectionChanges(buffer);
+        for (final var change : decoded) {
+            assertTrue(reader.next());
+            assertEquals(change.getAction(), reader.getAction());
+            if (change instanceof UpdatedCollectionItemChange<?> updated) {
+                assertEquals(new Item(2, "item2"), updated.getOldItem());
+                assertEquals(new Item(2, "item2b"), updated.getNewItem());
+            } else if (change instanceof InsertedCollectionItemChange<?> inserted) {
+                assertEquals(new Item(4, "item4"), inserted.getNewItem());
+                assertNull(reader.getOldItemBuffer());
+            } else {
+                assertEquals(new Item(1, "item1"), ((RemovedCollectionItemChange<?>) change).getOldItem());
+            }
+        }
+        assertFalse(reader.next());
+    }
+
+    @Test
+    void readListChanges_whenInvalidData_throwsIOException() throws IOException {
+        final var collectionBuffer = codec.encodeCollectionChanges(List.of());
+        assertThrows(IOException.class, () -> codec.readListChanges(collectionBuffer));
+        assertThrows(IOException.class, () -> codec.readListChanges(ByteBuffer.wrap(new byte[]{9, 0, 0})));
+        assertThrows(IOException.class, () -> codec.readListChanges(ByteBuffer.allocate(0)));
+
+        // truncated item
+        final var changeSet = new ListItemChangeSet<Item>();
+        changeSet.addInserted(new Item(1, "item1"), 0);
+        final var buffer = codec.encode(changeSet);
+        final var truncated = buffer.limit(buffer.limit() - 1);
+        final var reader = codec.readListChanges(truncated);
+        assertThrows(IOException.class, reader::next);
+
+        // range change without items or with more items than remaining bytes
+        final var emptyRange = codec.readListChanges(ByteBuffer.wrap(new byte[]{1, 0, 1, 4, 0, 0}));
+        assertThrows(IOException.class, emptyRange::next);
+        final var truncatedRange = codec.readListChanges(ByteBuffer.wrap(new byte[]{1, 0, 1, 4, 0, 100, 0, 0, 0, 0}));
+        assertThrows(IOException.class, truncatedRange::next);
+    }
+
+    private record Item(int id, String content) {
+    }
+}
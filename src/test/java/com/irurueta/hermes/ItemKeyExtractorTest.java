@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemKeyExtractorTest {
+
+    @Test
+    void equals_whenEqualKeys_returnsTrue() {
+        final ItemKeyExtractor<Item, Integer> keyExtractor = Item::id;
+
+        assertTrue(keyExtractor.equals(new Item(1, "item1"), new Item(1, "item1b")));
+    }
+
+    @Test
+    void equals_whenDifferentKeys_returnsFalse() {
+        final ItemKeyExtractor<Item, Integer> keyExtractor = Item::id;
+
+        assertFalse(keyExtractor.equals(new Item(1, "item1"), new Item(2, "item1")));
+    }
+
+    @Test
+    void equals_whenNullKeys_returnsTrue() {
+        final ItemKeyExtractor<Item, String> keyExtractor = item -> null;
+
+        assertTrue(keyExtractor.equals(new Item(1, "item1"), new Item(2, "item2")));
+    }
+
+    private record Item(int id, String content) {
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemListsTest {
+
+    @Test
+    void randomAccess_whenRandomAccessList_returnsSameList() {
+        final var items = new ArrayList<>(List.of(1, 2, 3));
+
+        assertSame(items, ItemLists.randomAccess(items));
+    }
+
+    @Test
+    void randomAccess_whenLinkedList_returnsCopy() {
+        final var items = new LinkedList<>(List.of(1, 2, 3));
+
+        final var result = ItemLists.randomAccess(items);
+
+        assertNotSame(items, result);
+        assertEquals(items, result);
+    }
+
+    @Test
+    void randomAccess_whenSet_returnsCopy() {
+        final var items = new HashSet<>(List.of(1, 2, 3));
+
+        final var result = ItemLists.randomAccess(items);
+
+        assertEquals(3, result.size());
+        assertTrue(result.containsAll(items));
+    }
+
+    @Test
+    void snapshot_whenImmutable_returnsSameList() {
+        final var items = new ArrayList<>(List.of(1, 2, 3));
+
+        assertSame(items, ItemLists.snapshot(items, true));
+    }
+
+    @Test
+    void snapshot_whenNotImmutable_returnsCopy() {
+        final var items = new ArrayList<>(List.of(1, 2, 3));
+
+        final var result = ItemLists.snapshot(items, false);
+
+        assertNotSame(items, result);
+        assertEquals(items, result);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListItemChangeApplierTest {
+
+    private final ListItemChangeApplier applier = new ListItemChangeApplier();
+
+    @Test
+    void constructor_setsExpectedValues() {
+        assertFalse(applier.isVerificationEnabled());
+        assertTrue(new ListItemChangeApplier(true).isVerificationEnabled());
+    }
+
+    @Test
+    void applyToCopy_whenNullParameters_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> applier.applyToCopy(null, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> applier.applyToCopy(List.of(), null));
+        assertThrows(IllegalArgumentException.class, () -> applier.apply(null, List.of()));
+    }
+
+    @Test
+    void applyToCopy_whenInvalidPosition_throwsIllegalArgumentException() {
+        final var items = List.of(new Item(1, "item1"));
+
+        assertThrows(IllegalArgumentException.class, () -> applier.applyToCopy(items,
+                List.of(new RemovedListItemChange<>(new Item(1, "item1"), 1))));
+        assertThrows(IllegalArgumentException.class, () -> applier.applyToCopy(items,
+                List.of(new InsertedListItemChange<>(new Item(2, "item2"), 2))));
+        assertThrows(IllegalArgumentException.class, () -> applier.applyToCopy(items,
+                List.of(new MovedListItemChange<>(new Item(1, "item1"), new Item(1, "item1"), 0, 1))));
+        assertThrows(IllegalArgumentException.class, () -> applier.applyToCopy(items,
+                List.of(new UpdatedListItemChange<>(new Item(1, "item1"), new Item(1, "item1b"), -1))));
+    }
+
+    @Test
+    void applyToCopy_whenUnsupportedChange_throwsIllegalArgumentException() {
+        final var change = new ListItemChange(ListItemChangeAction.INSERTED) {
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> applier.applyToCopy(List.of(), List.of(change)));
+    }
+
+    @Test
+    void applyToCopy_whenVerificationEnabledAndItemsDiffer_throwsIllegalArgumentException() {
+        final var verifyingApplier = new ListItemChangeApplier(true);
+        final var items = List.of(new Item(1, "item1"), new Item(2, "item2"));
+        final var changes = List.<ListItemChange>of(new RemovedListItemChange<>(new Item(2, "item2"), 0));
+
+        assertThrows(IllegalArgumentException.class, () -> verifyingApplier.applyToCopy(items, changes));
+        assertEquals(List.of(new Item(2, "item2")), applier.applyToCopy(items, changes));
+    }
+
+    @Test
+    void apply_modifiesListInPlace() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item3 = new Item(3, "item3");
+        final var items = new ArrayList<>(List.of(item1, item2));
+
+        applier.apply(items, List.of(new InsertedListItemChange<>(item3, 0),
+                new MovedListItemChange<>(item2, item2, 2, 0),
+                new UpdatedListItemChange<>(item1, new Item(1, "item1b"), 2)));
+
+        assertEquals(List.of(item2, item3, new Item(1, "item1b")), items);
+    }
+
+    @Test
+    void applyToCopy_whenDetectedChanges_returnsNewList() {
+        final var verifyingApplier = new ListItemChangeApplier(true);
+        final var detectors = new ArrayList<SequentialListItemChangeDetector<Item>>();
+        for (final var algorithm : List.of(SequentialListItemChangeAlgorithm.MINIMAL_MOVES,
+                SequentialListItemChangeAlgorithm.MYERS)) {
+            detectors.add(new SequentialListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                    (item1, item2) -> Objects.equals(item1.content(), item2.content()), algorithm));
+        }
+
+        final var random = new Random(0L);
+        for (var t = 0; t < 20; t++) {
+            final var oldList = new ArrayList<Item>();
+            final var newList = new ArrayList<Item>();
+            for (var i = 0; i < 500; i++) {
+                if (random.nextInt(10) != 0) {
+                    oldList.add(new Item(i, "item" + i));
+                }
+                if (random.nextInt(10) != 0) {
+                    newList.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+                }
+            }
+            for (var i = 0; i < 10; i++) {
+                Collections.swap(newList, random.nextInt(newList.size()), random.nextInt(newList.size()));
+            }
+            final var oldCopy = new ArrayList<>(oldList);
+
+            for (final var detector : detectors) {
+                final var changes = detector.detectChanges(newList, oldList);
+
+                assertEquals(newList, verifyingApplier.applyToCopy(oldList, changes));
+                assertEquals(oldCopy, oldList);
+            }
+        }
+    }
+
+    @Test
+    void applyToCopy_whenRecordedChanges_returnsRecordedList() {
+        final var random = new Random(0L);
+        final var initial = new ArrayList<Item>();
+        for (var i = 0; i < 100; i++) {
+            initial.add(new Item(i, "item" + i));
+        }
+        final var list = new RecordingList<>(new ArrayList<>(initial));
+        for (var i = 0; i < 1000; i++) {
+            final var size = list.size();
+            switch (size == 0 ? 0 : random.nextInt(4)) {
+                case 0 -> list.add(random.nextInt(size + 1), new Item(1000 + i, "item" + i));
+                case 1 -> list.remove(random.nextInt(size));
+                case 2 -> list.set(random.nextInt(size), new Item(2000 + i, "item" + i));
+                default -> list.move(random.nextInt(size), random.nextInt(size));
+            }
+        }
+
+        assertEquals(list, new ListItemChangeApplier(true).applyToCopy(initial, list.getChanges()));
+    }
+
+    private record Item(int id, String content) {
+    }
+}
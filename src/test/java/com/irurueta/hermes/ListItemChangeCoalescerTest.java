@@ -0,0 +1,290 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListItemChangeCoalescerTest {
+
+    @Test
+    void constructor_whenNullListener_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListItemChangeCoalescer(null, true));
+    }
+
+    @Test
+    void constructor_setsExpectedValues() {
+        assertTrue(new ListItemChangeCoalescer(change -> {
+        }, true).isSequential());
+        assertFalse(new ListItemChangeCoalescer(change -> {
+        }, false).isSequential());
+    }
+
+    @Test
+    void coalesce_whenNullChanges_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ListItemChangeCoalescer.coalesce(null, true));
+        final var changes = new ArrayList<ListItemChange>();
+        changes.add(null);
+        assertThrows(IllegalArgumentException.class, () -> ListItemChangeCoalescer.coalesce(changes, true));
+    }
+
+    @Test
+    void coalesce_whenContiguousInserts_returnsInsertedRange() {
+        final var changes = List.<ListItemChange>of(
+                new InsertedListItemChange<>("a", 2),
+                new InsertedListItemChange<>("b", 3),
+                new InsertedListItemChange<>("c", 4),
+                new InsertedListItemChange<>("d", 6));
+
+        final var result = ListItemChangeCoalescer.coalesce(changes, true);
+
+        assertEquals(2, result.size());
+        final var range = (InsertedRangeListItemChange<?>) result.get(0);
+        assertEquals(List.of("a", "b", "c"), range.getNewItems());
+        assertEquals(2, range.getNewPosition());
+        assertSame(changes.get(3), result.get(1));
+    }
+
+    @Test
+    void coalesce_whenSequentialRemoves_returnsRemovedRange() {
+        final var changes = List.<ListItemChange>of(
+                new RemovedListItemChange<>("a", 1),
+                new RemovedListItemChange<>("b", 1),
+                new RemovedListItemChange<>("c", 2));
+
+        final var result = ListItemChangeCoalescer.coalesce(changes, true);
+
+        assertEquals(2, result.size());
+        final var range = (RemovedRangeListItemChange<?>) result.get(0);
+        assertEquals(List.of("a", "b"), range.getOldItems());
+        assertEquals(1, range.getOldPosition());
+        assertSame(changes.get(2), result.get(1));
+    }
+
+    @Test
+    void coalesce_whenNonSequentialRemoves_returnsRemovedRange() {
+        final var changes = List.<ListItemChange>of(
+                new RemovedListItemChange<>("a", 1),
+                new RemovedListItemChange<>("b", 2),
+                new RemovedListItemChange<>("c", 2));
+
+        final var result = ListItemChangeCoalescer.coalesce(changes, false);
+
+        assertEquals(2, result.size());
+        assertEquals(List.of("a", "b"), ((RemovedRangeListItemChange<?>) result.get(0)).getOldItems());
+        assertSame(changes.get(2), result.get(1));
+    }
+
+    @Test
+    void coalesce_whenContiguousUpdates_returnsUpdatedRange() {
+        final var changes = List.<ListItemChange>of(
+                new UpdatedListItemChange<>("a", "a2", 0),
+                new UpdatedListItemChange<>("b", "b2", 1));
+
+        final var result = ListItemChangeCoalescer.coalesce(changes, false);
+
+        assertEquals(1, result.size());
+        final var range = (UpdatedRangeListItemChange<?>) result.get(0);
+        assertEquals(List.of("a", "b"), range.getOldItems());
+        assertEquals(List.of("a2", "b2"), range.getNewItems());
+        assertEquals(0, range.getPosition());
+    }
+
+    @Test
+    void coalesce_whenSequentialMoves_returnsEquivalentMovedRanges() {
+        final var items = List.of("a", "b", "c", "d", "e");
+        final var applier = new ListItemChangeApplier(true);
+
+        // block moved forward
+        final var forward = List.<ListItemChange>of(
+                new MovedListItemChange<>("a", "a", 0, 4),
+                new MovedListItemChange<>("b", "b", 0, 4));
+        final var forwardResult = ListItemChangeCoalescer.coalesce(forward, true);
+        assertEquals(1, forwardResult.size());
+        final var forwardRange = (MovedRangeListItemChange<?>) forwardResult.get(0);
+        assertEquals(0, forwardRange.getOldPosition());
+        assertEquals(3, forwardRange.getNewPosition());
+        assertEquals(applier.applyToCopy(items, forward), applier.applyToCopy(items, forwardResult));
+
+        // block moved backward
+        final var backward = List.<ListItemChange>of(
+                new MovedListItemChange<>("d", "d", 3, 0),
+                new MovedListItemChange<>("e", "e", 4, 1));
+        final var backwardResult = ListItemChangeCoalescer.coalesce(backward, true);
+        assertEquals(1, backwardResult.size());
+        final var backwardRange = (MovedRangeListItemChange<?>) backwardResult.get(0);
+        assertEquals(3, backwardRange.getOldPosition());
+        assertEquals(0, backwardRange.getNewPosition());
+        assertEquals(applier.applyToCopy(items, backward), applier.applyToCopy(items, backwardResult));
+    }
+
+    @Test
+    void coalesce_whenSequentialForwardMovesTakeMovedItems_returnsEquivalentChanges() {
+        final var applier = new ListItemChangeApplier(true);
+
+        // items moved by previous changes are found again at the old position
+        final var items = List.of("a", "b", "c", "d", "e");
+        final var shortMoves = moves(items, 0, 1, 3);
+        final var shortResult = ListItemChangeCoalescer.coalesce(shortMoves, true);
+        assertEquals(2, shortResult.size());
+        final var shortRange = (MovedRangeListItemChange<?>) shortResult.get(0);
+        assertEquals(0, shortRange.getOldPosition());
+        assertEquals(0, shortRange.getNewPosition());
+        assertEquals(2, shortRange.getCount());
+        assertEquals(applier.applyToCopy(items, shortMoves), applier.applyToCopy(items, shortResult));
+
+        final var longMoves = moves(items, 2, 3, 3);
+        final var longResult = ListItemChangeCoalescer.coalesce(longMoves, true);
+        assertEquals(applier.applyToCopy(items, longMoves), applier.applyToCopy(items, longResult));
+        for (final var change : longResult) {
+            if (change instanceof MovedRangeListItemChange<?> range) {
+                assertTrue(range.getNewPosition() >= range.getOldPosition());
+            }
+        }
+
+        final var random = new Random(0L);
+        final var list = new ArrayList<String>();
+        for (var i = 0; i < 20; i++) {
+            list.add("item" + i);
+        }
+        for (var t = 0; t < 100; t++) {
+            final var oldPosition = random.nextInt(list.size() - 1);
+            final var newPosition = oldPosition + 1 + random.nextInt(list.size() - oldPosition - 1);
+            final var changes = moves(list, oldPosition, newPosition, 1 + random.nextInt(20));
+            final var result = ListItemChangeCoalescer.coalesce(changes, true);
+            assertEquals(applier.applyToCopy(list, changes), applier.applyToCopy(list, result));
+        }
+    }
+
+    private static List<ListItemChange> moves(final List<String> items, final int oldPosition,
+                                              final int newPosition, final int count) {
+        final var list = new ArrayList<>(items);
+        final var result = new ArrayList<ListItemChange>();
+        for (var i = 0; i < count; i++) {
+            final var item = list.remove(oldPosition);
+            list.add(newPosition, item);
+            result.add(new MovedListItemChange<>(item, item, oldPosition, newPosition));
+        }
+        return result;
+    }
+
+    @Test
+    void coalesce_whenDifferentActions_returnsSeparateChanges() {
+        final var changes = List.<ListItemChange>of(
+                new RemovedListItemChange<>("a", 0),
+                new InsertedListItemChange<>("b", 1),
+                new InsertedRangeListItemChange<>(List.of("c", "d"), 2),
+                new UpdatedListItemChange<>("e", "e2", 4));
+
+        assertEquals(changes, ListItemChangeCoalescer.coalesce(changes, true));
+    }
+
+    @Test
+    void onChange_forwardsRangeOnceComplete() {
+        final var result = new ArrayList<ListItemChange>();
+        final var coalescer = new ListItemChangeCoalescer(result::add, true);
+
+        coalescer.onChange(new InsertedListItemChange<>("a", 0));
+        coalescer.onChange(new InsertedListItemChange<>("b", 1));
+        assertTrue(result.isEmpty());
+
+        coalescer.flush();
+        assertEquals(1, result.size());
+        coalescer.flush();
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void detectChanges_whenRangeCoalescingEnabled_returnsEquivalentRanges() {
+        final var applier = new ListItemChangeApplier(true);
+        final var detectors = new ArrayList<SequentialListItemChangeDetector<Item>>();
+        for (final var algorithm : List.of(SequentialListItemChangeAlgorithm.MINIMAL_MOVES,
+                SequentialListItemChangeAlgorithm.MYERS)) {
+            final var detector = new SequentialListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                    (item1, item2) -> Objects.equals(item1.content(), item2.content()), algorithm);
+            detector.setRangeCoalescingEnabled(true);
+            assertTrue(detector.isRangeCoalescingEnabled());
+            detectors.add(detector);
+        }
+
+        final var random = new Random(0L);
+        for (var t = 0; t < 20; t++) {
+            final var oldList = new ArrayList<Item>();
+            for (var i = 0; i < 500; i++) {
+                oldList.add(new Item(i, "item" + i));
+            }
+            final var newList = new ArrayList<>(oldList);
+            // remove, insert and update blocks of items, and move a block of items
+            final var removed = random.nextInt(400);
+            newList.subList(removed, removed + 50).clear();
+            final var inserted = random.nextInt(newList.size());
+            for (var i = 0; i < 50; i++) {
+                newList.add(inserted + i, new Item(1000 + i, "inserted" + i));
+            }
+            final var updated = random.nextInt(newList.size() - 50);
+            for (var i = updated; i < updated + 50; i++) {
+                newList.set(i, new Item(newList.get(i).id(), "changed" + i));
+            }
+            Collections.rotate(newList.subList(random.nextInt(100), 200 + random.nextInt(300)), 30);
+
+            for (final var detector : detectors) {
+                final var changes = detector.detectChanges(newList, oldList);
+
+                assertEquals(newList, applier.applyToCopy(oldList, changes));
+                assertTrue(changes.size() < 50, "expected ranges but got " + changes.size() + " changes");
+            }
+        }
+    }
+
+    @Test
+    void detectChanges_whenRangeCoalescingEnabledOnListDetector_returnsRanges() {
+        final var detector = new ListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+        assertFalse(detector.isRangeCoalescingEnabled());
+        detector.setRangeCoalescingEnabled(true);
+
+        final var oldList = new ArrayList<Item>();
+        for (var i = 0; i < 100; i++) {
+            oldList.add(new Item(i, "item" + i));
+        }
+        final var newList = new ArrayList<>(oldList.subList(20, 100));
+        for (var i = 0; i < 10; i++) {
+            newList.add(new Item(1000 + i, "inserted" + i));
+        }
+
+        final var changes = detector.detectChanges(newList, oldList);
+
+        final var uncoalesced = new ListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()))
+                .detectChanges(newList, oldList);
+        assertEquals(ListItemChangeCoalescer.coalesce(uncoalesced, false).size(), changes.size());
+        assertInstanceOf(RemovedRangeListItemChange.class, changes.get(0));
+        assertEquals(20, ((RemovedRangeListItemChange<?>) changes.get(0)).getCount());
+        assertInstanceOf(InsertedRangeListItemChange.class, changes.get(1));
+        assertEquals(10, ((InsertedRangeListItemChange<?>) changes.get(1)).getCount());
+    }
+
+    private record Item(int id, String content) {
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListItemChangeComposerTest {
+
+    private final ListItemChangeComposer<Item> composer = new ListItemChangeComposer<>(
+            (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+    private final ListItemChangeApplier applier = new ListItemChangeApplier(true);
+
+    @Test
+    void constructor_whenNullComparator_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListItemChangeComposer<Item>(null));
+    }
+
+    @Test
+    void compose_whenNullParameters_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(null, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(List.of(), null));
+    }
+
+    @Test
+    void compose_whenUnsupportedChange_throwsIllegalArgumentException() {
+        final var change = new ListItemChange(ListItemChangeAction.INSERTED) {
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(List.of(change), List.of()));
+    }
+
+    @Test
+    void compose_whenNoChanges_returnsEmptyList() {
+        assertTrue(composer.compose(List.of(), List.of()).isEmpty());
+    }
+
+    @Test
+    void compose_whenInsertedAndRemoved_returnsEmptyList() {
+        final var item = new Item(1, "item1");
+
+        final var changes = composer.compose(List.of(new InsertedListItemChange<>(item, 3)),
+                List.of(new RemovedListItemChange<>(item, 3)));
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void compose_whenUpdatedBack_returnsEmptyList() {
+        final var item = new Item(1, "item1");
+        final var changed = new Item(1, "changed1");
+
+        final var changes = composer.compose(List.of(new UpdatedListItemChange<>(item, changed, 2)),
+                List.of(new UpdatedListItemChange<>(changed, new Item(1, "item1"), 2)));
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void compose_whenMovedBack_returnsEmptyList() {
+        final var item = new Item(1, "item1");
+
+        final var changes = composer.compose(List.of(new MovedListItemChange<>(item, item, 0, 4)),
+                List.of(new MovedListItemChange<>(item, item, 4, 0)));
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void compose_whenInsertedAndUpdated_returnsInsertOfUpdatedItem() {
+        final var item = new Item(1, "item1");
+        final var changed = new Item(1, "changed1");
+
+        final var changes = composer.compose(List.of(new InsertedListItemChange<>(item, 1)),
+                List.of(new UpdatedListItemChange<>(item, changed, 1)));
+
+        assertEquals(1, changes.size());
+        final var inserted = assertInstanceOf(InsertedListItemChange.class, changes.get(0));
+        assertSame(changed, inserted.getNewItem());
+        assertEquals(1, inserted.getNewPosition());
+    }
+
+    @Test
+    void compose_whenRemovedAfterInsertBefore_returnsShiftedRemove() {
+        final var item0 = new Item(0, "item0");
+        final var item1 = new Item(1, "item1");
+        final var inserted = new Item(2, "item2");
+
+        final var changes = composer.compose(List.of(new InsertedListItemChange<>(inserted, 0)),
+                List.of(new RemovedListItemChange<>(item1, 2)));
+
+        assertEquals(List.of(inserted, item0), applier.applyToCopy(List.of(item0, item1), changes));
+        final var removed = assertInstanceOf(RemovedListItemChange.class, changes.get(0));
+        assertEquals(1, removed.getOldPosition());
+    }
+
+    @Test
+    void compose_whenPositionOutOfBounds_throwsIllegalArgumentException() {
+        final var item = new Item(1, "item1");
+
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(
+                List.of(new RemovedListItemChange<>(item, -1)), List.of()));
+        assertThrows(IllegalArgumentException.class, () -> composer.compose(
+                List.of(new InsertedListItemChange<>(item, ListItemChangeComposer.MAX_SIZE + 1)), List.of()));
+    }
+
+    @Test
+    void compose_whenRangeChanges_returnsEquivalentChanges() {
+        final var items = new ArrayList<Item>();
+        for (var i = 0; i < 10; i++) {
+            items.add(new Item(i, "item" + i));
+        }
+        final var first = List.<ListItemChange>of(
+                new RemovedRangeListItemChange<>(items.subList(1, 3), 1),
+                new InsertedRangeListItemChange<>(List.of(new Item(10, "item10"), new Item(11, "item11")), 0),
+                new MovedRangeListItemChange<>(items.subList(6, 8), items.subList(6, 8), 6, 0));
+        final var middle = applier.applyToCopy(items, first);
+        final var second = List.<ListItemChange>of(
+                new UpdatedRangeListItemChange<>(middle.subList(2, 5),
+                        List.of(new Item(10, "a"), new Item(11, "b"), new Item(0, "c")), 2));
+        final var expected = applier.applyToCopy(middle, second);
+
+        final var changes = composer.compose(first, second);
+
+        assertEquals(expected, applier.applyToCopy(items, changes));
+    }
+
+    @Test
+    void compose_whenDetectedChanges_returnsChangesTransformingFirstIntoLastList() {
+        final var random = new Random(0L);
+        for (final var algorithm : List.of(SequentialListItemChangeAlgorithm.MINIMAL_MOVES,
+                SequentialListItemChangeAlgorithm.MYERS)) {
+            final var detector = new SequentialListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                    (ItemContentComparator<Item>) (item1, item2) -> Objects.equals(item1.content(),
+                            item2.content()), algorithm);
+            for (var t = 0; t < 20; t++) {
+                final var list1 = randomList(random);
+                final var list2 = randomList(random);
+                final var list3 = randomList(random);
+                final var changes1 = detector.detectChanges(list2, list1);
+                final var changes2 = detector.detectChanges(list3, list2);
+
+                final var changes = composer.compose(changes1, changes2);
+
+                assertEquals(list3, applier.applyToCopy(list1, changes));
+                assertTrue(changes.size() <= changes1.size() + changes2.size());
+            }
+        }
+    }
+
+    @Test
+    void compose_whenRecordedChanges_returnsChangesTransformingFirstIntoLastList() {
+        final var random = new Random(0L);
+        final var initial = new ArrayList<Item>();
+        for (var i = 0; i < 100; i++) {
+            initial.add(new Item(i, "item" + i));
+        }
+        final var list = new RecordingList<>(new ArrayList<>(initial));
+        final var changes = new ArrayList<ListItemChange>();
+        for (var batch = 0; batch < 20; batch++) {
+            for (var i = 0; i < 50; i++) {
+                final var size = list.size();
+                final var id = 1000 * batch + i;
+                switch (size == 0 ? 0 : random.nextInt(4)) {
+                    case 0 -> list.add(random.nextInt(size + 1), new Item(10000 + id, "item" + id));
+                    case 1 -> list.remove(random.nextInt(size));
+                    case 2 -> list.set(random.nextInt(size), new Item(20000 + id, "item" + id));
+                    default -> list.move(random.nextInt(size), random.nextInt(size));
+                }
+            }
+            final var composed = composer.compose(changes, list.takeChanges());
+            changes.clear();
+            changes.addAll(composed);
+
+            assertEquals(list, applier.applyToCopy(initial, changes));
+        }
+    }
+
+    private static List<Item> randomList(final Random random) {
+        final var result = new ArrayList<Item>();
+        for (var i = 0; i < 200; i++) {
+            if (random.nextInt(5) != 0) {
+                result.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        for (var i = 0; i < 10; i++) {
+            Collections.swap(result, random.nextInt(result.size()), random.nextInt(result.size()));
+        }
+        return result;
+    }
+
+    private record Item(int id, String content) {
+    }
+}
@@ -18,9 +18,12 @@ package com.irurueta.hermes;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +33,45 @@ class ListItemChangeDetectorTest {
             (item1, item2) -> item1.id() == item2.id(),
             (item1, item2) -> Objects.equals(item1.content(), item2.content()));
 
+    private final ListItemChangeDetector<Item> keyedDetector = new ListItemChangeDetector<>(
+            (ItemKeyExtractor<Item, Integer>) Item::id,
+            (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+    private final ListItemChangeDetector<Item> heckelDetector = new ListItemChangeDetector<>(
+            (item1, item2) -> item1.id() == item2.id(),
+            (item1, item2) -> Objects.equals(item1.content(), item2.content()), ListItemChangeAlgorithm.HECKEL);
+
+    private final ListItemChangeDetector<Item> keyedHeckelDetector = new ListItemChangeDetector<>(
+            (ItemKeyExtractor<Item, Integer>) Item::id,
+            (item1, item2) -> Objects.equals(item1.content(), item2.content()), ListItemChangeAlgorithm.HECKEL);
+
+    private final ListItemChangeDetector<Item> multisetDetector = new ListItemChangeDetector<>(
+            (item1, item2) -> item1.id() == item2.id(),
+            (item1, item2) -> Objects.equals(item1.content(), item2.content()), ListItemChangeAlgorithm.MULTISET);
+
+    private final ListItemChangeDetector<Item> keyedMultisetDetector = new ListItemChangeDetector<>(
+            (ItemKeyExtractor<Item, Integer>) Item::id,
+            (item1, item2) -> Objects.equals(item1.content(), item2.content()), ListItemChangeAlgorithm.MULTISET);
+
+    @Test
+    void constructor_whenNullAlgorithm_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListItemChangeDetector<Item>(
+                (item1, item2) -> item1.id() == item2.id(),
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()), null));
+        assertThrows(IllegalArgumentException.class, () -> new ListItemChangeDetector<Item>(
+                (ItemKeyExtractor<Item, Integer>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()), null));
+    }
+
+    @Test
+    void getAlgorithm_returnsExpectedValue() {
+        assertEquals(ListItemChangeAlgorithm.DEFAULT, detector.getAlgorithm());
+        assertEquals(ListItemChangeAlgorithm.DEFAULT, keyedDetector.getAlgorithm());
+        assertEquals(ListItemChangeAlgorithm.HECKEL, heckelDetector.getAlgorithm());
+        assertEquals(ListItemChangeAlgorithm.HECKEL, keyedHeckelDetector.getAlgorithm());
+        assertEquals(ListItemChangeAlgorithm.MULTISET, keyedMultisetDetector.getAlgorithm());
+    }
+
     @Test
     void constructor_whenNullComparator_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> new ListItemChangeDetector<Item>(null,
@@ -42,6 +84,19 @@ class ListItemChangeDetectorTest {
                 (item1, item2) -> item1.id() == item2.id(), null));
     }
 
+    @Test
+    void constructor_whenNullKeyExtractor_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListItemChangeDetector<Item>(
+                (ItemKeyExtractor<Item, Integer>) null,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content())));
+    }
+
+    @Test
+    void constructor_whenKeyExtractorAndNullContentComparator_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListItemChangeDetector<Item>(
+                (ItemKeyExtractor<Item, Integer>) Item::id, null));
+    }
+
     @Test
     void detectChange_whenNullNewItems_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(null,
@@ -388,6 +443,423 @@ class ListItemChangeDetectorTest {
         assertEquals(1, updatedChange.getPosition());
     }
 
+    @Test
+    void detectChanges_whenKeyedAndEmpty_returnsEmpty() {
+        final var changes = keyedDetector.detectChanges(Collections.emptyList(), Collections.emptyList());
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void detectChanges_whenKeyedAndMultipleActions_returnsSameResultAsLinearSearch() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var item4 = new Item(4, "item4");
+        final var item5 = new Item(5, "item5");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item3, item2b, item1, item5);
+
+        final var changes = keyedDetector.detectChanges(newList, oldList);
+
+        assertEquals(5, changes.size());
+        ChangeAssertions.assertSameListChanges(detector.detectChanges(newList, oldList), changes);
+    }
+
+    @Test
+    void detectChanges_whenKeyedAndRandomLists_returnsSameResultAsLinearSearch() {
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            if (random.nextInt(10) != 0) {
+                oldList.add(new Item(i, "item" + i));
+            }
+            if (random.nextInt(10) != 0) {
+                newList.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        Collections.shuffle(newList, random);
+
+        ChangeAssertions.assertSameListChanges(detector.detectChanges(newList, oldList),
+                keyedDetector.detectChanges(newList, oldList));
+    }
+
+    @Test
+    void detectChanges_whenNullListener_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(Collections.emptyList(),
+                Collections.emptyList(), null));
+    }
+
+    @Test
+    void detectChanges_whenListener_notifiesChangesInOrder() {
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 100; i++) {
+            if (random.nextInt(10) != 0) {
+                oldList.add(new Item(i, "item" + i));
+            }
+            if (random.nextInt(10) != 0) {
+                newList.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        Collections.shuffle(newList, random);
+
+        final var changes = new ArrayList<ListItemChange>();
+        detector.detectChanges(newList, oldList, changes::add);
+        final var keyedChanges = new ArrayList<ListItemChange>();
+        keyedDetector.detectChanges(newList, oldList, keyedChanges::add);
+
+        assertFalse(changes.isEmpty());
+        ChangeAssertions.assertSameListChanges(detector.detectChanges(newList, oldList), changes);
+        ChangeAssertions.assertSameListChanges(changes, keyedChanges);
+    }
+
+    @Test
+    void isImmutableInputs_whenSet_returnsExpectedValue() {
+        assertFalse(detector.isImmutableInputs());
+
+        detector.setImmutableInputs(true);
+
+        assertTrue(detector.isImmutableInputs());
+    }
+
+    @Test
+    void detectChanges_whenListenerModifiesOldItems_notifiesSameChangesAsReturned() {
+        final var oldList = new ArrayList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        final var expected = detector.detectChanges(newList, oldList);
+
+        final var changes = new ArrayList<ListItemChange>();
+        detector.detectChanges(newList, oldList, change -> {
+            oldList.clear();
+            changes.add(change);
+        });
+
+        ChangeAssertions.assertSameListChanges(expected, changes);
+    }
+
+    @Test
+    void detectChanges_whenImmutableInputs_notifiesSameChangesAsReturned() {
+        final var oldList = new LinkedList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        detector.setImmutableInputs(true);
+
+        final var changes = new ArrayList<ListItemChange>();
+        detector.detectChanges(newList, oldList, changes::add);
+
+        ChangeAssertions.assertSameListChanges(detector.detectChanges(newList, oldList), changes);
+    }
+
+    void detectChanges_whenKeyedAndListenerModifiesOldItems_notifiesSameChangesAsReturned() {
+        final var oldList = new ArrayList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        final var expected = keyedDetector.detectChanges(newList, oldList);
+
+        final var changes = new ArrayList<ListItemChange>();
+        keyedDetector.detectChanges(newList, oldList, change -> {
+            oldList.clear();
+            changes.add(change);
+        });
+
+        ChangeAssertions.assertSameListChanges(expected, changes);
+    }
+
+    @Test
+    void detectChanges_whenKeyedAndImmutableInputs_notifiesSameChangesAsReturned() {
+        final var oldList = new LinkedList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        keyedDetector.setImmutableInputs(true);
+
+        final var changes = new ArrayList<ListItemChange>();
+        keyedDetector.detectChanges(newList, oldList, changes::add);
+
+        ChangeAssertions.assertSameListChanges(keyedDetector.detectChanges(newList, oldList), changes);
+    }
+
+    @Test
+    void detectChanges_whenHeckelAndInsertAtBeginning_returnsSingleInsert() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item3 = new Item(3, "item3");
+        final var oldList = List.of(item1, item2);
+        final var newList = List.of(item3, item1, item2);
+
+        final var changes = heckelDetector.detectChanges(newList, oldList);
+
+        assertEquals(1, changes.size());
+
+        final var insertedChange = assertInstanceOf(InsertedListItemChange.class, changes.get(0));
+        assertSame(item3, insertedChange.getNewItem());
+        assertEquals(0, insertedChange.getNewPosition());
+    }
+
+    @Test
+    void detectChanges_whenHeckelAndRotated_returnsSingleMove() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item3 = new Item(3, "item3");
+        final var item4 = new Item(4, "item4");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item2, item3, item4, item1);
+
+        final var changes = heckelDetector.detectChanges(newList, oldList);
+
+        assertEquals(1, changes.size());
+
+        final var moveChange = assertInstanceOf(MovedListItemChange.class, changes.get(0));
+        assertSame(item1, moveChange.getOldItem());
+        assertSame(item1, moveChange.getNewItem());
+        assertEquals(0, moveChange.getOldPosition());
+        assertEquals(3, moveChange.getNewPosition());
+    }
+
+    @Test
+    void detectChanges_whenHeckelAndLastItemMovedToFront_returnsSingleMove() {
+        final var items = new ArrayList<Item>();
+        for (var i = 0; i < 10; i++) {
+            items.add(new Item(i, "item" + i));
+        }
+        final var newList = new ArrayList<>(items);
+        newList.add(0, newList.remove(9));
+
+        final var changes = heckelDetector.detectChanges(newList, items);
+
+        assertEquals(1, changes.size());
+        final var moveChange = assertInstanceOf(MovedListItemChange.class, changes.get(0));
+        assertSame(items.get(9), moveChange.getOldItem());
+        assertEquals(9, moveChange.getOldPosition());
+        assertEquals(0, moveChange.getNewPosition());
+    }
+
+    @Test
+    void detectChanges_whenHeckelAndBlockMoved_returnsMovesOfBlockItems() {
+        final var items = new ArrayList<Item>();
+        for (var i = 0; i < 10; i++) {
+            items.add(new Item(i, "item" + i));
+        }
+        // items 6, 7 and 8 are moved between items 1 and 2
+        final var newList = new ArrayList<>(items.subList(0, 2));
+        newList.addAll(items.subList(6, 9));
+        newList.addAll(items.subList(2, 6));
+        newList.add(items.get(9));
+
+        final var changes = keyedHeckelDetector.detectChanges(newList, items);
+
+        assertEquals(3, changes.size());
+        for (var i = 0; i < 3; i++) {
+            final var moveChange = assertInstanceOf(MovedListItemChange.class, changes.get(i));
+            assertSame(items.get(6 + i), moveChange.getOldItem());
+            assertEquals(6 + i, moveChange.getOldPosition());
+            assertEquals(2 + i, moveChange.getNewPosition());
+        }
+    }
+
+    @Test
+    void detectChanges_whenHeckelAndMultipleActions_returnsExpectedResult() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item3 = new Item(3, "item3");
+        final var item4 = new Item(4, "item4");
+        final var item5 = new Item(5, "item5");
+        final var updatedItem3 = new Item(3, "item3b");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item4, item5, item1, updatedItem3);
+
+        final var changes = heckelDetector.detectChanges(newList, oldList);
+
+        assertEquals(4, changes.size());
+
+        final var removedChange = assertInstanceOf(RemovedListItemChange.class, changes.get(0));
+        assertSame(item2, removedChange.getOldItem());
+        assertEquals(1, removedChange.getOldPosition());
+
+        final var insertedChange = assertInstanceOf(InsertedListItemChange.class, changes.get(1));
+        assertSame(item5, insertedChange.getNewItem());
+        assertEquals(1, insertedChange.getNewPosition());
+
+        final var moveChange = assertInstanceOf(MovedListItemChange.class, changes.get(2));
+        assertSame(item4, moveChange.getOldItem());
+        assertSame(item4, moveChange.getNewItem());
+        assertEquals(3, moveChange.getOldPosition());
+        assertEquals(0, moveChange.getNewPosition());
+
+        final var updatedChange = assertInstanceOf(UpdatedListItemChange.class, changes.get(3));
+        assertSame(item3, updatedChange.getOldItem());
+        assertSame(updatedItem3, updatedChange.getNewItem());
+        assertEquals(3, updatedChange.getPosition());
+    }
+
+    @Test
+    void detectChanges_whenHeckelAndRandomLists_returnsSameChangesExceptMoves() {
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            if (random.nextInt(10) != 0) {
+                oldList.add(new Item(i, "item" + i));
+            }
+            if (random.nextInt(10) != 0) {
+                newList.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        for (var i = 0; i < 20; i++) {
+            Collections.swap(newList, random.nextInt(newList.size()), random.nextInt(newList.size()));
+        }
+
+        final var expected = detector.detectChanges(newList, oldList);
+        final var changes = heckelDetector.detectChanges(newList, oldList);
+
+        ChangeAssertions.assertSameListChanges(expected.stream()
+                .filter(change -> change.getAction() != ListItemChangeAction.MOVED).toList(), changes.stream()
+                .filter(change -> change.getAction() != ListItemChangeAction.MOVED).toList());
+
+        // moved items are a subset of the moved items of the default algorithm
+        final var expectedMoves = expected.stream()
+                .filter(change -> change.getAction() == ListItemChangeAction.MOVED).toList();
+        final var moves = changes.stream()
+                .filter(change -> change.getAction() == ListItemChangeAction.MOVED).toList();
+        assertTrue(moves.size() <= 40);
+        assertTrue(moves.size() < expectedMoves.size());
+        for (final var move : moves) {
+            assertTrue(expectedMoves.stream().anyMatch(expectedMove ->
+                    ((MovedListItemChange<?>) expectedMove).getOldItem() == ((MovedListItemChange<?>) move).getOldItem()
+                            && ((MovedListItemChange<?>) expectedMove).getNewPosition()
+                            == ((MovedListItemChange<?>) move).getNewPosition()));
+        }
+    }
+
+    @Test
+    void detectChanges_whenKeyedHeckelAndRandomListsWithDuplicates_returnsSameResultAsLinearSearch() {
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            final var oldId = random.nextInt(200);
+            oldList.add(new Item(oldId, "item" + oldId));
+            final var newId = random.nextInt(200);
+            newList.add(new Item(newId, random.nextInt(10) != 0 ? "item" + newId : "changed" + newId));
+        }
+
+        ChangeAssertions.assertSameListChanges(heckelDetector.detectChanges(newList, oldList),
+                keyedHeckelDetector.detectChanges(newList, oldList));
+    }
+
+    @Test
+    void detectChanges_whenMultisetAndDuplicates_pairsOccurrencesInOrder() {
+        final var item1a = new Item(1, "item1a");
+        final var item1b = new Item(1, "item1b");
+        final var item1c = new Item(1, "item1c");
+        final var item2 = new Item(2, "item2");
+        final var oldList = List.of(item1a, item1b, item2);
+        final var newList = List.of(item2, item1a, item1c, item1b);
+
+        final var changes = keyedMultisetDetector.detectChanges(newList, oldList);
+
+        // the 3rd occurrence of item 1 is inserted, and the 2nd one is paired with the old 2nd occurrence
+        assertEquals(5, changes.size());
+
+        final var insertedChange = assertInstanceOf(InsertedListItemChange.class, changes.get(0));
+        assertSame(item1b, insertedChange.getNewItem());
+        assertEquals(3, insertedChange.getNewPosition());
+
+        final var moveChange1 = assertInstanceOf(MovedListItemChange.class, changes.get(1));
+        assertSame(item1a, moveChange1.getOldItem());
+        assertEquals(0, moveChange1.getOldPosition());
+        assertEquals(1, moveChange1.getNewPosition());
+
+        final var moveChange2 = assertInstanceOf(MovedListItemChange.class, changes.get(2));
+        assertSame(item1b, moveChange2.getOldItem());
+        assertSame(item1c, moveChange2.getNewItem());
+        assertEquals(1, moveChange2.getOldPosition());
+        assertEquals(2, moveChange2.getNewPosition());
+
+        final var moveChange3 = assertInstanceOf(MovedListItemChange.class, changes.get(3));
+        assertSame(item2, moveChange3.getOldItem());
+        assertEquals(2, moveChange3.getOldPosition());
+        assertEquals(0, moveChange3.getNewPosition());
+
+        final var updatedChange = assertInstanceOf(UpdatedListItemChange.class, changes.get(4));
+        assertSame(item1b, updatedChange.getOldItem());
+        assertSame(item1c, updatedChange.getNewItem());
+        assertEquals(2, updatedChange.getPosition());
+
+        ChangeAssertions.assertSameListChanges(changes, multisetDetector.detectChanges(newList, oldList));
+    }
+
+    @Test
+    void detectChanges_whenMultisetAndRemovedDuplicate_returnsSingleRemove() {
+        final var item1a = new Item(1, "item1");
+        final var item1b = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var oldList = List.of(item1a, item2, item1b);
+        final var newList = List.of(item1a, item2);
+
+        final var changes = keyedMultisetDetector.detectChanges(newList, oldList);
+
+        assertEquals(1, changes.size());
+
+        final var removedChange = assertInstanceOf(RemovedListItemChange.class, changes.get(0));
+        assertSame(item1b, removedChange.getOldItem());
+        assertEquals(2, removedChange.getOldPosition());
+
+        // the default algorithm pairs both old occurrences with the first new one and misses the remove
+        assertTrue(keyedDetector.detectChanges(newList, oldList).stream()
+                .noneMatch(change -> change.getAction() == ListItemChangeAction.REMOVED));
+    }
+
+    @Test
+    void detectChanges_whenMultisetAndRandomListsWithDuplicates_rebuildsNewList() {
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            final var oldId = random.nextInt(100);
+            oldList.add(new Item(oldId, "item" + oldId));
+            final var newId = random.nextInt(100);
+            newList.add(new Item(newId, random.nextInt(10) != 0 ? "item" + newId : "changed" + newId));
+        }
+
+        final var changes = keyedMultisetDetector.detectChanges(newList, oldList);
+
+        ChangeAssertions.assertSameListChanges(changes, multisetDetector.detectChanges(newList, oldList));
+
+        // every old item is either removed, kept at its position or moved, and every new item is either inserted or
+        // paired with an old item having the same id
+        final var rebuilt = new ArrayList<Item>(Collections.nCopies(newList.size(), null));
+        final var removed = new boolean[oldList.size()];
+        final var moved = new boolean[oldList.size()];
+        for (final var change : changes) {
+            if (change instanceof RemovedListItemChange<?> removedChange) {
+                removed[removedChange.getOldPosition()] = true;
+            } else if (change instanceof InsertedListItemChange<?> insertedChange) {
+                rebuilt.set(insertedChange.getNewPosition(), (Item) insertedChange.getNewItem());
+            } else if (change instanceof MovedListItemChange<?> moveChange) {
+                moved[moveChange.getOldPosition()] = true;
+                assertNull(rebuilt.set(moveChange.getNewPosition(), oldList.get(moveChange.getOldPosition())));
+            }
+        }
+        for (var i = 0; i < oldList.size(); i++) {
+            if (!removed[i] && !moved[i]) {
+                assertNull(rebuilt.set(i, oldList.get(i)));
+            }
+        }
+        for (final var change : changes) {
+            if (change instanceof UpdatedListItemChange<?> updatedChange) {
+                assertEquals(rebuilt.get(updatedChange.getPosition()).id(), ((Item) updatedChange.getNewItem()).id());
+                rebuilt.set(updatedChange.getPosition(), (Item) updatedChange.getNewItem());
+            }
+        }
+
+        assertEquals(newList, rebuilt);
+    }
+
     private record Item(int id, String content) {
     }
 }
\ No newline at end of file
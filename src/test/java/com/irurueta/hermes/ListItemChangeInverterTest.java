@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListItemChangeInverterTest {
+
+    private final ListItemChangeApplier applier = new ListItemChangeApplier(true);
+
+    @Test
+    void invert_whenNullOrUnsupportedChanges_throwsIllegalArgumentException() {
+        final var change = new ListItemChange(ListItemChangeAction.INSERTED) {
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> ListItemChangeInverter.invert((List<ListItemChange>) null));
+        assertThrows(IllegalArgumentException.class, () -> ListItemChangeInverter.invert(List.of(change)));
+    }
+
+    @Test
+    void invert_whenSingleChanges_returnsInverseChangesInReverseOrder() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var changed2 = new Item(2, "changed2");
+        final var changes = List.<ListItemChange>of(new RemovedListItemChange<>(item1, 0),
+                new InsertedListItemChange<>(item1, 3),
+                new MovedListItemChange<>(item2, changed2, 1, 2),
+                new UpdatedListItemChange<>(item2, changed2, 2));
+
+        final var inverse = ListItemChangeInverter.invert(changes);
+
+        assertEquals(4, inverse.size());
+        final var updated = assertInstanceOf(UpdatedListItemChange.class, inverse.get(0));
+        assertSame(changed2, updated.getOldItem());
+        assertSame(item2, updated.getNewItem());
+        assertEquals(2, updated.getPosition());
+        final var moved = assertInstanceOf(MovedListItemChange.class, inverse.get(1));
+        assertSame(changed2, moved.getOldItem());
+        assertSame(item2, moved.getNewItem());
+        assertEquals(2, moved.getOldPosition());
+        assertEquals(1, moved.getNewPosition());
+        final var removed = assertInstanceOf(RemovedListItemChange.class, inverse.get(2));
+        assertSame(item1, removed.getOldItem());
+        assertEquals(3, removed.getOldPosition());
+        final var inserted = assertInstanceOf(InsertedListItemChange.class, inverse.get(3));
+        assertSame(item1, inserted.getNewItem());
+        assertEquals(0, inserted.getNewPosition());
+    }
+
+    @Test
+    void invert_whenRangeChanges_returnsInverseRangeChanges() {
+        final var items = new ArrayList<Item>();
+        for (var i = 0; i < 10; i++) {
+            items.add(new Item(i, "item" + i));
+        }
+        final var changes = List.<ListItemChange>of(
+                new RemovedRangeListItemChange<>(items.subList(1, 3), 1),
+                new InsertedRangeListItemChange<>(List.of(new Item(10, "item10"), new Item(11, "item11")), 0),
+                new MovedRangeListItemChange<>(items.subList(6, 8),
+                        List.of(new Item(6, "changed6"), new Item(7, "changed7")), 6, 0),
+                new UpdatedRangeListItemChange<>(List.of(new Item(10, "item10"), new Item(11, "item11")),
+                        List.of(new Item(10, "changed10"), new Item(11, "changed11")), 2));
+        final var newItems = applier.applyToCopy(items, changes);
+
+        final var inverse = ListItemChangeInverter.invert(changes);
+
+        assertInstanceOf(UpdatedRangeListItemChange.class, inverse.get(0));
+        assertInstanceOf(MovedRangeListItemChange.class, inverse.get(1));
+        assertInstanceOf(RemovedRangeListItemChange.class, inverse.get(2));
+        assertInstanceOf(InsertedRangeListItemChange.class, inverse.get(3));
+        assertEquals(items, applier.applyToCopy(newItems, inverse));
+    }
+
+    @Test
+    void invert_whenDetectedChanges_returnsChangesRestoringOldList() {
+        final var random = new Random(0L);
+        for (final var algorithm : List.of(SequentialListItemChangeAlgorithm.MINIMAL_MOVES,
+                SequentialListItemChangeAlgorithm.MYERS)) {
+            final var detector = new SequentialListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                    (ItemContentComparator<Item>) (item1, item2) -> Objects.equals(item1.content(),
+                            item2.content()), algorithm);
+            for (final var coalescing : List.of(false, true)) {
+                detector.setRangeCoalescingEnabled(coalescing);
+                for (var t = 0; t < 20; t++) {
+                    final var oldList = randomList(random);
+                    final var newList = randomList(random);
+                    final var changes = detector.detectChanges(newList, oldList);
+
+                    final var inverse = ListItemChangeInverter.invert(changes);
+
+                    assertEquals(changes.size(), inverse.size());
+                    assertEquals(oldList, applier.applyToCopy(newList, inverse));
+                }
+            }
+        }
+    }
+
+    @Test
+    void invert_whenRecordedChanges_returnsChangesRestoringInitialList() {
+        final var random = new Random(0L);
+        final var initial = new ArrayList<Item>();
+        for (var i = 0; i < 100; i++) {
+            initial.add(new Item(i, "item" + i));
+        }
+        final var list = new RecordingList<>(new ArrayList<>(initial));
+        for (var i = 0; i < 1000; i++) {
+            final var size = list.size();
+            switch (size == 0 ? 0 : random.nextInt(4)) {
+                case 0 -> list.add(random.nextInt(size + 1), new Item(1000 + i, "item" + i));
+                case 1 -> list.remove(random.nextInt(size));
+                case 2 -> list.set(random.nextInt(size), new Item(2000 + i, "item" + i));
+                default -> list.move(random.nextInt(size), random.nextInt(size));
+            }
+        }
+
+        assertEquals(initial, applier.applyToCopy(list, ListItemChangeInverter.invert(list.getChanges())));
+    }
+
+    private static List<Item> randomList(final Random random) {
+        final var result = new ArrayList<Item>();
+        for (var i = 0; i < 200; i++) {
+            if (random.nextInt(5) != 0) {
+                result.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        for (var i = 0; i < 10; i++) {
+            Collections.swap(result, random.nextInt(result.size()), random.nextInt(result.size()));
+        }
+        return result;
+    }
+
+    private record Item(int id, String content) {
+    }
+}
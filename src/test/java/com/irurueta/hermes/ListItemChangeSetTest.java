@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListItemChangeSetTest {
+
+    @Test
+    void constructor_whenNegativeCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListItemChangeSet<>(-1));
+    }
+
+    @Test
+    void constructor_createsEmptyChangeSet() {
+        final var changeSet = new ListItemChangeSet<Item>();
+
+        assertEquals(0, changeSet.size());
+        assertTrue(changeSet.isEmpty());
+        assertTrue(changeSet.toChanges().isEmpty());
+        assertFalse(changeSet.cursor().next());
+    }
+
+    @Test
+    void add_whenNullItems_throwsIllegalArgumentException() {
+        final var changeSet = new ListItemChangeSet<Item>();
+        final var item = new Item(1, "item1");
+
+        assertThrows(IllegalArgumentException.class, () -> changeSet.addRemoved(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> changeSet.addInserted(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> changeSet.addMoved(null, item, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> changeSet.addMoved(item, null, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> changeSet.addUpdated(null, item, 0));
+        assertThrows(IllegalArgumentException.class, () -> changeSet.addUpdated(item, null, 0));
+        assertTrue(changeSet.isEmpty());
+    }
+
+    @Test
+    void getters_returnExpectedValues() {
+        final var changeSet = new ListItemChangeSet<Item>(0);
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item3 = new Item(3, "item3");
+        final var item3b = new Item(3, "item3b");
+
+        changeSet.addRemoved(item1, 0);
+        changeSet.addInserted(item2, 1);
+        changeSet.addMoved(item3, item3, 2, 0);
+        changeSet.addUpdated(item3, item3b, 0);
+
+        assertEquals(4, changeSet.size());
+        assertEquals(ListItemChangeAction.REMOVED, changeSet.getAction(0));
+        assertSame(item1, changeSet.getOldItem(0));
+        assertNull(changeSet.getNewItem(0));
+        assertEquals(0, changeSet.getOldPosition(0));
+        assertEquals(ListItemChangeSet.NO_POSITION, changeSet.getNewPosition(0));
+
+        assertEquals(ListItemChangeAction.INSERTED, changeSet.getAction(1));
+        assertNull(changeSet.getOldItem(1));
+        assertSame(item2, changeSet.getNewItem(1));
+        assertEquals(ListItemChangeSet.NO_POSITION, changeSet.getOldPosition(1));
+        assertEquals(1, changeSet.getNewPosition(1));
+
+        assertEquals(ListItemChangeAction.MOVED, changeSet.getAction(2));
+        assertEquals(2, changeSet.getOldPosition(2));
+        assertEquals(0, changeSet.getNewPosition(2));
+
+        assertEquals(ListItemChangeAction.UPDATED, changeSet.getAction(3));
+        assertSame(item3, changeSet.getOldItem(3));
+        assertSame(item3b, changeSet.getNewItem(3));
+        assertEquals(0, changeSet.getOldPosition(3));
+        assertEquals(0, changeSet.getNewPosition(3));
+
+        final var updated = (UpdatedListItemChange<?>) changeSet.getChange(3);
+        assertSame(item3b, updated.getNewItem());
+        assertEquals(0, updated.getPosition());
+    }
+
+    @Test
+    void getters_whenIndexOutOfBounds_throwsIllegalArgumentException() {
+        final var changeSet = new ListItemChangeSet<Item>();
+        changeSet.addInserted(new Item(1, "item1"), 0);
+
+        assertThrows(IllegalArgumentException.class, () -> changeSet.getAction(-1));
+        assertThrows(IllegalArgumentException.class, () -> changeSet.getAction(1));
+        assertThrows(IllegalArgumentException.class, () -> changeSet.getOldPosition(1));
+        assertThrows(IllegalArgumentException.class, () -> changeSet.getNewPosition(1));
+        assertThrows(IllegalArgumentException.class, () -> changeSet.getOldItem(1));
+        assertThrows(IllegalArgumentException.class, () -> changeSet.getNewItem(1));
+        assertThrows(IllegalArgumentException.class, () -> changeSet.getChange(1));
+        assertThrows(IllegalArgumentException.class, () -> changeSet.cursor().getAction());
+    }
+
+    @Test
+    void clear_removesChanges() {
+        final var changeSet = new ListItemChangeSet<Item>();
+        changeSet.addInserted(new Item(1, "item1"), 0);
+
+        changeSet.clear();
+
+        assertTrue(changeSet.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> changeSet.getNewItem(0));
+    }
+
+    @Test
+    void cursor_iteratesChangesInOrder() {
+        final var changeSet = new ListItemChangeSet<Item>();
+        for (var i = 0; i < 100; i++) {
+            changeSet.addInserted(new Item(i, "item" + i), i);
+        }
+
+        final var cursor = changeSet.cursor();
+        var count = 0;
+        while (cursor.next()) {
+            assertEquals(count, cursor.getIndex());
+            assertEquals(ListItemChangeAction.INSERTED, cursor.getAction());
+            assertEquals(count, cursor.getNewPosition());
+            assertEquals(ListItemChangeSet.NO_POSITION, cursor.getOldPosition());
+            assertEquals(count, cursor.getNewItem().id());
+            assertNull(cursor.getOldItem());
+            count++;
+        }
+        assertEquals(100, count);
+        assertFalse(cursor.next());
+
+        cursor.reset();
+        assertTrue(cursor.next());
+        assertEquals(0, cursor.getIndex());
+    }
+
+    @Test
+    void detectChangeSet_whenNullParameters_throwsIllegalArgumentException() {
+        final var detector = new ListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChangeSet(null, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChangeSet(List.of(), null));
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChangeSet(List.of(), List.of(), null));
+    }
+
+    @Test
+    void detectChangeSet_returnsSameChangesAsDetectChanges() {
+        final var detectors = new ArrayList<ListItemChangeDetector<Item>>();
+        for (final var algorithm : ListItemChangeAlgorithm.values()) {
+            final var detector = new ListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                    (item1, item2) -> Objects.equals(item1.content(), item2.content()), algorithm);
+            // range changes are never stored in change sets
+            detector.setRangeCoalescingEnabled(true);
+            detectors.add(detector);
+        }
+        final var sequentialDetectors = new ArrayList<SequentialListItemChangeDetector<Item>>();
+        for (final var algorithm : SequentialListItemChangeAlgorithm.values()) {
+            sequentialDetectors.add(new SequentialListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                    (item1, item2) -> Objects.equals(item1.content(), item2.content()), algorithm));
+        }
+
+        final var random = new Random(0L);
+        final var changeSet = new ListItemChangeSet<Item>();
+        for (var t = 0; t < 10; t++) {
+            final var oldList = new ArrayList<Item>();
+            final var newList = new ArrayList<Item>();
+            for (var i = 0; i < 200; i++) {
+                if (random.nextInt(10) != 0) {
+                    oldList.add(new Item(i, "item" + i));
+                }
+                if (random.nextInt(10) != 0) {
+                    newList.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+                }
+            }
+            for (var i = 0; i < 10; i++) {
+                Collections.swap(newList, random.nextInt(newList.size()), random.nextInt(newList.size()));
+            }
+
+            for (final var detector : detectors) {
+                detector.setRangeCoalescingEnabled(false);
+                final var expected = detector.detectChanges(newList, oldList);
+                detector.setRangeCoalescingEnabled(true);
+
+                ChangeAssertions.assertSameListChanges(expected,
+                        detector.detectChangeSet(newList, oldList).toChanges());
+            }
+            for (final var detector : sequentialDetectors) {
+                changeSet.clear();
+                detector.detectChangeSet(newList, oldList, changeSet);
+
+                ChangeAssertions.assertSameListChanges(detector.detectChanges(newList, oldList),
+                        changeSet.toChanges());
+            }
+        }
+    }
+
+    private record Item(int id, String content) {
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListItemChangeTrackerTest {
+
+    private final ListItemChangeDetector<Item> keyedDetector = new ListItemChangeDetector<>(
+            (ItemKeyExtractor<Item, Integer>) Item::id,
+            (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+    private final ListItemChangeDetector<Item> detector = new ListItemChangeDetector<>(
+            (item1, item2) -> item1.id() == item2.id(),
+            (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+    @Test
+    void constructor_whenNullDetector_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListItemChangeTracker<Item>(null));
+    }
+
+    @Test
+    void constructor_setsExpectedValues() {
+        final var tracker = new ListItemChangeTracker<>(keyedDetector);
+
+        assertSame(keyedDetector, tracker.getDetector());
+        assertTrue(tracker.getSnapshot().isEmpty());
+    }
+
+    @Test
+    void track_whenNullParameters_throwsIllegalArgumentException() {
+        final var tracker = new ListItemChangeTracker<>(keyedDetector);
+
+        assertThrows(IllegalArgumentException.class, () -> tracker.track(null));
+        assertThrows(IllegalArgumentException.class, () -> tracker.track(List.of(), null));
+        assertThrows(IllegalArgumentException.class, () -> tracker.reset(null));
+    }
+
+    @Test
+    void track_whenFirstSnapshot_returnsInserts() {
+        final var tracker = new ListItemChangeTracker<>(keyedDetector);
+        final var items = List.of(new Item(1, "item1"), new Item(2, "item2"));
+
+        final var changes = tracker.track(items);
+
+        assertEquals(2, changes.size());
+        assertTrue(changes.stream().allMatch(change -> change.getAction() == ListItemChangeAction.INSERTED));
+        assertEquals(items, tracker.getSnapshot());
+    }
+
+    @Test
+    void track_whenSuccessiveSnapshots_returnsSameChangesAsDetector() {
+        final var keyedTracker = new ListItemChangeTracker<>(keyedDetector);
+        final var tracker = new ListItemChangeTracker<>(detector);
+
+        final var random = new Random(0L);
+        var previous = List.<Item>of();
+        for (var t = 0; t < 10; t++) {
+            final var items = randomItems(random);
+
+            ChangeAssertions.assertSameListChanges(keyedDetector.detectChanges(items, previous),
+                    keyedTracker.track(items));
+            ChangeAssertions.assertSameListChanges(detector.detectChanges(items, previous),
+                    tracker.track(items));
+            previous = items;
+        }
+    }
+
+    @Test
+    void track_whenHeckelAndMultiset_returnsSameChangesAsDetector() {
+        for (final var algorithm : List.of(ListItemChangeAlgorithm.HECKEL, ListItemChangeAlgorithm.MULTISET)) {
+            final var algorithmDetector = new ListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                    (item1, item2) -> Objects.equals(item1.content(), item2.content()), algorithm);
+            final var tracker = new ListItemChangeTracker<>(algorithmDetector);
+
+            final var random = new Random(0L);
+            var previous = List.<Item>of();
+            for (var t = 0; t < 10; t++) {
+                final var items = randomItems(random);
+                Collections.shuffle(items, random);
+
+                ChangeAssertions.assertSameListChanges(algorithmDetector.detectChanges(items, previous),
+                        tracker.track(items));
+                previous = items;
+            }
+        }
+    }
+
+    @Test
+    void track_whenSnapshotModifiedAfterwards_keepsTrackedItems() {
+        final var tracker = new ListItemChangeTracker<>(keyedDetector);
+        final var items = new ArrayList<>(List.of(new Item(1, "item1"), new Item(2, "item2")));
+        tracker.track(items);
+
+        items.clear();
+
+        assertEquals(2, tracker.getSnapshot().size());
+        assertTrue(tracker.track(List.of(new Item(1, "item1"), new Item(2, "item2"))).isEmpty());
+    }
+
+    @Test
+    void track_whenKeyed_indexesOnlyNewSnapshot() {
+        final var keys = new AtomicInteger();
+        final var countingDetector = new ListItemChangeDetector<Item>((ItemKeyExtractor<Item, Integer>) item -> {
+            keys.incrementAndGet();
+            return item.id();
+        }, (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+        final var tracker = new ListItemChangeTracker<>(countingDetector);
+
+        final var random = new Random(0L);
+        final var oldItems = randomItems(random);
+        final var newItems = randomItems(random);
+        tracker.reset(oldItems);
+        assertEquals(oldItems, tracker.getSnapshot());
+
+        keys.set(0);
+        final var changes = tracker.track(newItems);
+        final var trackedKeys = keys.get();
+
+        keys.set(0);
+        ChangeAssertions.assertSameListChanges(countingDetector.detectChanges(newItems, oldItems), changes);
+
+        // the detector also extracts the keys of old items to index them
+        assertEquals(keys.get() - oldItems.size(), trackedKeys);
+    }
+
+    private static List<Item> randomItems(final Random random) {
+        final var items = new ArrayList<Item>();
+        for (var i = 0; i < 100; i++) {
+            if (random.nextInt(10) != 0) {
+                items.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        return items;
+    }
+
+    private record Item(int id, String content) {
+    }
+}
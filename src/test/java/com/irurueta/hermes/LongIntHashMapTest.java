@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntHashMapTest {
+
+    @Test
+    void get_whenEmpty_returnsNoValue() {
+        final var map = new LongIntHashMap(0);
+
+        assertEquals(0, map.size());
+        assertEquals(LongIntHashMap.NO_VALUE, map.get(1L));
+    }
+
+    @Test
+    void putIfAbsent_whenAbsent_addsValue() {
+        final var map = new LongIntHashMap(2);
+
+        assertEquals(LongIntHashMap.NO_VALUE, map.putIfAbsent(10L, 0));
+        assertEquals(LongIntHashMap.NO_VALUE, map.putIfAbsent(-10L, 1));
+
+        assertEquals(2, map.size());
+        assertEquals(0, map.get(10L));
+        assertEquals(1, map.get(-10L));
+        assertEquals(LongIntHashMap.NO_VALUE, map.get(0L));
+    }
+
+    @Test
+    void putIfAbsent_whenPresent_returnsExistingValue() {
+        final var map = new LongIntHashMap(2);
+        map.putIfAbsent(10L, 0);
+
+        assertEquals(0, map.putIfAbsent(10L, 5));
+
+        assertEquals(1, map.size());
+        assertEquals(0, map.get(10L));
+    }
+
+    @Test
+    void putIfAbsent_whenNegativeValue_throwsIllegalArgumentException() {
+        final var map = new LongIntHashMap(2);
+
+        assertThrows(IllegalArgumentException.class, () -> map.putIfAbsent(10L, -1));
+    }
+
+    @Test
+    void putIfAbsent_whenExpectedSizeExceeded_resizes() {
+        final var random = new Random(0L);
+        final var map = new LongIntHashMap(1);
+        final var expected = new HashMap<Long, Integer>();
+        for (var i = 0; i < 10000; i++) {
+            final var key = random.nextLong();
+            if (expected.putIfAbsent(key, i) == null) {
+                assertEquals(LongIntHashMap.NO_VALUE, map.putIfAbsent(key, i));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (final var entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        assertEquals(LongIntHashMap.NO_VALUE, map.get(random.nextLong()));
+    }
+
+    @Test
+    void putIfAbsent_whenSequentialKeys_storesAllKeys() {
+        final var map = new LongIntHashMap(1000);
+        for (var i = 0; i < 1000; i++) {
+            map.putIfAbsent((long) i << 32, i);
+        }
+
+        assertEquals(1000, map.size());
+        for (var i = 0; i < 1000; i++) {
+            assertEquals(i, map.get((long) i << 32));
+        }
+    }
+}
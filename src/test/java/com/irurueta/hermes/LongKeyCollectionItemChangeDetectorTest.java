@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongKeyCollectionItemChangeDetectorTest {
+
+    private final LongKeyCollectionItemChangeDetector<Item> detector = new LongKeyCollectionItemChangeDetector<>(
+            Item::id, (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+    @Test
+    void constructor_whenNullIdExtractor_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LongKeyCollectionItemChangeDetector<Item>(null,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content())));
+    }
+
+    @Test
+    void constructor_whenNullContentComparator_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LongKeyCollectionItemChangeDetector<Item>(
+                Item::id, null));
+    }
+
+    @Test
+    void detectChange_whenNullNewItems_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(null,
+                Collections.emptyList()));
+    }
+
+    @Test
+    void detectChange_whenNullOldItems_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(Collections.emptyList(),
+                null));
+    }
+
+    @Test
+    void detectChange_whenEmpty_returnsEmpty() {
+        final var changes = detector.detectChanges(Collections.emptyList(), Collections.emptyList());
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void detectChanges_whenMultipleActions_returnsExpectedResult() {
+        final var item1 = new Item(1L, "item1");
+        final var item2 = new Item(2L, "item2");
+        final var item2b = new Item(2L, "item2b");
+        final var item3 = new Item(3L, "item3");
+        final var item4 = new Item(4L, "item4");
+        final var item5 = new Item(5L, "item5");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item3, item2b, item1, item5);
+
+        final var changes = new ArrayList<>(detector.detectChanges(newList, oldList));
+
+        assertEquals(3, changes.size());
+        final var change1 = changes.get(0);
+        assertEquals(CollectionItemChangeAction.REMOVED, change1.getAction());
+        final var removedChange = assertInstanceOf(RemovedCollectionItemChange.class, change1);
+        assertSame(item4, removedChange.getOldItem());
+
+        final var change2 = changes.get(1);
+        assertEquals(CollectionItemChangeAction.INSERTED, change2.getAction());
+        final var insertedChange = assertInstanceOf(InsertedCollectionItemChange.class, change2);
+        assertSame(item5, insertedChange.getNewItem());
+
+        final var change3 = changes.get(2);
+        assertEquals(CollectionItemChangeAction.UPDATED, change3.getAction());
+        final var updatedChange = assertInstanceOf(UpdatedCollectionItemChange.class, change3);
+        assertSame(item2, updatedChange.getOldItem());
+        assertSame(item2b, updatedChange.getNewItem());
+    }
+
+    @Test
+    void notContains_whenScanned_returnsExpectedValue() {
+        final var items = List.of(new Item(1L, "item1"), new Item(2L, "item2"));
+
+        assertFalse(detector.notContains(items, new Item(2L, "other")));
+        assertTrue(detector.notContains(items, new Item(3L, "item3")));
+    }
+
+    @Test
+    void indexOf_whenScanned_returnsExpectedValue() {
+        final var items = List.of(new Item(1L, "item1"), new Item(2L, "item2"));
+
+        assertEquals(1, detector.indexOf(items, new Item(2L, "other")));
+        assertEquals(-1, detector.indexOf(items, new Item(3L, "item3")));
+    }
+
+    @Test
+    void detectChanges_whenRandomLists_returnsSameResultAsKeyedDetector() {
+        final var keyedDetector = new CollectionItemChangeDetector<>((ItemKeyExtractor<Item, Long>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            final var id = random.nextLong();
+            if (random.nextInt(10) != 0) {
+                oldList.add(new Item(id, "item" + i));
+            }
+            if (random.nextInt(10) != 0) {
+                newList.add(new Item(id, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        Collections.shuffle(newList, random);
+
+        ChangeAssertions.assertSameCollectionChanges(keyedDetector.detectChanges(newList, oldList),
+                detector.detectChanges(newList, oldList));
+    }
+
+    private record Item(long id, String content) {
+    }
+}
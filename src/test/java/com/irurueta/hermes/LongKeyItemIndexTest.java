@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongKeyItemIndexTest {
+
+    private static final ToLongFunction<Item> ID_EXTRACTOR = Item::id;
+
+    @Test
+    void indexOf_whenEmpty_returnsMinusOne() {
+        final var index = new LongKeyItemIndex<>(Collections.emptyList(), ID_EXTRACTOR);
+
+        assertEquals(-1, index.indexOf(new Item(1, "item1")));
+        assertFalse(index.contains(new Item(1, "item1")));
+    }
+
+    @Test
+    void indexOf_whenContained_returnsPosition() {
+        final var index = new LongKeyItemIndex<>(List.of(new Item(1, "item1"), new Item(2, "item2")), ID_EXTRACTOR);
+
+        assertEquals(0, index.indexOf(new Item(1, "other")));
+        assertEquals(1, index.indexOf(new Item(2, "other")));
+        assertTrue(index.contains(new Item(2, "other")));
+    }
+
+    @Test
+    void indexOf_whenNotContained_returnsMinusOne() {
+        final var index = new LongKeyItemIndex<>(List.of(new Item(1, "item1"), new Item(2, "item2")), ID_EXTRACTOR);
+
+        assertEquals(-1, index.indexOf(new Item(3, "item3")));
+        assertFalse(index.contains(new Item(3, "item3")));
+    }
+
+    @Test
+    void indexOf_whenDuplicated_returnsFirstPosition() {
+        final var index = new LongKeyItemIndex<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(1, "item1b")), ID_EXTRACTOR);
+
+        assertEquals(0, index.indexOf(new Item(1, "item1b")));
+    }
+
+    @Test
+    void pair_whenDuplicates_pairsOccurrencesInOrder() {
+        final var index = new LongKeyItemIndex<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(1, "item1b"), new Item(3, "item3")), ID_EXTRACTOR);
+
+        final var result = index.pair(List.of(new Item(2, ""), new Item(1, ""), new Item(1, ""),
+                new Item(1, ""), new Item(3, ""), new Item(4, "")));
+
+        assertArrayEquals(new int[]{1, 0, 2, -1, 3, -1}, result);
+    }
+
+    @Test
+    void indexOf_whenLargeIdentifiers_returnsPosition() {
+        final var index = new LongKeyItemIndex<>(List.of(new Item(Long.MAX_VALUE, "item1"),
+                new Item(Long.MIN_VALUE, "item2"), new Item(0L, "item3")), ID_EXTRACTOR);
+
+        assertEquals(0, index.indexOf(new Item(Long.MAX_VALUE, "")));
+        assertEquals(1, index.indexOf(new Item(Long.MIN_VALUE, "")));
+        assertEquals(2, index.indexOf(new Item(0L, "")));
+        assertEquals(-1, index.indexOf(new Item(1L, "")));
+    }
+
+    private record Item(long id, String content) {
+    }
+}
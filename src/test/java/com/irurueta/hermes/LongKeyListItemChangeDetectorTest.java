@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongKeyListItemChangeDetectorTest {
+
+    private final LongKeyListItemChangeDetector<Item> detector = new LongKeyListItemChangeDetector<>(
+            Item::id, (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+    @Test
+    void constructor_whenNullIdExtractor_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LongKeyListItemChangeDetector<Item>(null,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content())));
+    }
+
+    @Test
+    void constructor_whenNullContentComparator_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LongKeyListItemChangeDetector<Item>(
+                Item::id, null));
+    }
+
+    @Test
+    void detectChange_whenNullNewItems_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(null,
+                Collections.emptyList()));
+    }
+
+    @Test
+    void detectChange_whenNullOldItems_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(Collections.emptyList(),
+                null));
+    }
+
+    @Test
+    void detectChange_whenEmpty_returnsEmpty() {
+        final var changes = detector.detectChanges(Collections.emptyList(), Collections.emptyList());
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void detectChanges_whenMultipleActions_returnsExpectedResult() {
+        final var item1 = new Item(1L, "item1");
+        final var item2 = new Item(2L, "item2");
+        final var item2b = new Item(2L, "item2b");
+        final var item3 = new Item(3L, "item3");
+        final var item4 = new Item(4L, "item4");
+        final var item5 = new Item(5L, "item5");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item3, item2b, item1, item5);
+
+        final var changes = detector.detectChanges(newList, oldList);
+
+        assertEquals(5, changes.size());
+        final var change1 = changes.get(0);
+        assertEquals(ListItemChangeAction.REMOVED, change1.getAction());
+        final var removedChange = assertInstanceOf(RemovedListItemChange.class, change1);
+        assertSame(item4, removedChange.getOldItem());
+        assertEquals(3, removedChange.getOldPosition());
+
+        final var change2 = changes.get(1);
+        assertEquals(ListItemChangeAction.INSERTED, change2.getAction());
+        final var insertedChange = assertInstanceOf(InsertedListItemChange.class, change2);
+        assertSame(item5, insertedChange.getNewItem());
+        assertEquals(3, insertedChange.getNewPosition());
+
+        final var change3 = changes.get(2);
+        assertEquals(ListItemChangeAction.MOVED, change3.getAction());
+        final var movedChange1 = assertInstanceOf(MovedListItemChange.class, change3);
+        assertSame(item1, movedChange1.getOldItem());
+        assertEquals(0, movedChange1.getOldPosition());
+        assertEquals(2, movedChange1.getNewPosition());
+
+        final var change4 = changes.get(3);
+        assertEquals(ListItemChangeAction.MOVED, change4.getAction());
+        final var movedChange2 = assertInstanceOf(MovedListItemChange.class, change4);
+        assertSame(item3, movedChange2.getOldItem());
+        assertEquals(2, movedChange2.getOldPosition());
+        assertEquals(0, movedChange2.getNewPosition());
+
+        final var change5 = changes.get(4);
+        assertEquals(ListItemChangeAction.UPDATED, change5.getAction());
+        final var updatedChange = assertInstanceOf(UpdatedListItemChange.class, change5);
+        assertSame(item2, updatedChange.getOldItem());
+        assertSame(item2b, updatedChange.getNewItem());
+        assertEquals(1, updatedChange.getPosition());
+    }
+
+    @Test
+    void notContains_whenScanned_returnsExpectedValue() {
+        final var items = List.of(new Item(1L, "item1"), new Item(2L, "item2"));
+
+        assertFalse(detector.notContains(items, new Item(2L, "other")));
+        assertTrue(detector.notContains(items, new Item(3L, "item3")));
+    }
+
+    @Test
+    void indexOf_whenScanned_returnsExpectedValue() {
+        final var items = List.of(new Item(1L, "item1"), new Item(2L, "item2"));
+
+        assertEquals(1, detector.indexOf(items, new Item(2L, "other")));
+        assertEquals(-1, detector.indexOf(items, new Item(3L, "item3")));
+    }
+
+    @Test
+    void detectChanges_whenRandomLists_returnsSameResultAsKeyedDetector() {
+        final var keyedDetector = new ListItemChangeDetector<>((ItemKeyExtractor<Item, Long>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            final var id = random.nextLong();
+            if (random.nextInt(10) != 0) {
+                oldList.add(new Item(id, "item" + i));
+            }
+            if (random.nextInt(10) != 0) {
+                newList.add(new Item(id, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        Collections.shuffle(newList, random);
+
+        ChangeAssertions.assertSameListChanges(keyedDetector.detectChanges(newList, oldList),
+                detector.detectChanges(newList, oldList));
+    }
+
+    @Test
+    void detectChanges_whenHeckelAndRandomLists_returnsSameResultAsKeyedDetector() {
+        final var heckelDetector = new LongKeyListItemChangeDetector<>(Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()), ListItemChangeAlgorithm.HECKEL);
+        final var keyedDetector = new ListItemChangeDetector<>((ItemKeyExtractor<Item, Long>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()), ListItemChangeAlgorithm.HECKEL);
+
+        assertEquals(ListItemChangeAlgorithm.HECKEL, heckelDetector.getAlgorithm());
+        assertThrows(IllegalArgumentException.class, () -> new LongKeyListItemChangeDetector<Item>(Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()), null));
+
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            final var oldId = random.nextInt(200) * 31L;
+            oldList.add(new Item(oldId, "item" + oldId));
+            final var newId = random.nextInt(200) * 31L;
+            newList.add(new Item(newId, random.nextInt(10) != 0 ? "item" + newId : "changed" + newId));
+        }
+
+        ChangeAssertions.assertSameListChanges(keyedDetector.detectChanges(newList, oldList),
+                heckelDetector.detectChanges(newList, oldList));
+    }
+
+    @Test
+    void detectChanges_whenMultisetAndRandomLists_returnsSameResultAsKeyedDetector() {
+        final var multisetDetector = new LongKeyListItemChangeDetector<>(Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()), ListItemChangeAlgorithm.MULTISET);
+        final var keyedDetector = new ListItemChangeDetector<>((ItemKeyExtractor<Item, Long>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()), ListItemChangeAlgorithm.MULTISET);
+
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        final var newList = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            final var oldId = random.nextInt(200) * 31L;
+            oldList.add(new Item(oldId, "item" + oldId));
+            final var newId = random.nextInt(200) * 31L;
+            newList.add(new Item(newId, random.nextInt(10) != 0 ? "item" + newId : "changed" + newId));
+        }
+
+        ChangeAssertions.assertSameListChanges(keyedDetector.detectChanges(newList, oldList),
+                multisetDetector.detectChanges(newList, oldList));
+    }
+
+    private record Item(long id, String content) {
+    }
+}
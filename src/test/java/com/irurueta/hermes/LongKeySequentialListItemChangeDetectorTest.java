@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongKeySequentialListItemChangeDetectorTest {
+
+    private final LongKeySequentialListItemChangeDetector<Item> detector = new LongKeySequentialListItemChangeDetector<>(
+            Item::id, (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+    @Test
+    void constructor_whenNullIdExtractor_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LongKeySequentialListItemChangeDetector<Item>(null,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content())));
+    }
+
+    @Test
+    void constructor_whenNullContentComparator_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LongKeySequentialListItemChangeDetector<Item>(
+                Item::id, null));
+    }
+
+    @Test
+    void detectChange_whenNullNewItems_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(null,
+                Collections.emptyList()));
+    }
+
+    @Test
+    void detectChange_whenNullOldItems_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(Collections.emptyList(),
+                null));
+    }
+
+    @Test
+    void detectChange_whenEmpty_returnsEmpty() {
+        final var changes = detector.detectChanges(Collections.emptyList(), Collections.emptyList());
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void constructor_whenNullAlgorithm_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LongKeySequentialListItemChangeDetector<Item>(
+                Item::id, (item1, item2) -> Objects.equals(item1.content(), item2.content()), null));
+    }
+
+    @Test
+    void getAlgorithm_returnsExpectedValue() {
+        assertEquals(SequentialListItemChangeAlgorithm.MINIMAL_MOVES, detector.getAlgorithm());
+        assertEquals(SequentialListItemChangeAlgorithm.MYERS, new LongKeySequentialListItemChangeDetector<Item>(
+                Item::id, (item1, item2) -> Objects.equals(item1.content(), item2.content()),
+                SequentialListItemChangeAlgorithm.MYERS).getAlgorithm());
+    }
+
+    @Test
+    void isSameItem_returnsExpectedValue() {
+        assertTrue(detector.isSameItem(new Item(1L, "item1"), new Item(1L, "other")));
+        assertFalse(detector.isSameItem(new Item(1L, "item1"), new Item(2L, "item1")));
+    }
+
+    @Test
+    void notContains_whenScanned_returnsExpectedValue() {
+        final var items = List.of(new Item(1L, "item1"), new Item(2L, "item2"));
+
+        assertFalse(detector.notContains(items, new Item(2L, "other")));
+        assertTrue(detector.notContains(items, new Item(3L, "item3")));
+    }
+
+    @Test
+    void indexOf_whenScanned_returnsExpectedValue() {
+        final var items = List.of(new Item(1L, "item1"), new Item(2L, "item2"));
+
+        assertEquals(1, detector.indexOf(items, new Item(2L, "other")));
+        assertEquals(-1, detector.indexOf(items, new Item(3L, "item3")));
+    }
+
+    @Test
+    void detectChanges_whenDefaultConstructor_findsItemsThroughIndex() {
+        final var indexes = new int[1];
+        final var indexedDetector = new LongKeySequentialListItemChangeDetector<Item>(Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content())) {
+            @Override
+            protected boolean notContains(final List<Item> items, final Item item) {
+                throw new AssertionError("items must not be found by linear search");
+            }
+
+            @Override
+            protected int indexOf(final List<Item> items, final Item item) {
+                throw new AssertionError("items must not be found by linear search");
+            }
+
+            @Override
+            ItemIndex<Item> createIndex(final List<Item> items) {
+                indexes[0]++;
+                return super.createIndex(items);
+            }
+        };
+        final var oldList = List.of(new Item(1, "item1"), new Item(2, "item2"), new Item(3, "item3"));
+        final var newList = List.of(new Item(3, "item3"), new Item(1, "changed1"), new Item(4, "item4"));
+
+        final var changes = indexedDetector.detectChanges(newList, oldList);
+
+        assertTrue(indexes[0] > 0);
+        assertEquals(newList, ChangeAssertions.applySequentially(oldList, changes));
+    }
+
+    @Test
+    void detectChanges_whenRandomLists_returnsSameResultAsKeyedDetector() {
+        final var random = new Random(0L);
+        final var oldList = new ArrayList<Item>();
+        for (var i = 0; i < 300; i++) {
+            oldList.add(new Item(i, "item" + i));
+        }
+        Collections.shuffle(oldList, random);
+        final var newList = new ArrayList<>(oldList);
+        for (var i = 0; i < 10; i++) {
+            newList.remove(random.nextInt(newList.size()));
+            newList.add(random.nextInt(newList.size()), new Item(1000 + i, "new" + i));
+            final var pos = random.nextInt(newList.size());
+            newList.set(pos, new Item(newList.get(pos).id(), "changed" + i));
+        }
+
+        for (final var algorithm : SequentialListItemChangeAlgorithm.values()) {
+            final var longKeyDetector = new LongKeySequentialListItemChangeDetector<Item>(Item::id,
+                    (item1, item2) -> Objects.equals(item1.content(), item2.content()), algorithm);
+            final var keyedDetector = new SequentialListItemChangeDetector<>((ItemKeyExtractor<Item, Long>) Item::id,
+                    (item1, item2) -> Objects.equals(item1.content(), item2.content()), algorithm);
+
+            final var changes = longKeyDetector.detectChanges(newList, oldList);
+
+            ChangeAssertions.assertSameListChanges(keyedDetector.detectChanges(newList, oldList), changes);
+            assertEquals(newList, ChangeAssertions.applySequentially(oldList, changes));
+        }
+    }
+
+    private record Item(long id, String content) {
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongestIncreasingSubsequenceTest {
+
+    @Test
+    void find_whenEmpty_returnsEmpty() {
+        assertEquals(0, LongestIncreasingSubsequence.find(new int[0]).length);
+    }
+
+    @Test
+    void find_whenSorted_returnsAllValues() {
+        assertArrayEquals(new boolean[]{true, true, true, true},
+                LongestIncreasingSubsequence.find(new int[]{0, 1, 2, 3}));
+    }
+
+    @Test
+    void find_whenRotated_returnsAllButOne() {
+        assertArrayEquals(new boolean[]{false, true, true, true},
+                LongestIncreasingSubsequence.find(new int[]{3, 0, 1, 2}));
+    }
+
+    @Test
+    void find_whenReversed_returnsSingleValue() {
+        final var result = LongestIncreasingSubsequence.find(new int[]{3, 2, 1, 0});
+
+        var count = 0;
+        for (final var value : result) {
+            if (value) {
+                count++;
+            }
+        }
+        assertEquals(1, count);
+    }
+
+    @Test
+    void find_whenRandom_returnsLongestIncreasingSubsequence() {
+        final var random = new Random(0L);
+        for (var t = 0; t < 100; t++) {
+            final var values = new int[random.nextInt(12)];
+            for (var i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(20);
+            }
+
+            final var result = LongestIncreasingSubsequence.find(values);
+
+            // check that found values are strictly increasing
+            var count = 0;
+            var last = Integer.MIN_VALUE;
+            for (var i = 0; i < values.length; i++) {
+                if (result[i]) {
+                    assertTrue(values[i] > last);
+                    last = values[i];
+                    count++;
+                }
+            }
+
+            // check length using quadratic dynamic programming
+            final var lengths = new int[values.length];
+            var expected = 0;
+            for (var i = 0; i < values.length; i++) {
+                lengths[i] = 1;
+                for (var j = 0; j < i; j++) {
+                    if (values[j] < values[i]) {
+                        lengths[i] = Math.max(lengths[i], lengths[j] + 1);
+                    }
+                }
+                expected = Math.max(expected, lengths[i]);
+            }
+            assertEquals(expected, count);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapItemChangeDetectorTest {
+
+    private final MapItemChangeDetector<Integer, Item> detector = new MapItemChangeDetector<>(
+            (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+    @Test
+    void constructor_setsExpectedValues() {
+        assertFalse(detector.isImmutableInputs());
+        assertThrows(IllegalArgumentException.class, () -> new MapItemChangeDetector<Integer, Item>(null));
+    }
+
+    @Test
+    void setImmutableInputs_setsExpectedValue() {
+        detector.setImmutableInputs(true);
+
+        assertTrue(detector.isImmutableInputs());
+    }
+
+    @Test
+    void detectChanges_whenNullParameters_throwsIllegalArgumentException() {
+        final var map = Map.<Integer, Item>of();
+
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(null, map));
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(map, null));
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(map, map, null));
+    }
+
+    @Test
+    void detectChanges_whenEqualMaps_returnsNoChanges() {
+        final var oldMap = Map.of(1, new Item(1, "item1"), 2, new Item(2, "item2"));
+        final var newMap = Map.of(1, new Item(1, "item1"), 2, new Item(2, "item2"));
+
+        assertTrue(detector.detectChanges(newMap, oldMap).isEmpty());
+    }
+
+    @Test
+    void detectChanges_whenChangedMaps_returnsRemovesInsertsAndUpdates() {
+        final var oldMap = new LinkedHashMap<Integer, Item>();
+        oldMap.put(1, new Item(1, "item1"));
+        oldMap.put(2, new Item(2, "item2"));
+        oldMap.put(3, new Item(3, "item3"));
+        final var newMap = new LinkedHashMap<Integer, Item>();
+        newMap.put(2, new Item(2, "changed2"));
+        newMap.put(3, new Item(3, "item3"));
+        newMap.put(4, new Item(4, "item4"));
+
+        final var changes = new ArrayList<>(detector.detectChanges(newMap, oldMap));
+
+        assertEquals(3, changes.size());
+        final var removed = assertInstanceOf(RemovedCollectionItemChange.class, changes.get(0));
+        assertEquals(Map.entry(1, new Item(1, "item1")), removed.getOldItem());
+        final var inserted = assertInstanceOf(InsertedCollectionItemChange.class, changes.get(1));
+        assertEquals(Map.entry(4, new Item(4, "item4")), inserted.getNewItem());
+        final var updated = assertInstanceOf(UpdatedCollectionItemChange.class, changes.get(2));
+        assertEquals(Map.entry(2, new Item(2, "item2")), updated.getOldItem());
+        assertEquals(Map.entry(2, new Item(2, "changed2")), updated.getNewItem());
+    }
+
+    @Test
+    void detectChanges_whenNullValues_returnsUpdates() {
+        final var defaultDetector = new MapItemChangeDetector<Integer, String>();
+        final var oldMap = new HashMap<Integer, String>();
+        oldMap.put(1, null);
+        oldMap.put(2, "value2");
+        final var newMap = new HashMap<Integer, String>();
+        newMap.put(1, "value1");
+        newMap.put(2, null);
+        newMap.put(3, null);
+
+        final var changes = new ArrayList<>(defaultDetector.detectChanges(newMap, oldMap));
+
+        assertEquals(3, changes.size());
+        assertEquals(CollectionItemChangeAction.INSERTED, changes.get(0).getAction());
+        assertEquals(CollectionItemChangeAction.UPDATED, changes.get(1).getAction());
+        assertEquals(CollectionItemChangeAction.UPDATED, changes.get(2).getAction());
+    }
+
+    @Test
+    void detectChanges_whenListenerModifiesMaps_notifiesChangesOfOriginalMaps() {
+        final var oldMap = new HashMap<Integer, Item>();
+        oldMap.put(1, new Item(1, "item1"));
+        final var newMap = new HashMap<Integer, Item>();
+        newMap.put(2, new Item(2, "item2"));
+        final var changes = new ArrayList<CollectionItemChange>();
+
+        detector.detectChanges(newMap, oldMap, change -> {
+            changes.add(change);
+            oldMap.clear();
+            newMap.clear();
+        });
+
+        assertEquals(2, changes.size());
+        assertEquals(CollectionItemChangeAction.REMOVED, changes.get(0).getAction());
+        assertEquals(CollectionItemChangeAction.INSERTED, changes.get(1).getAction());
+    }
+
+    @Test
+    void detectChanges_whenRandomMaps_returnsSameChangesAsCollectionDetector() {
+        final var collectionDetector = new CollectionItemChangeDetector<>(
+                (ItemKeyExtractor<Item, Integer>) Item::id,
+                (ItemContentComparator<Item>) (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+        final var random = new Random(0L);
+        for (var t = 0; t < 20; t++) {
+            final var oldMap = randomMap(random, 100 + random.nextInt(100));
+            final var newMap = randomMap(random, 100 + random.nextInt(100));
+
+            final var changes = detector.detectChanges(newMap, oldMap);
+            final var expected = collectionDetector.detectChanges(newMap.values(), oldMap.values());
+
+            assertEquals(expected.size(), changes.size());
+            final var result = new HashMap<>(oldMap);
+            for (final var change : changes) {
+                if (change instanceof RemovedCollectionItemChange<?> removed) {
+                    result.remove(((Map.Entry<?, ?>) removed.getOldItem()).getKey());
+                } else if (change instanceof InsertedCollectionItemChange<?> inserted) {
+                    final var entry = (Map.Entry<?, ?>) inserted.getNewItem();
+                    result.put((Integer) entry.getKey(), (Item) entry.getValue());
+                } else {
+                    final var entry = (Map.Entry<?, ?>) ((UpdatedCollectionItemChange<?>) change).getNewItem();
+                    assertNotEquals(oldMap.get(entry.getKey()), entry.getValue());
+                    result.put((Integer) entry.getKey(), (Item) entry.getValue());
+                }
+            }
+            assertEquals(newMap, result);
+        }
+    }
+
+    private static Map<Integer, Item> randomMap(final Random random, final int size) {
+        final var result = new HashMap<Integer, Item>();
+        for (var i = 0; i < size; i++) {
+            if (random.nextInt(4) != 0) {
+                result.put(i, new Item(i, random.nextInt(5) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        return result;
+    }
+
+    private record Item(int id, String content) {
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovedRangeListItemChangeTest {
+
+    @Test
+    void constructor_whenInvalidItems_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MovedRangeListItemChange<>(null, List.of("a"), 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MovedRangeListItemChange<>(List.of("a"), null, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MovedRangeListItemChange<>(List.of(), List.of(), 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MovedRangeListItemChange<>(List.of("a", "b"), List.of("a"), 0, 1));
+    }
+
+    @Test
+    void getters_returnExpectedValues() {
+        final var change = new MovedRangeListItemChange<>(List.of("a", "b"), List.of("a2", "b2"), 1, 5);
+
+        assertEquals(List.of("a", "b"), change.getOldItems());
+        assertEquals(List.of("a2", "b2"), change.getNewItems());
+        assertEquals(1, change.getOldPosition());
+        assertEquals(5, change.getNewPosition());
+        assertEquals(2, change.getCount());
+    }
+
+    @Test
+    void getAction_returnsExpectedValue() {
+        final var change = new MovedRangeListItemChange<>(List.of("a"), List.of("a"), 0, 1);
+        assertEquals(ListItemChangeAction.MOVED_RANGE, change.getAction());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyersDiffTest {
+
+    @Test
+    void match_whenEmpty_returnsEmpty() {
+        assertEquals(0, MyersDiff.match(0, 3, (oldPos, newPos) -> true).length);
+    }
+
+    @Test
+    void match_whenEqual_matchesAllItems() {
+        final var values = new int[]{1, 2, 3};
+
+        assertArrayEquals(new int[]{0, 1, 2}, MyersDiff.match(3, 3,
+                (oldPos, newPos) -> values[oldPos] == values[newPos]));
+    }
+
+    @Test
+    void match_whenNothingInCommon_matchesNothing() {
+        final var oldValues = new int[]{1, 2, 3};
+        final var newValues = new int[]{4, 5};
+
+        assertArrayEquals(new int[]{-1, -1, -1}, MyersDiff.match(3, 2,
+                (oldPos, newPos) -> oldValues[oldPos] == newValues[newPos]));
+    }
+
+    @Test
+    void match_whenInsertedAndRemoved_matchesCommonItems() {
+        final var oldValues = new int[]{1, 2, 3, 4, 5};
+        final var newValues = new int[]{0, 1, 3, 4, 6, 5};
+
+        assertArrayEquals(new int[]{1, -1, 2, 3, 5}, MyersDiff.match(5, 6,
+                (oldPos, newPos) -> oldValues[oldPos] == newValues[newPos]));
+    }
+
+    @Test
+    void match_whenRandom_matchesLongestCommonSubsequence() {
+        final var random = new Random(0L);
+        for (var t = 0; t < 500; t++) {
+            final var oldValues = randomValues(random);
+            final var newValues = randomValues(random);
+
+            final var result = MyersDiff.match(oldValues.length, newValues.length,
+                    (oldPos, newPos) -> oldValues[oldPos] == newValues[newPos]);
+
+            // matched items must be equal and keep their relative order
+            var count = 0;
+            var last = -1;
+            for (var i = 0; i < oldValues.length; i++) {
+                if (result[i] >= 0) {
+                    assertTrue(result[i] > last);
+                    assertEquals(oldValues[i], newValues[result[i]]);
+                    last = result[i];
+                    count++;
+                }
+            }
+
+            assertEquals(lcsLength(oldValues, newValues), count);
+        }
+    }
+
+    private static int[] randomValues(final Random random) {
+        final var values = new int[random.nextInt(15)];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(5);
+        }
+        return values;
+    }
+
+    private static int lcsLength(final int[] values1, final int[] values2) {
+        final var lengths = new int[values1.length + 1][values2.length + 1];
+        for (var i = 1; i <= values1.length; i++) {
+            for (var j = 1; j <= values2.length; j++) {
+                lengths[i][j] = values1[i - 1] == values2[j - 1] ? lengths[i - 1][j - 1] + 1
+                        : Math.max(lengths[i - 1][j], lengths[i][j - 1]);
+            }
+        }
+        return lengths[values1.length][values2.length];
+    }
+}
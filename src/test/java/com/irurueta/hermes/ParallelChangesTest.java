@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelChangesTest {
+
+    @Test
+    void collect_whenEmpty_returnsEmpty() {
+        final var result = ParallelChanges.collect(ForkJoinPool.commonPool(), 0, position -> position);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void collect_whenSomePositionsHaveNoChange_returnsChangesInOrder() {
+        final var pool = new ForkJoinPool(3);
+        try {
+            final var result = ParallelChanges.collect(pool, 1001,
+                    position -> position % 3 == 0 ? position : null);
+
+            assertEquals(334, result.size());
+            for (var i = 0; i < result.size(); i++) {
+                assertEquals(3 * i, result.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void collect_whenFewerPositionsThanThreads_returnsChangesInOrder() {
+        final var pool = new ForkJoinPool(8);
+        try {
+            final var result = ParallelChanges.collect(pool, 3, position -> position);
+
+            assertEquals(3, result.size());
+            assertEquals(0, result.get(0));
+            assertEquals(1, result.get(1));
+            assertEquals(2, result.get(2));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionTreeTest {
+
+    @Test
+    void positionOf_whenOccupied_returnsNumberOfPreviousOccupiedSlots() {
+        final var tree = new PositionTree(6);
+        tree.occupy(1);
+        tree.occupy(3);
+        tree.occupy(5);
+
+        assertEquals(0, tree.positionOf(1));
+        assertEquals(1, tree.positionOf(3));
+        assertEquals(2, tree.positionOf(5));
+    }
+
+    @Test
+    void positionOf_whenReleased_updatesPositions() {
+        final var tree = new PositionTree(6);
+        tree.occupy(0);
+        tree.occupy(2);
+        tree.occupy(4);
+
+        tree.release(0);
+        tree.occupy(5);
+
+        assertEquals(0, tree.positionOf(2));
+        assertEquals(1, tree.positionOf(4));
+        assertEquals(2, tree.positionOf(5));
+    }
+
+    @Test
+    void positionOf_whenOccupiedByRuns_returnsPositionOfLastItem() {
+        final var tree = new PositionTree(4);
+        tree.occupy(0, 3);
+        tree.occupy(1);
+        tree.occupy(3, 2);
+
+        assertEquals(2, tree.positionOf(0));
+        assertEquals(3, tree.positionOf(1));
+        assertEquals(5, tree.positionOf(3));
+
+        tree.release(0, 3);
+
+        assertEquals(0, tree.positionOf(1));
+        assertEquals(2, tree.positionOf(3));
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordingListTest {
+
+    @Test
+    void constructor_whenNullList_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RecordingList<Item>(null));
+    }
+
+    @Test
+    void constructor_whenList_wrapsItemsWithoutChanges() {
+        final var items = new ArrayList<>(List.of(new Item(1, "item1"), new Item(2, "item2")));
+        final var list = new RecordingList<>(items);
+
+        assertEquals(items, list);
+        assertTrue(list.getChanges().isEmpty());
+        assertTrue(new RecordingList<Item>().isEmpty());
+    }
+
+    @Test
+    void add_whenNullItem_throwsIllegalArgumentException() {
+        final var list = new RecordingList<Item>();
+
+        assertThrows(IllegalArgumentException.class, () -> list.add(null));
+        assertThrows(IllegalArgumentException.class, () -> list.add(0, null));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void mutations_recordSequentialChanges() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var list = new RecordingList<>(new ArrayList<>(List.of(item1, item2)));
+
+        list.add(0, item3);
+        list.remove(1);
+        list.set(1, item2b);
+        list.move(1, 0);
+
+        assertEquals(List.of(item2b, item3), list);
+
+        final var changes = list.getChanges();
+        assertEquals(4, changes.size());
+
+        final var insertedChange = assertInstanceOf(InsertedListItemChange.class, changes.get(0));
+        assertSame(item3, insertedChange.getNewItem());
+        assertEquals(0, insertedChange.getNewPosition());
+
+        final var removedChange = assertInstanceOf(RemovedListItemChange.class, changes.get(1));
+        assertSame(item1, removedChange.getOldItem());
+        assertEquals(1, removedChange.getOldPosition());
+
+        final var updatedChange = assertInstanceOf(UpdatedListItemChange.class, changes.get(2));
+        assertSame(item2, updatedChange.getOldItem());
+        assertSame(item2b, updatedChange.getNewItem());
+        assertEquals(1, updatedChange.getPosition());
+
+        final var movedChange = assertInstanceOf(MovedListItemChange.class, changes.get(3));
+        assertSame(item2b, movedChange.getOldItem());
+        assertEquals(1, movedChange.getOldPosition());
+        assertEquals(0, movedChange.getNewPosition());
+    }
+
+    @Test
+    void move_whenInvalidPosition_throwsIndexOutOfBoundsException() {
+        final var list = new RecordingList<>(new ArrayList<>(List.of(new Item(1, "item1"))));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.move(-1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.move(0, 1));
+        list.move(0, 0);
+        assertTrue(list.getChanges().isEmpty());
+    }
+
+    @Test
+    void mutations_whenInsertedAndRemoved_recordsNothing() {
+        final var list = new RecordingList<>(new ArrayList<>(List.of(new Item(1, "item1"))));
+
+        list.add(new Item(2, "item2"));
+        list.set(1, new Item(2, "item2b"));
+        list.move(1, 0);
+        list.remove(0);
+
+        assertTrue(list.getChanges().isEmpty());
+    }
+
+    @Test
+    void mutations_whenUpdatedTwiceAndRemoved_recordsRemoveOfOriginalItem() {
+        final var item1 = new Item(1, "item1");
+        final var list = new RecordingList<>(new ArrayList<>(List.of(new Item(0, "item0"), item1)));
+
+        list.set(1, new Item(1, "item1b"));
+        list.set(1, new Item(1, "item1c"));
+        assertEquals(1, list.getChanges().size());
+
+        list.move(1, 0);
+        list.remove(0);
+
+        final var changes = list.getChanges();
+        assertEquals(1, changes.size());
+        final var removedChange = assertInstanceOf(RemovedListItemChange.class, changes.get(0));
+        assertSame(item1, removedChange.getOldItem());
+        assertEquals(1, removedChange.getOldPosition());
+    }
+
+    @Test
+    void mutations_whenMovedBack_recordsNothing() {
+        final var list = new RecordingList<>(new ArrayList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3"))));
+
+        list.move(0, 2);
+        list.move(2, 1);
+        assertEquals(1, list.getChanges().size());
+
+        list.move(1, 0);
+        assertTrue(list.getChanges().isEmpty());
+    }
+
+    @Test
+    void takeChanges_returnsRecordedChangesAndStartsNewRecording() {
+        final var list = new RecordingList<Item>();
+        list.add(new Item(1, "item1"));
+
+        final var changes = list.takeChanges();
+
+        assertEquals(1, changes.size());
+        assertTrue(list.getChanges().isEmpty());
+
+        list.add(new Item(2, "item2"));
+        list.clearChanges();
+
+        assertTrue(list.getChanges().isEmpty());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    void mutations_whenRandom_recordChangesRebuildingList() {
+        final var random = new Random(0L);
+        final var initial = new ArrayList<Item>();
+        for (var i = 0; i < 50; i++) {
+            initial.add(new Item(i, "item" + i));
+        }
+        final var list = new RecordingList<>(new ArrayList<>(initial));
+
+        var nextId = initial.size();
+        final var mutations = 2000;
+        for (var i = 0; i < mutations; i++) {
+            final var size = list.size();
+            switch (size == 0 ? 0 : random.nextInt(5)) {
+                case 0 -> list.add(random.nextInt(size + 1), new Item(nextId, "item" + nextId++));
+                case 1 -> list.remove(random.nextInt(size));
+                case 2 -> {
+                    final var pos = random.nextInt(size);
+                    list.set(pos, new Item(list.get(pos).id(), "changed" + i));
+                }
+                case 3 -> list.move(random.nextInt(size), random.nextInt(size));
+                default -> {
+                    // operate on the last position to exercise coalescing
+                    final var pos = size - 1;
+                    if (random.nextBoolean()) {
+                        list.remove(pos);
+                    } else {
+                        list.set(pos, new Item(list.get(pos).id(), "changed" + i));
+                    }
+                }
+            }
+        }
+
+        final var changes = list.getChanges();
+        assertTrue(changes.size() < mutations);
+        assertEquals(list, ChangeAssertions.applySequentially(initial, changes));
+
+        // the iterator and bulk operations of the list are also recorded
+        final var before = new ArrayList<>(list);
+        list.clearChanges();
+        list.removeIf(item -> item.id() % 2 == 0);
+        list.subList(0, 2).clear();
+        assertEquals(list, ChangeAssertions.applySequentially(before, list.getChanges()));
+        assertTrue(list.stream().allMatch(item -> item.id() % 2 != 0));
+    }
+
+    private record Item(int id, String content) {
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RemovedRangeListItemChangeTest {
+
+    @Test
+    void constructor_whenNullOrEmptyItems_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RemovedRangeListItemChange<>(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RemovedRangeListItemChange<>(List.of(), 0));
+    }
+
+    @Test
+    void getOldItems_returnsUnmodifiableItems() {
+        final var items = new ArrayList<>(List.of("a", "b"));
+        final var change = new RemovedRangeListItemChange<>(items, 0);
+
+        assertEquals(items, change.getOldItems());
+        assertThrows(UnsupportedOperationException.class, () -> change.getOldItems().add("c"));
+    }
+
+    @Test
+    void getOldPositionAndCount_returnExpectedValues() {
+        final var change = new RemovedRangeListItemChange<>(List.of("a", "b"), 3);
+
+        assertEquals(3, change.getOldPosition());
+        assertEquals(2, change.getCount());
+    }
+
+    @Test
+    void getAction_returnsExpectedValue() {
+        final var change = new RemovedRangeListItemChange<>(List.of("a"), 1);
+        assertEquals(ListItemChangeAction.REMOVED_RANGE, change.getAction());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScanItemIndexTest {
+
+    @Test
+    void indexOf_returnsFirstPosition() {
+        final var index = new ScanItemIndex<>(List.of("a", "b", "a"), List::indexOf);
+
+        assertEquals(0, index.indexOf("a"));
+        assertEquals(1, index.indexOf("b"));
+        assertEquals(-1, index.indexOf("c"));
+        assertTrue(index.contains("b"));
+        assertFalse(index.contains("c"));
+    }
+
+    @Test
+    void pair_whenEmpty_returnsNotPaired() {
+        final var index = new ScanItemIndex<>(Collections.<String>emptyList(), List::indexOf);
+
+        assertArrayEquals(new int[]{-1}, index.pair(List.of("a")));
+    }
+
+    @Test
+    void pair_whenDuplicates_pairsOccurrencesInOrder() {
+        final var index = new ScanItemIndex<>(List.of("a", "b", "a", "c"), List::indexOf);
+
+        assertArrayEquals(new int[]{1, 0, 2, -1, 3, -1}, index.pair(List.of("b", "a", "a", "a", "c", "d")));
+    }
+}
@@ -18,9 +18,12 @@ package com.irurueta.hermes;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +33,26 @@ class SequentialListItemChangeDetectorTest {
             (item1, item2) -> item1.id() == item2.id(),
             (item1, item2) -> Objects.equals(item1.content(), item2.content()));
 
+    private final SequentialListItemChangeDetector<Item> minimalMovesDetector =
+            new SequentialListItemChangeDetector<>((item1, item2) -> item1.id() == item2.id(),
+                    (item1, item2) -> Objects.equals(item1.content(), item2.content()),
+                    SequentialListItemChangeAlgorithm.MINIMAL_MOVES);
+
+    private final SequentialListItemChangeDetector<Item> keyedMinimalMovesDetector =
+            new SequentialListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                    (item1, item2) -> Objects.equals(item1.content(), item2.content()),
+                    SequentialListItemChangeAlgorithm.MINIMAL_MOVES);
+
+    private final SequentialListItemChangeDetector<Item> myersDetector =
+            new SequentialListItemChangeDetector<>((item1, item2) -> item1.id() == item2.id(),
+                    (item1, item2) -> Objects.equals(item1.content(), item2.content()),
+                    SequentialListItemChangeAlgorithm.MYERS);
+
+    private final SequentialListItemChangeDetector<Item> keyedMyersDetector =
+            new SequentialListItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                    (item1, item2) -> Objects.equals(item1.content(), item2.content()),
+                    SequentialListItemChangeAlgorithm.MYERS);
+
     @Test
     void constructor_whenNullComparator_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> new SequentialListItemChangeDetector<Item>(
@@ -42,6 +65,35 @@ class SequentialListItemChangeDetectorTest {
                 (item1, item2) -> item1.id() == item2.id(), null));
     }
 
+    @Test
+    void constructor_whenNullAlgorithm_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SequentialListItemChangeDetector<Item>(
+                (item1, item2) -> item1.id() == item2.id(),
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()), null));
+    }
+
+    @Test
+    void constructor_whenNullKeyExtractor_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SequentialListItemChangeDetector<Item>(
+                (ItemKeyExtractor<Item, Integer>) null,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content())));
+    }
+
+    @Test
+    void constructor_whenKeyExtractorAndNullContentComparator_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SequentialListItemChangeDetector<Item>(
+                (ItemKeyExtractor<Item, Integer>) Item::id, null));
+    }
+
+    @Test
+    void getAlgorithm_returnsExpectedValue() {
+        assertEquals(SequentialListItemChangeAlgorithm.DEFAULT, detector.getAlgorithm());
+        assertEquals(SequentialListItemChangeAlgorithm.MINIMAL_MOVES, minimalMovesDetector.getAlgorithm());
+        assertEquals(SequentialListItemChangeAlgorithm.DEFAULT, new SequentialListItemChangeDetector<Item>(
+                (ItemKeyExtractor<Item, Integer>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content())).getAlgorithm());
+    }
+
     @Test
     void detectChange_whenNullNewItems_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(null,
@@ -346,6 +398,326 @@ class SequentialListItemChangeDetectorTest {
         assertEquals(1, updatedChange.getPosition());
     }
 
+    @Test
+    void detectChanges_whenMinimalMovesAndEmpty_returnsEmpty() {
+        final var changes = minimalMovesDetector.detectChanges(Collections.emptyList(), Collections.emptyList());
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void detectChanges_whenMinimalMovesAndRotated_returnsSingleMove() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item3 = new Item(3, "item3");
+        final var item4 = new Item(4, "item4");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item2, item3, item4, item1);
+
+        final var changes = minimalMovesDetector.detectChanges(newList, oldList);
+
+        assertEquals(1, changes.size());
+        final var change = changes.get(0);
+        assertEquals(ListItemChangeAction.MOVED, change.getAction());
+        final var movedChange = assertInstanceOf(MovedListItemChange.class, change);
+        assertSame(item1, movedChange.getOldItem());
+        assertSame(item1, movedChange.getNewItem());
+        assertEquals(0, movedChange.getOldPosition());
+        assertEquals(3, movedChange.getNewPosition());
+    }
+
+    @Test
+    void detectChanges_whenMinimalMovesAndMultipleActions_returnsExpectedResult() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var item4 = new Item(4, "item4");
+        final var item5 = new Item(5, "item5");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item3, item2b, item1, item5);
+
+        final var changes = minimalMovesDetector.detectChanges(newList, oldList);
+
+        assertEquals(5, changes.size());
+
+        final var change1 = changes.get(0);
+        final var removedChange = assertInstanceOf(RemovedListItemChange.class, change1);
+        assertSame(item4, removedChange.getOldItem());
+        assertEquals(3, removedChange.getOldPosition());
+
+        final var change2 = changes.get(1);
+        final var movedChange1 = assertInstanceOf(MovedListItemChange.class, change2);
+        assertSame(item2, movedChange1.getOldItem());
+        assertSame(item2b, movedChange1.getNewItem());
+        assertEquals(1, movedChange1.getOldPosition());
+        assertEquals(2, movedChange1.getNewPosition());
+
+        final var change3 = changes.get(2);
+        final var movedChange2 = assertInstanceOf(MovedListItemChange.class, change3);
+        assertSame(item1, movedChange2.getOldItem());
+        assertSame(item1, movedChange2.getNewItem());
+        assertEquals(0, movedChange2.getOldPosition());
+        assertEquals(2, movedChange2.getNewPosition());
+
+        final var change4 = changes.get(3);
+        final var insertedChange = assertInstanceOf(InsertedListItemChange.class, change4);
+        assertSame(item5, insertedChange.getNewItem());
+        assertEquals(3, insertedChange.getNewPosition());
+
+        final var change5 = changes.get(4);
+        final var updatedChange = assertInstanceOf(UpdatedListItemChange.class, change5);
+        assertSame(item2, updatedChange.getOldItem());
+        assertSame(item2b, updatedChange.getNewItem());
+        assertEquals(1, updatedChange.getPosition());
+
+        assertEquals(newList, ChangeAssertions.applySequentially(oldList, changes));
+    }
+
+    @Test
+    void detectChanges_whenMinimalMovesAndDuplicates_returnsChangesResultingInNewList() {
+        final var item1 = new Item(1, "item1");
+        final var item1b = new Item(1, "item1b");
+        final var item2 = new Item(2, "item2");
+        final var oldList = List.of(item1, item2, item1, item2);
+        final var newList = List.of(item2, item1b, item1, item1);
+
+        final var changes = minimalMovesDetector.detectChanges(newList, oldList);
+        final var keyedChanges = keyedMinimalMovesDetector.detectChanges(newList, oldList);
+
+        assertEquals(newList, ChangeAssertions.applySequentially(oldList, changes));
+        ChangeAssertions.assertSameListChanges(changes, keyedChanges);
+    }
+
+    @Test
+    void detectChanges_whenMinimalMovesAndRandomLists_returnsFewerMovesResultingInNewList() {
+        final var random = new Random(0L);
+        for (var t = 0; t < 20; t++) {
+            final var oldList = new ArrayList<Item>();
+            final var newList = new ArrayList<Item>();
+            for (var i = 0; i < 200; i++) {
+                if (random.nextInt(10) != 0) {
+                    oldList.add(new Item(i, "item" + i));
+                }
+                if (random.nextInt(10) != 0) {
+                    newList.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+                }
+            }
+            for (var i = 0; i < 10; i++) {
+                Collections.swap(newList, random.nextInt(newList.size()), random.nextInt(newList.size()));
+            }
+
+            final var changes = minimalMovesDetector.detectChanges(newList, oldList);
+            final var keyedChanges = keyedMinimalMovesDetector.detectChanges(newList, oldList);
+            final var defaultChanges = detector.detectChanges(newList, oldList);
+
+            assertEquals(newList, ChangeAssertions.applySequentially(oldList, changes));
+            ChangeAssertions.assertSameListChanges(changes, keyedChanges);
+            assertTrue(countMoves(changes) <= countMoves(defaultChanges));
+            assertEquals(changes.size() - countMoves(changes), defaultChanges.size() - countMoves(defaultChanges));
+        }
+    }
+
+    @Test
+    void detectChanges_whenMyersAndMultipleActions_returnsExpectedResult() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var item4 = new Item(4, "item4");
+        final var item5 = new Item(5, "item5");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item1, item2b, item5, item4);
+
+        final var changes = myersDetector.detectChanges(newList, oldList);
+
+        assertEquals(3, changes.size());
+
+        final var change1 = changes.get(0);
+        final var removedChange = assertInstanceOf(RemovedListItemChange.class, change1);
+        assertSame(item3, removedChange.getOldItem());
+        assertEquals(2, removedChange.getOldPosition());
+
+        final var change2 = changes.get(1);
+        final var insertedChange = assertInstanceOf(InsertedListItemChange.class, change2);
+        assertSame(item5, insertedChange.getNewItem());
+        assertEquals(2, insertedChange.getNewPosition());
+
+        final var change3 = changes.get(2);
+        final var updatedChange = assertInstanceOf(UpdatedListItemChange.class, change3);
+        assertSame(item2, updatedChange.getOldItem());
+        assertSame(item2b, updatedChange.getNewItem());
+        assertEquals(1, updatedChange.getPosition());
+
+        ChangeAssertions.assertSameListChanges(changes, keyedMyersDetector.detectChanges(newList, oldList));
+    }
+
+    @Test
+    void detectChanges_whenMyersAndSwapped_returnsRemoveAndInsert() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var oldList = List.of(item1, item2);
+        final var newList = List.of(item2, item1);
+
+        final var changes = myersDetector.detectChanges(newList, oldList);
+
+        assertEquals(2, changes.size());
+        assertEquals(ListItemChangeAction.REMOVED, changes.get(0).getAction());
+        assertEquals(ListItemChangeAction.INSERTED, changes.get(1).getAction());
+        assertEquals(newList, ChangeAssertions.applySequentially(oldList, changes));
+    }
+
+    @Test
+    void detectChanges_whenMyersAndRandomLists_returnsChangesResultingInNewList() {
+        final var random = new Random(0L);
+        for (var t = 0; t < 20; t++) {
+            final var oldList = new ArrayList<Item>();
+            for (var i = 0; i < 500; i++) {
+                oldList.add(new Item(random.nextInt(400), "item" + i));
+            }
+            final var newList = new ArrayList<>(oldList);
+            for (var i = 0; i < 5; i++) {
+                newList.remove(random.nextInt(newList.size()));
+                newList.add(random.nextInt(newList.size()), new Item(500 + i, "new" + i));
+                final var pos = random.nextInt(newList.size());
+                newList.set(pos, new Item(newList.get(pos).id(), "changed" + i));
+            }
+
+            final var changes = myersDetector.detectChanges(newList, oldList);
+
+            assertEquals(newList, ChangeAssertions.applySequentially(oldList, changes));
+            assertTrue(changes.stream().noneMatch(change -> change.getAction() == ListItemChangeAction.MOVED));
+            ChangeAssertions.assertSameListChanges(changes, keyedMyersDetector.detectChanges(newList, oldList));
+        }
+    }
+
+    private static long countMoves(final List<ListItemChange> changes) {
+        return changes.stream().filter(change -> change.getAction() == ListItemChangeAction.MOVED).count();
+    }
+
+    @Test
+    void detectChanges_whenNullListener_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(Collections.emptyList(),
+                Collections.emptyList(), null));
+    }
+
+    @Test
+    void detectChanges_whenListener_notifiesChangesInOrder() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item2b = new Item(2, "item2b");
+        final var item3 = new Item(3, "item3");
+        final var item4 = new Item(4, "item4");
+        final var item5 = new Item(5, "item5");
+        final var oldList = List.of(item1, item2, item3, item4);
+        final var newList = List.of(item3, item2b, item1, item5);
+
+        for (final var d : List.of(detector, minimalMovesDetector, keyedMinimalMovesDetector, myersDetector,
+                keyedMyersDetector)) {
+            final var changes = new ArrayList<ListItemChange>();
+            d.detectChanges(newList, oldList, changes::add);
+
+            ChangeAssertions.assertSameListChanges(d.detectChanges(newList, oldList), changes);
+            assertEquals(newList, ChangeAssertions.applySequentially(oldList, changes));
+        }
+    }
+
+    @Test
+    void isImmutableInputs_whenSet_returnsExpectedValue() {
+        assertFalse(detector.isImmutableInputs());
+
+        detector.setImmutableInputs(true);
+
+        assertTrue(detector.isImmutableInputs());
+    }
+
+    @Test
+    void detectChanges_whenListenerModifiesOldItems_notifiesSameChangesAsReturned() {
+        final var oldList = new ArrayList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        final var expected = detector.detectChanges(newList, oldList);
+
+        final var changes = new ArrayList<ListItemChange>();
+        detector.detectChanges(newList, oldList, change -> {
+            oldList.clear();
+            changes.add(change);
+        });
+
+        ChangeAssertions.assertSameListChanges(expected, changes);
+    }
+
+    @Test
+    void detectChanges_whenImmutableInputs_notifiesSameChangesAsReturned() {
+        final var oldList = new LinkedList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        detector.setImmutableInputs(true);
+
+        final var changes = new ArrayList<ListItemChange>();
+        detector.detectChanges(newList, oldList, changes::add);
+
+        ChangeAssertions.assertSameListChanges(detector.detectChanges(newList, oldList), changes);
+    }
+
+    @Test
+    void detectChanges_whenMinimalMovesAndListenerModifiesOldItems_notifiesSameChangesAsReturned() {
+        final var oldList = new ArrayList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        final var expected = minimalMovesDetector.detectChanges(newList, oldList);
+
+        final var changes = new ArrayList<ListItemChange>();
+        minimalMovesDetector.detectChanges(newList, oldList, change -> {
+            oldList.clear();
+            changes.add(change);
+        });
+
+        ChangeAssertions.assertSameListChanges(expected, changes);
+    }
+
+    @Test
+    void detectChanges_whenMinimalMovesAndImmutableInputs_notifiesSameChangesAsReturned() {
+        final var oldList = new LinkedList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        minimalMovesDetector.setImmutableInputs(true);
+
+        final var changes = new ArrayList<ListItemChange>();
+        minimalMovesDetector.detectChanges(newList, oldList, changes::add);
+
+        ChangeAssertions.assertSameListChanges(minimalMovesDetector.detectChanges(newList, oldList), changes);
+    }
+
+    @Test
+    void detectChanges_whenMyersAndListenerModifiesOldItems_notifiesSameChangesAsReturned() {
+        final var oldList = new ArrayList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        final var expected = myersDetector.detectChanges(newList, oldList);
+
+        final var changes = new ArrayList<ListItemChange>();
+        myersDetector.detectChanges(newList, oldList, change -> {
+            oldList.clear();
+            changes.add(change);
+        });
+
+        ChangeAssertions.assertSameListChanges(expected, changes);
+    }
+
+    @Test
+    void detectChanges_whenMyersAndImmutableInputs_notifiesSameChangesAsReturned() {
+        final var oldList = new LinkedList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(3, "item3"), new Item(2, "item2b"), new Item(4, "item4"));
+        myersDetector.setImmutableInputs(true);
+
+        final var changes = new ArrayList<ListItemChange>();
+        myersDetector.detectChanges(newList, oldList, changes::add);
+
+        ChangeAssertions.assertSameListChanges(myersDetector.detectChanges(newList, oldList), changes);
+    }
+
     private record Item(int id, String content) {
     }
 }
\ No newline at end of file
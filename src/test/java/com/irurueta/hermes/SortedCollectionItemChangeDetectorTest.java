@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedCollectionItemChangeDetectorTest {
+
+    private final SortedCollectionItemChangeDetector<Item> detector = new SortedCollectionItemChangeDetector<>(
+            Comparator.comparingInt(Item::id), (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+    @Test
+    void constructor_whenNullKeyComparator_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SortedCollectionItemChangeDetector<Item>(null,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content())));
+    }
+
+    @Test
+    void constructor_whenNullContentComparator_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SortedCollectionItemChangeDetector<Item>(
+                Comparator.comparingInt(Item::id), null));
+    }
+
+    @Test
+    void getItemKeyComparator_returnsExpectedValue() {
+        final Comparator<Item> comparator = Comparator.comparingInt(Item::id);
+        final var sortedDetector = new SortedCollectionItemChangeDetector<>(comparator,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+        assertSame(comparator, sortedDetector.getItemKeyComparator());
+    }
+
+    @Test
+    void detectChange_whenNullNewItems_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(null,
+                Collections.emptyList()));
+    }
+
+    @Test
+    void detectChange_whenNullOldItems_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(Collections.emptyList(),
+                null));
+    }
+
+    @Test
+    void detectChange_whenEmpty_returnsEmpty() {
+        final var changes = detector.detectChanges(Collections.emptyList(), Collections.emptyList());
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void detectChanges_whenSorted_returnsChangesInKeyOrder() {
+        final var item1 = new Item(1, "item1");
+        final var item2 = new Item(2, "item2");
+        final var item3 = new Item(3, "item3");
+        final var item3b = new Item(3, "item3b");
+        final var item4 = new Item(4, "item4");
+        final var item5 = new Item(5, "item5");
+        final var oldList = List.of(item1, item2, item3, item5);
+        final var newList = List.of(item2, item3b, item4, item5);
+
+        final var changes = new ArrayList<>(detector.detectChanges(newList, oldList));
+
+        assertEquals(3, changes.size());
+
+        final var removedChange = assertInstanceOf(RemovedCollectionItemChange.class, changes.get(0));
+        assertSame(item1, removedChange.getOldItem());
+
+        final var updatedChange = assertInstanceOf(UpdatedCollectionItemChange.class, changes.get(1));
+        assertSame(item3, updatedChange.getOldItem());
+        assertSame(item3b, updatedChange.getNewItem());
+
+        final var insertedChange = assertInstanceOf(InsertedCollectionItemChange.class, changes.get(2));
+        assertSame(item4, insertedChange.getNewItem());
+    }
+
+    @Test
+    void detectChanges_whenRepeatedKeys_pairsItemsInOrder() {
+        final var item1a = new Item(1, "item1a");
+        final var item1b = new Item(1, "item1b");
+        final var item1c = new Item(1, "item1c");
+        final var item2 = new Item(2, "item2");
+        final var oldList = List.of(item1a, item1b, item2);
+        final var newList = List.of(item1a, item1c, item1b, item2);
+
+        final var changes = new ArrayList<>(detector.detectChanges(newList, oldList));
+
+        assertEquals(2, changes.size());
+
+        final var updatedChange = assertInstanceOf(UpdatedCollectionItemChange.class, changes.get(0));
+        assertSame(item1b, updatedChange.getOldItem());
+        assertSame(item1c, updatedChange.getNewItem());
+
+        final var insertedChange = assertInstanceOf(InsertedCollectionItemChange.class, changes.get(1));
+        assertSame(item1b, insertedChange.getNewItem());
+    }
+
+    @Test
+    void detectChanges_whenNotSorted_returnsSameResultAsSorted() {
+        final var random = new Random(0L);
+        final var oldList = randomItems(random);
+        final var newList = randomItems(random);
+
+        final var expected = detector.detectChanges(newList, oldList);
+
+        final var shuffledOldList = new ArrayList<>(oldList);
+        final var shuffledNewList = new ArrayList<>(newList);
+        Collections.shuffle(shuffledOldList, random);
+        Collections.shuffle(shuffledNewList, random);
+
+        ChangeAssertions.assertSameCollectionChanges(expected,
+                detector.detectChanges(shuffledNewList, shuffledOldList));
+        assertNotEquals(oldList, shuffledOldList);
+    }
+
+    @Test
+    void detectChanges_whenRandomSortedCollections_returnsSameChangesAsKeyedDetector() {
+        final var keyedDetector = new CollectionItemChangeDetector<>((ItemKeyExtractor<Item, Integer>) Item::id,
+                (item1, item2) -> Objects.equals(item1.content(), item2.content()));
+
+        final var random = new Random(0L);
+        final var oldList = randomItems(random);
+        final var newList = randomItems(random);
+
+        final var changes = detector.detectChanges(newList, oldList);
+
+        // keyed detector returns removes first, followed by inserts and updates
+        ChangeAssertions.assertSameCollectionChanges(byAction(keyedDetector.detectChanges(newList, oldList)),
+                byAction(changes));
+    }
+
+    @Test
+    void detectChanges_whenLinkedLists_returnsSameResult() {
+        final var random = new Random(0L);
+        final var oldList = randomItems(random);
+        final var newList = randomItems(random);
+
+        ChangeAssertions.assertSameCollectionChanges(detector.detectChanges(newList, oldList),
+                detector.detectChanges(new LinkedList<>(newList), new LinkedList<>(oldList)));
+    }
+
+    @Test
+    void detectChanges_whenPool_returnsSameResult() {
+        final var random = new Random(0L);
+        final var oldList = randomItems(random);
+        final var newList = randomItems(random);
+
+        ChangeAssertions.assertSameCollectionChanges(detector.detectChanges(newList, oldList),
+                detector.detectChanges(newList, oldList, ForkJoinPool.commonPool(), 0));
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(newList, oldList,
+                (ForkJoinPool) null));
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(newList, oldList,
+                ForkJoinPool.commonPool(), -1));
+    }
+
+    @Test
+    void detectChanges_whenListenerModifiesOldItems_notifiesSameChangesAsReturned() {
+        final var oldList = new ArrayList<>(List.of(new Item(1, "item1"), new Item(2, "item2"),
+                new Item(3, "item3")));
+        final var newList = List.of(new Item(2, "item2b"), new Item(3, "item3"), new Item(4, "item4"));
+        final var expected = detector.detectChanges(newList, oldList);
+
+        final var changes = new ArrayList<CollectionItemChange>();
+        detector.detectChanges(newList, oldList, change -> {
+            changes.add(change);
+            oldList.clear();
+        });
+
+        ChangeAssertions.assertSameCollectionChanges(expected, changes);
+    }
+
+    @Test
+    void notContains_returnsExpectedValue() {
+        final var items = List.of(new Item(1, "item1"), new Item(2, "item2"));
+
+        assertFalse(detector.notContains(items, new Item(2, "other")));
+        assertTrue(detector.notContains(items, new Item(3, "item3")));
+    }
+
+    @Test
+    void indexOf_returnsExpectedValue() {
+        final var items = List.of(new Item(1, "item1"), new Item(2, "item2"));
+
+        assertEquals(1, detector.indexOf(items, new Item(2, "other")));
+        assertEquals(-1, detector.indexOf(items, new Item(3, "item3")));
+    }
+
+    private static List<Item> randomItems(final Random random) {
+        final var items = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            if (random.nextInt(10) != 0) {
+                items.add(new Item(i, random.nextInt(10) != 0 ? "item" + i : "changed" + i));
+            }
+        }
+        return items;
+    }
+
+    private static List<CollectionItemChange> byAction(final Collection<CollectionItemChange> changes) {
+        final var result = new ArrayList<>(changes);
+        result.sort(Comparator.comparing(CollectionItemChange::getAction));
+        return result;
+    }
+
+    private record Item(int id, String content) {
+    }
+}
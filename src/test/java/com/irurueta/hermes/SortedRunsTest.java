@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedRunsTest {
+
+    private static final ItemSerializer<Item> SERIALIZER = new ItemSerializer<>() {
+        @Override
+        public void write(final Item item, final DataOutput output) throws IOException {
+            output.writeInt(item.id());
+            output.writeUTF(item.content());
+        }
+
+        @Override
+        public Item read(final DataInput input) throws IOException {
+            return new Item(input.readInt(), input.readUTF());
+        }
+    };
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void iterator_whenEmpty_returnsNoItems() throws IOException {
+        try (final var runs = new SortedRuns<>(Comparator.comparingInt(Item::id), SERIALIZER, directory, 10, 2)) {
+            runs.spill(List.of());
+
+            assertEquals(0, runs.getRunCount());
+            final var iterator = runs.iterator();
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+
+    @Test
+    void iterator_whenMultipleRuns_returnsItemsSortedInOrderOfOccurrence() throws IOException {
+        final var random = new Random(0L);
+        final var items = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            items.add(new Item(random.nextInt(100), "item" + i));
+        }
+
+        final var expected = new ArrayList<>(items);
+        expected.sort(Comparator.comparingInt(Item::id));
+
+        try (final var runs = new SortedRuns<>(Comparator.comparingInt(Item::id), SERIALIZER, directory, 64, 16)) {
+            runs.spill(items);
+
+            assertEquals(16, runs.getRunCount());
+            try (final var files = Files.list(directory)) {
+                assertEquals(16, files.count());
+            }
+
+            final var result = new ArrayList<Item>();
+            runs.iterator().forEachRemaining(result::add);
+            assertEquals(expected, result);
+        }
+
+        try (final var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void iterator_whenMoreRunsThanFanIn_mergesInPassesAndReturnsItemsSortedInOrderOfOccurrence()
+            throws IOException {
+        final var random = new Random(0L);
+        final var items = new ArrayList<Item>();
+        for (var i = 0; i < 1000; i++) {
+            items.add(new Item(random.nextInt(100), "item" + i));
+        }
+
+        final var expected = new ArrayList<>(items);
+        expected.sort(Comparator.comparingInt(Item::id));
+
+        try (final var runs = new SortedRuns<>(Comparator.comparingInt(Item::id), SERIALIZER, directory, 64, 3)) {
+            runs.spill(items);
+
+            assertEquals(16, runs.getRunCount());
+
+            final var iterator = runs.iterator();
+
+            // 16 runs are merged into 6 runs and then into 2 runs, and merged run files are deleted
+            assertEquals(2, runs.getRunCount());
+            try (final var files = Files.list(directory)) {
+                assertEquals(2, files.count());
+            }
+
+            final var result = new ArrayList<Item>();
+            iterator.forEachRemaining(result::add);
+            assertEquals(expected, result);
+        }
+
+        try (final var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private record Item(int id, String content) {
+    }
+}
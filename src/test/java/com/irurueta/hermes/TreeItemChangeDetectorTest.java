@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreeItemChangeDetectorTest {
+
+    private final ItemKeyExtractor<Node, Integer> keyExtractor = Node::id;
+
+    private final ItemContentComparator<Node> contentComparator =
+            (node1, node2) -> Objects.equals(node1.content(), node2.content());
+
+    private final SequentialListItemChangeDetector<Node> sequentialDetector = new SequentialListItemChangeDetector<>(
+            keyExtractor, contentComparator, SequentialListItemChangeAlgorithm.MINIMAL_MOVES);
+
+    @Test
+    void constructor_whenNullParameters_throwsIllegalArgumentException() {
+        final ItemChildrenAccessor<Node> accessor = Node::children;
+        final var listDetector = new ListItemChangeDetector<>(keyExtractor, contentComparator);
+
+        assertThrows(IllegalArgumentException.class, () -> new TreeItemChangeDetector<>(
+                (AbstractSequentialListItemChangeDetector<Node>) null, keyExtractor, accessor));
+        assertThrows(IllegalArgumentException.class, () -> new TreeItemChangeDetector<>(
+                (AbstractListItemChangeDetector<Node>) null, keyExtractor, accessor));
+        assertThrows(IllegalArgumentException.class, () -> new TreeItemChangeDetector<>(sequentialDetector,
+                null, accessor));
+        assertThrows(IllegalArgumentException.class, () -> new TreeItemChangeDetector<>(listDetector,
+                keyExtractor, null));
+    }
+
+    @Test
+    void detectChanges_whenNullParameters_throwsIllegalArgumentException() {
+        final var detector = new TreeItemChangeDetector<>(sequentialDetector, keyExtractor, Node::children);
+
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(null, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(List.of(), null));
+        assertThrows(IllegalArgumentException.class, () -> detector.detectChanges(List.of(), List.of(), null));
+    }
+
+    @Test
+    void detectChanges_whenNestedChanges_returnsChangesTaggedWithPath() {
+        final var oldRoots = List.of(
+                node(1, "section1", node(10, "item10"), node(11, "item11", node(110, "sub110"))),
+                node(2, "section2", node(20, "item20")));
+        final var newRoots = List.of(
+                node(2, "section2", node(20, "item20")),
+                node(1, "section1", node(10, "item10"), node(11, "item11", node(110, "changed110"))),
+                node(3, "section3"));
+        final var detector = new TreeItemChangeDetector<>(sequentialDetector, keyExtractor, Node::children,
+                Node::hash);
+
+        final var changes = detector.detectChanges(newRoots, oldRoots);
+
+        assertEquals(3, changes.size());
+        assertEquals(0, changes.get(0).getDepth());
+        assertEquals(ListItemChangeAction.MOVED, changes.get(0).getChange().getAction());
+        assertEquals(0, changes.get(1).getDepth());
+        assertEquals(ListItemChangeAction.INSERTED, changes.get(1).getChange().getAction());
+        assertArrayEquals(new int[]{1, 1}, changes.get(2).getPath());
+        final var updated = assertInstanceOf(UpdatedListItemChange.class, changes.get(2).getChange());
+        assertEquals("changed110", ((Node) updated.getNewItem()).content());
+    }
+
+    @Test
+    void detectChanges_whenEqualSubtreeFingerprints_skipsSubtrees() {
+        final var roots = List.of(node(1, "section1", node(10, "item10", node(100, "sub100"))),
+                node(2, "section2", node(20, "item20")));
+        final var copy = List.of(node(1, "section1", node(10, "item10", node(100, "sub100"))),
+                node(2, "section2", node(20, "item20")));
+        final var accesses = new AtomicInteger();
+        final ItemChildrenAccessor<Node> accessor = node -> {
+            accesses.incrementAndGet();
+            return node.children();
+        };
+
+        final var fingerprintDetector = new TreeItemChangeDetector<>(sequentialDetector, keyExtractor, accessor,
+                Node::hash);
+        assertTrue(fingerprintDetector.detectChanges(copy, roots).isEmpty());
+        assertEquals(0, accesses.get());
+
+        final var detector = new TreeItemChangeDetector<>(sequentialDetector, keyExtractor, accessor);
+        assertTrue(detector.detectChanges(copy, roots).isEmpty());
+        assertEquals(10, accesses.get());
+    }
+
+    @Test
+    void detectChanges_whenNonSequentialListDetector_returnsChangesOfEachLevel() {
+        final var oldRoots = List.of(node(1, "section1", node(10, "item10"), node(11, "item11")));
+        final var newRoots = List.of(node(1, "section1", node(11, "item11"), node(12, "item12")));
+        final var detector = new TreeItemChangeDetector<>(new ListItemChangeDetector<>(keyExtractor,
+                contentComparator), keyExtractor, Node::children, Node::hash);
+        final var changes = new ArrayList<TreeItemChange>();
+
+        detector.detectChanges(newRoots, oldRoots, changes::add);
+
+        assertFalse(changes.isEmpty());
+        for (final var change : changes) {
+            assertArrayEquals(new int[]{0}, change.getPath());
+        }
+    }
+
+    @Test
+    void detectChanges_whenRandomTrees_returnsChangesTransformingOldTree() {
+        final var random = new Random(0L);
+        final var ids = new AtomicInteger();
+        for (final var algorithm : List.of(SequentialListItemChangeAlgorithm.MINIMAL_MOVES,
+                SequentialListItemChangeAlgorithm.MYERS)) {
+            final var detector = new TreeItemChangeDetector<>(new SequentialListItemChangeDetector<>(keyExtractor,
+                    contentComparator, algorithm), keyExtractor, Node::children, Node::hash);
+            for (var t = 0; t < 20; t++) {
+                final var oldRoots = randomTree(random, ids, 3);
+                final var newRoots = edit(random, ids, oldRoots);
+
+                final var changes = detector.detectChanges(newRoots, oldRoots);
+
+                assertEquals(newRoots, apply(oldRoots, changes));
+            }
+        }
+    }
+
+    private static List<Node> apply(final List<Node> oldRoots, final List<TreeItemChange> changes) {
+        final var roots = toMutable(oldRoots);
+        for (final var treeChange : changes) {
+            var items = roots;
+            for (final var position : treeChange.getPath()) {
+                items = items.get(position).children;
+            }
+
+            final var change = treeChange.getChange();
+            if (change instanceof InsertedListItemChange<?> inserted) {
+                items.add(inserted.getNewPosition(), toMutable((Node) inserted.getNewItem()));
+            } else if (change instanceof RemovedListItemChange<?> removed) {
+                assertEquals(((Node) removed.getOldItem()).id(), items.remove(removed.getOldPosition()).id);
+            } else if (change instanceof MovedListItemChange<?> moved) {
+                final var item = items.remove(moved.getOldPosition());
+                item.content = ((Node) moved.getNewItem()).content();
+                items.add(moved.getNewPosition(), item);
+            } else {
+                final var updated = (UpdatedListItemChange<?>) change;
+                items.get(updated.getPosition()).content = ((Node) updated.getNewItem()).content();
+            }
+        }
+        return freeze(roots);
+    }
+
+    private static List<Node> randomTree(final Random random, final AtomicInteger ids, final int depth) {
+        final var result = new ArrayList<Node>();
+        if (depth == 0) {
+            return result;
+        }
+        final var size = random.nextInt(6);
+        for (var i = 0; i < size; i++) {
+            final var id = ids.incrementAndGet();
+            result.add(node(id, "item" + id, randomTree(random, ids, depth - 1)));
+        }
+        return result;
+    }
+
+    private static List<Node> edit(final Random random, final AtomicInteger ids, final List<Node> nodes) {
+        final var result = new ArrayList<Node>();
+        for (final var node : nodes) {
+            switch (random.nextInt(6)) {
+                case 0 -> {
+                    // removed
+                }
+                case 1 -> result.add(node(node.id(), node.content() + "b", edit(random, ids, node.children())));
+                case 2 -> result.add(node);
+                default -> result.add(node(node.id(), node.content(), edit(random, ids, node.children())));
+            }
+        }
+        if (random.nextBoolean()) {
+            final var id = ids.incrementAndGet();
+            result.add(random.nextInt(result.size() + 1), node(id, "item" + id, randomTree(random, ids, 2)));
+        }
+        if (result.size() > 1 && random.nextBoolean()) {
+            Collections.swap(result, random.nextInt(result.size()), random.nextInt(result.size()));
+        }
+        return result;
+    }
+
+    private static Node node(final int id, final String content, final Node... children) {
+        return node(id, content, List.of(children));
+    }
+
+    private static Node node(final int id, final String content, final List<Node> children) {
+        var hash = Objects.hash(id, content);
+        for (final var child : children) {
+            hash = 31 * hash + Long.hashCode(child.hash());
+        }
+        return new Node(id, content, List.copyOf(children), hash);
+    }
+
+    private static List<MutableNode> toMutable(final List<Node> nodes) {
+        final var result = new ArrayList<MutableNode>();
+        for (final var node : nodes) {
+            result.add(toMutable(node));
+        }
+        return result;
+    }
+
+    private static MutableNode toMutable(final Node node) {
+        return new MutableNode(node.id(), node.content(), toMutable(node.children()));
+    }
+
+    private static List<Node> freeze(final List<MutableNode> nodes) {
+        final var result = new ArrayList<Node>();
+        for (final var node : nodes) {
+            result.add(node(node.id, node.content, freeze(node.children)));
+        }
+        return result;
+    }
+
+    private record Node(int id, String content, List<Node> children, long hash) {
+    }
+
+    private static final class MutableNode {
+
+        private final int id;
+
+        private String content;
+
+        private final List<MutableNode> children;
+
+        private MutableNode(final int id, final String content, final List<MutableNode> children) {
+            this.id = id;
+            this.content = content;
+            this.children = children;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreeItemChangeTest {
+
+    @Test
+    void constructor_setsExpectedValues() {
+        final var path = new int[]{1, 2};
+        final var listChange = new InsertedListItemChange<>("item", 0);
+
+        final var change = new TreeItemChange(path, listChange);
+        path[0] = 5;
+
+        assertArrayEquals(new int[]{1, 2}, change.getPath());
+        assertEquals(2, change.getDepth());
+        assertSame(listChange, change.getChange());
+    }
+
+    @Test
+    void getPath_returnsCopy() {
+        final var change = new TreeItemChange(new int[]{3}, new InsertedListItemChange<>("item", 0));
+
+        change.getPath()[0] = 4;
+
+        assertArrayEquals(new int[]{3}, change.getPath());
+    }
+
+    @Test
+    void constructor_whenInvalidParameters_throwsIllegalArgumentException() {
+        final var listChange = new InsertedListItemChange<>("item", 0);
+
+        assertThrows(IllegalArgumentException.class, () -> new TreeItemChange(null, listChange));
+        assertThrows(IllegalArgumentException.class, () -> new TreeItemChange(new int[0], null));
+        assertThrows(IllegalArgumentException.class, () -> new TreeItemChange(new int[]{-1}, listChange));
+    }
+}
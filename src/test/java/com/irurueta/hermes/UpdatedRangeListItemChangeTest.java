@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2025 Alberto Irurueta Carro (alberto@irurueta.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.irurueta.hermes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpdatedRangeListItemChangeTest {
+
+    @Test
+    void constructor_whenInvalidItems_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UpdatedRangeListItemChange<>(null, List.of("a"), 0));
+        assertThrows(IllegalArgumentException.class, () -> new UpdatedRangeListItemChange<>(List.of("a"), null, 0));
+        assertThrows(IllegalArgumentException.class, () -> new UpdatedRangeListItemChange<>(List.of(), List.of(), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new UpdatedRangeListItemChange<>(List.of("a"), List.of("a", "b"), 0));
+    }
+
+    @Test
+    void getters_returnExpectedValues() {
+        final var change = new UpdatedRangeListItemChange<>(List.of("a", "b"), List.of("a2", "b2"), 4);
+
+        assertEquals(List.of("a", "b"), change.getOldItems());
+        assertEquals(List.of("a2", "b2"), change.getNewItems());
+        assertEquals(4, change.getPosition());
+        assertEquals(2, change.getCount());
+    }
+
+    @Test
+    void getAction_returnsExpectedValue() {
+        final var change = new UpdatedRangeListItemChange<>(List.of("a"), List.of("b"), 0);
+        assertEquals(ListItemChangeAction.UPDATED_RANGE, change.getAction());
+    }
+}